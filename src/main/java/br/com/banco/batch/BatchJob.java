@@ -0,0 +1,12 @@
+package br.com.banco.batch;
+
+import br.com.banco.entity.Account;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface BatchJob {
+    String getName();
+
+    int process(List<Account> accounts, LocalDate businessDate);
+}
@@ -0,0 +1,62 @@
+package br.com.banco.batch;
+
+import br.com.banco.configuration.BatchJobProperties;
+import br.com.banco.entity.Account;
+import br.com.banco.entity.Transference;
+import br.com.banco.entity.Type;
+import br.com.banco.service.impl.TransferenceService;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+public class DailyFeeJob implements BatchJob {
+    public static final String NAME = "daily-fee";
+    private static final String FEE_OPERATOR_NAME = "Daily fee";
+
+    private final TransferenceService transferenceService;
+    private final BatchJobProperties batchJobProperties;
+
+    public DailyFeeJob(TransferenceService transferenceService, BatchJobProperties batchJobProperties) {
+        this.transferenceService = transferenceService;
+        this.batchJobProperties = batchJobProperties;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public int process(List<Account> accounts, LocalDate businessDate) {
+        if (accounts.isEmpty())
+            return 0;
+
+        double amount = batchJobProperties.getDailyFee().getAmount();
+        List<Transference> fees = accounts.stream()
+                .map(account -> getFee(account, amount, businessDate))
+                .collect(Collectors.toList());
+        Set<String> charged = transferenceService.findExistingCorrelationIds(fees.stream()
+                .map(Transference::getCorrelationId)
+                .collect(Collectors.toList()));
+        List<Transference> pending = fees.stream()
+                .filter(fee -> !charged.contains(fee.getCorrelationId()))
+                .collect(Collectors.toList());
+        if (pending.isEmpty())
+            return 0;
+
+        return transferenceService.saveAll(pending).size();
+    }
+
+    private static Transference getFee(Account account, double amount, LocalDate businessDate) {
+        var fee = new Transference(-amount, Type.WITHDRAW, account, FEE_OPERATOR_NAME);
+        fee.setCorrelationId(UUID.nameUUIDFromBytes(
+                (NAME + ":" + businessDate + ":" + account.getId()).getBytes(StandardCharsets.UTF_8)).toString());
+        return fee;
+    }
+}
@@ -0,0 +1,79 @@
+package br.com.banco.batch;
+
+import br.com.banco.configuration.BatchJobProperties;
+import br.com.banco.configuration.StatementProjectionProperties;
+import br.com.banco.dto.LedgerBalance;
+import br.com.banco.entity.Account;
+import br.com.banco.entity.DriftSource;
+import br.com.banco.entity.LedgerDrift;
+import br.com.banco.repository.LedgerDriftRepository;
+import br.com.banco.repository.LedgerReconciliationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+public class LedgerReconciliationJob implements BatchJob {
+    public static final String NAME = "ledger-reconciliation";
+
+    private final LedgerReconciliationRepository ledgerReconciliationRepository;
+    private final LedgerDriftRepository ledgerDriftRepository;
+    private final BatchJobProperties batchJobProperties;
+    private final StatementProjectionProperties statementProjectionProperties;
+    private final MeterRegistry meterRegistry;
+
+    public LedgerReconciliationJob(LedgerReconciliationRepository ledgerReconciliationRepository,
+                                   LedgerDriftRepository ledgerDriftRepository,
+                                   BatchJobProperties batchJobProperties,
+                                   StatementProjectionProperties statementProjectionProperties,
+                                   MeterRegistry meterRegistry) {
+        this.ledgerReconciliationRepository = ledgerReconciliationRepository;
+        this.ledgerDriftRepository = ledgerDriftRepository;
+        this.batchJobProperties = batchJobProperties;
+        this.statementProjectionProperties = statementProjectionProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public int process(List<Account> accounts, LocalDate businessDate) {
+        if (accounts.isEmpty())
+            return 0;
+
+        double tolerance = batchJobProperties.getLedgerReconciliation().getTolerance();
+        boolean projected = statementProjectionProperties.isEnabled();
+        List<LedgerDrift> drifts = new ArrayList<>();
+        int scanned = ledgerReconciliationRepository.scan(
+                accounts.get(0).getId(), accounts.get(accounts.size() - 1).getId(), balance -> {
+                    check(balance, DriftSource.BALANCE_SLOTS, balance.getSlotBalance(), tolerance, businessDate, drifts);
+                    if (projected)
+                        check(balance, DriftSource.STATEMENT_PROJECTION, balance.getProjectedBalance(), tolerance,
+                                businessDate, drifts);
+                });
+
+        if (!drifts.isEmpty())
+            ledgerDriftRepository.saveAll(drifts);
+        return scanned;
+    }
+
+    private void check(LedgerBalance balance, DriftSource source, double storedBalance, double tolerance,
+                       LocalDate businessDate, List<LedgerDrift> drifts) {
+        if (Math.abs(storedBalance - balance.getLedgerBalance()) <= tolerance)
+            return;
+
+        log.warn("Account {} {} balance {} drifted from its ledger sum {} over {} entries",
+                balance.getAccountId(), source, storedBalance, balance.getLedgerBalance(), balance.getEntries());
+        meterRegistry.counter("bank.reconciliation.drift", "source", source.name()).increment();
+        drifts.add(new LedgerDrift(businessDate, balance.getAccountId(), source,
+                balance.getLedgerBalance(), storedBalance, balance.getEntries()));
+    }
+}
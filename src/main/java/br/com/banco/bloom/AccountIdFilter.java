@@ -0,0 +1,111 @@
+package br.com.banco.bloom;
+
+import br.com.banco.configuration.AccountIdFilterProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+@Component
+public class AccountIdFilter {
+    private static final int RECENT_IDS = 4096;
+
+    private final AccountIdFilterProperties accountIdFilterProperties;
+    private final AtomicIntegerArray recentIds = new AtomicIntegerArray(RECENT_IDS);
+    private final AtomicLong recentCursor = new AtomicLong();
+    private final Counter rejected;
+    private final Counter falsePositives;
+    private volatile Generation current;
+    private volatile BloomFilter next;
+
+    public AccountIdFilter(AccountIdFilterProperties accountIdFilterProperties, MeterRegistry meterRegistry) {
+        this.accountIdFilterProperties = accountIdFilterProperties;
+        this.rejected = meterRegistry.counter("bank.account.filter.rejected");
+        this.falsePositives = meterRegistry.counter("bank.account.filter.false-positives");
+        meterRegistry.gauge("bank.account.filter.expected-fpp", this, AccountIdFilter::getExpectedFalsePositiveRate);
+        meterRegistry.gauge("bank.account.filter.observed-fpp", this, AccountIdFilter::getObservedFalsePositiveRate);
+    }
+
+    public boolean isEnabled() {
+        return accountIdFilterProperties.isEnabled();
+    }
+
+    public boolean mightExist(Integer id) {
+        var generation = current;
+        if (!isEnabled() || generation == null)
+            return true;
+
+        long maxId = generation.maxId.get();
+        if (id <= maxId + accountIdFilterProperties.getIdHeadroom()
+                && (id > maxId || generation.filter.mightContain(id)))
+            return true;
+
+        rejected.increment();
+        return false;
+    }
+
+    public void add(Integer id) {
+        recentIds.set((int) (recentCursor.getAndIncrement() % RECENT_IDS), id);
+        var rebuilding = next;
+        if (rebuilding != null)
+            rebuilding.add(id);
+
+        var generation = current;
+        if (generation != null) {
+            generation.maxId.accumulateAndGet(id, Math::max);
+            if (generation.filter != rebuilding)
+                generation.filter.add(id);
+        }
+    }
+
+    public void recordFalsePositive() {
+        if (isEnabled() && current != null)
+            falsePositives.increment();
+    }
+
+    public synchronized void rebuild(long accounts, Consumer<IntConsumer> ids) {
+        var filter = new BloomFilter(Math.max(accountIdFilterProperties.getExpectedAccounts(), accounts * 2),
+                accountIdFilterProperties.getFalsePositiveRate());
+        var maxId = new AtomicInteger();
+        next = filter;
+        try {
+            ids.accept(id -> {
+                filter.add(id);
+                maxId.accumulateAndGet(id, Math::max);
+            });
+            long replayed = Math.min(recentCursor.get(), RECENT_IDS);
+            for (int i = 0; i < replayed; i++) {
+                filter.add(recentIds.get(i));
+                maxId.accumulateAndGet(recentIds.get(i), Math::max);
+            }
+            current = new Generation(filter, maxId);
+        } finally {
+            next = null;
+        }
+    }
+
+    public double getExpectedFalsePositiveRate() {
+        var generation = current;
+        return generation == null ? 1d : generation.filter.expectedFalsePositiveRate();
+    }
+
+    public double getObservedFalsePositiveRate() {
+        double negatives = rejected.count() + falsePositives.count();
+        return negatives == 0 ? 0d : falsePositives.count() / negatives;
+    }
+
+    private static final class Generation {
+        private final BloomFilter filter;
+        private final AtomicInteger maxId;
+
+        private Generation(BloomFilter filter, AtomicInteger maxId) {
+            this.filter = filter;
+            this.maxId = maxId;
+        }
+    }
+}
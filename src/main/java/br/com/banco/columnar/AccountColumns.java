@@ -0,0 +1,180 @@
+package br.com.banco.columnar;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.locks.StampedLock;
+
+class AccountColumns {
+    private static final int TIME_PREFIX = 0;
+    private static final int VALUE_PREFIX = TIME_PREFIX + Long.BYTES;
+    private static final int ID_PREFIX = VALUE_PREFIX + Double.BYTES;
+    private static final int OPERATOR_PREFIX = ID_PREFIX + Integer.BYTES;
+    private static final int TYPE_PREFIX = OPERATOR_PREFIX + Integer.BYTES;
+    static final int ROW_BYTES = TYPE_PREFIX + Byte.BYTES;
+
+    private final StampedLock lock = new StampedLock();
+    private ByteBuffer columns;
+    private int capacity;
+    private int size;
+
+    AccountColumns(int initialCapacity) {
+        this.capacity = Math.max(1, initialCapacity);
+        this.columns = ByteBuffer.allocateDirect(capacity * ROW_BYTES);
+    }
+
+    long append(int id, long time, double value, byte type, int operator) {
+        long stamp = lock.writeLock();
+        try {
+            long allocated = 0;
+            if (size == capacity)
+                allocated = grow();
+
+            int row = size;
+            while (row > 0 && isAfter(row - 1, time, id)) {
+                copyRow(row - 1, row);
+                row--;
+            }
+            writeRow(row, id, time, value, type, operator);
+            size++;
+            return allocated;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    boolean contains(int id, long fromTime, long toTime) {
+        long stamp = lock.readLock();
+        try {
+            for (int row = lowerBound(fromTime); row < size && time(row) <= toTime; row++) {
+                if (id(row) == id)
+                    return true;
+            }
+            return false;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    int scan(long fromTime, long toTime, int operator, boolean anyOperator, RowVisitor visitor) {
+        long stamp = lock.readLock();
+        try {
+            int matched = 0;
+            for (int row = lowerBound(fromTime); row < size; row++) {
+                long time = time(row);
+                if (time > toTime)
+                    break;
+                if (!anyOperator && operator(row) != operator)
+                    continue;
+
+                visitor.visit(id(row), time, value(row), type(row), operator(row));
+                matched++;
+            }
+            return matched;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private int lowerBound(long time) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (time(middle) < time)
+                low = middle + 1;
+            else
+                high = middle;
+        }
+        return low;
+    }
+
+    private boolean isAfter(int row, long time, int id) {
+        long rowTime = time(row);
+        return rowTime > time || rowTime == time && id(row) > id;
+    }
+
+    private long grow() {
+        int grownCapacity = Math.multiplyExact(capacity, 2);
+        var grown = ByteBuffer.allocateDirect(Math.multiplyExact(grownCapacity, ROW_BYTES));
+        copyColumn(grown, grownCapacity, TIME_PREFIX, Long.BYTES);
+        copyColumn(grown, grownCapacity, VALUE_PREFIX, Double.BYTES);
+        copyColumn(grown, grownCapacity, ID_PREFIX, Integer.BYTES);
+        copyColumn(grown, grownCapacity, OPERATOR_PREFIX, Integer.BYTES);
+        copyColumn(grown, grownCapacity, TYPE_PREFIX, Byte.BYTES);
+
+        long allocated = (long) (grownCapacity - capacity) * ROW_BYTES;
+        columns = grown;
+        capacity = grownCapacity;
+        return allocated;
+    }
+
+    private void copyColumn(ByteBuffer grown, int grownCapacity, int prefix, int width) {
+        var source = columns.duplicate();
+        source.position(capacity * prefix).limit(capacity * prefix + size * width);
+        grown.duplicate().position(grownCapacity * prefix).put(source);
+    }
+
+    private void copyRow(int from, int to) {
+        writeRow(to, id(from), time(from), value(from), type(from), operator(from));
+    }
+
+    private void writeRow(int row, int id, long time, double value, byte type, int operator) {
+        columns.putLong(timeOffset(row), time);
+        columns.putDouble(valueOffset(row), value);
+        columns.putInt(idOffset(row), id);
+        columns.putInt(operatorOffset(row), operator);
+        columns.put(typeOffset(row), type);
+    }
+
+    private long time(int row) {
+        return columns.getLong(timeOffset(row));
+    }
+
+    private double value(int row) {
+        return columns.getDouble(valueOffset(row));
+    }
+
+    private int id(int row) {
+        return columns.getInt(idOffset(row));
+    }
+
+    private int operator(int row) {
+        return columns.getInt(operatorOffset(row));
+    }
+
+    private byte type(int row) {
+        return columns.get(typeOffset(row));
+    }
+
+    private int timeOffset(int row) {
+        return capacity * TIME_PREFIX + row * Long.BYTES;
+    }
+
+    private int valueOffset(int row) {
+        return capacity * VALUE_PREFIX + row * Double.BYTES;
+    }
+
+    private int idOffset(int row) {
+        return capacity * ID_PREFIX + row * Integer.BYTES;
+    }
+
+    private int operatorOffset(int row) {
+        return capacity * OPERATOR_PREFIX + row * Integer.BYTES;
+    }
+
+    private int typeOffset(int row) {
+        return capacity * TYPE_PREFIX + row;
+    }
+
+    interface RowVisitor {
+        void visit(int id, long time, double value, byte type, int operator);
+    }
+}
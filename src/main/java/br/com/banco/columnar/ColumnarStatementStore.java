@@ -0,0 +1,119 @@
+package br.com.banco.columnar;
+
+import br.com.banco.dto.StatementFilter;
+import br.com.banco.entity.Account;
+import br.com.banco.entity.Transference;
+import br.com.banco.entity.Type;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ColumnarStatementStore {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final Type[] TYPES = Type.values();
+
+    private final Map<Integer, AccountColumns> accounts = new ConcurrentHashMap<>();
+    private final OperatorDictionary operators = new OperatorDictionary();
+    private final AtomicLong rows = new AtomicLong();
+    private final AtomicLong offHeapBytes = new AtomicLong();
+    private final int initialRowsPerAccount;
+
+    public ColumnarStatementStore(int initialRowsPerAccount) {
+        this.initialRowsPerAccount = Math.max(1, initialRowsPerAccount);
+    }
+
+    public void append(int accountId, int id, LocalDateTime date, double value, Type type, String operatorName) {
+        var columns = accounts.get(accountId);
+        if (columns == null)
+            columns = accounts.computeIfAbsent(accountId, this::newColumns);
+
+        offHeapBytes.addAndGet(columns.append(
+                id, toTime(date), value, (byte) type.ordinal(), operators.intern(operatorName)));
+        rows.incrementAndGet();
+    }
+
+    public boolean contains(int accountId, int id, LocalDateTime from, LocalDateTime to) {
+        var columns = accounts.get(accountId);
+        return columns != null && columns.contains(id, toTime(from), toTime(to));
+    }
+
+    public List<Transference> find(Account account, StatementFilter filter) {
+        List<Transference> statement = new ArrayList<>();
+        var columns = accounts.get(account.getId());
+        if (columns == null)
+            return statement;
+
+        long from = Long.MIN_VALUE;
+        long to = Long.MAX_VALUE;
+        int operator = OperatorDictionary.NONE;
+        boolean anyOperator = true;
+        if (filter != null) {
+            if (filter.getInitDate() != null && filter.getEndDate() != null) {
+                from = toTime(filter.getInitDate());
+                to = toTime(filter.getEndDate());
+            }
+
+            if (filter.getTransactionOperator() != null) {
+                operator = operators.find(filter.getTransactionOperator());
+                if (operator == OperatorDictionary.NONE)
+                    return statement;
+
+                anyOperator = false;
+            }
+        }
+
+        columns.scan(from, to, operator, anyOperator, (id, time, value, type, operatorId) -> {
+            var transference = new Transference(value, TYPES[type], account, operators.name(operatorId));
+            transference.setId(id);
+            transference.setTransferenceDate(toDate(time));
+            statement.add(transference);
+        });
+        return statement;
+    }
+
+    public int accounts() {
+        return accounts.size();
+    }
+
+    public long rows() {
+        return rows.get();
+    }
+
+    public int rows(int accountId) {
+        var columns = accounts.get(accountId);
+        return columns == null ? 0 : columns.size();
+    }
+
+    public long offHeapBytes() {
+        return offHeapBytes.get();
+    }
+
+    public int operators() {
+        return operators.size();
+    }
+
+    private AccountColumns newColumns(Integer accountId) {
+        offHeapBytes.addAndGet((long) initialRowsPerAccount * AccountColumns.ROW_BYTES);
+        return new AccountColumns(initialRowsPerAccount);
+    }
+
+    private static long toTime(LocalDateTime date) {
+        long seconds = date.toEpochSecond(ZoneOffset.UTC);
+        if (seconds >= Long.MAX_VALUE / NANOS_PER_SECOND)
+            return Long.MAX_VALUE;
+        if (seconds <= Long.MIN_VALUE / NANOS_PER_SECOND)
+            return Long.MIN_VALUE;
+
+        return seconds * NANOS_PER_SECOND + date.getNano();
+    }
+
+    private static LocalDateTime toDate(long time) {
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(time, NANOS_PER_SECOND), (int) Math.floorMod(time, NANOS_PER_SECOND), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.banco.columnar;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+class OperatorDictionary {
+    static final int NONE = -1;
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private volatile String[] names = new String[64];
+
+    int intern(String name) {
+        if (name == null)
+            return NONE;
+
+        Integer id = ids.get(name);
+        if (id != null)
+            return id;
+
+        synchronized (this) {
+            return ids.computeIfAbsent(name, key -> {
+                int next = ids.size();
+                var current = names;
+                var grown = next < current.length ? current : Arrays.copyOf(current, current.length * 2);
+                grown[next] = key;
+                names = grown;
+                return next;
+            });
+        }
+    }
+
+    int find(String name) {
+        return ids.getOrDefault(name, NONE);
+    }
+
+    String name(int id) {
+        return id == NONE ? null : names[id];
+    }
+
+    int size() {
+        return ids.size();
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.banco.command;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+
+@Slf4j
+public class CommandLane implements Runnable {
+    private final BlockingQueue<OperationCommand> queue;
+    private final int batchSize;
+    private final Consumer<List<OperationCommand>> processor;
+
+    public CommandLane(int capacity, int batchSize, Consumer<List<OperationCommand>> processor) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.processor = processor;
+    }
+
+    public boolean offer(OperationCommand command) {
+        return queue.offer(command);
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public void run() {
+        List<OperationCommand> batch = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+                processor.accept(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.error("Failed to process a batch of {} commands", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+}
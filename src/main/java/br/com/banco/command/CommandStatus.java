@@ -0,0 +1,7 @@
+package br.com.banco.command;
+
+public enum CommandStatus {
+    ACCEPTED,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,49 @@
+package br.com.banco.command;
+
+import br.com.banco.entity.Type;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+public class OperationCommand {
+    private final UUID id;
+    private final Integer accountId;
+    private final Type type;
+    private final Double value;
+    private final LocalDateTime createdAt;
+    private volatile CommandStatus status = CommandStatus.ACCEPTED;
+    private volatile Integer transferenceId;
+    private volatile String error;
+    private volatile LocalDateTime finishedAt;
+
+    public OperationCommand(Integer accountId, Type type, Double value) {
+        Objects.requireNonNull(accountId, "Account id is mandatory.");
+        Objects.requireNonNull(type, "Type is mandatory.");
+        Objects.requireNonNull(value, "Value is mandatory.");
+
+        this.id = UUID.randomUUID();
+        this.accountId = accountId;
+        this.type = type;
+        this.value = value;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public void complete(Integer transferenceId) {
+        this.transferenceId = transferenceId;
+        this.finishedAt = LocalDateTime.now();
+        this.status = CommandStatus.COMPLETED;
+    }
+
+    public void fail(String error) {
+        this.error = error;
+        this.finishedAt = LocalDateTime.now();
+        this.status = CommandStatus.FAILED;
+    }
+
+    public boolean isFinishedBefore(LocalDateTime cutoff) {
+        return status != CommandStatus.ACCEPTED && finishedAt.isBefore(cutoff);
+    }
+}
@@ -0,0 +1,108 @@
+package br.com.banco.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public class AdaptiveConcurrencyLimiter {
+    private static final double SHORT_RTT_WEIGHT = 2d / (10 + 1);
+    private static final double LONG_RTT_WEIGHT = 2d / (600 + 1);
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final double backoffRatio;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile int limit;
+    private double estimatedLimit;
+    private double shortRtt;
+    private double longRtt;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                      double tolerance, double smoothing, double backoffRatio) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit)
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= initial <= max");
+
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.backoffRatio = backoffRatio;
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1))
+                return true;
+        }
+    }
+
+    public void release(long rttNanos) {
+        int concurrency = inFlight.getAndDecrement();
+        onSample(rttNanos, concurrency);
+    }
+
+    public void releaseDropped() {
+        inFlight.decrementAndGet();
+        onDropped();
+    }
+
+    public void releaseIgnored() {
+        inFlight.decrementAndGet();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    private synchronized void onSample(long rttNanos, int concurrency) {
+        if (longRtt == 0) {
+            shortRtt = rttNanos;
+            longRtt = rttNanos;
+            return;
+        }
+        shortRtt += (rttNanos - shortRtt) * SHORT_RTT_WEIGHT;
+        longRtt += (rttNanos - longRtt) * LONG_RTT_WEIGHT;
+        if (longRtt > shortRtt * 2)
+            longRtt = shortRtt * 2;
+
+        if (concurrency < estimatedLimit / 2)
+            return;
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1, tolerance * longRtt / shortRtt));
+        double queueSize = Math.sqrt(estimatedLimit);
+        updateLimit(estimatedLimit * (1 - smoothing) + (estimatedLimit * gradient + queueSize) * smoothing);
+    }
+
+    private synchronized void onDropped() {
+        updateLimit(estimatedLimit * backoffRatio);
+    }
+
+    private void updateLimit(double newLimit) {
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+}
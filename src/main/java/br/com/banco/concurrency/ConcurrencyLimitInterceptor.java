@@ -0,0 +1,48 @@
+package br.com.banco.concurrency;
+
+import br.com.banco.exception.ServiceOverloadedException;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ServiceOverloadedException overloadedException;
+    private final String startAttribute;
+
+    public ConcurrencyLimitInterceptor(AdaptiveConcurrencyLimiter limiter, String message) {
+        this.limiter = limiter;
+        this.overloadedException = new ServiceOverloadedException(message);
+        this.startAttribute = ConcurrencyLimitInterceptor.class.getName() + "." + limiter.getName();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!limiter.tryAcquire())
+            throw overloadedException;
+        request.setAttribute(startAttribute, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        var start = (Long) request.getAttribute(startAttribute);
+        if (start == null)
+            return;
+        request.removeAttribute(startAttribute);
+
+        if (ex != null || response.getStatus() >= 500)
+            limiter.releaseDropped();
+        else
+            limiter.release(System.nanoTime() - start);
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(startAttribute) == null)
+            return;
+        request.removeAttribute(startAttribute);
+        limiter.releaseIgnored();
+    }
+}
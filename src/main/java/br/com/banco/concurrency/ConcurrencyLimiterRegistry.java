@@ -0,0 +1,22 @@
+package br.com.banco.concurrency;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ConcurrencyLimiterRegistry {
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    public AdaptiveConcurrencyLimiter register(AdaptiveConcurrencyLimiter limiter) {
+        limiters.put(limiter.getName(), limiter);
+        return limiter;
+    }
+
+    public AdaptiveConcurrencyLimiter get(String name) {
+        return limiters.get(name);
+    }
+
+    public Collection<AdaptiveConcurrencyLimiter> getAll() {
+        return limiters.values();
+    }
+}
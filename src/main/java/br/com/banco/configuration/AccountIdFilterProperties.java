@@ -0,0 +1,18 @@
+package br.com.banco.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bank.account-filter")
+public class AccountIdFilterProperties {
+    private boolean enabled = false;
+    private long expectedAccounts = 1_000_000;
+    private double falsePositiveRate = 0.01d;
+    private int idHeadroom = 10_000;
+    private Duration rebuildInterval = Duration.ofHours(1);
+}
@@ -0,0 +1,16 @@
+package br.com.banco.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bank.archive")
+public class ArchiveProperties {
+    private boolean enabled = false;
+    private Duration maxAge = Duration.ofDays(180);
+    private int batchSize = 1000;
+}
@@ -0,0 +1,30 @@
+package br.com.banco.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bank.batch")
+public class BatchJobProperties {
+    private int chunkSize = 1000;
+    private int parallelism = 4;
+    private boolean resumeOnStartup = true;
+    private DailyFee dailyFee = new DailyFee();
+    private LedgerReconciliation ledgerReconciliation = new LedgerReconciliation();
+
+    @Getter
+    @Setter
+    public static class DailyFee {
+        private boolean enabled = false;
+        private double amount = 1d;
+    }
+
+    @Getter
+    @Setter
+    public static class LedgerReconciliation {
+        private boolean enabled = true;
+        private double tolerance = 0.005d;
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.banco.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bank.commands")
+public class CommandProperties {
+    private int lanes = 4;
+    private int queueCapacity = 1000;
+    private int batchSize = 50;
+    private int maxTracked = 100_000;
+    private Duration retention = Duration.ofMinutes(10);
+}
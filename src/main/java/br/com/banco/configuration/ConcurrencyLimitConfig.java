@@ -0,0 +1,76 @@
+package br.com.banco.configuration;
+
+import br.com.banco.concurrency.AdaptiveConcurrencyLimiter;
+import br.com.banco.concurrency.ConcurrencyLimitInterceptor;
+import br.com.banco.concurrency.ConcurrencyLimiterRegistry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Locale;
+
+@Configuration
+@ConditionalOnProperty(prefix = "bank.concurrency-limit", name = "enabled", havingValue = "true")
+public class ConcurrencyLimitConfig implements WebMvcConfigurer {
+    private static final String SERVICE_OVERLOADED_MESSAGE_KEY = "service.overloaded.message.error";
+    private static final String ENDPOINT_TAG = "endpoint";
+
+    private final ConcurrencyLimitProperties concurrencyLimitProperties;
+    private final MessageSource messageSource;
+    private final MeterRegistry meterRegistry;
+
+    public ConcurrencyLimitConfig(ConcurrencyLimitProperties concurrencyLimitProperties,
+                                  MessageSource messageSource,
+                                  MeterRegistry meterRegistry) {
+        this.concurrencyLimitProperties = concurrencyLimitProperties;
+        this.messageSource = messageSource;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public ConcurrencyLimiterRegistry concurrencyLimiterRegistry() {
+        var limiterRegistry = new ConcurrencyLimiterRegistry();
+        concurrencyLimitProperties.getEndpoints().forEach((name, endpoint) ->
+                limiterRegistry.register(registerMetrics(buildLimiter(name, endpoint))));
+        return limiterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        var message = messageSource.getMessage(SERVICE_OVERLOADED_MESSAGE_KEY, null, Locale.getDefault());
+        var limiterRegistry = concurrencyLimiterRegistry();
+        concurrencyLimitProperties.getEndpoints().forEach((name, endpoint) -> registry
+                .addInterceptor(new ConcurrencyLimitInterceptor(limiterRegistry.get(name), message))
+                .addPathPatterns(endpoint.getPaths()));
+    }
+
+    private AdaptiveConcurrencyLimiter buildLimiter(String name, ConcurrencyLimitProperties.Endpoint endpoint) {
+        return new AdaptiveConcurrencyLimiter(
+                name,
+                endpoint.getInitialLimit(),
+                endpoint.getMinLimit(),
+                endpoint.getMaxLimit(),
+                endpoint.getTolerance(),
+                endpoint.getSmoothing(),
+                endpoint.getBackoffRatio());
+    }
+
+    private AdaptiveConcurrencyLimiter registerMetrics(AdaptiveConcurrencyLimiter limiter) {
+        Gauge.builder("bank.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .tag(ENDPOINT_TAG, limiter.getName())
+                .register(meterRegistry);
+        Gauge.builder("bank.concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .tag(ENDPOINT_TAG, limiter.getName())
+                .register(meterRegistry);
+        FunctionCounter.builder("bank.concurrency.rejected", limiter, AdaptiveConcurrencyLimiter::getRejected)
+                .tag(ENDPOINT_TAG, limiter.getName())
+                .register(meterRegistry);
+        return limiter;
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.banco.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bank.concurrency-limit")
+public class ConcurrencyLimitProperties {
+    private boolean enabled = false;
+    private Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Endpoint {
+        private List<String> paths = new ArrayList<>();
+        private int initialLimit = 20;
+        private int minLimit = 4;
+        private int maxLimit = 200;
+        private double tolerance = 1.5;
+        private double smoothing = 0.2;
+        private double backoffRatio = 0.9;
+    }
+}
@@ -0,0 +1,5 @@
+package br.com.banco.configuration;
+
+public enum DataSourceType {
+    PRIMARY, REPLICA
+}
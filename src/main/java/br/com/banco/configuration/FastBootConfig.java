@@ -0,0 +1,38 @@
+package br.com.banco.configuration;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+
+@Configuration
+@Profile("fast-boot")
+public class FastBootConfig {
+    private static final String PREFIX = "bank.fast-boot";
+
+    private final FastBootProperties fastBootProperties;
+
+    public FastBootConfig(FastBootProperties fastBootProperties) {
+        this.fastBootProperties = fastBootProperties;
+    }
+
+    @Bean
+    public static SchemaValidationMarker schemaValidationMarker(Environment environment) {
+        var properties = Binder.get(environment).bindOrCreate(PREFIX, FastBootProperties.class);
+        return new SchemaValidationMarker(properties.getSchemaMarker(), MigrationChecksum.compute());
+    }
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        if (!fastBootProperties.isExitOnReady())
+            return;
+
+        var context = event.getApplicationContext();
+        context.getBeanFactory().preInstantiateSingletons();
+        System.exit(SpringApplication.exit(context));
+    }
+}
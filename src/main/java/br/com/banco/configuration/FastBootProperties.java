@@ -0,0 +1,15 @@
+package br.com.banco.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bank.fast-boot")
+public class FastBootProperties {
+    private Path schemaMarker;
+    private boolean exitOnReady = false;
+}
@@ -0,0 +1,40 @@
+package br.com.banco.configuration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+@Slf4j
+public class H2ReplicationStandIn {
+    private final JdbcTemplate primaryJdbcTemplate;
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final TransactionTemplate replicaTransactionTemplate;
+    private final ReplicaLagTracker replicaLagTracker;
+
+    public H2ReplicationStandIn(DataSource primaryDataSource, DataSource replicaDataSource,
+                                ReplicaLagTracker replicaLagTracker) {
+        this.primaryJdbcTemplate = new JdbcTemplate(primaryDataSource);
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.replicaTransactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(replicaDataSource));
+        this.replicaLagTracker = replicaLagTracker;
+    }
+
+    @Scheduled(fixedDelayString = "${bank.datasource.replica.stand-in.interval:PT1S}",
+            initialDelayString = "${bank.datasource.replica.stand-in.interval:PT1S}")
+    public synchronized void replicate() {
+        long snapshotTime = System.currentTimeMillis();
+        List<String> script = primaryJdbcTemplate.queryForList("SCRIPT DROP", String.class);
+
+        replicaTransactionTemplate.executeWithoutResult(status -> script.stream()
+                .filter(statement -> !statement.startsWith("CREATE USER"))
+                .forEach(replicaJdbcTemplate::execute));
+
+        replicaLagTracker.markReplicated(snapshotTime);
+        log.debug("Replicated {} statements to the read replica", script.size());
+    }
+}
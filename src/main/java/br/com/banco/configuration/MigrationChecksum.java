@@ -0,0 +1,35 @@
+package br.com.banco.configuration;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.zip.CRC32;
+
+public final class MigrationChecksum {
+    private static final String MIGRATIONS = "classpath*:db/migration/*.sql";
+
+    private MigrationChecksum() {
+    }
+
+    public static String compute() {
+        try {
+            Resource[] migrations = new PathMatchingResourcePatternResolver().getResources(MIGRATIONS);
+            Arrays.sort(migrations, Comparator.comparing(Resource::getFilename));
+
+            var crc = new CRC32();
+            for (Resource migration : migrations) {
+                crc.update(migration.getFilename().getBytes());
+                try (var in = migration.getInputStream()) {
+                    crc.update(in.readAllBytes());
+                }
+            }
+            return Long.toHexString(crc.getValue());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.banco.configuration;
+
+import br.com.banco.outbox.FileOperationEventSink;
+import br.com.banco.outbox.HttpOperationEventSink;
+import br.com.banco.outbox.InMemoryOperationEventSink;
+import br.com.banco.outbox.OperationEventSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "bank.outbox.sink", name = "type", havingValue = "in-memory", matchIfMissing = true)
+    public OperationEventSink inMemoryOperationEventSink(OutboxProperties outboxProperties) {
+        return new InMemoryOperationEventSink(outboxProperties.getSink().getInMemoryCapacity());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "bank.outbox.sink", name = "type", havingValue = "file")
+    public OperationEventSink fileOperationEventSink(OutboxProperties outboxProperties, ObjectMapper objectMapper) {
+        return new FileOperationEventSink(Path.of(outboxProperties.getSink().getFile()), objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "bank.outbox.sink", name = "type", havingValue = "http")
+    public OperationEventSink httpOperationEventSink(OutboxProperties outboxProperties,
+                                                     RestTemplateBuilder restTemplateBuilder) {
+        return new HttpOperationEventSink(restTemplateBuilder.build(), outboxProperties.getSink().getUrl());
+    }
+}
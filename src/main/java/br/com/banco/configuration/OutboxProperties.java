@@ -0,0 +1,27 @@
+package br.com.banco.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bank.outbox")
+public class OutboxProperties {
+    private boolean enabled = true;
+    private int batchSize = 500;
+    private int parallelism = 2;
+    private Duration claimTimeout = Duration.ofMinutes(1);
+    private Sink sink = new Sink();
+
+    @Getter
+    @Setter
+    public static class Sink {
+        private String type = "in-memory";
+        private int inMemoryCapacity = 10_000;
+        private String file = "outbox-events.jsonl";
+        private String url;
+    }
+}
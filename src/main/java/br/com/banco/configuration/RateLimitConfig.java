@@ -0,0 +1,48 @@
+package br.com.banco.configuration;
+
+import br.com.banco.ratelimit.RateLimitInterceptor;
+import br.com.banco.ratelimit.RateLimiter;
+import br.com.banco.ratelimit.RateLimiterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Locale;
+
+@Configuration
+@ConditionalOnProperty(prefix = "bank.rate-limit", name = "enabled", havingValue = "true")
+public class RateLimitConfig implements WebMvcConfigurer {
+    private static final String RATE_LIMIT_EXCEEDED_MESSAGE_KEY = "rate.limit.exceeded.message.error";
+
+    private final RateLimitProperties rateLimitProperties;
+    private final MessageSource messageSource;
+
+    public RateLimitConfig(RateLimitProperties rateLimitProperties, MessageSource messageSource) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.messageSource = messageSource;
+    }
+
+    @Bean
+    public RateLimiterRegistry rateLimiterRegistry() {
+        return new RateLimiterRegistry(rateLimitProperties.getMaxEntries(), rateLimitProperties.getIdleTimeout());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        var message = messageSource.getMessage(RATE_LIMIT_EXCEEDED_MESSAGE_KEY, null, Locale.getDefault());
+        rateLimitProperties.getEndpoints().values().forEach(endpoint -> registry
+                .addInterceptor(new RateLimitInterceptor(
+                        createLimiter(endpoint.getPerClient()),
+                        createLimiter(endpoint.getPerAccount()),
+                        rateLimitProperties.getClientIdHeader(),
+                        message))
+                .addPathPatterns(endpoint.getPaths()));
+    }
+
+    private <K> RateLimiter<K> createLimiter(RateLimitProperties.Limit limit) {
+        return limit != null ? rateLimiterRegistry().create(limit.getCapacity(), limit.getRefillPerSecond()) : null;
+    }
+}
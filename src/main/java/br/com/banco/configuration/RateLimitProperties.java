@@ -0,0 +1,37 @@
+package br.com.banco.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bank.rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = false;
+    private String clientIdHeader = "X-Client-Id";
+    private int maxEntries = 100_000;
+    private Duration idleTimeout = Duration.ofMinutes(10);
+    private Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Endpoint {
+        private List<String> paths = new ArrayList<>();
+        private Limit perClient;
+        private Limit perAccount;
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+        private int capacity;
+        private double refillPerSecond;
+    }
+}
@@ -0,0 +1,72 @@
+package br.com.banco.configuration;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(prefix = "bank.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig implements WebMvcConfigurer {
+    private final ReplicaProperties replicaProperties;
+
+    public ReadReplicaDataSourceConfig(ReplicaProperties replicaProperties) {
+        this.replicaProperties = replicaProperties;
+    }
+
+    @Bean
+    public DataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().build();
+    }
+
+    @Bean
+    public DataSource replicaDataSource() {
+        return DataSourceBuilder.create()
+                .url(replicaProperties.getUrl())
+                .username(replicaProperties.getUsername())
+                .password(replicaProperties.getPassword())
+                .driverClassName(replicaProperties.getDriverClassName())
+                .build();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        var routingDataSource = new ReadReplicaRoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primaryDataSource,
+                DataSourceType.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagTracker replicaLagTracker() {
+        return new ReplicaLagTracker();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "bank.datasource.replica.stand-in", name = "enabled", havingValue = "true")
+    public H2ReplicationStandIn h2ReplicationStandIn(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                     @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                                     ReplicaLagTracker replicaLagTracker) {
+        return new H2ReplicationStandIn(primaryDataSource, replicaDataSource, replicaLagTracker);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ReadYourWritesInterceptor(replicaLagTracker(), replicaProperties.getClientIdHeader()));
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.banco.configuration;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !ReplicaRoutingContext.isPrimaryForced())
+            return DataSourceType.REPLICA;
+
+        return DataSourceType.PRIMARY;
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.banco.configuration;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+    private final ReplicaLagTracker replicaLagTracker;
+    private final String clientIdHeader;
+
+    public ReadYourWritesInterceptor(ReplicaLagTracker replicaLagTracker, String clientIdHeader) {
+        this.replicaLagTracker = replicaLagTracker;
+        this.clientIdHeader = clientIdHeader;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ReplicaRoutingContext.forcePrimary(!replicaLagTracker.isCaughtUp(getClientId(request)));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReplicaRoutingContext.clear();
+        if (isWrite(request) && ex == null && response.getStatus() < 400)
+            replicaLagTracker.recordWrite(getClientId(request));
+    }
+
+    private boolean isWrite(HttpServletRequest request) {
+        var method = HttpMethod.resolve(request.getMethod());
+        return method != HttpMethod.GET && method != HttpMethod.HEAD && method != HttpMethod.OPTIONS;
+    }
+
+    private String getClientId(HttpServletRequest request) {
+        var clientId = request.getHeader(clientIdHeader);
+        return clientId != null ? clientId : request.getRemoteAddr();
+    }
+}
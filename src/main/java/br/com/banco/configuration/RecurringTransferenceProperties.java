@@ -0,0 +1,19 @@
+package br.com.banco.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bank.recurring")
+public class RecurringTransferenceProperties {
+    private boolean enabled = true;
+    private Duration tick = Duration.ofSeconds(1);
+    private int wheelSize = 60;
+    private Duration horizon = Duration.ofMinutes(10);
+    private int batchSize = 500;
+    private int parallelism = 4;
+}
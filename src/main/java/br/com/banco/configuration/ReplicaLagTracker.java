@@ -0,0 +1,27 @@
+package br.com.banco.configuration;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ReplicaLagTracker {
+    private final Map<String, Long> lastWriteByClient = new ConcurrentHashMap<>();
+    private volatile long replicatedUpTo;
+
+    public void recordWrite(String clientId) {
+        lastWriteByClient.put(clientId, System.currentTimeMillis());
+    }
+
+    public boolean isCaughtUp(String clientId) {
+        Long lastWrite = lastWriteByClient.get(clientId);
+        return lastWrite == null || lastWrite < replicatedUpTo;
+    }
+
+    public void markReplicated(long primarySnapshotTime) {
+        replicatedUpTo = primarySnapshotTime;
+        lastWriteByClient.values().removeIf(lastWrite -> lastWrite < primarySnapshotTime);
+    }
+
+    public long getLagMillis() {
+        return replicatedUpTo == 0 ? -1 : System.currentTimeMillis() - replicatedUpTo;
+    }
+}
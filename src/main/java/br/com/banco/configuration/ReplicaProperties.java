@@ -0,0 +1,24 @@
+package br.com.banco.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bank.datasource.replica")
+public class ReplicaProperties {
+    private boolean enabled = false;
+    private String url;
+    private String username;
+    private String password;
+    private String driverClassName;
+    private String clientIdHeader = "X-Client-Id";
+    private StandIn standIn = new StandIn();
+
+    @Getter
+    @Setter
+    public static class StandIn {
+        private boolean enabled = false;
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.banco.configuration;
+
+public final class ReplicaRoutingContext {
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+    }
+
+    public static void forcePrimary(boolean forcePrimary) {
+        FORCE_PRIMARY.set(forcePrimary);
+    }
+
+    public static boolean isPrimaryForced() {
+        return Boolean.TRUE.equals(FORCE_PRIMARY.get());
+    }
+
+    public static void clear() {
+        FORCE_PRIMARY.remove();
+    }
+}
@@ -0,0 +1,12 @@
+package br.com.banco.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bank.reversal")
+public class ReversalProperties {
+    private int chunkSize = 500;
+}
@@ -0,0 +1,65 @@
+package br.com.banco.configuration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+@Slf4j
+public class SchemaValidationMarker implements HibernatePropertiesCustomizer, BeanPostProcessor {
+    private static final String VALIDATE = "validate";
+    private static final String NONE = "none";
+
+    private final Path marker;
+    private final String migrationChecksum;
+    private volatile boolean validating;
+
+    public SchemaValidationMarker(Path marker, String migrationChecksum) {
+        this.marker = marker;
+        this.migrationChecksum = migrationChecksum;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        if (!VALIDATE.equals(hibernateProperties.get(AvailableSettings.HBM2DDL_AUTO)))
+            return;
+
+        if (isValidated()) {
+            log.info("Migration checksum {} already validated, skipping schema validation", migrationChecksum);
+            hibernateProperties.put(AvailableSettings.HBM2DDL_AUTO, NONE);
+        } else {
+            validating = true;
+        }
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (validating && bean instanceof EntityManagerFactory) {
+            validating = false;
+            record();
+        }
+        return bean;
+    }
+
+    public boolean isValidated() {
+        try {
+            return Files.exists(marker) && migrationChecksum.equals(Files.readString(marker).trim());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void record() {
+        try {
+            Files.writeString(marker, migrationChecksum);
+        } catch (IOException e) {
+            log.warn("Could not record the validated migration checksum at {}", marker, e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.banco.configuration;
+
+import br.com.banco.sharding.Shard;
+import br.com.banco.sharding.ShardRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.stream.Collectors;
+
+@Configuration
+@ConditionalOnProperty(prefix = "bank.sharding", name = "enabled", havingValue = "true")
+public class ShardingConfig {
+    private static final String SHARD_SCHEMA = "db/shard/schema.sql";
+
+    @Bean
+    public ShardRegistry shardRegistry(ShardingProperties shardingProperties) {
+        var shards = shardingProperties.getShards().stream()
+                .map(this::buildShard)
+                .collect(Collectors.toList());
+        return new ShardRegistry(shards, shardingProperties.getVirtualNodes(), shardingProperties.getCoordinator());
+    }
+
+    private Shard buildShard(ShardingProperties.Shard properties) {
+        var dataSource = DataSourceBuilder.create()
+                .url(properties.getUrl())
+                .username(properties.getUsername())
+                .password(properties.getPassword())
+                .driverClassName(properties.getDriverClassName())
+                .build();
+        new ResourceDatabasePopulator(new ClassPathResource(SHARD_SCHEMA)).execute(dataSource);
+
+        return new Shard(properties.getName(), dataSource);
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.banco.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bank.statement-projection")
+public class StatementProjectionProperties {
+    private boolean enabled = true;
+    private int batchSize = 500;
+}
@@ -0,0 +1,13 @@
+package br.com.banco.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bank.statement-store")
+public class StatementStoreProperties {
+    private boolean enabled = false;
+    private int initialRowsPerAccount = 8;
+}
@@ -0,0 +1,19 @@
+package br.com.banco.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bank.stream")
+public class StreamProperties {
+    private int subscriberBufferSize = 64;
+    private int historySize = 256;
+    private int maxHistoryAccounts = 100000;
+    private Duration historyIdleTimeout = Duration.ofMinutes(10);
+    private int senderThreads = 2;
+    private Duration timeout = Duration.ofMinutes(30);
+}
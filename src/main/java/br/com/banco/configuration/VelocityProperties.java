@@ -0,0 +1,30 @@
+package br.com.banco.configuration;
+
+import br.com.banco.entity.Type;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bank.velocity")
+public class VelocityProperties {
+    private boolean enabled = false;
+    private Map<String, Rule> rules = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+        private Set<Type> types = EnumSet.of(Type.WITHDRAW, Type.TRANSFERENCE);
+        private Duration window = Duration.ofMinutes(10);
+        private int buckets = 60;
+        private Integer maxCount;
+        private Double maxAmount;
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.banco.controller;
+
+import br.com.banco.dto.AccountBalanceResponse;
+import br.com.banco.dto.BalanceSlotsDto;
+import br.com.banco.service.impl.AccountService;
+import br.com.banco.service.impl.BalanceService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+
+import static br.com.banco.controller.AccountResource.ACCOUNTS_BASE_PATH;
+
+@RestController
+@RequestMapping(ACCOUNTS_BASE_PATH)
+public class AccountBalanceResource {
+    private static final String BALANCE_PATH = "{id}/balance";
+    private static final String BALANCE_SLOTS_PATH = "{id}/balance-slots";
+
+    private final AccountService accountService;
+    private final BalanceService balanceService;
+
+    public AccountBalanceResource(AccountService accountService, BalanceService balanceService) {
+        this.accountService = accountService;
+        this.balanceService = balanceService;
+    }
+
+    @GetMapping(BALANCE_PATH)
+    public ResponseEntity<AccountBalanceResponse> getBalance(@PathVariable Integer id) {
+        var account = accountService.findById(id);
+        return ResponseEntity.ok(new AccountBalanceResponse(account, balanceService.getBalance(account)));
+    }
+
+    @Transactional
+    @PutMapping(BALANCE_SLOTS_PATH)
+    public ResponseEntity<AccountBalanceResponse> updateBalanceSlots(
+            @PathVariable Integer id,
+            @RequestBody @Valid BalanceSlotsDto balanceSlotsDto) {
+        var account = accountService.findById(id);
+        balanceService.updateBalanceSlots(account, balanceSlotsDto.getSlots());
+        return ResponseEntity.ok(new AccountBalanceResponse(account, balanceService.getBalance(account)));
+    }
+}
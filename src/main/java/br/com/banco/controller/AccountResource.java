@@ -8,6 +8,7 @@ import org.springframework.beans.BeanUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import java.net.URI;
@@ -36,9 +37,13 @@ public class AccountResource {
     }
 
     @GetMapping("{id}")
-    public ResponseEntity<AccountResponse> findById(@PathVariable Integer id) {
+    public ResponseEntity<AccountResponse> findById(@PathVariable Integer id, WebRequest webRequest) {
+        var eTag = VersionETag.of(accountService.getVersion(id));
+        if (webRequest.checkNotModified(eTag))
+            return null;
+
         var account = accountService.findById(id);
-        return ResponseEntity.ok(new AccountResponse(account));
+        return ResponseEntity.ok().eTag(eTag).body(new AccountResponse(account));
     }
 
     @GetMapping
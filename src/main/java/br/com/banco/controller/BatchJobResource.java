@@ -0,0 +1,54 @@
+package br.com.banco.controller;
+
+import br.com.banco.dto.BatchJobExecutionResponse;
+import br.com.banco.dto.LedgerDriftResponse;
+import br.com.banco.entity.BatchJobExecution;
+import br.com.banco.service.impl.BatchJobService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static br.com.banco.controller.BatchJobResource.BATCH_JOBS_BASE_PATH;
+
+@RestController
+@RequestMapping(BATCH_JOBS_BASE_PATH)
+public class BatchJobResource {
+    public static final String BATCH_JOBS_BASE_PATH = "/api/batch-jobs";
+    private static final String EXECUTIONS_PATH = "executions/";
+
+    private final BatchJobService batchJobService;
+
+    public BatchJobResource(BatchJobService batchJobService) {
+        this.batchJobService = batchJobService;
+    }
+
+    @PostMapping("{jobName}/" + EXECUTIONS_PATH)
+    public ResponseEntity<BatchJobExecutionResponse> run(
+            @PathVariable String jobName,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate businessDate) {
+        var execution = batchJobService.run(
+                jobName, businessDate != null ? businessDate : LocalDate.now().minusDays(1));
+
+        return ResponseEntity.ok(getResponse(execution));
+    }
+
+    @GetMapping(EXECUTIONS_PATH + "{id}")
+    public ResponseEntity<BatchJobExecutionResponse> findExecution(@PathVariable Long id) {
+        return ResponseEntity.ok(getResponse(batchJobService.findExecution(id)));
+    }
+
+    @GetMapping(EXECUTIONS_PATH + "{id}/drifts")
+    public ResponseEntity<List<LedgerDriftResponse>> findDrifts(@PathVariable Long id) {
+        return ResponseEntity.ok(batchJobService.findDrifts(id).stream()
+                .map(LedgerDriftResponse::new)
+                .collect(Collectors.toList()));
+    }
+
+    private BatchJobExecutionResponse getResponse(BatchJobExecution execution) {
+        return new BatchJobExecutionResponse(execution, batchJobService.findChunks(execution.getId()));
+    }
+}
@@ -1,18 +1,32 @@
 package br.com.banco.controller;
 
+import br.com.banco.command.OperationCommand;
 import br.com.banco.dto.*;
 import br.com.banco.entity.Transference;
+import br.com.banco.entity.Type;
 import br.com.banco.service.impl.AccountService;
+import br.com.banco.service.impl.OperationCommandService;
+import br.com.banco.service.impl.OperationStreamService;
+import br.com.banco.service.impl.StatementProjectionService;
+import br.com.banco.service.impl.TransferReversalService;
 import br.com.banco.service.impl.TransferenceService;
+import br.com.banco.service.impl.VelocityService;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import javax.validation.Valid;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import static br.com.banco.controller.OperationResource.OPERATIONS_BASE_PATH;
@@ -25,13 +39,39 @@ public class OperationResource {
     private static final String WITHDRAW_PATH = "withdraw/";
     private static final String DEPOSIT_PATH = "deposit/";
     private static final String BANK_STATEMENT_PATH = "bank-statement/";
+    private static final String STREAM_PATH = "stream/";
+    private static final String SUMMARY_PATH = "/summary";
+    private static final String BATCH_PATH = "batch";
+    private static final String COMMANDS_PATH = "commands/";
+    private static final String LEGS_PATH = "/legs";
+    private static final String REVERSALS_PATH = "reversals";
+    private static final String RESPOND_ASYNC_HEADER = "Prefer=respond-async";
+    private static final String PREFERENCE_APPLIED_HEADER = "Preference-Applied";
+    private static final String RESPOND_ASYNC = "respond-async";
+    private static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
 
     private final AccountService accountService;
     private final TransferenceService transferenceService;
-
-    public OperationResource(AccountService accountService, TransferenceService transferenceService) {
+    private final OperationStreamService operationStreamService;
+    private final OperationCommandService operationCommandService;
+    private final StatementProjectionService statementProjectionService;
+    private final TransferReversalService transferReversalService;
+    private final VelocityService velocityService;
+
+    public OperationResource(AccountService accountService,
+                             TransferenceService transferenceService,
+                             OperationStreamService operationStreamService,
+                             OperationCommandService operationCommandService,
+                             StatementProjectionService statementProjectionService,
+                             TransferReversalService transferReversalService,
+                             VelocityService velocityService) {
         this.accountService = accountService;
         this.transferenceService = transferenceService;
+        this.operationStreamService = operationStreamService;
+        this.operationCommandService = operationCommandService;
+        this.statementProjectionService = statementProjectionService;
+        this.transferReversalService = transferReversalService;
+        this.velocityService = velocityService;
     }
 
     @Transactional
@@ -43,13 +83,30 @@ public class OperationResource {
         var destinationAccount = accountService.findById(transferenceDto.getDestinationAccountId());
         accountService.checkEquals(account,destinationAccount);
         Double transferenceValue = transferenceDto.getValue();
+        velocityService.check(account, Type.TRANSFERENCE, transferenceValue);
 
-        transferenceService.transfer(account, destinationAccount, transferenceValue);
+        var transference = transferenceService.transfer(account, destinationAccount, transferenceValue);
 
         return ResponseEntity.ok(new TransferenceResponse(
                 account.getOwnerName(),
                 destinationAccount.getOwnerName(),
-                transferenceValue));
+                transferenceValue,
+                transference.getCorrelationId()));
+    }
+
+    @GetMapping(TRANSFERENCE_PATH + "{correlationId}" + LEGS_PATH)
+    public ResponseEntity<List<TransferLegResponse>> getTransferLegs(@PathVariable String correlationId) {
+        var legs = transferenceService.findLegs(correlationId).stream()
+                .map(TransferLegResponse::new)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(legs);
+    }
+
+    @PostMapping(TRANSFERENCE_PATH + REVERSALS_PATH)
+    public ResponseEntity<TransferReversalResponse> reverseTransfers(
+            @RequestBody @Valid TransferReversalDto transferReversalDto) {
+        return ResponseEntity.ok(transferReversalService.reverse(transferReversalDto.getCorrelationIds()));
     }
 
     @Transactional
@@ -58,6 +115,7 @@ public class OperationResource {
             @PathVariable Integer accountId,
             @RequestBody @Valid WithdrawDto withdrawDto) {
         var account = accountService.findById(accountId);
+        velocityService.check(account, Type.WITHDRAW, withdrawDto.getValue());
         var transference = transferenceService.withdraw(account, withdrawDto.getValue());
 
         return ResponseEntity.ok(new WithdrawResponse(transference));
@@ -74,19 +132,108 @@ public class OperationResource {
         return ResponseEntity.ok(new DepositResponse(transference));
     }
 
+    @PostMapping(value = WITHDRAW_PATH + "{accountId}", headers = RESPOND_ASYNC_HEADER)
+    public ResponseEntity<OperationCommandResponse> withdrawAsync(
+            @PathVariable Integer accountId,
+            @RequestBody @Valid WithdrawDto withdrawDto) {
+        var account = accountService.findById(accountId);
+        velocityService.check(account, Type.WITHDRAW, withdrawDto.getValue());
+        var command = operationCommandService.submit(account, Type.WITHDRAW, withdrawDto.getValue());
+
+        return getAcceptedResponse(command);
+    }
+
+    @PostMapping(value = DEPOSIT_PATH + "{accountId}", headers = RESPOND_ASYNC_HEADER)
+    public ResponseEntity<OperationCommandResponse> depositAsync(
+            @PathVariable Integer accountId,
+            @RequestBody @Valid DepositDto depositDto) {
+        var account = accountService.findById(accountId);
+        var command = operationCommandService.submit(account, Type.DEPOSIT, depositDto.getValue());
+
+        return getAcceptedResponse(command);
+    }
+
+    @GetMapping(COMMANDS_PATH + "{operationId}")
+    public ResponseEntity<OperationCommandResponse> getCommand(@PathVariable UUID operationId) {
+        return ResponseEntity.ok(new OperationCommandResponse(operationCommandService.findById(operationId)));
+    }
+
     @GetMapping(BANK_STATEMENT_PATH + "{accountId}")
     public ResponseEntity<List<BankStatementResponse>> getBankStatement(
             @PathVariable Integer accountId,
             @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss") LocalDateTime initDate,
             @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss") LocalDateTime endDate,
-            @RequestParam(required = false) String transactionOperator) {
+            @RequestParam(required = false) String transactionOperator,
+            WebRequest webRequest) {
+        var eTag = VersionETag.of(
+                accountService.getVersion(accountId), statementProjectionService.getRevision(accountId));
+        if (webRequest.checkNotModified(eTag))
+            return null;
+
+        var account = accountService.findById(accountId);
+
+        var statementFilter = new StatementFilter(transactionOperator, initDate, endDate);
+        var statementResponses = statementProjectionService.getBankStatement(account, statementFilter);
+
+        return ResponseEntity.ok().eTag(eTag).body(statementResponses);
+    }
+
+    @PostMapping(BANK_STATEMENT_PATH + BATCH_PATH)
+    public ResponseEntity<Map<Integer, List<BankStatementResponse>>> getBankStatements(
+            @RequestBody @Valid BatchStatementDto batchStatementDto) {
+        var accounts = accountService.findAllById(batchStatementDto.getAccountIds());
+        var statements = transferenceService.getBankStatements(accounts, batchStatementDto.toFilter());
+
+        return ResponseEntity.ok(getBankStatementResponses(statements));
+    }
+
+    @GetMapping(BANK_STATEMENT_PATH + "{accountId}" + SUMMARY_PATH)
+    public ResponseEntity<StatementSummaryResponse> getBankStatementSummary(
+            @PathVariable Integer accountId,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss") LocalDateTime initDate,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss") LocalDateTime endDate,
+            @RequestParam(required = false) String transactionOperator,
+            WebRequest webRequest) {
+        var eTag = VersionETag.of(accountService.getVersion(accountId));
+        if (webRequest.checkNotModified(eTag))
+            return null;
+
         var account = accountService.findById(accountId);
 
         var statementFilter = new StatementFilter(transactionOperator, initDate, endDate);
-        List<Transference> transferencesList = transferenceService.getBankStatements(account, statementFilter);
-        var statementResponses = getBankStatementResponses(transferencesList);
+        var summary = transferenceService.getBankStatementSummary(account, statementFilter);
+
+        return ResponseEntity.ok().eTag(eTag).body(new StatementSummaryResponse(summary));
+    }
+
+    @GetMapping(value = STREAM_PATH + "{accountId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOperations(
+            @PathVariable Integer accountId,
+            @RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) Long lastEventId) {
+        var account = accountService.findById(accountId);
+        return operationStreamService.subscribe(account.getId(), lastEventId);
+    }
+
+    private ResponseEntity<OperationCommandResponse> getAcceptedResponse(OperationCommand command) {
+        var location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/" + OPERATIONS_BASE_PATH + COMMANDS_PATH + "{operationId}")
+                .buildAndExpand(command.getId())
+                .toUri();
+
+        return ResponseEntity.accepted()
+                .location(location)
+                .header(PREFERENCE_APPLIED_HEADER, RESPOND_ASYNC)
+                .body(new OperationCommandResponse(command));
+    }
 
-        return ResponseEntity.ok(statementResponses);
+    private Map<Integer, List<BankStatementResponse>> getBankStatementResponses(
+            Map<Integer, List<Transference>> statements) {
+        return statements.entrySet().stream()
+                .collect(Collectors.toMap(
+                        Map.Entry::getKey,
+                        entry -> getBankStatementResponses(entry.getValue()),
+                        (statement, duplicate) -> statement,
+                        LinkedHashMap::new));
     }
 
     private List<BankStatementResponse> getBankStatementResponses(List<Transference> transferencesList) {
@@ -0,0 +1,74 @@
+package br.com.banco.controller;
+
+import br.com.banco.dto.RecurringExecutionResponse;
+import br.com.banco.dto.RecurringTransferenceDto;
+import br.com.banco.dto.RecurringTransferenceResponse;
+import br.com.banco.service.impl.AccountService;
+import br.com.banco.service.impl.RecurringTransferenceService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+import java.net.URI;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static br.com.banco.controller.OperationResource.OPERATIONS_BASE_PATH;
+
+@RestController
+@RequestMapping(OPERATIONS_BASE_PATH)
+public class RecurringTransferenceResource {
+    private static final String RECURRING_TRANSFERENCE_PATH = "recurring-transference/";
+    private static final String EXECUTIONS_PATH = "/executions";
+
+    private final AccountService accountService;
+    private final RecurringTransferenceService recurringTransferenceService;
+
+    public RecurringTransferenceResource(AccountService accountService,
+                                         RecurringTransferenceService recurringTransferenceService) {
+        this.accountService = accountService;
+        this.recurringTransferenceService = recurringTransferenceService;
+    }
+
+    @Transactional
+    @PostMapping(RECURRING_TRANSFERENCE_PATH + "{accountId}")
+    public ResponseEntity<RecurringTransferenceResponse> create(
+            @PathVariable Integer accountId,
+            @RequestBody @Valid RecurringTransferenceDto recurringTransferenceDto) {
+        var account = accountService.findById(accountId);
+        var destinationAccount = accountService.findById(recurringTransferenceDto.getDestinationAccountId());
+        accountService.checkEquals(account, destinationAccount);
+
+        var recurringTransference = recurringTransferenceService.create(
+                account,
+                destinationAccount,
+                recurringTransferenceDto.getValue(),
+                recurringTransferenceDto.getFrequency(),
+                recurringTransferenceDto.getStartDate(),
+                recurringTransferenceDto.getEndDate());
+
+        return ResponseEntity.created(URI.create(
+                        "/" + OPERATIONS_BASE_PATH + RECURRING_TRANSFERENCE_PATH + recurringTransference.getId()))
+                .body(new RecurringTransferenceResponse(recurringTransference));
+    }
+
+    @GetMapping(RECURRING_TRANSFERENCE_PATH + "{id}")
+    public ResponseEntity<RecurringTransferenceResponse> findById(@PathVariable Long id) {
+        return ResponseEntity.ok(new RecurringTransferenceResponse(recurringTransferenceService.findById(id)));
+    }
+
+    @GetMapping(RECURRING_TRANSFERENCE_PATH + "{id}" + EXECUTIONS_PATH)
+    public ResponseEntity<List<RecurringExecutionResponse>> findExecutions(@PathVariable Long id) {
+        var executions = recurringTransferenceService.findExecutions(id).stream()
+                .map(RecurringExecutionResponse::new)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(executions);
+    }
+
+    @DeleteMapping(RECURRING_TRANSFERENCE_PATH + "{id}")
+    public ResponseEntity<RecurringTransferenceResponse> cancel(@PathVariable Long id) {
+        return ResponseEntity.ok(new RecurringTransferenceResponse(recurringTransferenceService.cancel(id)));
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.banco.controller;
+
+final class VersionETag {
+    private VersionETag() {
+    }
+
+    static String of(long version) {
+        return "W/\"" + version + "\"";
+    }
+
+    static String of(long version, long revision) {
+        return "W/\"" + version + "-" + revision + "\"";
+    }
+}
@@ -0,0 +1,182 @@
+package br.com.banco.directory;
+
+import br.com.banco.configuration.AccountDirectoryProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.StampedLock;
+
+@Component
+public class AccountDirectory {
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final boolean enabled;
+    private final StampedLock lock = new StampedLock();
+    private Table table;
+    private int size;
+
+    public AccountDirectory(AccountDirectoryProperties accountDirectoryProperties, MeterRegistry meterRegistry) {
+        this.enabled = accountDirectoryProperties.isEnabled();
+        this.table = new Table(capacityFor(accountDirectoryProperties.getInitialCapacity()));
+        meterRegistry.gauge("bank.account.directory.size", this, AccountDirectory::size);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getOwnerName(int id) {
+        long stamp = lock.tryOptimisticRead();
+        String ownerName = table.find(id);
+        if (lock.validate(stamp))
+            return ownerName;
+
+        stamp = lock.readLock();
+        try {
+            return table.find(id);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public String getOwnerName(int id, String fallback) {
+        if (!enabled)
+            return fallback;
+
+        String ownerName = getOwnerName(id);
+        return ownerName != null ? ownerName : fallback;
+    }
+
+    public void put(int id, String ownerName) {
+        if (!enabled)
+            return;
+
+        if (ownerName == null) {
+            remove(id);
+            return;
+        }
+
+        long stamp = lock.writeLock();
+        try {
+            if (table.put(id, ownerName) && ++size > table.threshold)
+                table = table.resize();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean remove(int id) {
+        if (!enabled)
+            return false;
+
+        long stamp = lock.writeLock();
+        try {
+            if (!table.remove(id))
+                return false;
+
+            size--;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private static int capacityFor(int initialCapacity) {
+        long needed = (long) Math.ceil(Math.max(initialCapacity, 1) / Table.LOAD_FACTOR);
+        if (needed > MAX_CAPACITY)
+            throw new IllegalArgumentException("Too many accounts for a single directory: " + initialCapacity);
+
+        return Math.max(2, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+    private static int mix(int id) {
+        int hash = id;
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Table {
+        private static final float LOAD_FACTOR = 0.75f;
+
+        private final int[] ids;
+        private final String[] ownerNames;
+        private final int mask;
+        private final int threshold;
+
+        private Table(int capacity) {
+            this.ids = new int[capacity];
+            this.ownerNames = new String[capacity];
+            this.mask = capacity - 1;
+            this.threshold = (int) (capacity * LOAD_FACTOR);
+        }
+
+        private String find(int id) {
+            for (int i = mix(id) & mask, probes = 0; probes <= mask; i = (i + 1) & mask, probes++) {
+                String ownerName = ownerNames[i];
+                if (ownerName == null)
+                    return null;
+                if (ids[i] == id)
+                    return ownerName;
+            }
+            return null;
+        }
+
+        private boolean put(int id, String ownerName) {
+            int i = mix(id) & mask;
+            while (ownerNames[i] != null) {
+                if (ids[i] == id) {
+                    ownerNames[i] = ownerName;
+                    return false;
+                }
+                i = (i + 1) & mask;
+            }
+            ids[i] = id;
+            ownerNames[i] = ownerName;
+            return true;
+        }
+
+        private boolean remove(int id) {
+            int i = mix(id) & mask;
+            while (ownerNames[i] != null && ids[i] != id) {
+                i = (i + 1) & mask;
+            }
+            if (ownerNames[i] == null)
+                return false;
+
+            for (int next = (i + 1) & mask; ownerNames[next] != null; next = (next + 1) & mask) {
+                int home = mix(ids[next]) & mask;
+                if (((next - home) & mask) >= ((next - i) & mask)) {
+                    ids[i] = ids[next];
+                    ownerNames[i] = ownerNames[next];
+                    i = next;
+                }
+            }
+            ownerNames[i] = null;
+            return true;
+        }
+
+        private Table resize() {
+            if (ids.length == MAX_CAPACITY)
+                throw new IllegalStateException("Account directory is full");
+
+            var resized = new Table(ids.length << 1);
+            for (int i = 0; i < ids.length; i++) {
+                if (ownerNames[i] != null)
+                    resized.put(ids[i], ownerNames[i]);
+            }
+            return resized;
+        }
+    }
+}
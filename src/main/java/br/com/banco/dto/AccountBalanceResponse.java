@@ -0,0 +1,17 @@
+package br.com.banco.dto;
+
+import br.com.banco.entity.Account;
+import lombok.Getter;
+
+@Getter
+public class AccountBalanceResponse {
+    private final Integer accountId;
+    private final Double balance;
+    private final Integer slots;
+
+    public AccountBalanceResponse(Account account, double balance) {
+        this.accountId = account.getId();
+        this.balance = balance;
+        this.slots = account.getBalanceSlots();
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.banco.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class AccountOwner {
+    private final Integer accountId;
+    private final String ownerName;
+}
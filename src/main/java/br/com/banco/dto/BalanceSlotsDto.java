@@ -0,0 +1,20 @@
+package br.com.banco.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+@Getter
+@RequiredArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+public class BalanceSlotsDto {
+    @NotNull
+    @Min(value = 1, message = "{min.balance.slots.exceeded.message.error}")
+    @Max(value = 64, message = "{max.balance.slots.exceeded.message.error}")
+    private final Integer slots;
+}
@@ -0,0 +1,32 @@
+package br.com.banco.dto;
+
+import br.com.banco.entity.BatchJobChunk;
+import br.com.banco.entity.BatchStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class BatchJobChunkResponse {
+    private final Integer firstAccountId;
+    private final Integer lastAccountId;
+    private final BatchStatus status;
+    private final Integer processed;
+    private final Integer attempts;
+    private final Long durationMillis;
+    private final Double throughput;
+    private final String error;
+    private final LocalDateTime completedAt;
+
+    public BatchJobChunkResponse(BatchJobChunk chunk) {
+        this.firstAccountId = chunk.getFirstAccountId();
+        this.lastAccountId = chunk.getLastAccountId();
+        this.status = chunk.getStatus();
+        this.processed = chunk.getProcessed();
+        this.attempts = chunk.getAttempts();
+        this.durationMillis = chunk.getDurationMillis();
+        this.throughput = chunk.getThroughput();
+        this.error = chunk.getError();
+        this.completedAt = chunk.getCompletedAt();
+    }
+}
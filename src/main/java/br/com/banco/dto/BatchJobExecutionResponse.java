@@ -0,0 +1,38 @@
+package br.com.banco.dto;
+
+import br.com.banco.entity.BatchJobChunk;
+import br.com.banco.entity.BatchJobExecution;
+import br.com.banco.entity.BatchStatus;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+public class BatchJobExecutionResponse {
+    private final Long id;
+    private final String jobName;
+    private final LocalDate businessDate;
+    private final BatchStatus status;
+    private final Integer chunkCount;
+    private final long completedChunks;
+    private final long processed;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime finishedAt;
+    private final List<BatchJobChunkResponse> chunks;
+
+    public BatchJobExecutionResponse(BatchJobExecution execution, List<BatchJobChunk> chunks) {
+        this.id = execution.getId();
+        this.jobName = execution.getJobName();
+        this.businessDate = execution.getBusinessDate();
+        this.status = execution.getStatus();
+        this.chunkCount = execution.getChunkCount();
+        this.completedChunks = chunks.stream().filter(BatchJobChunk::isCompleted).count();
+        this.processed = chunks.stream().mapToLong(BatchJobChunk::getProcessed).sum();
+        this.startedAt = execution.getStartedAt();
+        this.finishedAt = execution.getFinishedAt();
+        this.chunks = chunks.stream().map(BatchJobChunkResponse::new).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.banco.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+public class BatchStatementDto {
+    @NotEmpty(message = "{empty.account.ids.message.error}")
+    @Size(max = 1000, message = "{max.account.ids.exceeded.message.error}")
+    private final List<@NotNull Integer> accountIds;
+
+    private final String transactionOperator;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private final LocalDateTime initDate;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private final LocalDateTime endDate;
+
+    public StatementFilter toFilter() {
+        return new StatementFilter(transactionOperator, initDate, endDate);
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.banco.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class LedgerBalance {
+    private final Integer accountId;
+    private final double ledgerBalance;
+    private final long entries;
+    private final double slotBalance;
+    private final double projectedBalance;
+}
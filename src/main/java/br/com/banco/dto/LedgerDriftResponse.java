@@ -0,0 +1,28 @@
+package br.com.banco.dto;
+
+import br.com.banco.entity.DriftSource;
+import br.com.banco.entity.LedgerDrift;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class LedgerDriftResponse {
+    private final Integer accountId;
+    private final DriftSource source;
+    private final Double ledgerBalance;
+    private final Double storedBalance;
+    private final Double difference;
+    private final Long entries;
+    private final LocalDateTime detectedAt;
+
+    public LedgerDriftResponse(LedgerDrift drift) {
+        this.accountId = drift.getAccountId();
+        this.source = drift.getSource();
+        this.ledgerBalance = drift.getLedgerBalance();
+        this.storedBalance = drift.getStoredBalance();
+        this.difference = drift.getDifference();
+        this.entries = drift.getEntries();
+        this.detectedAt = drift.getDetectedAt();
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.banco.dto;
+
+import br.com.banco.command.CommandStatus;
+import br.com.banco.command.OperationCommand;
+import br.com.banco.entity.Type;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+public class OperationCommandResponse {
+    private final UUID operationId;
+    private final Integer accountId;
+    private final Type type;
+    private final Double value;
+    private final CommandStatus status;
+    private final Integer transferenceId;
+    private final String error;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime finishedAt;
+
+    public OperationCommandResponse(OperationCommand command) {
+        this.operationId = command.getId();
+        this.accountId = command.getAccountId();
+        this.type = command.getType();
+        this.value = command.getValue();
+        this.status = command.getStatus();
+        this.transferenceId = command.getTransferenceId();
+        this.error = command.getError();
+        this.createdAt = command.getCreatedAt();
+        this.finishedAt = command.getFinishedAt();
+    }
+}
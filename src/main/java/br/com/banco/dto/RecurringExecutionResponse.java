@@ -0,0 +1,26 @@
+package br.com.banco.dto;
+
+import br.com.banco.entity.ExecutionStatus;
+import br.com.banco.entity.RecurringTransferenceExecution;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class RecurringExecutionResponse {
+    private final Integer occurrence;
+    private final LocalDateTime scheduledFor;
+    private final ExecutionStatus status;
+    private final String correlationId;
+    private final String error;
+    private final LocalDateTime executedAt;
+
+    public RecurringExecutionResponse(RecurringTransferenceExecution execution) {
+        this.occurrence = execution.getOccurrence();
+        this.scheduledFor = execution.getScheduledFor();
+        this.status = execution.getStatus();
+        this.correlationId = execution.getCorrelationId();
+        this.error = execution.getError();
+        this.executedAt = execution.getExecutedAt();
+    }
+}
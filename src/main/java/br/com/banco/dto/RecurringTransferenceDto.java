@@ -0,0 +1,32 @@
+package br.com.banco.dto;
+
+import br.com.banco.entity.Frequency;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+@Getter
+@RequiredArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+public class RecurringTransferenceDto {
+    @NotNull
+    @Min(value = 0, message = "{min.value.exceeded.message.error}")
+    private final Double value;
+
+    @NotNull
+    @Min(value = 1, message = "{min.id.value.exceeded.message.error}")
+    private final Integer destinationAccountId;
+
+    @NotNull(message = "{empty.frequency.message.error}")
+    private final Frequency frequency;
+
+    @NotNull(message = "{empty.start.date.message.error}")
+    private final LocalDateTime startDate;
+
+    private final LocalDateTime endDate;
+}
@@ -0,0 +1,34 @@
+package br.com.banco.dto;
+
+import br.com.banco.entity.Frequency;
+import br.com.banco.entity.RecurringTransference;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class RecurringTransferenceResponse {
+    private final Long id;
+    private final Integer accountId;
+    private final Integer destinationAccountId;
+    private final Double value;
+    private final Frequency frequency;
+    private final LocalDateTime startDate;
+    private final LocalDateTime endDate;
+    private final Integer occurrences;
+    private final LocalDateTime nextExecution;
+    private final Boolean active;
+
+    public RecurringTransferenceResponse(RecurringTransference recurringTransference) {
+        this.id = recurringTransference.getId();
+        this.accountId = recurringTransference.getAccountId();
+        this.destinationAccountId = recurringTransference.getDestinationAccountId();
+        this.value = recurringTransference.getValue();
+        this.frequency = recurringTransference.getFrequency();
+        this.startDate = recurringTransference.getStartDate();
+        this.endDate = recurringTransference.getEndDate();
+        this.occurrences = recurringTransference.getOccurrences();
+        this.nextExecution = recurringTransference.getNextExecution();
+        this.active = recurringTransference.getActive();
+    }
+}
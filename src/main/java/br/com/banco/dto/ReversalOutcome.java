@@ -0,0 +1,8 @@
+package br.com.banco.dto;
+
+public enum ReversalOutcome {
+    REVERSED,
+    ALREADY_REVERSED,
+    NOT_FOUND,
+    FAILED
+}
@@ -0,0 +1,18 @@
+package br.com.banco.dto;
+
+import br.com.banco.entity.Type;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@RequiredArgsConstructor
+public class StatementRow {
+    private final int accountId;
+    private final int id;
+    private final LocalDateTime transferenceDate;
+    private final double value;
+    private final Type type;
+    private final String transactionOperatorName;
+}
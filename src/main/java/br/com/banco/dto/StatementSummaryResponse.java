@@ -0,0 +1,18 @@
+package br.com.banco.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class StatementSummaryResponse {
+    private final List<TypeSummary> types;
+    private final long count;
+    private final double netTotal;
+
+    public StatementSummaryResponse(List<TypeSummary> types) {
+        this.types = types;
+        this.count = types.stream().mapToLong(TypeSummary::getCount).sum();
+        this.netTotal = types.stream().mapToDouble(TypeSummary::getSum).sum();
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.banco.dto;
+
+import br.com.banco.entity.Transference;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+@Getter
+public class TransferLegResponse {
+    private final Integer transferenceId;
+    private final String correlationId;
+    private final Integer accountId;
+    private final String ownerName;
+    private final String type;
+    private final Double value;
+    private final String transactionOperatorName;
+    private final LocalDateTime operationDate;
+
+    public TransferLegResponse(Transference transference) {
+        this.transferenceId = transference.getId();
+        this.correlationId = transference.getCorrelationId();
+        this.accountId = transference.getAccount().getId();
+        this.ownerName = transference.getOwnerName();
+        this.type = transference.getType().toString();
+        this.value = transference.getValue();
+        this.transactionOperatorName = transference.getTransactionOperatorName();
+        this.operationDate = transference.getTransferenceDate().truncatedTo(ChronoUnit.SECONDS);
+    }
+}
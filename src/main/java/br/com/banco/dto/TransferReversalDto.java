@@ -0,0 +1,20 @@
+package br.com.banco.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+public class TransferReversalDto {
+    @NotEmpty(message = "{empty.correlation.ids.message.error}")
+    @Size(max = 10000, message = "{max.correlation.ids.exceeded.message.error}")
+    private final List<@NotBlank String> correlationIds;
+}
@@ -0,0 +1,35 @@
+package br.com.banco.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Getter
+public class TransferReversalResponse {
+    private final int requested;
+    private final long reversed;
+    private final long alreadyReversed;
+    private final List<String> notFound;
+    private final List<String> failed;
+
+    public TransferReversalResponse(Map<String, ReversalOutcome> outcomes) {
+        this.requested = outcomes.size();
+        this.reversed = count(outcomes, ReversalOutcome.REVERSED);
+        this.alreadyReversed = count(outcomes, ReversalOutcome.ALREADY_REVERSED);
+        this.notFound = filter(outcomes, ReversalOutcome.NOT_FOUND);
+        this.failed = filter(outcomes, ReversalOutcome.FAILED);
+    }
+
+    private static long count(Map<String, ReversalOutcome> outcomes, ReversalOutcome outcome) {
+        return outcomes.values().stream().filter(outcome::equals).count();
+    }
+
+    private static List<String> filter(Map<String, ReversalOutcome> outcomes, ReversalOutcome outcome) {
+        return outcomes.entrySet().stream()
+                .filter(entry -> entry.getValue() == outcome)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+}
@@ -9,4 +9,5 @@ public class TransferenceResponse {
     private final String sender;
     private final String addressee;
     private final Double value;
+    private final String correlationId;
 }
@@ -0,0 +1,24 @@
+package br.com.banco.dto;
+
+import br.com.banco.entity.Type;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class TypeSummary {
+    private final Type type;
+    private final long count;
+    private final double sum;
+    private final double min;
+    private final double max;
+
+    public TypeSummary merge(TypeSummary other) {
+        return new TypeSummary(
+                type,
+                count + other.count,
+                sum + other.sum,
+                Math.min(min, other.min),
+                Math.max(max, other.max));
+    }
+}
@@ -1,6 +1,7 @@
 package br.com.banco.entity;
 
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.proxy.HibernateProxy;
 
 import javax.persistence.*;
@@ -21,6 +22,14 @@ public class Account {
     @Column(name = "nome_responsavel", length = 50)
     private String ownerName;
 
+    @ColumnDefault("0")
+    @Column(name = "versao", nullable = false, insertable = false, updatable = false)
+    private Long version;
+
+    @ColumnDefault("1")
+    @Column(name = "slots_saldo", nullable = false, updatable = false)
+    private Integer balanceSlots = 1;
+
     public Account(String ownerName) {
         Objects.requireNonNull(ownerName,"Owner name is mandatory.");
         this.ownerName = ownerName;
@@ -39,6 +48,7 @@ public class Account {
 
     @Override
     public final int hashCode() {
-        return getClass().hashCode();
+        Integer id = getId();
+        return id != null ? id.hashCode() : Account.class.hashCode();
     }
 }
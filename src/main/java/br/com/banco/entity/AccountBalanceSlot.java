@@ -0,0 +1,53 @@
+package br.com.banco.entity;
+
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.proxy.HibernateProxy;
+
+import javax.persistence.*;
+import java.util.Objects;
+
+@Getter
+@Setter
+@ToString
+@RequiredArgsConstructor
+@Entity
+@Table(name = "saldo_conta")
+public class AccountBalanceSlot {
+    @EmbeddedId
+    private AccountBalanceSlotId id;
+
+    @ColumnDefault("0")
+    @Column(name = "saldo", nullable = false)
+    private Double balance;
+
+    @ColumnDefault("0")
+    @Column(name = "versao", nullable = false)
+    private Long version;
+
+    public AccountBalanceSlot(Integer accountId, Integer slot, Double balance) {
+        this.id = new AccountBalanceSlotId(accountId, slot);
+        this.balance = balance;
+        this.version = 0L;
+    }
+
+    public Integer getSlot() {
+        return this.getId().getSlot();
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null) return false;
+        Class<?> oEffectiveClass = o instanceof HibernateProxy ? ((HibernateProxy) o).getHibernateLazyInitializer().getPersistentClass() : o.getClass();
+        Class<?> thisEffectiveClass = this instanceof HibernateProxy ? ((HibernateProxy) this).getHibernateLazyInitializer().getPersistentClass() : this.getClass();
+        if (thisEffectiveClass != oEffectiveClass) return false;
+        AccountBalanceSlot that = (AccountBalanceSlot) o;
+        return getId() != null && Objects.equals(getId(), that.getId());
+    }
+
+    @Override
+    public final int hashCode() {
+        return getClass().hashCode();
+    }
+}
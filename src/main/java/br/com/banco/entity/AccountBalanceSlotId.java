@@ -0,0 +1,22 @@
+package br.com.banco.entity;
+
+import lombok.*;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import java.io.Serializable;
+
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+@Embeddable
+public class AccountBalanceSlotId implements Serializable {
+    @Column(name = "conta_id", nullable = false)
+    private Integer accountId;
+
+    @Column(name = "slot", nullable = false)
+    private Integer slot;
+}
@@ -0,0 +1,62 @@
+package br.com.banco.entity;
+
+import lombok.*;
+import org.hibernate.proxy.HibernateProxy;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Getter
+@Setter
+@ToString
+@RequiredArgsConstructor
+@Entity
+@Table(name = "transferencia_arquivo")
+public class ArchivedTransference {
+    @Id
+    private Integer id;
+
+    @Column(name = "data_transferencia", nullable = false)
+    private LocalDateTime transferenceDate;
+
+    @Column(name = "valor", nullable = false)
+    private Double value;
+
+    @Column(name = "tipo", nullable = false, length = 15)
+    @Enumerated(EnumType.STRING)
+    private Type type;
+
+    @Column(name = "nome_operador_transacao", length = 50)
+    private String transactionOperatorName;
+
+    @Column(name = "conta_id")
+    private Integer accountId;
+
+    @Column(name = "id_correlacao", length = 36)
+    private String correlationId;
+
+    public Transference toTransference(Account account) {
+        var transference = new Transference(value, type, account, transactionOperatorName);
+        transference.setId(id);
+        transference.setTransferenceDate(transferenceDate);
+        transference.setCorrelationId(correlationId);
+        return transference;
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null) return false;
+        Class<?> oEffectiveClass = o instanceof HibernateProxy ? ((HibernateProxy) o).getHibernateLazyInitializer().getPersistentClass() : o.getClass();
+        Class<?> thisEffectiveClass = this instanceof HibernateProxy ? ((HibernateProxy) this).getHibernateLazyInitializer().getPersistentClass() : this.getClass();
+        if (thisEffectiveClass != oEffectiveClass) return false;
+        ArchivedTransference that = (ArchivedTransference) o;
+        return getId() != null && Objects.equals(getId(), that.getId());
+    }
+
+    @Override
+    public final int hashCode() {
+        return getClass().hashCode();
+    }
+}
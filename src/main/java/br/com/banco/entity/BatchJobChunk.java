@@ -0,0 +1,104 @@
+package br.com.banco.entity;
+
+import lombok.*;
+import org.hibernate.proxy.HibernateProxy;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Getter
+@Setter
+@ToString
+@RequiredArgsConstructor
+@Entity
+@Table(name = "particao_lote", uniqueConstraints = @UniqueConstraint(
+        name = "uk_particao_lote_inicio", columnNames = {"execucao_lote_id", "inicio_id"}))
+public class BatchJobChunk {
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "execucao_lote_id", nullable = false)
+    private Long executionId;
+
+    @Column(name = "inicio_id", nullable = false)
+    private Integer firstAccountId;
+
+    @Column(name = "fim_id", nullable = false)
+    private Integer lastAccountId;
+
+    @Column(name = "status", nullable = false, length = 10)
+    @Enumerated(EnumType.STRING)
+    private BatchStatus status;
+
+    @Column(name = "processados", nullable = false)
+    private Integer processed;
+
+    @Column(name = "tentativas", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "duracao_ms")
+    private Long durationMillis;
+
+    @Column(name = "mensagem_erro", length = MAX_ERROR_LENGTH)
+    private String error;
+
+    @Column(name = "data_conclusao")
+    private LocalDateTime completedAt;
+
+    public BatchJobChunk(Long executionId, Integer firstAccountId, Integer lastAccountId) {
+        Objects.requireNonNull(executionId, "Execution is mandatory.");
+
+        this.executionId = executionId;
+        this.firstAccountId = firstAccountId;
+        this.lastAccountId = lastAccountId;
+        this.status = BatchStatus.PENDING;
+        this.processed = 0;
+        this.attempts = 0;
+    }
+
+    public void complete(int processed, long durationMillis) {
+        this.status = BatchStatus.COMPLETED;
+        this.processed = processed;
+        this.attempts++;
+        this.durationMillis = durationMillis;
+        this.error = null;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    public void fail(String error) {
+        this.status = BatchStatus.FAILED;
+        this.attempts++;
+        this.error = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    public boolean isCompleted() {
+        return status == BatchStatus.COMPLETED;
+    }
+
+    public double getThroughput() {
+        if (durationMillis == null || durationMillis == 0)
+            return processed;
+
+        return processed * 1000d / durationMillis;
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null) return false;
+        Class<?> oEffectiveClass = o instanceof HibernateProxy ? ((HibernateProxy) o).getHibernateLazyInitializer().getPersistentClass() : o.getClass();
+        Class<?> thisEffectiveClass = this instanceof HibernateProxy ? ((HibernateProxy) this).getHibernateLazyInitializer().getPersistentClass() : this.getClass();
+        if (thisEffectiveClass != oEffectiveClass) return false;
+        BatchJobChunk that = (BatchJobChunk) o;
+        return getId() != null && Objects.equals(getId(), that.getId());
+    }
+
+    @Override
+    public final int hashCode() {
+        return getClass().hashCode();
+    }
+}
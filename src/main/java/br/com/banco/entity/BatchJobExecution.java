@@ -0,0 +1,78 @@
+package br.com.banco.entity;
+
+import lombok.*;
+import org.hibernate.proxy.HibernateProxy;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Getter
+@Setter
+@ToString
+@RequiredArgsConstructor
+@Entity
+@Table(name = "execucao_lote", uniqueConstraints = @UniqueConstraint(
+        name = "uk_execucao_lote_job_data", columnNames = {"nome_job", "data_referencia"}))
+public class BatchJobExecution {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "nome_job", nullable = false, length = 50)
+    private String jobName;
+
+    @Column(name = "data_referencia", nullable = false)
+    private LocalDate businessDate;
+
+    @Column(name = "status", nullable = false, length = 10)
+    @Enumerated(EnumType.STRING)
+    private BatchStatus status;
+
+    @Column(name = "total_particoes", nullable = false)
+    private Integer chunkCount;
+
+    @Column(name = "data_inicio", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "data_fim")
+    private LocalDateTime finishedAt;
+
+    public BatchJobExecution(String jobName, LocalDate businessDate, int chunkCount) {
+        Objects.requireNonNull(jobName, "Job name is mandatory.");
+        Objects.requireNonNull(businessDate, "Business date is mandatory.");
+
+        this.jobName = jobName;
+        this.businessDate = businessDate;
+        this.status = BatchStatus.RUNNING;
+        this.chunkCount = chunkCount;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    public void restart() {
+        this.status = BatchStatus.RUNNING;
+        this.finishedAt = null;
+    }
+
+    public void finish(boolean succeeded) {
+        this.status = succeeded ? BatchStatus.COMPLETED : BatchStatus.FAILED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null) return false;
+        Class<?> oEffectiveClass = o instanceof HibernateProxy ? ((HibernateProxy) o).getHibernateLazyInitializer().getPersistentClass() : o.getClass();
+        Class<?> thisEffectiveClass = this instanceof HibernateProxy ? ((HibernateProxy) this).getHibernateLazyInitializer().getPersistentClass() : this.getClass();
+        if (thisEffectiveClass != oEffectiveClass) return false;
+        BatchJobExecution that = (BatchJobExecution) o;
+        return getId() != null && Objects.equals(getId(), that.getId());
+    }
+
+    @Override
+    public final int hashCode() {
+        return getClass().hashCode();
+    }
+}
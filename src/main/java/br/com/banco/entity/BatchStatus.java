@@ -0,0 +1,5 @@
+package br.com.banco.entity;
+
+public enum BatchStatus {
+    PENDING, RUNNING, COMPLETED, FAILED
+}
@@ -0,0 +1,5 @@
+package br.com.banco.entity;
+
+public enum DriftSource {
+    BALANCE_SLOTS, STATEMENT_PROJECTION
+}
@@ -0,0 +1,26 @@
+package br.com.banco.entity;
+
+import java.time.LocalDateTime;
+
+public enum Frequency {
+    DAILY {
+        @Override
+        public LocalDateTime occurrence(LocalDateTime start, int occurrence) {
+            return start.plusDays(occurrence);
+        }
+    },
+    WEEKLY {
+        @Override
+        public LocalDateTime occurrence(LocalDateTime start, int occurrence) {
+            return start.plusWeeks(occurrence);
+        }
+    },
+    MONTHLY {
+        @Override
+        public LocalDateTime occurrence(LocalDateTime start, int occurrence) {
+            return start.plusMonths(occurrence);
+        }
+    };
+
+    public abstract LocalDateTime occurrence(LocalDateTime start, int occurrence);
+}
@@ -0,0 +1,78 @@
+package br.com.banco.entity;
+
+import lombok.*;
+import org.hibernate.proxy.HibernateProxy;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Getter
+@Setter
+@ToString
+@RequiredArgsConstructor
+@Entity
+@Table(name = "divergencia_conciliacao", uniqueConstraints = @UniqueConstraint(
+        name = "uk_divergencia_conciliacao_conta", columnNames = {"data_referencia", "conta_id", "origem"}))
+public class LedgerDrift {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "data_referencia", nullable = false)
+    private LocalDate businessDate;
+
+    @Column(name = "conta_id", nullable = false)
+    private Integer accountId;
+
+    @Column(name = "origem", nullable = false, length = 25)
+    @Enumerated(EnumType.STRING)
+    private DriftSource source;
+
+    @Column(name = "saldo_razao", nullable = false)
+    private Double ledgerBalance;
+
+    @Column(name = "saldo_armazenado", nullable = false)
+    private Double storedBalance;
+
+    @Column(name = "diferenca", nullable = false)
+    private Double difference;
+
+    @Column(name = "lancamentos", nullable = false)
+    private Long entries;
+
+    @Column(name = "data_deteccao", nullable = false)
+    private LocalDateTime detectedAt;
+
+    public LedgerDrift(LocalDate businessDate, Integer accountId, DriftSource source,
+                       double ledgerBalance, double storedBalance, long entries) {
+        Objects.requireNonNull(businessDate, "Business date is mandatory.");
+        Objects.requireNonNull(accountId, "Account is mandatory.");
+
+        this.businessDate = businessDate;
+        this.accountId = accountId;
+        this.source = source;
+        this.ledgerBalance = ledgerBalance;
+        this.storedBalance = storedBalance;
+        this.difference = storedBalance - ledgerBalance;
+        this.entries = entries;
+        this.detectedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null) return false;
+        Class<?> oEffectiveClass = o instanceof HibernateProxy ? ((HibernateProxy) o).getHibernateLazyInitializer().getPersistentClass() : o.getClass();
+        Class<?> thisEffectiveClass = this instanceof HibernateProxy ? ((HibernateProxy) this).getHibernateLazyInitializer().getPersistentClass() : this.getClass();
+        if (thisEffectiveClass != oEffectiveClass) return false;
+        LedgerDrift that = (LedgerDrift) o;
+        return getId() != null && Objects.equals(getId(), that.getId());
+    }
+
+    @Override
+    public final int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -0,0 +1,76 @@
+package br.com.banco.entity;
+
+import lombok.*;
+import org.hibernate.proxy.HibernateProxy;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Getter
+@Setter
+@ToString
+@RequiredArgsConstructor
+@Entity
+@Table(name = "extrato_pendente")
+public class PendingStatementEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "transferencia_id", nullable = false)
+    private Integer transferenceId;
+
+    @Column(name = "conta_id", nullable = false)
+    private Integer accountId;
+
+    @Column(name = "data_operacao", nullable = false)
+    private LocalDateTime operationDate;
+
+    @Column(name = "tipo", nullable = false, length = 15)
+    @Enumerated(EnumType.STRING)
+    private Type type;
+
+    @Column(name = "valor", nullable = false)
+    private Double value;
+
+    @Column(name = "contraparte_id")
+    private Integer counterpartyId;
+
+    @Column(name = "nome_contraparte", length = 50)
+    private String counterpartyName;
+
+    @Column(name = "data_criacao", nullable = false)
+    private LocalDateTime createdAt;
+
+    public PendingStatementEntry(Transference transference, Account counterparty) {
+        Objects.requireNonNull(transference, "Transference is mandatory.");
+
+        this.transferenceId = transference.getId();
+        this.accountId = transference.getAccount().getId();
+        this.operationDate = transference.getTransferenceDate() != null
+                ? transference.getTransferenceDate()
+                : LocalDateTime.now();
+        this.type = transference.getType();
+        this.value = transference.getValue();
+        this.counterpartyId = counterparty != null ? counterparty.getId() : null;
+        this.counterpartyName = transference.getTransactionOperatorName();
+        this.createdAt = LocalDateTime.now();
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null) return false;
+        Class<?> oEffectiveClass = o instanceof HibernateProxy ? ((HibernateProxy) o).getHibernateLazyInitializer().getPersistentClass() : o.getClass();
+        Class<?> thisEffectiveClass = this instanceof HibernateProxy ? ((HibernateProxy) this).getHibernateLazyInitializer().getPersistentClass() : this.getClass();
+        if (thisEffectiveClass != oEffectiveClass) return false;
+        PendingStatementEntry that = (PendingStatementEntry) o;
+        return getId() != null && Objects.equals(getId(), that.getId());
+    }
+
+    @Override
+    public final int hashCode() {
+        return getClass().hashCode();
+    }
+}
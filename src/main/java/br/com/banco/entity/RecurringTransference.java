@@ -0,0 +1,102 @@
+package br.com.banco.entity;
+
+import lombok.*;
+import org.hibernate.proxy.HibernateProxy;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Getter
+@Setter
+@ToString
+@RequiredArgsConstructor
+@Entity
+@Table(name = "transferencia_recorrente")
+public class RecurringTransference {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "conta_origem_id", nullable = false)
+    private Integer accountId;
+
+    @Column(name = "conta_destino_id", nullable = false)
+    private Integer destinationAccountId;
+
+    @Column(name = "valor", nullable = false)
+    private Double value;
+
+    @Column(name = "frequencia", nullable = false, length = 10)
+    @Enumerated(EnumType.STRING)
+    private Frequency frequency;
+
+    @Column(name = "data_inicio", nullable = false)
+    private LocalDateTime startDate;
+
+    @Column(name = "data_fim")
+    private LocalDateTime endDate;
+
+    @Column(name = "ocorrencias", nullable = false)
+    private Integer occurrences;
+
+    @Column(name = "proxima_execucao", nullable = false)
+    private LocalDateTime nextExecution;
+
+    @Column(name = "ativo", nullable = false)
+    private Boolean active;
+
+    @Column(name = "data_criacao", nullable = false)
+    private LocalDateTime createdAt;
+
+    public RecurringTransference(Account account, Account destinationAccount, Double value,
+                                 Frequency frequency, LocalDateTime startDate, LocalDateTime endDate) {
+        Objects.requireNonNull(account, "Account is mandatory.");
+        Objects.requireNonNull(destinationAccount, "Destination account is mandatory.");
+        Objects.requireNonNull(value, "Value is mandatory.");
+        Objects.requireNonNull(frequency, "Frequency is mandatory.");
+        Objects.requireNonNull(startDate, "Start date is mandatory.");
+
+        this.accountId = account.getId();
+        this.destinationAccountId = destinationAccount.getId();
+        this.value = value;
+        this.frequency = frequency;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.occurrences = 0;
+        this.nextExecution = startDate;
+        this.active = endDate == null || !startDate.isAfter(endDate);
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public void advance() {
+        this.occurrences++;
+        this.nextExecution = frequency.occurrence(startDate, occurrences);
+        if (endDate != null && nextExecution.isAfter(endDate))
+            this.active = false;
+    }
+
+    public void cancel() {
+        this.active = false;
+    }
+
+    public boolean isDue(LocalDateTime now) {
+        return Boolean.TRUE.equals(active) && !nextExecution.isAfter(now);
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null) return false;
+        Class<?> oEffectiveClass = o instanceof HibernateProxy ? ((HibernateProxy) o).getHibernateLazyInitializer().getPersistentClass() : o.getClass();
+        Class<?> thisEffectiveClass = this instanceof HibernateProxy ? ((HibernateProxy) this).getHibernateLazyInitializer().getPersistentClass() : this.getClass();
+        if (thisEffectiveClass != oEffectiveClass) return false;
+        RecurringTransference that = (RecurringTransference) o;
+        return getId() != null && Objects.equals(getId(), that.getId());
+    }
+
+    @Override
+    public final int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.banco.entity;
+
+import lombok.*;
+import org.hibernate.proxy.HibernateProxy;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Getter
+@Setter
+@ToString
+@RequiredArgsConstructor
+@Entity
+@Table(name = "execucao_recorrente", uniqueConstraints = @UniqueConstraint(
+        name = "uk_execucao_recorrente_ocorrencia", columnNames = {"transferencia_recorrente_id", "ocorrencia"}))
+public class RecurringTransferenceExecution {
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "transferencia_recorrente_id", nullable = false)
+    private Long recurringTransferenceId;
+
+    @Column(name = "ocorrencia", nullable = false)
+    private Integer occurrence;
+
+    @Column(name = "data_prevista", nullable = false)
+    private LocalDateTime scheduledFor;
+
+    @Column(name = "status", nullable = false, length = 10)
+    @Enumerated(EnumType.STRING)
+    private ExecutionStatus status;
+
+    @Column(name = "id_correlacao", length = 36)
+    private String correlationId;
+
+    @Column(name = "mensagem_erro", length = MAX_ERROR_LENGTH)
+    private String error;
+
+    @Column(name = "data_execucao", nullable = false)
+    private LocalDateTime executedAt;
+
+    private RecurringTransferenceExecution(RecurringTransference recurringTransference, ExecutionStatus status) {
+        Objects.requireNonNull(recurringTransference, "Recurring transference is mandatory.");
+
+        this.recurringTransferenceId = recurringTransference.getId();
+        this.occurrence = recurringTransference.getOccurrences();
+        this.scheduledFor = recurringTransference.getNextExecution();
+        this.status = status;
+        this.executedAt = LocalDateTime.now();
+    }
+
+    public static RecurringTransferenceExecution executed(RecurringTransference recurringTransference,
+                                                          Transference transference) {
+        var execution = new RecurringTransferenceExecution(recurringTransference, ExecutionStatus.EXECUTED);
+        execution.correlationId = transference.getCorrelationId();
+        return execution;
+    }
+
+    public static RecurringTransferenceExecution failed(RecurringTransference recurringTransference, String error) {
+        var execution = new RecurringTransferenceExecution(recurringTransference, ExecutionStatus.FAILED);
+        execution.error = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+        return execution;
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null) return false;
+        Class<?> oEffectiveClass = o instanceof HibernateProxy ? ((HibernateProxy) o).getHibernateLazyInitializer().getPersistentClass() : o.getClass();
+        Class<?> thisEffectiveClass = this instanceof HibernateProxy ? ((HibernateProxy) this).getHibernateLazyInitializer().getPersistentClass() : this.getClass();
+        if (thisEffectiveClass != oEffectiveClass) return false;
+        RecurringTransferenceExecution that = (RecurringTransferenceExecution) o;
+        return getId() != null && Objects.equals(getId(), that.getId());
+    }
+
+    @Override
+    public final int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -0,0 +1,79 @@
+package br.com.banco.entity;
+
+import lombok.*;
+import org.hibernate.proxy.HibernateProxy;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Getter
+@Setter
+@ToString
+@RequiredArgsConstructor
+@Entity
+@Table(name = "extrato")
+public class StatementEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "transferencia_id", nullable = false, unique = true)
+    private Integer transferenceId;
+
+    @Column(name = "conta_id", nullable = false)
+    private Integer accountId;
+
+    @Column(name = "data_operacao", nullable = false)
+    private LocalDateTime operationDate;
+
+    @Column(name = "tipo", nullable = false, length = 15)
+    @Enumerated(EnumType.STRING)
+    private Type type;
+
+    @Column(name = "valor", nullable = false)
+    private Double value;
+
+    @Column(name = "contraparte_id")
+    private Integer counterpartyId;
+
+    @Column(name = "nome_contraparte", length = 50)
+    private String counterpartyName;
+
+    @Column(name = "saldo_acumulado", nullable = false)
+    private Double runningBalance;
+
+    @Column(name = "data_projecao", nullable = false)
+    private LocalDateTime projectedAt;
+
+    public StatementEntry(PendingStatementEntry pendingEntry, Double runningBalance, LocalDateTime projectedAt) {
+        Objects.requireNonNull(pendingEntry, "Pending entry is mandatory.");
+        Objects.requireNonNull(runningBalance, "Running balance is mandatory.");
+
+        this.transferenceId = pendingEntry.getTransferenceId();
+        this.accountId = pendingEntry.getAccountId();
+        this.operationDate = pendingEntry.getOperationDate();
+        this.type = pendingEntry.getType();
+        this.value = pendingEntry.getValue();
+        this.counterpartyId = pendingEntry.getCounterpartyId();
+        this.counterpartyName = pendingEntry.getCounterpartyName();
+        this.runningBalance = runningBalance;
+        this.projectedAt = projectedAt;
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null) return false;
+        Class<?> oEffectiveClass = o instanceof HibernateProxy ? ((HibernateProxy) o).getHibernateLazyInitializer().getPersistentClass() : o.getClass();
+        Class<?> thisEffectiveClass = this instanceof HibernateProxy ? ((HibernateProxy) this).getHibernateLazyInitializer().getPersistentClass() : this.getClass();
+        if (thisEffectiveClass != oEffectiveClass) return false;
+        StatementEntry that = (StatementEntry) o;
+        return getId() != null && Objects.equals(getId(), that.getId());
+    }
+
+    @Override
+    public final int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -38,6 +38,12 @@ public class Transference {
     @JoinColumn(name = "conta_id", referencedColumnName = "id_conta")
     private Account account;
 
+    @Column(name = "id_correlacao", length = 36)
+    private String correlationId;
+
+    @Column(name = "chave_estorno", length = 48, unique = true)
+    private String reversalKey;
+
     public Transference(Double value, Type type, Account account, String transactionOperatorName) {
         Objects.requireNonNull(value,"Value is mandatory.");
         Objects.requireNonNull(type,"Type is mandatory.");
@@ -1,5 +1,5 @@
 package br.com.banco.entity;
 
 public enum Type {
-    DEPOSIT, WITHDRAW, TRANSFERENCE
+    DEPOSIT, WITHDRAW, TRANSFERENCE, REVERSAL
 }
@@ -0,0 +1,17 @@
+package br.com.banco.event;
+
+import br.com.banco.entity.Account;
+import br.com.banco.entity.Transference;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class OperationEvent {
+    private final Transference transference;
+    private final Account counterparty;
+
+    public OperationEvent(Transference transference) {
+        this(transference, null);
+    }
+}
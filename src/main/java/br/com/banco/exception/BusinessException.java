@@ -1,7 +1,21 @@
 package br.com.banco.exception;
 
+import java.util.Map;
+
 public class BusinessException extends RuntimeException {
+    private final Map<String, String> details;
+
     public BusinessException(String message, Throwable cause) {
         super(message, cause);
+        this.details = Map.of(cause.getClass().getSimpleName(), message);
+    }
+
+    public BusinessException(String message, Class<? extends Throwable> reason) {
+        super(message, null, false, false);
+        this.details = Map.of(reason.getSimpleName(), message);
+    }
+
+    public Map<String, String> getDetails() {
+        return details;
     }
 }
@@ -0,0 +1,7 @@
+package br.com.banco.exception;
+
+public class FeatureUnavailableException extends BusinessException {
+    public FeatureUnavailableException(String message) {
+        super(message, FeatureUnavailableException.class);
+    }
+}
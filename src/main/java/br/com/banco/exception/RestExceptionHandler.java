@@ -2,6 +2,7 @@ package br.com.banco.exception;
 
 import br.com.banco.exception.dto.ExceptionDto;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
@@ -22,6 +23,10 @@ public class RestExceptionHandler {
     private static final String METHOD_ARGUMENT_TYPE_MISMATCH_EXCEPTION_TITLE = "Error converting value";
     private static final String BUSINESS_EXCEPTION_TITLE = "Business error";
     private static final String SAME_ACCOUNT_ID_EXCEPTION_TITLE = "Same account id";
+    private static final String RATE_LIMIT_EXCEEDED_EXCEPTION_TITLE = "Rate limit exceeded";
+    private static final String VELOCITY_LIMIT_EXCEEDED_EXCEPTION_TITLE = "Velocity limit exceeded";
+    private static final String SERVICE_OVERLOADED_EXCEPTION_TITLE = "Service overloaded";
+    private static final String FEATURE_UNAVAILABLE_EXCEPTION_TITLE = "Feature unavailable";
     private static final String DATA_INTEGRITY_VIOLATION_EXCEPTION_TITLE = "Constraint violation error";
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -45,16 +50,42 @@ public class RestExceptionHandler {
 
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ExceptionDto> handleBusinessException(BusinessException e) {
-        ExceptionDto exceptionDto = getExceptionDto(e, BUSINESS_EXCEPTION_TITLE, HttpStatus.NOT_FOUND);
+        ExceptionDto exceptionDto = getBusinessExceptionDto(e, BUSINESS_EXCEPTION_TITLE, HttpStatus.NOT_FOUND);
         return new ResponseEntity<>(exceptionDto,HttpStatus.NOT_FOUND);
     }
 
     @ExceptionHandler(SameAccountIdException.class)
     public ResponseEntity<ExceptionDto> handleSameAccountIdException(SameAccountIdException e) {
-        ExceptionDto exceptionDto = getExceptionDto(e, SAME_ACCOUNT_ID_EXCEPTION_TITLE, HttpStatus.BAD_REQUEST);
+        ExceptionDto exceptionDto = getBusinessExceptionDto(e, SAME_ACCOUNT_ID_EXCEPTION_TITLE, HttpStatus.BAD_REQUEST);
         return new ResponseEntity<>(exceptionDto,HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ExceptionDto> handleRateLimitExceededException(RateLimitExceededException e) {
+        ExceptionDto exceptionDto = getBusinessExceptionDto(e, RATE_LIMIT_EXCEEDED_EXCEPTION_TITLE, HttpStatus.TOO_MANY_REQUESTS);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(exceptionDto);
+    }
+
+    @ExceptionHandler(VelocityLimitExceededException.class)
+    public ResponseEntity<ExceptionDto> handleVelocityLimitExceededException(VelocityLimitExceededException e) {
+        ExceptionDto exceptionDto = getBusinessExceptionDto(e, VELOCITY_LIMIT_EXCEEDED_EXCEPTION_TITLE, HttpStatus.UNPROCESSABLE_ENTITY);
+        return new ResponseEntity<>(exceptionDto,HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ExceptionDto> handleServiceOverloadedException(ServiceOverloadedException e) {
+        ExceptionDto exceptionDto = getBusinessExceptionDto(e, SERVICE_OVERLOADED_EXCEPTION_TITLE, HttpStatus.SERVICE_UNAVAILABLE);
+        return new ResponseEntity<>(exceptionDto,HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(FeatureUnavailableException.class)
+    public ResponseEntity<ExceptionDto> handleFeatureUnavailableException(FeatureUnavailableException e) {
+        ExceptionDto exceptionDto = getBusinessExceptionDto(e, FEATURE_UNAVAILABLE_EXCEPTION_TITLE, HttpStatus.NOT_IMPLEMENTED);
+        return new ResponseEntity<>(exceptionDto,HttpStatus.NOT_IMPLEMENTED);
+    }
+
     private ExceptionDto getExceptionDto(Exception e, String title, HttpStatus status) {
         String name = e.getCause().getClass().getSimpleName();
         String message = Objects.requireNonNull(e.getMessage());
@@ -68,6 +99,15 @@ public class RestExceptionHandler {
                 errors);
     }
 
+    private ExceptionDto getBusinessExceptionDto(BusinessException e, String title, HttpStatus status) {
+        return new ExceptionDto(
+                title,
+                LocalDateTime.now(),
+                status.value(),
+                e.getClass().getName(),
+                e.getDetails());
+    }
+
     private ExceptionDto getBindExceptionDto(BindException e, Map<String, String> errors) {
         return new ExceptionDto(
                 METHOD_ARGUMENT_NOT_VALID_EXCEPTION_TITLE,
@@ -4,4 +4,8 @@ public class SameAccountIdException extends BusinessException {
     public SameAccountIdException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    public SameAccountIdException(String message, Class<? extends Throwable> reason) {
+        super(message, reason);
+    }
 }
@@ -0,0 +1,7 @@
+package br.com.banco.exception;
+
+public class ServiceOverloadedException extends BusinessException {
+    public ServiceOverloadedException(String message) {
+        super(message, ServiceOverloadedException.class);
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.banco.exception;
+
+public class VelocityLimitExceededException extends BusinessException {
+    private final String rule;
+
+    public VelocityLimitExceededException(String message, String rule) {
+        super(message, VelocityLimitExceededException.class);
+        this.rule = rule;
+    }
+
+    public String getRule() {
+        return rule;
+    }
+}
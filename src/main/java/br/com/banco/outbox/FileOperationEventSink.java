@@ -0,0 +1,36 @@
+package br.com.banco.outbox;
+
+import br.com.banco.entity.OutboxEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+public class FileOperationEventSink implements OperationEventSink {
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    public FileOperationEventSink(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> events) {
+        var lines = new StringBuilder();
+        try {
+            for (OutboxEvent event : events) {
+                lines.append(objectMapper.writeValueAsString(new OutboxEventMessage(event))).append('\n');
+            }
+            Files.writeString(file, lines, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
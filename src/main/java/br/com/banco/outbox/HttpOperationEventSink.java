@@ -0,0 +1,23 @@
+package br.com.banco.outbox;
+
+import br.com.banco.entity.OutboxEvent;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class HttpOperationEventSink implements OperationEventSink {
+    private final RestTemplate restTemplate;
+    private final String url;
+
+    public HttpOperationEventSink(RestTemplate restTemplate, String url) {
+        this.restTemplate = restTemplate;
+        this.url = url;
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        var messages = events.stream().map(OutboxEventMessage::new).collect(Collectors.toList());
+        restTemplate.postForEntity(url, messages, Void.class);
+    }
+}
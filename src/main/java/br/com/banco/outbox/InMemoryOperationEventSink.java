@@ -0,0 +1,37 @@
+package br.com.banco.outbox;
+
+import br.com.banco.entity.OutboxEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.stream.Collectors;
+
+public class InMemoryOperationEventSink implements OperationEventSink {
+    private final BlockingQueue<OutboxEventMessage> events;
+
+    public InMemoryOperationEventSink(int capacity) {
+        this.events = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> batch) {
+        for (OutboxEvent event : batch) {
+            var message = new OutboxEventMessage(event);
+            while (!events.offer(message)) {
+                events.poll();
+            }
+        }
+    }
+
+    public List<OutboxEventMessage> drain() {
+        List<OutboxEventMessage> drained = new ArrayList<>();
+        events.drainTo(drained);
+        return drained;
+    }
+
+    public List<Integer> getTransferenceIds() {
+        return events.stream().map(OutboxEventMessage::getTransferenceId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,9 @@
+package br.com.banco.outbox;
+
+import br.com.banco.entity.OutboxEvent;
+
+import java.util.List;
+
+public interface OperationEventSink {
+    void publish(List<OutboxEvent> events);
+}
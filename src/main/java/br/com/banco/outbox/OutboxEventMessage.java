@@ -0,0 +1,27 @@
+package br.com.banco.outbox;
+
+import br.com.banco.entity.OutboxEvent;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class OutboxEventMessage {
+    private final Long eventId;
+    private final Integer transferenceId;
+    private final Integer accountId;
+    private final String type;
+    private final Double value;
+    private final String transactionOperatorName;
+    private final LocalDateTime operationDate;
+
+    public OutboxEventMessage(OutboxEvent event) {
+        this.eventId = event.getId();
+        this.transferenceId = event.getTransferenceId();
+        this.accountId = event.getAccountId();
+        this.type = event.getType().toString();
+        this.value = event.getValue();
+        this.transactionOperatorName = event.getTransactionOperatorName();
+        this.operationDate = event.getOperationDate();
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.banco.ratelimit;
+
+import br.com.banco.exception.RateLimitExceededException;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class RateLimitInterceptor implements HandlerInterceptor {
+    private static final String ACCOUNT_ID_VARIABLE = "accountId";
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final RateLimiter<String> clientLimiter;
+    private final RateLimiter<Integer> accountLimiter;
+    private final String clientIdHeader;
+    private final String message;
+
+    public RateLimitInterceptor(RateLimiter<String> clientLimiter,
+                                RateLimiter<Integer> accountLimiter,
+                                String clientIdHeader,
+                                String message) {
+        this.clientLimiter = clientLimiter;
+        this.accountLimiter = accountLimiter;
+        this.clientIdHeader = clientIdHeader;
+        this.message = message;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        long waitNanos = clientLimiter != null ? clientLimiter.tryAcquire(getClientId(request)) : 0;
+        if (waitNanos == 0 && accountLimiter != null) {
+            var accountId = getAccountId(request);
+            if (accountId != null)
+                waitNanos = accountLimiter.tryAcquire(accountId);
+        }
+        if (waitNanos > 0)
+            throw new RateLimitExceededException(message, toRetryAfterSeconds(waitNanos));
+        return true;
+    }
+
+    private String getClientId(HttpServletRequest request) {
+        var clientId = request.getHeader(clientIdHeader);
+        return clientId != null ? clientId : request.getRemoteAddr();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Integer getAccountId(HttpServletRequest request) {
+        var variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables == null)
+            return null;
+        try {
+            var accountId = variables.get(ACCOUNT_ID_VARIABLE);
+            return accountId != null ? Integer.valueOf(accountId) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static long toRetryAfterSeconds(long waitNanos) {
+        return (waitNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND;
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.banco.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+public class RateLimiter<K> {
+    private final ConcurrentHashMap<K, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final long idleTimeoutNanos;
+    private final int maxEntries;
+    private final LongSupplier clock;
+    private final TokenBucket overflowBucket;
+
+    public RateLimiter(int capacity, double refillPerSecond, int maxEntries, Duration idleTimeout) {
+        this(capacity, refillPerSecond, maxEntries, idleTimeout, System::nanoTime);
+    }
+
+    public RateLimiter(int capacity, double refillPerSecond, int maxEntries, Duration idleTimeout, LongSupplier clock) {
+        if (capacity < 1 || refillPerSecond <= 0 || maxEntries < 1)
+            throw new IllegalArgumentException("Capacity, refill rate and max entries must be positive");
+
+        this.emissionIntervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        this.overflowBucket = new TokenBucket(clock.getAsLong());
+    }
+
+    public long tryAcquire(K key) {
+        long now = clock.getAsLong();
+        return getBucket(key, now).tryAcquire(now, emissionIntervalNanos, burstToleranceNanos);
+    }
+
+    public int evictIdle() {
+        long now = clock.getAsLong();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isIdle(now, idleTimeoutNanos));
+        return before - buckets.size();
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private TokenBucket getBucket(K key, long now) {
+        var bucket = buckets.get(key);
+        if (bucket != null)
+            return bucket;
+
+        if (buckets.size() >= maxEntries)
+            return overflowBucket;
+
+        return buckets.computeIfAbsent(key, ignored -> new TokenBucket(now));
+    }
+}
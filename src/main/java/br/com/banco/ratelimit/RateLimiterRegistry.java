@@ -0,0 +1,37 @@
+package br.com.banco.ratelimit;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class RateLimiterRegistry {
+    private final List<RateLimiter<?>> limiters = new CopyOnWriteArrayList<>();
+    private final int maxEntries;
+    private final Duration idleTimeout;
+
+    public RateLimiterRegistry(int maxEntries, Duration idleTimeout) {
+        this.maxEntries = maxEntries;
+        this.idleTimeout = idleTimeout;
+    }
+
+    public <K> RateLimiter<K> create(int capacity, double refillPerSecond) {
+        var limiter = new RateLimiter<K>(capacity, refillPerSecond, maxEntries, idleTimeout);
+        limiters.add(limiter);
+        return limiter;
+    }
+
+    @Scheduled(fixedDelayString = "${bank.rate-limit.sweep-interval:PT1M}")
+    public int evictIdle() {
+        return limiters.stream()
+                .mapToInt(RateLimiter::evictIdle)
+                .sum();
+    }
+
+    public int size() {
+        return limiters.stream()
+                .mapToInt(RateLimiter::size)
+                .sum();
+    }
+}
@@ -0,0 +1,39 @@
+package br.com.banco.ratelimit;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+final class TokenBucket {
+    private static final VarHandle THEORETICAL_ARRIVAL;
+
+    static {
+        try {
+            THEORETICAL_ARRIVAL = MethodHandles.lookup()
+                    .findVarHandle(TokenBucket.class, "theoreticalArrival", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile long theoreticalArrival;
+
+    TokenBucket(long now) {
+        this.theoreticalArrival = now;
+    }
+
+    long tryAcquire(long now, long emissionIntervalNanos, long burstToleranceNanos) {
+        while (true) {
+            long current = theoreticalArrival;
+            long next = Math.max(current, now) + emissionIntervalNanos;
+            long allowedAt = next - burstToleranceNanos;
+            if (allowedAt > now)
+                return allowedAt - now;
+            if (THEORETICAL_ARRIVAL.compareAndSet(this, current, next))
+                return 0;
+        }
+    }
+
+    boolean isIdle(long now, long idleTimeoutNanos) {
+        return now - theoreticalArrival >= idleTimeoutNanos;
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.banco.repository;
+
+import br.com.banco.entity.AccountBalanceSlot;
+import br.com.banco.entity.AccountBalanceSlotId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AccountBalanceSlotRepository extends JpaRepository<AccountBalanceSlot, AccountBalanceSlotId> {
+
+    @Modifying
+    @Query(value = "MERGE INTO saldo_conta s " +
+            "USING (SELECT CAST(:accountId AS INT) AS conta_id, CAST(:slot AS INT) AS slot, " +
+            "CAST(:amount AS DOUBLE PRECISION) AS valor) v " +
+            "ON s.conta_id = v.conta_id AND s.slot = v.slot " +
+            "WHEN MATCHED THEN UPDATE SET saldo = s.saldo + v.valor, versao = s.versao + 1 " +
+            "WHEN NOT MATCHED THEN INSERT (conta_id, slot, saldo, versao) VALUES (v.conta_id, v.slot, v.valor, 1)",
+            nativeQuery = true)
+    int credit(@Param("accountId") Integer accountId, @Param("slot") int slot, @Param("amount") double amount);
+
+    @Modifying
+    @Query("update AccountBalanceSlot s set s.balance = s.balance - :amount, s.version = s.version + 1 " +
+            "where s.id.accountId = :accountId and s.id.slot = :slot and s.balance >= :amount")
+    int drain(@Param("accountId") Integer accountId, @Param("slot") int slot, @Param("amount") double amount);
+
+    @Modifying
+    @Query(value = "MERGE INTO saldo_conta s " +
+            "USING (SELECT CAST(:accountId AS INT) AS conta_id, CAST(:slot AS INT) AS slot) v " +
+            "ON s.conta_id = v.conta_id AND s.slot = v.slot " +
+            "WHEN NOT MATCHED THEN INSERT (conta_id, slot, saldo, versao) VALUES (v.conta_id, v.slot, 0, 0)",
+            nativeQuery = true)
+    int createIfMissing(@Param("accountId") Integer accountId, @Param("slot") int slot);
+
+    @Modifying
+    @Query(value = "UPDATE saldo_conta SET " +
+            "saldo = saldo + (SELECT COALESCE(SUM(r.saldo), 0) FROM saldo_conta r " +
+            "WHERE r.conta_id = :accountId AND r.slot >= :slots), " +
+            "versao = versao + 1 + (SELECT COALESCE(SUM(r.versao), 0) FROM saldo_conta r " +
+            "WHERE r.conta_id = :accountId AND r.slot >= :slots) " +
+            "WHERE conta_id = :accountId AND slot = 0",
+            nativeQuery = true)
+    int foldIntoFirstSlot(@Param("accountId") Integer accountId, @Param("slots") int slots);
+
+    @Modifying
+    @Query("delete from AccountBalanceSlot s where s.id.accountId = :accountId and s.id.slot >= :slots")
+    int deleteFrom(@Param("accountId") Integer accountId, @Param("slots") int slots);
+
+    @Query("select s from AccountBalanceSlot s where s.id.accountId = :accountId order by s.id.slot")
+    List<AccountBalanceSlot> findByAccountId(@Param("accountId") Integer accountId);
+
+    @Query("select coalesce(sum(s.balance), 0) from AccountBalanceSlot s where s.id.accountId = :accountId")
+    double sumBalance(@Param("accountId") Integer accountId);
+}
@@ -1,9 +1,46 @@
 package br.com.banco.repository;
 
+import br.com.banco.dto.AccountOwner;
 import br.com.banco.entity.Account;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Integer> {
+    @Query("select a.version + coalesce((select sum(s.version) from AccountBalanceSlot s " +
+            "where s.id.accountId = a.id), 0) from Account a where a.id = :id")
+    Optional<Long> findVersionById(@Param("id") Integer id);
+
+    @Modifying
+    @Query("update Account a set a.version = a.version + 1 where a.id = :id")
+    int incrementVersion(@Param("id") Integer id);
+
+    @Modifying
+    @Query("update Account a set a.balanceSlots = :slots, a.version = a.version + 1 where a.id = :id")
+    int updateBalanceSlots(@Param("id") Integer id, @Param("slots") int slots);
+
+    @Query("select min(a.id) from Account a")
+    Optional<Integer> findMinId();
+
+    @Query("select max(a.id) from Account a")
+    Optional<Integer> findMaxId();
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select a.id from Account a")
+    Stream<Integer> streamAllIds();
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select new br.com.banco.dto.AccountOwner(a.id, a.ownerName) from Account a")
+    Stream<AccountOwner> streamAllOwners();
+
+    List<Account> findByIdBetweenOrderById(Integer firstId, Integer lastId);
 }
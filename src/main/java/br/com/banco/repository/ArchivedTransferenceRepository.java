@@ -0,0 +1,17 @@
+package br.com.banco.repository;
+
+import br.com.banco.entity.ArchivedTransference;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ArchivedTransferenceRepository extends JpaRepository<ArchivedTransference, Integer>,
+        ArchivedTransferenceSummaryRepository {
+    List<ArchivedTransference> findAll(Specification<ArchivedTransference> spec);
+
+    List<ArchivedTransference> findAll(Specification<ArchivedTransference> spec, Sort sort);
+}
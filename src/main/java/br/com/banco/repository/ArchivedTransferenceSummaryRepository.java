@@ -0,0 +1,11 @@
+package br.com.banco.repository;
+
+import br.com.banco.dto.TypeSummary;
+import br.com.banco.entity.ArchivedTransference;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface ArchivedTransferenceSummaryRepository {
+    List<TypeSummary> summarize(Specification<ArchivedTransference> spec);
+}
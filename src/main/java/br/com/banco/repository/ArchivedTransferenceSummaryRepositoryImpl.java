@@ -0,0 +1,21 @@
+package br.com.banco.repository;
+
+import br.com.banco.dto.TypeSummary;
+import br.com.banco.entity.ArchivedTransference;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+public class ArchivedTransferenceSummaryRepositoryImpl implements ArchivedTransferenceSummaryRepository {
+    private final EntityManager entityManager;
+
+    public ArchivedTransferenceSummaryRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<TypeSummary> summarize(Specification<ArchivedTransference> spec) {
+        return StatementSummaryQuery.summarize(entityManager, ArchivedTransference.class, spec);
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.banco.repository;
+
+import br.com.banco.entity.BatchJobChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BatchJobChunkRepository extends JpaRepository<BatchJobChunk, Long> {
+    List<BatchJobChunk> findByExecutionIdOrderByFirstAccountId(Long executionId);
+
+    @Query("select c.id from BatchJobChunk c where c.executionId = :executionId " +
+            "and c.status <> br.com.banco.entity.BatchStatus.COMPLETED order by c.firstAccountId")
+    List<Long> findUnfinishedIds(@Param("executionId") Long executionId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from BatchJobChunk c where c.id = :id")
+    Optional<BatchJobChunk> findForUpdate(@Param("id") Long id);
+}
@@ -0,0 +1,17 @@
+package br.com.banco.repository;
+
+import br.com.banco.entity.BatchJobExecution;
+import br.com.banco.entity.BatchStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BatchJobExecutionRepository extends JpaRepository<BatchJobExecution, Long> {
+    Optional<BatchJobExecution> findByJobNameAndBusinessDate(String jobName, LocalDate businessDate);
+
+    List<BatchJobExecution> findByStatusOrderById(BatchStatus status);
+}
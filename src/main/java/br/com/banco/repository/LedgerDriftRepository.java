@@ -0,0 +1,13 @@
+package br.com.banco.repository;
+
+import br.com.banco.entity.LedgerDrift;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface LedgerDriftRepository extends JpaRepository<LedgerDrift, Long> {
+    List<LedgerDrift> findByBusinessDateOrderByAccountIdAscSourceAsc(LocalDate businessDate);
+}
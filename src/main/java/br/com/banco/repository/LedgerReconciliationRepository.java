@@ -0,0 +1,57 @@
+package br.com.banco.repository;
+
+import br.com.banco.dto.LedgerBalance;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.function.Consumer;
+
+@Repository
+public class LedgerReconciliationRepository {
+    private static final int FETCH_SIZE = 1000;
+    private static final String SCAN_BALANCES = "SELECT c.id_conta AS conta_id, " +
+            "COALESCE(l.total, 0) AS saldo_razao, " +
+            "COALESCE(l.lancamentos, 0) AS lancamentos, " +
+            "COALESCE(s.saldo, 0) AS saldo_slots, " +
+            "COALESCE(e.saldo_acumulado, 0) + COALESCE(p.valor, 0) AS saldo_extrato " +
+            "FROM conta c " +
+            "LEFT JOIN (SELECT r.conta_id, SUM(r.valor) AS total, COUNT(*) AS lancamentos " +
+            "FROM (SELECT conta_id, valor FROM transferencia WHERE conta_id BETWEEN :first AND :last " +
+            "UNION ALL " +
+            "SELECT conta_id, valor FROM transferencia_arquivo WHERE conta_id BETWEEN :first AND :last) r " +
+            "GROUP BY r.conta_id) l ON l.conta_id = c.id_conta " +
+            "LEFT JOIN (SELECT conta_id, SUM(saldo) AS saldo FROM saldo_conta " +
+            "WHERE conta_id BETWEEN :first AND :last GROUP BY conta_id) s ON s.conta_id = c.id_conta " +
+            "LEFT JOIN (SELECT conta_id, saldo_acumulado FROM extrato WHERE id IN (SELECT MAX(id) FROM extrato " +
+            "WHERE conta_id BETWEEN :first AND :last GROUP BY conta_id)) e ON e.conta_id = c.id_conta " +
+            "LEFT JOIN (SELECT conta_id, SUM(valor) AS valor FROM extrato_pendente " +
+            "WHERE conta_id BETWEEN :first AND :last GROUP BY conta_id) p ON p.conta_id = c.id_conta " +
+            "WHERE c.id_conta BETWEEN :first AND :last " +
+            "ORDER BY c.id_conta";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public LedgerReconciliationRepository(DataSource dataSource) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.jdbcTemplate.getJdbcTemplate().setFetchSize(FETCH_SIZE);
+    }
+
+    public int scan(int firstAccountId, int lastAccountId, Consumer<LedgerBalance> consumer) {
+        var params = new MapSqlParameterSource()
+                .addValue("first", firstAccountId)
+                .addValue("last", lastAccountId);
+        int[] scanned = {0};
+        jdbcTemplate.query(SCAN_BALANCES, params, rs -> {
+            consumer.accept(new LedgerBalance(
+                    rs.getInt("conta_id"),
+                    rs.getDouble("saldo_razao"),
+                    rs.getLong("lancamentos"),
+                    rs.getDouble("saldo_slots"),
+                    rs.getDouble("saldo_extrato")));
+            scanned[0]++;
+        });
+        return scanned[0];
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.banco.repository;
+
+import br.com.banco.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Modifying
+    @Query(value = "UPDATE evento_saida SET token_reserva = :token, data_reserva = :now " +
+            "WHERE (token_reserva IS NULL OR data_reserva < :staleBefore) " +
+            "AND id IN (SELECT id FROM evento_saida " +
+            "WHERE token_reserva IS NULL OR data_reserva < :staleBefore ORDER BY id LIMIT :batchSize)",
+            nativeQuery = true)
+    int claim(@Param("token") String token,
+              @Param("now") LocalDateTime now,
+              @Param("staleBefore") LocalDateTime staleBefore,
+              @Param("batchSize") int batchSize);
+
+    List<OutboxEvent> findByClaimTokenOrderById(String claimToken);
+}
@@ -0,0 +1,13 @@
+package br.com.banco.repository;
+
+import br.com.banco.entity.PendingStatementEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PendingStatementEntryRepository extends JpaRepository<PendingStatementEntry, Long> {
+    List<PendingStatementEntry> findAllByOrderById(Pageable pageable);
+}
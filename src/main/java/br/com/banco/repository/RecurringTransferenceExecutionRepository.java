@@ -0,0 +1,12 @@
+package br.com.banco.repository;
+
+import br.com.banco.entity.RecurringTransferenceExecution;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RecurringTransferenceExecutionRepository extends JpaRepository<RecurringTransferenceExecution, Long> {
+    List<RecurringTransferenceExecution> findByRecurringTransferenceIdOrderByOccurrence(Long recurringTransferenceId);
+}
@@ -0,0 +1,28 @@
+package br.com.banco.repository;
+
+import br.com.banco.entity.RecurringTransference;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RecurringTransferenceRepository extends JpaRepository<RecurringTransference, Long> {
+
+    @Query("select r from RecurringTransference r " +
+            "where r.active = true and r.nextExecution < :before and r.id > :afterId order by r.id")
+    List<RecurringTransference> findDue(@Param("before") LocalDateTime before,
+                                        @Param("afterId") Long afterId,
+                                        Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from RecurringTransference r where r.id in :ids order by r.id")
+    List<RecurringTransference> findAllForUpdate(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,84 @@
+package br.com.banco.repository;
+
+import br.com.banco.entity.AccountBalanceSlot;
+import br.com.banco.sharding.ShardRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public class ShardedAccountBalanceSlotRepository {
+    private static final String CREDIT = "MERGE INTO saldo_conta s " +
+            "USING (SELECT CAST(? AS INT) AS conta_id, CAST(? AS INT) AS slot, " +
+            "CAST(? AS DOUBLE PRECISION) AS valor) v " +
+            "ON s.conta_id = v.conta_id AND s.slot = v.slot " +
+            "WHEN MATCHED THEN UPDATE SET saldo = s.saldo + v.valor, versao = s.versao + 1 " +
+            "WHEN NOT MATCHED THEN INSERT (conta_id, slot, saldo, versao) VALUES (v.conta_id, v.slot, v.valor, 1)";
+    private static final String DRAIN = "UPDATE saldo_conta SET saldo = saldo - ?, versao = versao + 1 " +
+            "WHERE conta_id = ? AND slot = ? AND saldo >= ?";
+    private static final String CREATE_IF_MISSING = "MERGE INTO saldo_conta s " +
+            "USING (SELECT CAST(? AS INT) AS conta_id, CAST(? AS INT) AS slot) v " +
+            "ON s.conta_id = v.conta_id AND s.slot = v.slot " +
+            "WHEN NOT MATCHED THEN INSERT (conta_id, slot, saldo, versao) VALUES (v.conta_id, v.slot, 0, 0)";
+    private static final String FOLD_INTO_FIRST_SLOT = "UPDATE saldo_conta SET " +
+            "saldo = saldo + (SELECT COALESCE(SUM(r.saldo), 0) FROM saldo_conta r " +
+            "WHERE r.conta_id = ? AND r.slot >= ?), " +
+            "versao = versao + 1 + (SELECT COALESCE(SUM(r.versao), 0) FROM saldo_conta r " +
+            "WHERE r.conta_id = ? AND r.slot >= ?) " +
+            "WHERE conta_id = ? AND slot = 0";
+    private static final RowMapper<AccountBalanceSlot> SLOT_ROW_MAPPER = (rs, rowNum) -> {
+        var slot = new AccountBalanceSlot(rs.getInt("conta_id"), rs.getInt("slot"), rs.getDouble("saldo"));
+        slot.setVersion(rs.getLong("versao"));
+        return slot;
+    };
+
+    private final ShardRegistry shardRegistry;
+
+    public ShardedAccountBalanceSlotRepository(ObjectProvider<ShardRegistry> shardRegistry) {
+        this.shardRegistry = shardRegistry.getIfAvailable();
+    }
+
+    public boolean isEnabled() {
+        return shardRegistry != null;
+    }
+
+    public int credit(Integer accountId, int slot, double amount) {
+        return getJdbcTemplate(accountId).update(CREDIT, accountId, slot, amount);
+    }
+
+    public int drain(Integer accountId, int slot, double amount) {
+        return getJdbcTemplate(accountId).update(DRAIN, amount, accountId, slot, amount);
+    }
+
+    public int createIfMissing(Integer accountId, int slot) {
+        return getJdbcTemplate(accountId).update(CREATE_IF_MISSING, accountId, slot);
+    }
+
+    public int foldIntoFirstSlot(Integer accountId, int slots) {
+        return getJdbcTemplate(accountId).update(FOLD_INTO_FIRST_SLOT, accountId, slots, accountId, slots, accountId);
+    }
+
+    public int deleteFrom(Integer accountId, int slots) {
+        return getJdbcTemplate(accountId)
+                .update("DELETE FROM saldo_conta WHERE conta_id = ? AND slot >= ?", accountId, slots);
+    }
+
+    public List<AccountBalanceSlot> findByAccountId(Integer accountId) {
+        return getJdbcTemplate(accountId).query(
+                "SELECT conta_id, slot, saldo, versao FROM saldo_conta WHERE conta_id = ? ORDER BY slot",
+                SLOT_ROW_MAPPER, accountId);
+    }
+
+    public double sumBalance(Integer accountId) {
+        var balance = getJdbcTemplate(accountId).queryForObject(
+                "SELECT COALESCE(SUM(saldo), 0) FROM saldo_conta WHERE conta_id = ?", Double.class, accountId);
+        return balance != null ? balance : 0;
+    }
+
+    private JdbcTemplate getJdbcTemplate(Integer accountId) {
+        return shardRegistry.forAccount(accountId).getJdbcTemplate();
+    }
+}
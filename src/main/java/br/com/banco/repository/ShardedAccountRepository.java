@@ -0,0 +1,132 @@
+package br.com.banco.repository;
+
+import br.com.banco.dto.AccountOwner;
+import br.com.banco.entity.Account;
+import br.com.banco.sharding.Shard;
+import br.com.banco.sharding.ShardRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+
+@Repository
+public class ShardedAccountRepository {
+    private static final RowMapper<Account> ACCOUNT_ROW_MAPPER = (rs, rowNum) -> {
+        var account = new Account(rs.getString("nome_responsavel"));
+        account.setId(rs.getInt("id_conta"));
+        account.setBalanceSlots(rs.getInt("slots_saldo"));
+        return account;
+    };
+
+    private final ShardRegistry shardRegistry;
+
+    public ShardedAccountRepository(ObjectProvider<ShardRegistry> shardRegistry) {
+        this.shardRegistry = shardRegistry.getIfAvailable();
+    }
+
+    public boolean isEnabled() {
+        return shardRegistry != null;
+    }
+
+    public Account save(Account account) {
+        if (account.getId() == null)
+            return insert(account);
+
+        shardRegistry.forAccount(account.getId()).getJdbcTemplate().update(
+                "UPDATE conta SET nome_responsavel = ? WHERE id_conta = ?",
+                account.getOwnerName(), account.getId());
+        return account;
+    }
+
+    private Account insert(Account account) {
+        int id = shardRegistry.nextAccountId();
+        var shard = shardRegistry.forAccount(id);
+        shard.getTransactionTemplate().executeWithoutResult(status -> {
+            shard.getJdbcTemplate().update(
+                    "INSERT INTO conta (id_conta, nome_responsavel) VALUES (?, ?)", id, account.getOwnerName());
+            shard.getJdbcTemplate().update(
+                    "INSERT INTO saldo_conta (conta_id, slot, saldo, versao) VALUES (?, 0, 0, 0)", id);
+        });
+        account.setId(id);
+        return account;
+    }
+
+    public Optional<Account> findById(Integer id) {
+        return shardRegistry.forAccount(id).getJdbcTemplate()
+                .query("SELECT id_conta, nome_responsavel, slots_saldo FROM conta WHERE id_conta = ?", ACCOUNT_ROW_MAPPER, id)
+                .stream()
+                .findFirst();
+    }
+
+    public List<Account> findAllById(Collection<Integer> ids) {
+        return ids.stream()
+                .collect(Collectors.groupingBy(shardRegistry::forAccount, LinkedHashMap::new, Collectors.toList()))
+                .entrySet().stream()
+                .flatMap(entry -> entry.getKey().getJdbcTemplate().query(
+                        "SELECT id_conta, nome_responsavel, slots_saldo FROM conta WHERE id_conta IN (" +
+                                String.join(", ", Collections.nCopies(entry.getValue().size(), "?")) + ")",
+                        ACCOUNT_ROW_MAPPER,
+                        entry.getValue().toArray()).stream())
+                .collect(Collectors.toList());
+    }
+
+    public List<Account> findAll() {
+        return shardRegistry.getShards().stream()
+                .map(Shard::getJdbcTemplate)
+                .flatMap(jdbcTemplate -> jdbcTemplate
+                        .query("SELECT id_conta, nome_responsavel, slots_saldo FROM conta", ACCOUNT_ROW_MAPPER)
+                        .stream())
+                .sorted(Comparator.comparing(Account::getId))
+                .collect(Collectors.toList());
+    }
+
+    public long count() {
+        return shardRegistry.getShards().stream()
+                .mapToLong(shard -> shard.getJdbcTemplate().queryForObject("SELECT COUNT(*) FROM conta", Long.class))
+                .sum();
+    }
+
+    public void forEachId(IntConsumer consumer) {
+        shardRegistry.getShards().forEach(shard -> shard.getJdbcTemplate()
+                .query("SELECT id_conta FROM conta", (RowCallbackHandler) rs -> consumer.accept(rs.getInt(1))));
+    }
+
+    public void forEachOwner(Consumer<AccountOwner> consumer) {
+        shardRegistry.getShards().forEach(shard -> shard.getJdbcTemplate()
+                .query("SELECT id_conta, nome_responsavel FROM conta", (RowCallbackHandler) rs ->
+                        consumer.accept(new AccountOwner(rs.getInt(1), rs.getString(2)))));
+    }
+
+    public Optional<Long> findVersionById(Integer id) {
+        return shardRegistry.forAccount(id).getJdbcTemplate()
+                .queryForList("SELECT c.versao + COALESCE((SELECT SUM(s.versao) FROM saldo_conta s " +
+                        "WHERE s.conta_id = c.id_conta), 0) FROM conta c WHERE c.id_conta = ?", Long.class, id)
+                .stream()
+                .findFirst();
+    }
+
+    public void incrementVersion(Integer id) {
+        shardRegistry.forAccount(id).getJdbcTemplate()
+                .update("UPDATE conta SET versao = versao + 1 WHERE id_conta = ?", id);
+    }
+
+    public void updateBalanceSlots(Integer id, int slots) {
+        shardRegistry.forAccount(id).getJdbcTemplate()
+                .update("UPDATE conta SET slots_saldo = ?, versao = versao + 1 WHERE id_conta = ?", slots, id);
+    }
+
+    public void delete(Account account) {
+        shardRegistry.forAccount(account.getId()).getJdbcTemplate()
+                .update("DELETE FROM conta WHERE id_conta = ?", account.getId());
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.banco.repository;
+
+import br.com.banco.entity.OutboxEvent;
+import br.com.banco.entity.Type;
+import br.com.banco.sharding.Shard;
+import br.com.banco.sharding.ShardRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+@Repository
+public class ShardedOutboxEventRepository {
+    private static final String INSERT_EVENT = "INSERT INTO evento_saida " +
+            "(id, transferencia_id, conta_id, tipo, valor, nome_operador_transacao, data_operacao, data_criacao) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String CLAIM_EVENTS = "UPDATE evento_saida SET token_reserva = ?, data_reserva = ? " +
+            "WHERE (token_reserva IS NULL OR data_reserva < ?) " +
+            "AND id IN (SELECT id FROM evento_saida " +
+            "WHERE token_reserva IS NULL OR data_reserva < ? ORDER BY id LIMIT ?)";
+    private static final String SELECT_CLAIMED = "SELECT id, transferencia_id, conta_id, tipo, valor, " +
+            "nome_operador_transacao, data_operacao, data_criacao, token_reserva, data_reserva " +
+            "FROM evento_saida WHERE token_reserva = ? ORDER BY id";
+    private static final String DELETE_EVENTS = "DELETE FROM evento_saida WHERE id IN (%s)";
+    private static final RowMapper<OutboxEvent> OUTBOX_EVENT_ROW_MAPPER = (rs, rowNum) -> {
+        var event = new OutboxEvent();
+        event.setId(rs.getLong("id"));
+        event.setTransferenceId(rs.getInt("transferencia_id"));
+        event.setAccountId(rs.getInt("conta_id"));
+        event.setType(Type.valueOf(rs.getString("tipo")));
+        event.setValue(rs.getDouble("valor"));
+        event.setTransactionOperatorName(rs.getString("nome_operador_transacao"));
+        event.setOperationDate(rs.getTimestamp("data_operacao").toLocalDateTime());
+        event.setCreatedAt(rs.getTimestamp("data_criacao").toLocalDateTime());
+        event.setClaimToken(rs.getString("token_reserva"));
+        event.setClaimedAt(rs.getTimestamp("data_reserva").toLocalDateTime());
+        return event;
+    };
+
+    private final ShardRegistry shardRegistry;
+
+    public ShardedOutboxEventRepository(ObjectProvider<ShardRegistry> shardRegistry) {
+        this.shardRegistry = shardRegistry.getIfAvailable();
+    }
+
+    public boolean isEnabled() {
+        return shardRegistry != null;
+    }
+
+    public List<Shard> getShards() {
+        return shardRegistry.getShards();
+    }
+
+    public OutboxEvent insert(Shard shard, OutboxEvent event) {
+        event.setId(shardRegistry.nextOutboxEventId());
+        shard.getJdbcTemplate().update(INSERT_EVENT,
+                event.getId(),
+                event.getTransferenceId(),
+                event.getAccountId(),
+                event.getType().name(),
+                event.getValue(),
+                event.getTransactionOperatorName(),
+                Timestamp.valueOf(event.getOperationDate()),
+                Timestamp.valueOf(event.getCreatedAt()));
+        return event;
+    }
+
+    public List<OutboxEvent> claim(Shard shard, String token, LocalDateTime now, LocalDateTime staleBefore, int batchSize) {
+        return shard.getTransactionTemplate().execute(status -> {
+            int claimed = shard.getJdbcTemplate().update(CLAIM_EVENTS,
+                    token, Timestamp.valueOf(now), Timestamp.valueOf(staleBefore), Timestamp.valueOf(staleBefore), batchSize);
+            return claimed == 0 ? List.of() : shard.getJdbcTemplate().query(SELECT_CLAIMED, OUTBOX_EVENT_ROW_MAPPER, token);
+        });
+    }
+
+    public void deleteAll(Shard shard, List<Long> ids) {
+        shard.getJdbcTemplate().update(
+                String.format(DELETE_EVENTS, String.join(", ", Collections.nCopies(ids.size(), "?"))), ids.toArray());
+    }
+
+    public long count() {
+        return shardRegistry.getShards().stream()
+                .mapToLong(shard -> Objects.requireNonNull(
+                        shard.getJdbcTemplate().queryForObject("SELECT COUNT(*) FROM evento_saida", Long.class)))
+                .sum();
+    }
+}
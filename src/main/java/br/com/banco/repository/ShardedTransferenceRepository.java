@@ -0,0 +1,199 @@
+package br.com.banco.repository;
+
+import br.com.banco.configuration.OutboxProperties;
+import br.com.banco.dto.StatementFilter;
+import br.com.banco.dto.TypeSummary;
+import br.com.banco.entity.Account;
+import br.com.banco.entity.OutboxEvent;
+import br.com.banco.entity.Transference;
+import br.com.banco.entity.Type;
+import br.com.banco.sharding.Shard;
+import br.com.banco.sharding.ShardRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Repository
+public class ShardedTransferenceRepository {
+    private static final String INSERT_TRANSFERENCE = "INSERT INTO transferencia " +
+            "(id, data_transferencia, valor, tipo, nome_operador_transacao, conta_id, id_correlacao, chave_estorno) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_STATEMENT = "SELECT id, data_transferencia, valor, tipo, " +
+            "nome_operador_transacao, conta_id, id_correlacao FROM transferencia WHERE conta_id = ?";
+    private static final String SELECT_STATEMENTS = "SELECT id, data_transferencia, valor, tipo, " +
+            "nome_operador_transacao, conta_id, id_correlacao FROM transferencia WHERE conta_id IN (%s)";
+    private static final String SELECT_LEGS = "SELECT t.id, t.data_transferencia, t.valor, t.tipo, " +
+            "t.nome_operador_transacao, t.conta_id, t.id_correlacao, c.nome_responsavel, c.slots_saldo " +
+            "FROM transferencia t JOIN conta c ON c.id_conta = t.conta_id WHERE t.id_correlacao IN (%s)";
+    private static final String STATEMENTS_ORDER = " ORDER BY conta_id, data_transferencia, id";
+    private static final String SELECT_SUMMARY = "SELECT tipo, COUNT(*) AS quantidade, SUM(valor) AS soma, " +
+            "MIN(valor) AS minimo, MAX(valor) AS maximo FROM transferencia WHERE conta_id = ?";
+    private static final RowMapper<TypeSummary> TYPE_SUMMARY_ROW_MAPPER = (rs, rowNum) -> new TypeSummary(
+            Type.valueOf(rs.getString("tipo")),
+            rs.getLong("quantidade"),
+            rs.getDouble("soma"),
+            rs.getDouble("minimo"),
+            rs.getDouble("maximo"));
+
+    private final ShardRegistry shardRegistry;
+    private final ShardedOutboxEventRepository shardedOutboxEventRepository;
+    private final OutboxProperties outboxProperties;
+
+    public ShardedTransferenceRepository(ObjectProvider<ShardRegistry> shardRegistry,
+                                         ShardedOutboxEventRepository shardedOutboxEventRepository,
+                                         OutboxProperties outboxProperties) {
+        this.shardRegistry = shardRegistry.getIfAvailable();
+        this.shardedOutboxEventRepository = shardedOutboxEventRepository;
+        this.outboxProperties = outboxProperties;
+    }
+
+    public boolean isEnabled() {
+        return shardRegistry != null;
+    }
+
+    public boolean isSameShard(Account account, Account anotherAccount) {
+        return shardRegistry.forAccount(account.getId()) == shardRegistry.forAccount(anotherAccount.getId());
+    }
+
+    public Transference save(Transference transference) {
+        return save(transference, saved -> {});
+    }
+
+    public Transference save(Transference transference, Consumer<Transference> inShardTransaction) {
+        var shard = shardRegistry.forAccount(transference.getAccount().getId());
+        return shard.getTransactionTemplate().execute(status -> {
+            var saved = insert(shard, transference);
+            inShardTransaction.accept(saved);
+            return saved;
+        });
+    }
+
+    public List<Transference> saveAll(Transference transference, Transference anotherTransference,
+                                      Consumer<List<Transference>> inShardTransaction) {
+        var shard = shardRegistry.forAccount(transference.getAccount().getId());
+        return shard.getTransactionTemplate().execute(status -> {
+            var saved = List.of(insert(shard, transference), insert(shard, anotherTransference));
+            inShardTransaction.accept(saved);
+            return saved;
+        });
+    }
+
+    private Transference insert(Shard shard, Transference transference) {
+        if (transference.getTransferenceDate() == null)
+            transference.setTransferenceDate(LocalDateTime.now());
+
+        transference.setId(shardRegistry.nextTransferenceId());
+        shard.getJdbcTemplate().update(INSERT_TRANSFERENCE,
+                transference.getId(),
+                Timestamp.valueOf(transference.getTransferenceDate()),
+                transference.getValue(),
+                transference.getType().name(),
+                transference.getTransactionOperatorName(),
+                transference.getAccount().getId(),
+                transference.getCorrelationId(),
+                transference.getReversalKey());
+        if (outboxProperties.isEnabled())
+            shardedOutboxEventRepository.insert(shard, new OutboxEvent(transference));
+
+        return transference;
+    }
+
+    public List<Transference> findStatements(Account account, StatementFilter filter) {
+        var sql = new StringBuilder(SELECT_STATEMENT);
+        List<Object> args = new ArrayList<>();
+        args.add(account.getId());
+        appendFilter(filter, sql, args);
+
+        return shardRegistry.forAccount(account.getId()).getJdbcTemplate()
+                .query(sql.toString(), getRowMapper(accountId -> account), args.toArray());
+    }
+
+    public List<Transference> findStatements(List<Account> accounts, StatementFilter filter) {
+        Map<Shard, List<Account>> accountsByShard = accounts.stream().collect(Collectors.groupingBy(
+                account -> shardRegistry.forAccount(account.getId()), LinkedHashMap::new, Collectors.toList()));
+
+        List<Transference> statements = new ArrayList<>();
+        accountsByShard.forEach((shard, shardAccounts) -> {
+            Map<Integer, Account> accountsById = shardAccounts.stream()
+                    .collect(Collectors.toMap(Account::getId, Function.identity()));
+            var sql = new StringBuilder(String.format(SELECT_STATEMENTS,
+                    String.join(", ", Collections.nCopies(accountsById.size(), "?"))));
+            List<Object> args = new ArrayList<>(accountsById.keySet());
+            appendFilter(filter, sql, args);
+            sql.append(STATEMENTS_ORDER);
+
+            statements.addAll(shard.getJdbcTemplate().query(sql.toString(),
+                    getRowMapper(accountsById::get), args.toArray()));
+        });
+        return statements;
+    }
+
+    public List<Transference> findLegs(Collection<String> correlationIds) {
+        var sql = String.format(SELECT_LEGS, String.join(", ", Collections.nCopies(correlationIds.size(), "?")));
+
+        List<Transference> legs = new ArrayList<>();
+        for (Shard shard : shardRegistry.getShards()) {
+            legs.addAll(shard.getJdbcTemplate().query(sql, (rs, rowNum) -> {
+                var account = new Account(rs.getString("nome_responsavel"));
+                account.setId(rs.getInt("conta_id"));
+                account.setBalanceSlots(rs.getInt("slots_saldo"));
+                return getRowMapper(accountId -> account).mapRow(rs, rowNum);
+            }, correlationIds.toArray()));
+        }
+        legs.sort(Comparator.comparing(Transference::getTransferenceDate).thenComparing(Transference::getId));
+        return legs;
+    }
+
+    public List<TypeSummary> summarize(Account account, StatementFilter filter) {
+        var sql = new StringBuilder(SELECT_SUMMARY);
+        List<Object> args = new ArrayList<>();
+        args.add(account.getId());
+        appendFilter(filter, sql, args);
+        sql.append(" GROUP BY tipo ORDER BY tipo");
+
+        return shardRegistry.forAccount(account.getId()).getJdbcTemplate()
+                .query(sql.toString(), TYPE_SUMMARY_ROW_MAPPER, args.toArray());
+    }
+
+    private void appendFilter(StatementFilter filter, StringBuilder sql, List<Object> args) {
+        if (filter != null) {
+            if (filter.getInitDate() != null && filter.getEndDate() != null) {
+                sql.append(" AND data_transferencia BETWEEN ? AND ?");
+                args.add(Timestamp.valueOf(filter.getInitDate()));
+                args.add(Timestamp.valueOf(filter.getEndDate()));
+            }
+
+            if (filter.getTransactionOperator() != null) {
+                sql.append(" AND nome_operador_transacao = ?");
+                args.add(filter.getTransactionOperator());
+            }
+        }
+    }
+
+    private RowMapper<Transference> getRowMapper(Function<Integer, Account> accounts) {
+        return (rs, rowNum) -> {
+            var transference = new Transference(
+                    rs.getDouble("valor"),
+                    Type.valueOf(rs.getString("tipo")),
+                    accounts.apply(rs.getInt("conta_id")),
+                    rs.getString("nome_operador_transacao"));
+            transference.setId(rs.getInt("id"));
+            transference.setTransferenceDate(rs.getTimestamp("data_transferencia").toLocalDateTime());
+            transference.setCorrelationId(rs.getString("id_correlacao"));
+            return transference;
+        };
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.banco.repository;
+
+import br.com.banco.dto.BankStatementResponse;
+import br.com.banco.entity.StatementEntry;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface StatementEntryQueryRepository {
+    List<BankStatementResponse> findStatement(Specification<StatementEntry> spec);
+}
@@ -0,0 +1,45 @@
+package br.com.banco.repository;
+
+import br.com.banco.dto.BankStatementResponse;
+import br.com.banco.entity.StatementEntry;
+import br.com.banco.entity.Type;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class StatementEntryQueryRepositoryImpl implements StatementEntryQueryRepository {
+    private final EntityManager entityManager;
+
+    public StatementEntryQueryRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<BankStatementResponse> findStatement(Specification<StatementEntry> spec) {
+        var builder = entityManager.getCriteriaBuilder();
+        var query = builder.createTupleQuery();
+        var root = query.from(StatementEntry.class);
+
+        query.multiselect(root.get("type"), root.get("value"), root.get("operationDate"));
+        var predicate = spec.toPredicate(root, query, builder);
+        if (predicate != null)
+            query.where(predicate);
+        query.orderBy(builder.asc(root.get("operationDate")), builder.asc(root.get("transferenceId")));
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(StatementEntryQueryRepositoryImpl::toBankStatementResponse)
+                .collect(Collectors.toList());
+    }
+
+    private static BankStatementResponse toBankStatementResponse(Tuple tuple) {
+        return new BankStatementResponse(
+                tuple.get(0, Type.class).toString(),
+                tuple.get(1, Double.class),
+                tuple.get(2, LocalDateTime.class).truncatedTo(ChronoUnit.SECONDS));
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.banco.repository;
+
+import br.com.banco.entity.StatementEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface StatementEntryRepository extends JpaRepository<StatementEntry, Long>, StatementEntryQueryRepository {
+
+    @Query("select s from StatementEntry s where s.accountId = :accountId " +
+            "order by s.operationDate desc, s.transferenceId desc")
+    List<StatementEntry> findLatest(@Param("accountId") Integer accountId, Pageable pageable);
+
+    @Query("select s.runningBalance from StatementEntry s where s.accountId = :accountId " +
+            "and (s.operationDate < :operationDate " +
+            "or (s.operationDate = :operationDate and s.transferenceId < :transferenceId)) " +
+            "order by s.operationDate desc, s.transferenceId desc")
+    List<Double> findRunningBalancesBefore(@Param("accountId") Integer accountId,
+                                           @Param("operationDate") LocalDateTime operationDate,
+                                           @Param("transferenceId") Integer transferenceId,
+                                           Pageable pageable);
+
+    @Modifying
+    @Query("update StatementEntry s set s.runningBalance = s.runningBalance + :value " +
+            "where s.accountId = :accountId and (s.operationDate > :operationDate " +
+            "or (s.operationDate = :operationDate and s.transferenceId > :transferenceId))")
+    int shiftRunningBalancesAfter(@Param("accountId") Integer accountId,
+                                  @Param("operationDate") LocalDateTime operationDate,
+                                  @Param("transferenceId") Integer transferenceId,
+                                  @Param("value") double value);
+
+    @Query("select coalesce(max(s.id), 0) from StatementEntry s where s.accountId = :accountId")
+    long findRevision(@Param("accountId") Integer accountId);
+}
@@ -0,0 +1,44 @@
+package br.com.banco.repository;
+
+import br.com.banco.dto.StatementRow;
+import br.com.banco.entity.Type;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.function.Consumer;
+
+@Repository
+public class StatementRowRepository {
+    private static final int FETCH_SIZE = 1000;
+    private static final String SCAN_ROWS = "SELECT r.conta_id, r.id, r.data_transferencia, r.valor, r.tipo, " +
+            "r.nome_operador_transacao " +
+            "FROM (SELECT conta_id, id, data_transferencia, valor, tipo, nome_operador_transacao FROM transferencia " +
+            "UNION ALL " +
+            "SELECT conta_id, id, data_transferencia, valor, tipo, nome_operador_transacao FROM transferencia_arquivo) r " +
+            "WHERE r.conta_id IS NOT NULL " +
+            "ORDER BY r.conta_id, r.data_transferencia, r.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StatementRowRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    public int scan(Consumer<StatementRow> consumer) {
+        int[] scanned = {0};
+        jdbcTemplate.query(SCAN_ROWS, (RowCallbackHandler) rs -> {
+            consumer.accept(new StatementRow(
+                    rs.getInt("conta_id"),
+                    rs.getInt("id"),
+                    rs.getTimestamp("data_transferencia").toLocalDateTime(),
+                    rs.getDouble("valor"),
+                    Type.valueOf(rs.getString("tipo")),
+                    rs.getString("nome_operador_transacao")));
+            scanned[0]++;
+        });
+        return scanned[0];
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.banco.repository;
+
+import br.com.banco.dto.TypeSummary;
+import br.com.banco.entity.Type;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+final class StatementSummaryQuery {
+    private StatementSummaryQuery() {
+    }
+
+    static <T> List<TypeSummary> summarize(EntityManager entityManager, Class<T> domainClass, Specification<T> spec) {
+        var builder = entityManager.getCriteriaBuilder();
+        var query = builder.createTupleQuery();
+        var root = query.from(domainClass);
+        Path<Type> type = root.get("type");
+        Path<Double> value = root.get("value");
+
+        query.multiselect(type, builder.count(root), builder.sum(value), builder.min(value), builder.max(value));
+        var predicate = spec.toPredicate(root, query, builder);
+        if (predicate != null)
+            query.where(predicate);
+        query.groupBy(type).orderBy(builder.asc(type));
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(StatementSummaryQuery::toTypeSummary)
+                .collect(Collectors.toList());
+    }
+
+    private static TypeSummary toTypeSummary(Tuple tuple) {
+        return new TypeSummary(
+                tuple.get(0, Type.class),
+                tuple.get(1, Long.class),
+                tuple.get(2, Double.class),
+                tuple.get(3, Double.class),
+                tuple.get(4, Double.class));
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.banco.repository;
+
+import br.com.banco.entity.Transference;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.List;
+
+@Repository
+public class TransferenceBatchRepository {
+    private static final String INSERT_TRANSFERENCE = "INSERT INTO transferencia " +
+            "(data_transferencia, valor, tipo, nome_operador_transacao, conta_id, id_correlacao) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TransferenceBatchRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public int insertAll(List<Transference> transferences, int batchSize) {
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_TRANSFERENCE, transferences, batchSize, (ps, transference) -> {
+            ps.setTimestamp(1, Timestamp.valueOf(transference.getTransferenceDate()));
+            ps.setDouble(2, transference.getValue());
+            ps.setString(3, transference.getType().name());
+            ps.setString(4, transference.getTransactionOperatorName());
+            ps.setInt(5, transference.getAccount().getId());
+            ps.setString(6, transference.getCorrelationId());
+        });
+
+        int inserted = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                inserted += Math.max(count, 0);
+            }
+        }
+        return inserted;
+    }
+}
@@ -1,13 +1,47 @@
 package br.com.banco.repository;
 
 import br.com.banco.entity.Transference;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 @Repository
-public interface TransferenceRepository extends JpaRepository<Transference, Integer> {
+public interface TransferenceRepository extends JpaRepository<Transference, Integer>, TransferenceSummaryRepository {
     List<Transference> findAll(Specification<Transference> spec);
+
+    List<Transference> findAll(Specification<Transference> spec, Sort sort);
+
+    @Query("select t.id from Transference t where t.transferenceDate < :cutoff order by t.id")
+    List<Integer> findIdsOlderThan(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query(value = "INSERT INTO transferencia_arquivo " +
+            "(id, data_transferencia, valor, tipo, nome_operador_transacao, conta_id, id_correlacao) " +
+            "SELECT id, data_transferencia, valor, tipo, nome_operador_transacao, conta_id, id_correlacao " +
+            "FROM transferencia WHERE id IN (:ids)", nativeQuery = true)
+    int copyToArchive(@Param("ids") List<Integer> ids);
+
+    @Query("select t from Transference t join fetch t.account " +
+            "where t.correlationId in :correlationIds order by t.id")
+    List<Transference> findLegs(@Param("correlationIds") Collection<String> correlationIds);
+
+    @Query("select t.id from Transference t where t.correlationId in :correlationIds")
+    Set<Integer> findLegIds(@Param("correlationIds") Collection<String> correlationIds);
+
+    @Query("select distinct t.correlationId from Transference t where t.correlationId in :correlationIds")
+    Set<String> findExistingCorrelationIds(@Param("correlationIds") Collection<String> correlationIds);
+
+    @Query("select t from Transference t join fetch t.account " +
+            "where t.transferenceDate >= :since and t.value < 0 order by t.id")
+    List<Transference> findOutflowsSince(@Param("since") LocalDateTime since);
 }
@@ -0,0 +1,11 @@
+package br.com.banco.repository;
+
+import br.com.banco.dto.TypeSummary;
+import br.com.banco.entity.Transference;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface TransferenceSummaryRepository {
+    List<TypeSummary> summarize(Specification<Transference> spec);
+}
@@ -0,0 +1,21 @@
+package br.com.banco.repository;
+
+import br.com.banco.dto.TypeSummary;
+import br.com.banco.entity.Transference;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+public class TransferenceSummaryRepositoryImpl implements TransferenceSummaryRepository {
+    private final EntityManager entityManager;
+
+    public TransferenceSummaryRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<TypeSummary> summarize(Specification<Transference> spec) {
+        return StatementSummaryQuery.summarize(entityManager, Transference.class, spec);
+    }
+}
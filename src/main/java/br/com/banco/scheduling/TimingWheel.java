@@ -0,0 +1,118 @@
+package br.com.banco.scheduling;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TimingWheel<T> {
+    private final List<Level<T>> levels = new ArrayList<>();
+    private final long tickMillis;
+    private final int wheelSize;
+    private int size;
+
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2)
+            throw new IllegalArgumentException("Tick must be positive and the wheel must have at least two buckets.");
+
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.levels.add(new Level<>(tickMillis, wheelSize, startMillis));
+    }
+
+    public synchronized void schedule(T item, long deadlineMillis) {
+        long earliest = levels.get(0).currentTime + tickMillis;
+        insert(new Entry<>(item, Math.max(deadlineMillis, earliest)));
+        size++;
+    }
+
+    public synchronized List<T> advance(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        var lowest = levels.get(0);
+        while (lowest.currentTime + tickMillis <= nowMillis) {
+            lowest.currentTime += tickMillis;
+            for (int i = 1; i < levels.size(); i++) {
+                var level = levels.get(i);
+                if (level.currentTime + level.tickMillis > lowest.currentTime)
+                    break;
+
+                level.currentTime += level.tickMillis;
+                var bucket = level.bucketFor(level.currentTime);
+                while (!bucket.isEmpty()) {
+                    var entry = bucket.poll();
+                    if (!insert(entry))
+                        expire(entry, expired);
+                }
+            }
+
+            var bucket = lowest.bucketFor(lowest.currentTime);
+            while (!bucket.isEmpty()) {
+                expire(bucket.poll(), expired);
+            }
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized int getLevelCount() {
+        return levels.size();
+    }
+
+    private void expire(Entry<T> entry, List<T> expired) {
+        expired.add(entry.item);
+        size--;
+    }
+
+    private boolean insert(Entry<T> entry) {
+        if (entry.deadlineMillis < levels.get(0).currentTime + tickMillis)
+            return false;
+
+        for (int i = 0; ; i++) {
+            var level = i < levels.size() ? levels.get(i) : overflow();
+            if (entry.deadlineMillis < level.currentTime + level.intervalMillis) {
+                level.bucketFor(entry.deadlineMillis).add(entry);
+                return true;
+            }
+        }
+    }
+
+    private Level<T> overflow() {
+        var top = levels.get(levels.size() - 1);
+        var level = new Level<T>(top.intervalMillis, wheelSize, top.currentTime);
+        levels.add(level);
+        return level;
+    }
+
+    private static final class Level<T> {
+        private final long tickMillis;
+        private final long intervalMillis;
+        private final List<ArrayDeque<Entry<T>>> buckets;
+        private long currentTime;
+
+        private Level(long tickMillis, int wheelSize, long startMillis) {
+            this.tickMillis = tickMillis;
+            this.intervalMillis = tickMillis * wheelSize;
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new ArrayDeque<>());
+            }
+            this.currentTime = startMillis - Math.floorMod(startMillis, tickMillis);
+        }
+
+        private ArrayDeque<Entry<T>> bucketFor(long timeMillis) {
+            return buckets.get((int) Math.floorMod(Math.floorDiv(timeMillis, tickMillis), (long) buckets.size()));
+        }
+    }
+
+    private static final class Entry<T> {
+        private final T item;
+        private final long deadlineMillis;
+
+        private Entry(T item, long deadlineMillis) {
+            this.item = item;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+}
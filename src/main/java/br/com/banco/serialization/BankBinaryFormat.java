@@ -0,0 +1,243 @@
+package br.com.banco.serialization;
+
+import br.com.banco.dto.AccountResponse;
+import br.com.banco.dto.BankStatementResponse;
+import br.com.banco.entity.Account;
+import br.com.banco.exception.dto.ExceptionDto;
+
+import java.io.*;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class BankBinaryFormat {
+    private static final int MAGIC = 0xBA4C;
+    private static final byte SINGLE = 0;
+    private static final byte LIST = 1;
+
+    public enum Kind {
+        BANK_STATEMENT(BankStatementResponse.class),
+        ACCOUNT(AccountResponse.class),
+        ERROR(ExceptionDto.class);
+
+        private final Class<?> type;
+
+        Kind(Class<?> type) {
+            this.type = type;
+        }
+
+        public static Kind of(Class<?> type) {
+            for (Kind kind : values()) {
+                if (kind.type.isAssignableFrom(type))
+                    return kind;
+            }
+            return null;
+        }
+    }
+
+    private BankBinaryFormat() {
+    }
+
+    public static void write(Object value, Kind kind, OutputStream outputStream) throws IOException {
+        var out = new Output(outputStream);
+        out.writeShort(MAGIC);
+        out.writeByte(kind.ordinal());
+        if (value instanceof List) {
+            var values = (List<?>) value;
+            out.writeByte(LIST);
+            out.writeInt(values.size());
+            for (Object element : values) {
+                writeRecord(element, kind, out);
+            }
+        } else {
+            out.writeByte(SINGLE);
+            writeRecord(value, kind, out);
+        }
+        out.flush();
+    }
+
+    public static Object read(InputStream inputStream) throws IOException {
+        var in = new DataInputStream(new BufferedInputStream(inputStream));
+        if ((in.readShort() & 0xFFFF) != MAGIC)
+            throw new IOException("Not a bank binary payload");
+
+        var kind = Kind.values()[in.readByte()];
+        if (in.readByte() == SINGLE)
+            return readRecord(kind, in);
+
+        int size = in.readInt();
+        var values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readRecord(kind, in));
+        }
+        return values;
+    }
+
+    private static void writeRecord(Object value, Kind kind, Output out) throws IOException {
+        if (kind == Kind.BANK_STATEMENT) {
+            var statement = (BankStatementResponse) value;
+            out.writeString(statement.getType());
+            out.writeDouble(statement.getValue());
+            out.writeDateTime(statement.getOperationDate());
+        } else if (kind == Kind.ACCOUNT) {
+            var account = (AccountResponse) value;
+            out.writeInteger(account.getId());
+            out.writeString(account.getOwnerName());
+        } else {
+            var error = (ExceptionDto) value;
+            out.writeString(error.getTitle());
+            out.writeDateTime(error.getTimeStamp());
+            out.writeInteger(error.getStatus());
+            out.writeString(error.getException());
+            var details = error.getDetails() != null ? error.getDetails() : Map.<String, String>of();
+            out.writeInt(details.size());
+            for (Map.Entry<String, String> detail : details.entrySet()) {
+                out.writeString(detail.getKey());
+                out.writeString(detail.getValue());
+            }
+        }
+    }
+
+    private static Object readRecord(Kind kind, DataInputStream in) throws IOException {
+        if (kind == Kind.BANK_STATEMENT)
+            return new BankStatementResponse(readString(in), readDouble(in), readDateTime(in));
+        if (kind == Kind.ERROR)
+            return readError(in);
+
+        var id = readInteger(in);
+        var account = new Account(readString(in));
+        account.setId(id);
+        return new AccountResponse(account);
+    }
+
+    private static ExceptionDto readError(DataInputStream in) throws IOException {
+        var title = readString(in);
+        var timeStamp = readDateTime(in);
+        var status = readInteger(in);
+        var exception = readString(in);
+        int size = in.readInt();
+        Map<String, String> details = new LinkedHashMap<>(size);
+        for (int i = 0; i < size; i++) {
+            details.put(readString(in), readString(in));
+        }
+        return new ExceptionDto(title, timeStamp, status, exception, details);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        if (!in.readBoolean())
+            return null;
+
+        var bytes = new byte[in.readUnsignedShort()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Double readDouble(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readDouble() : null;
+    }
+
+    private static Integer readInteger(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    private static LocalDateTime readDateTime(DataInputStream in) throws IOException {
+        if (!in.readBoolean())
+            return null;
+
+        long epochSecond = in.readLong();
+        return LocalDateTime.ofEpochSecond(epochSecond, in.readInt(), ZoneOffset.UTC);
+    }
+
+    private static final class Output {
+        private final OutputStream outputStream;
+        private final byte[] buffer = new byte[8192];
+        private final Map<String, byte[]> encodedStrings = new HashMap<>();
+        private int position;
+
+        private Output(OutputStream outputStream) {
+            this.outputStream = outputStream;
+        }
+
+        void writeByte(int value) throws IOException {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeShort(int value) throws IOException {
+            ensureCapacity(2);
+            buffer[position++] = (byte) (value >>> 8);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeInt(int value) throws IOException {
+            ensureCapacity(4);
+            buffer[position++] = (byte) (value >>> 24);
+            buffer[position++] = (byte) (value >>> 16);
+            buffer[position++] = (byte) (value >>> 8);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeLong(long value) throws IOException {
+            writeInt((int) (value >>> 32));
+            writeInt((int) value);
+        }
+
+        void writeString(String value) throws IOException {
+            writeByte(value != null ? 1 : 0);
+            if (value == null)
+                return;
+
+            var bytes = encodedStrings.computeIfAbsent(value, s -> s.getBytes(StandardCharsets.UTF_8));
+            if (bytes.length > 0xFFFF)
+                throw new UTFDataFormatException("String too long for bank binary format: " + bytes.length + " bytes");
+
+            writeShort(bytes.length);
+            if (bytes.length > buffer.length) {
+                flush();
+                outputStream.write(bytes);
+                return;
+            }
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        void writeDouble(Double value) throws IOException {
+            writeByte(value != null ? 1 : 0);
+            if (value != null)
+                writeLong(Double.doubleToRawLongBits(value));
+        }
+
+        void writeInteger(Integer value) throws IOException {
+            writeByte(value != null ? 1 : 0);
+            if (value != null)
+                writeInt(value);
+        }
+
+        void writeDateTime(LocalDateTime value) throws IOException {
+            writeByte(value != null ? 1 : 0);
+            if (value != null) {
+                writeLong(value.toEpochSecond(ZoneOffset.UTC));
+                writeInt(value.getNano());
+            }
+        }
+
+        void flush() throws IOException {
+            outputStream.write(buffer, 0, position);
+            position = 0;
+            outputStream.flush();
+        }
+
+        private void ensureCapacity(int bytes) throws IOException {
+            if (position + bytes > buffer.length) {
+                outputStream.write(buffer, 0, position);
+                position = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package br.com.banco.serialization;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+public class BankBinaryHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+    public static final String BANK_BINARY_VALUE = "application/x-bank-binary";
+    public static final MediaType BANK_BINARY = MediaType.parseMediaType(BANK_BINARY_VALUE);
+
+    public BankBinaryHttpMessageConverter() {
+        super(BANK_BINARY);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return BankBinaryFormat.Kind.of(clazz) != null || Collection.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return getKind(type) != null && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return getKind(type != null ? type : clazz) != null && canWrite(mediaType);
+    }
+
+    @Override
+    protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        var kind = getKind(type != null ? type : value.getClass());
+        if (kind == null)
+            throw new HttpMessageNotWritableException("Unsupported type for " + BANK_BINARY_VALUE + ": " + type);
+
+        BankBinaryFormat.write(value, kind, outputMessage.getBody());
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        return readInternal(null, inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        try {
+            return BankBinaryFormat.read(inputMessage.getBody());
+        } catch (IOException e) {
+            throw new HttpMessageNotReadableException(e.getMessage(), e, inputMessage);
+        }
+    }
+
+    private static BankBinaryFormat.Kind getKind(Type type) {
+        var resolvableType = ResolvableType.forType(type);
+        if (Collection.class.isAssignableFrom(resolvableType.toClass()))
+            resolvableType = resolvableType.asCollection().getGeneric();
+
+        return BankBinaryFormat.Kind.of(resolvableType.toClass());
+    }
+}
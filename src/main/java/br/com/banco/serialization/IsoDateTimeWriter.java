@@ -0,0 +1,50 @@
+package br.com.banco.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+final class IsoDateTimeWriter {
+    private static final int LENGTH = "yyyy-MM-ddTHH:mm:ss".length();
+    private static final ThreadLocal<IsoDateTimeWriter> WRITERS = ThreadLocal.withInitial(IsoDateTimeWriter::new);
+
+    private final char[] buffer = "0000-00-00T00:00:00".toCharArray();
+    private LocalDate cachedDate;
+
+    private IsoDateTimeWriter() {
+    }
+
+    static void write(LocalDateTime dateTime, JsonGenerator gen) throws IOException {
+        if (dateTime.getNano() != 0 || dateTime.getYear() < 0 || dateTime.getYear() > 9999) {
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime));
+            return;
+        }
+
+        var writer = WRITERS.get();
+        writer.format(dateTime);
+        gen.writeString(writer.buffer, 0, LENGTH);
+    }
+
+    private void format(LocalDateTime dateTime) {
+        var date = dateTime.toLocalDate();
+        if (!date.equals(cachedDate)) {
+            int year = date.getYear();
+            writeTwoDigits(year / 100, 0);
+            writeTwoDigits(year % 100, 2);
+            writeTwoDigits(date.getMonthValue(), 5);
+            writeTwoDigits(date.getDayOfMonth(), 8);
+            cachedDate = date;
+        }
+        writeTwoDigits(dateTime.getHour(), 11);
+        writeTwoDigits(dateTime.getMinute(), 14);
+        writeTwoDigits(dateTime.getSecond(), 17);
+    }
+
+    private void writeTwoDigits(int value, int offset) {
+        buffer[offset] = (char) ('0' + value / 10);
+        buffer[offset + 1] = (char) ('0' + value % 10);
+    }
+}
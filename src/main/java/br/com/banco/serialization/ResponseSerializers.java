@@ -0,0 +1,119 @@
+package br.com.banco.serialization;
+
+import br.com.banco.dto.*;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+@JsonComponent
+public class ResponseSerializers {
+    private static final SerializedString TYPE = new SerializedString("type");
+    private static final SerializedString VALUE = new SerializedString("value");
+    private static final SerializedString OPERATION_DATE = new SerializedString("operationDate");
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString OWNER_NAME = new SerializedString("ownerName");
+    private static final SerializedString SENDER = new SerializedString("sender");
+    private static final SerializedString ADDRESSEE = new SerializedString("addressee");
+    private static final SerializedString CORRELATION_ID = new SerializedString("correlationId");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString DEPOSIT_AMOUNT = new SerializedString("depositAmount");
+    private static final SerializedString WITHDRAWAL_AMOUNT = new SerializedString("withdrawalAmount");
+
+    public static SimpleModule module() {
+        return new SimpleModule(ResponseSerializers.class.getSimpleName())
+                .addSerializer(BankStatementResponse.class, new BankStatementResponseSerializer())
+                .addSerializer(AccountResponse.class, new AccountResponseSerializer())
+                .addSerializer(TransferenceResponse.class, new TransferenceResponseSerializer())
+                .addSerializer(DepositResponse.class, new DepositResponseSerializer())
+                .addSerializer(WithdrawResponse.class, new WithdrawResponseSerializer());
+    }
+
+    public static class BankStatementResponseSerializer extends JsonSerializer<BankStatementResponse> {
+        @Override
+        public void serialize(BankStatementResponse response, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeStartObject(response);
+            gen.writeFieldName(TYPE);
+            gen.writeString(response.getType());
+            gen.writeFieldName(VALUE);
+            writeNumber(response.getValue(), gen);
+            gen.writeFieldName(OPERATION_DATE);
+            if (response.getOperationDate() == null)
+                gen.writeNull();
+            else
+                IsoDateTimeWriter.write(response.getOperationDate(), gen);
+            gen.writeEndObject();
+        }
+    }
+
+    public static class AccountResponseSerializer extends JsonSerializer<AccountResponse> {
+        @Override
+        public void serialize(AccountResponse response, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeStartObject(response);
+            gen.writeFieldName(ID);
+            if (response.getId() == null)
+                gen.writeNull();
+            else
+                gen.writeNumber(response.getId());
+            gen.writeFieldName(OWNER_NAME);
+            gen.writeString(response.getOwnerName());
+            gen.writeEndObject();
+        }
+    }
+
+    public static class TransferenceResponseSerializer extends JsonSerializer<TransferenceResponse> {
+        @Override
+        public void serialize(TransferenceResponse response, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeStartObject(response);
+            gen.writeFieldName(SENDER);
+            gen.writeString(response.getSender());
+            gen.writeFieldName(ADDRESSEE);
+            gen.writeString(response.getAddressee());
+            gen.writeFieldName(VALUE);
+            writeNumber(response.getValue(), gen);
+            gen.writeFieldName(CORRELATION_ID);
+            gen.writeString(response.getCorrelationId());
+            gen.writeEndObject();
+        }
+    }
+
+    public static class DepositResponseSerializer extends JsonSerializer<DepositResponse> {
+        @Override
+        public void serialize(DepositResponse response, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeStartObject(response);
+            gen.writeFieldName(NAME);
+            gen.writeString(response.getName());
+            gen.writeFieldName(DEPOSIT_AMOUNT);
+            gen.writeNumber(response.getDepositAmount());
+            gen.writeEndObject();
+        }
+    }
+
+    public static class WithdrawResponseSerializer extends JsonSerializer<WithdrawResponse> {
+        @Override
+        public void serialize(WithdrawResponse response, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeStartObject(response);
+            gen.writeFieldName(NAME);
+            gen.writeString(response.getName());
+            gen.writeFieldName(WITHDRAWAL_AMOUNT);
+            gen.writeNumber(response.getWithdrawalAmount());
+            gen.writeEndObject();
+        }
+    }
+
+    private static void writeNumber(Double value, JsonGenerator gen) throws IOException {
+        if (value == null)
+            gen.writeNull();
+        else
+            gen.writeNumber(value);
+    }
+}
@@ -7,8 +7,14 @@ import java.util.List;
 public interface IAccountService {
     Account save(Account account);
     Account findById(Integer id);
+    List<Account> findAllById(List<Integer> ids);
     List<Account> findAll();
     Account update(Account uppdatedAccount);
     void delete(Integer id);
     void checkEquals(Account account, Account destinationAccount);
+    long getVersion(Integer id);
+    void incrementVersion(Integer id);
+    void updateBalanceSlots(Integer id, int slots);
+    long rebuildIdFilter();
+    int loadDirectory();
 }
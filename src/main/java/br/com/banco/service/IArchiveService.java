@@ -0,0 +1,17 @@
+package br.com.banco.service;
+
+import br.com.banco.dto.StatementFilter;
+import br.com.banco.dto.TypeSummary;
+import br.com.banco.entity.Account;
+import br.com.banco.entity.Transference;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface IArchiveService {
+    int archive(LocalDateTime cutoff);
+    boolean reachesArchive(StatementFilter statementFilter);
+    List<Transference> getArchivedStatements(Account account, StatementFilter statementFilter);
+    List<Transference> getArchivedStatements(List<Account> accounts, StatementFilter statementFilter);
+    List<TypeSummary> getArchivedSummary(Account account, StatementFilter statementFilter);
+}
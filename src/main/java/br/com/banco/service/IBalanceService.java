@@ -0,0 +1,16 @@
+package br.com.banco.service;
+
+import br.com.banco.entity.Account;
+import br.com.banco.entity.AccountBalanceSlot;
+import br.com.banco.event.OperationEvent;
+
+import java.util.List;
+
+public interface IBalanceService {
+    double getBalance(Account account);
+    List<AccountBalanceSlot> getSlots(Account account);
+    Account updateBalanceSlots(Account account, int slots);
+    void credit(Account account, double amount);
+    void drain(Account account, double amount);
+    void onOperation(OperationEvent event);
+}
@@ -0,0 +1,15 @@
+package br.com.banco.service;
+
+import br.com.banco.entity.BatchJobChunk;
+import br.com.banco.entity.BatchJobExecution;
+import br.com.banco.entity.LedgerDrift;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface IBatchJobService {
+    BatchJobExecution run(String jobName, LocalDate businessDate);
+    BatchJobExecution findExecution(Long id);
+    List<BatchJobChunk> findChunks(Long executionId);
+    List<LedgerDrift> findDrifts(Long executionId);
+}
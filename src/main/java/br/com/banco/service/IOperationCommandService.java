@@ -0,0 +1,13 @@
+package br.com.banco.service;
+
+import br.com.banco.command.OperationCommand;
+import br.com.banco.entity.Account;
+import br.com.banco.entity.Type;
+
+import java.util.UUID;
+
+public interface IOperationCommandService {
+    OperationCommand submit(Account account, Type type, Double value);
+    OperationCommand findById(UUID id);
+    int evictFinished();
+}
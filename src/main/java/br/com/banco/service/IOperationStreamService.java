@@ -0,0 +1,9 @@
+package br.com.banco.service;
+
+import br.com.banco.event.OperationEvent;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface IOperationStreamService {
+    SseEmitter subscribe(Integer accountId, Long lastEventId);
+    void onOperationCommitted(OperationEvent operationEvent);
+}
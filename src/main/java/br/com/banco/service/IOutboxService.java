@@ -0,0 +1,8 @@
+package br.com.banco.service;
+
+import br.com.banco.event.OperationEvent;
+
+public interface IOutboxService {
+    void record(OperationEvent operationEvent);
+    int relay();
+}
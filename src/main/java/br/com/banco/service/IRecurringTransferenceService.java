@@ -0,0 +1,19 @@
+package br.com.banco.service;
+
+import br.com.banco.entity.Account;
+import br.com.banco.entity.Frequency;
+import br.com.banco.entity.RecurringTransference;
+import br.com.banco.entity.RecurringTransferenceExecution;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface IRecurringTransferenceService {
+    RecurringTransference create(Account account, Account destinationAccount, Double value,
+                                 Frequency frequency, LocalDateTime startDate, LocalDateTime endDate);
+    RecurringTransference findById(Long id);
+    List<RecurringTransferenceExecution> findExecutions(Long id);
+    RecurringTransference cancel(Long id);
+    int load();
+    int fire();
+}
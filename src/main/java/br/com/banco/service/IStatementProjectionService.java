@@ -0,0 +1,15 @@
+package br.com.banco.service;
+
+import br.com.banco.dto.BankStatementResponse;
+import br.com.banco.dto.StatementFilter;
+import br.com.banco.entity.Account;
+import br.com.banco.event.OperationEvent;
+
+import java.util.List;
+
+public interface IStatementProjectionService {
+    void record(OperationEvent operationEvent);
+    int project();
+    List<BankStatementResponse> getBankStatement(Account account, StatementFilter filter);
+    long getRevision(Integer accountId);
+}
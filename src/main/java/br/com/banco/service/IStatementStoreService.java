@@ -0,0 +1,17 @@
+package br.com.banco.service;
+
+import br.com.banco.dto.StatementFilter;
+import br.com.banco.entity.Account;
+import br.com.banco.entity.Transference;
+import br.com.banco.event.OperationEvent;
+
+import java.util.List;
+
+public interface IStatementStoreService {
+    boolean isEnabled();
+    boolean isReady();
+    long getRevision(Integer accountId);
+    List<Transference> getBankStatements(Account account, StatementFilter filter);
+    void onOperationCommitted(OperationEvent operationEvent);
+    int load();
+}
@@ -0,0 +1,9 @@
+package br.com.banco.service;
+
+import br.com.banco.dto.TransferReversalResponse;
+
+import java.util.List;
+
+public interface ITransferReversalService {
+    TransferReversalResponse reverse(List<String> correlationIds);
+}
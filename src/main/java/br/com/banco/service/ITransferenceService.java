@@ -1,18 +1,30 @@
 package br.com.banco.service;
 
 import br.com.banco.dto.StatementFilter;
+import br.com.banco.dto.TypeSummary;
 import br.com.banco.entity.Account;
 import br.com.banco.entity.Transference;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public interface ITransferenceService {
     Transference save(Transference transference);
+    List<Transference> saveAll(List<Transference> transferences);
     Transference findById(Integer id);
     List<Transference> findAll();
     void delete(Integer id);
     Transference transfer(Account account, Account destinationAccountId, Double value);
     Transference withdraw(Account account, Double value);
     Transference deposit(Account account, Double value);
+    Transference reverse(Account account, Account counterparty, Double value, String correlationId);
+    List<Transference> findLegs(String correlationId);
+    List<Transference> findLegs(Collection<String> correlationIds);
+
+    Set<String> findExistingCorrelationIds(Collection<String> correlationIds);
     List<Transference> getBankStatements(Account account, StatementFilter statementFilter);
+    Map<Integer, List<Transference>> getBankStatements(List<Account> accounts, StatementFilter statementFilter);
+    List<TypeSummary> getBankStatementSummary(Account account, StatementFilter statementFilter);
 }
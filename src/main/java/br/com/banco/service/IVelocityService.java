@@ -0,0 +1,11 @@
+package br.com.banco.service;
+
+import br.com.banco.entity.Account;
+import br.com.banco.entity.Type;
+import br.com.banco.event.OperationEvent;
+
+public interface IVelocityService {
+    void check(Account account, Type type, double amount);
+    void onOperationCommitted(OperationEvent operationEvent);
+    int warmUp();
+}
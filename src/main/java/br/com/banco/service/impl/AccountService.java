@@ -1,45 +1,134 @@
 package br.com.banco.service.impl;
 
+import br.com.banco.bloom.AccountIdFilter;
+import br.com.banco.directory.AccountDirectory;
+import br.com.banco.dto.AccountOwner;
 import br.com.banco.entity.Account;
 import br.com.banco.exception.BusinessException;
 import br.com.banco.exception.SameAccountIdException;
+import br.com.banco.repository.AccountBalanceSlotRepository;
 import br.com.banco.repository.AccountRepository;
+import br.com.banco.repository.ShardedAccountRepository;
 import br.com.banco.service.IAccountService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.MessageSource;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 public class AccountService implements IAccountService {
+    private static final String NON_EXISTING_ID_MESSAGE_KEY = "non-existing.id.error.message";
+    private static final String SAME_ACCOUNT_ID_MESSAGE_KEY = "same.account.id.message.error";
+
     private final AccountRepository accountRepository;
+    private final ShardedAccountRepository shardedAccountRepository;
+    private final AccountBalanceSlotRepository accountBalanceSlotRepository;
     private final MessageSource messageSource;
+    private final AccountIdFilter accountIdFilter;
+    private final AccountDirectory accountDirectory;
+    private final Map<Locale, BusinessException> nonExistingIdExceptions = new ConcurrentHashMap<>();
+    private final Map<Locale, SameAccountIdException> sameAccountIdExceptions = new ConcurrentHashMap<>();
 
-    public AccountService(AccountRepository accountRepository, MessageSource messageSource) {
+    public AccountService(AccountRepository accountRepository,
+                          ShardedAccountRepository shardedAccountRepository,
+                          AccountBalanceSlotRepository accountBalanceSlotRepository,
+                          MessageSource messageSource,
+                          AccountIdFilter accountIdFilter,
+                          AccountDirectory accountDirectory) {
         this.accountRepository = accountRepository;
+        this.shardedAccountRepository = shardedAccountRepository;
+        this.accountBalanceSlotRepository = accountBalanceSlotRepository;
         this.messageSource = messageSource;
+        this.accountIdFilter = accountIdFilter;
+        this.accountDirectory = accountDirectory;
     }
 
     @Override
+    @Transactional
     public Account save(Account account) {
-        return accountRepository.save(account);
+        if (shardedAccountRepository.isEnabled())
+            return index(shardedAccountRepository.save(account));
+
+        boolean created = account.getId() == null;
+        Account savedAccount = accountRepository.save(account);
+        if (created)
+            accountBalanceSlotRepository.createIfMissing(savedAccount.getId(), 0);
+
+        return index(savedAccount);
+    }
+
+    private Account index(Account savedAccount) {
+
+        accountIdFilter.add(savedAccount.getId());
+        accountDirectory.put(savedAccount.getId(), savedAccount.getOwnerName());
+        return savedAccount;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Account findById(Integer id) {
-        try {
-            return accountRepository.findById(id)
-                    .orElseThrow(() -> new IllegalArgumentException(
-                            messageSource.getMessage("non-existing.id.error.message",null, Locale.getDefault())
-                    ));
-        } catch (IllegalArgumentException e) {
-            throw new BusinessException(e.getMessage(),e);
-        }
+        if (!accountIdFilter.mightExist(id))
+            throw getNonExistingIdException();
+
+        return findAccount(id).orElseThrow(this::getFalsePositiveException);
+    }
+
+    private BusinessException getFalsePositiveException() {
+        accountIdFilter.recordFalsePositive();
+        return getNonExistingIdException();
+    }
+
+    private BusinessException getNonExistingIdException() {
+        return nonExistingIdExceptions.computeIfAbsent(Locale.getDefault(), locale -> new BusinessException(
+                messageSource.getMessage(NON_EXISTING_ID_MESSAGE_KEY, null, locale),
+                IllegalArgumentException.class));
+    }
+
+    private Optional<Account> findAccount(Integer id) {
+        if (shardedAccountRepository.isEnabled())
+            return shardedAccountRepository.findById(id);
+
+        return accountRepository.findById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Account> findAllById(List<Integer> ids) {
+        var distinctIds = new LinkedHashSet<>(ids);
+        if (!distinctIds.stream().allMatch(accountIdFilter::mightExist))
+            throw getNonExistingIdException();
+
+        List<Account> accounts = shardedAccountRepository.isEnabled()
+                ? shardedAccountRepository.findAllById(distinctIds)
+                : accountRepository.findAllById(distinctIds);
+
+        Map<Integer, Account> accountsById = accounts.stream()
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
+        if (accountsById.size() < distinctIds.size())
+            throw getFalsePositiveException();
+
+        return distinctIds.stream().map(accountsById::get).collect(Collectors.toList());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Account> findAll() {
+        if (shardedAccountRepository.isEnabled())
+            return shardedAccountRepository.findAll();
+
         return accountRepository.findAll();
     }
 
@@ -47,7 +136,9 @@ public class AccountService implements IAccountService {
     public Account update(Account uppdatedAccount) {
         Account exitingAccount = this.findById(uppdatedAccount.getId());
         updateFields(uppdatedAccount, exitingAccount);
-        return accountRepository.save(exitingAccount);
+        Account savedAccount = this.save(exitingAccount);
+        incrementVersion(savedAccount.getId());
+        return savedAccount;
     }
 
     private void updateFields(Account uppdatedAccount, Account exitingAccount) {
@@ -57,20 +148,111 @@ public class AccountService implements IAccountService {
     @Override
     public void delete(Integer id) {
         Account account = this.findById(id);
-        accountRepository.delete(account);
+        if (shardedAccountRepository.isEnabled())
+            shardedAccountRepository.delete(account);
+        else
+            accountRepository.delete(account);
+
+        accountDirectory.remove(id);
     }
 
     @Override
     public void checkEquals(Account account, Account destinationAccount) {
-        try {
-            if (account.getId().equals(destinationAccount.getId()))
-                throw new IllegalArgumentException(messageSource.getMessage(
-                        "same.account.id.message.error",
-                        null,
-                        Locale.getDefault()));
-        } catch (IllegalArgumentException e) {
-            throw new SameAccountIdException(e.getMessage(), e);
+        if (account.getId().equals(destinationAccount.getId()))
+            throw getSameAccountIdException();
+    }
+
+    private SameAccountIdException getSameAccountIdException() {
+        return sameAccountIdExceptions.computeIfAbsent(Locale.getDefault(), locale -> new SameAccountIdException(
+                messageSource.getMessage(SAME_ACCOUNT_ID_MESSAGE_KEY, null, locale),
+                IllegalArgumentException.class));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getVersion(Integer id) {
+        if (!accountIdFilter.mightExist(id))
+            throw getNonExistingIdException();
+
+        Optional<Long> version = shardedAccountRepository.isEnabled()
+                ? shardedAccountRepository.findVersionById(id)
+                : accountRepository.findVersionById(id);
+
+        return version.orElseThrow(this::getFalsePositiveException);
+    }
+
+    @Override
+    @Transactional
+    public void incrementVersion(Integer id) {
+        if (shardedAccountRepository.isEnabled()) {
+            shardedAccountRepository.incrementVersion(id);
+            return;
+        }
+
+        accountRepository.incrementVersion(id);
+    }
+
+    @Override
+    @Transactional
+    public void updateBalanceSlots(Integer id, int slots) {
+        if (shardedAccountRepository.isEnabled()) {
+            shardedAccountRepository.updateBalanceSlots(id, slots);
+            return;
         }
 
+        accountRepository.updateBalanceSlots(id, slots);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${bank.account-filter.rebuild-interval:PT1H}",
+            initialDelayString = "${bank.account-filter.rebuild-interval:PT1H}")
+    public long rebuildIdFilter() {
+        if (!accountIdFilter.isEnabled())
+            return 0;
+
+        if (shardedAccountRepository.isEnabled()) {
+            long accounts = shardedAccountRepository.count();
+            accountIdFilter.rebuild(accounts, shardedAccountRepository::forEachId);
+            return logRebuild(accounts);
+        }
+
+        long accounts = accountRepository.count();
+        accountIdFilter.rebuild(accounts, consumer -> {
+            try (var ids = accountRepository.streamAllIds()) {
+                ids.forEach(consumer::accept);
+            }
+        });
+        return logRebuild(accounts);
+    }
+
+    private long logRebuild(long accounts) {
+        log.info("Rebuilt account id filter with {} accounts, expected false positive rate {}",
+                accounts, accountIdFilter.getExpectedFalsePositiveRate());
+        return accounts;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public int loadDirectory() {
+        if (!accountDirectory.isEnabled())
+            return 0;
+
+        if (shardedAccountRepository.isEnabled()) {
+            shardedAccountRepository.forEachOwner(this::putOwner);
+        } else {
+            try (var owners = accountRepository.streamAllOwners()) {
+                owners.forEach(this::putOwner);
+            }
+        }
+
+        log.info("Loaded {} accounts into the account directory", accountDirectory.size());
+        return accountDirectory.size();
+    }
+
+    private void putOwner(AccountOwner owner) {
+        accountDirectory.put(owner.getAccountId(), owner.getOwnerName());
     }
 }
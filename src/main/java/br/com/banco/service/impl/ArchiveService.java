@@ -0,0 +1,148 @@
+package br.com.banco.service.impl;
+
+import br.com.banco.configuration.ArchiveProperties;
+import br.com.banco.dto.StatementFilter;
+import br.com.banco.dto.TypeSummary;
+import br.com.banco.entity.Account;
+import br.com.banco.entity.ArchivedTransference;
+import br.com.banco.entity.Transference;
+import br.com.banco.repository.ArchivedTransferenceRepository;
+import br.com.banco.repository.TransferenceRepository;
+import br.com.banco.service.IArchiveService;
+import br.com.banco.specifications.ArchivedTransferenceSpecifications;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class ArchiveService implements IArchiveService {
+    private static final Sort STATEMENT_ORDER = Sort.by("accountId", "transferenceDate", "id");
+
+    private final TransferenceRepository transferenceRepository;
+    private final ArchivedTransferenceRepository archivedTransferenceRepository;
+    private final ArchiveProperties archiveProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public ArchiveService(TransferenceRepository transferenceRepository,
+                          ArchivedTransferenceRepository archivedTransferenceRepository,
+                          ArchiveProperties archiveProperties,
+                          PlatformTransactionManager transactionManager) {
+        this.transferenceRepository = transferenceRepository;
+        this.archivedTransferenceRepository = archivedTransferenceRepository;
+        this.archiveProperties = archiveProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${bank.archive.fixed-delay:PT1H}", initialDelayString = "${bank.archive.initial-delay:PT1M}")
+    public void archiveExpired() {
+        if (!archiveProperties.isEnabled())
+            return;
+
+        int archived = archive(getCutoff());
+        log.info("Archived {} transferences older than {}", archived, archiveProperties.getMaxAge());
+    }
+
+    @Override
+    public int archive(LocalDateTime cutoff) {
+        int batchSize = archiveProperties.getBatchSize();
+        int total = 0;
+        int moved;
+
+        do {
+            moved = moveBatch(cutoff, batchSize);
+            total += moved;
+        } while (moved == batchSize);
+
+        return total;
+    }
+
+    private int moveBatch(LocalDateTime cutoff, int batchSize) {
+        Integer moved = transactionTemplate.execute(status -> {
+            List<Integer> ids = transferenceRepository.findIdsOlderThan(cutoff, PageRequest.of(0, batchSize));
+            if (ids.isEmpty())
+                return 0;
+
+            transferenceRepository.copyToArchive(ids);
+            transferenceRepository.deleteAllByIdInBatch(ids);
+            return ids.size();
+        });
+        return moved == null ? 0 : moved;
+    }
+
+    @Override
+    public boolean reachesArchive(StatementFilter filter) {
+        if (filter == null || filter.getInitDate() == null || filter.getEndDate() == null)
+            return true;
+
+        return filter.getInitDate().isBefore(getCutoff());
+    }
+
+    @Override
+    public List<Transference> getArchivedStatements(Account account, StatementFilter filter) {
+        if (!reachesArchive(filter))
+            return Collections.emptyList();
+
+        var spec = getSpecification(ArchivedTransferenceSpecifications.withAccountId(account.getId()), filter);
+        return archivedTransferenceRepository.findAll(spec).stream()
+                .map(archived -> archived.toTransference(account))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Transference> getArchivedStatements(List<Account> accounts, StatementFilter filter) {
+        if (!reachesArchive(filter))
+            return Collections.emptyList();
+
+        Map<Integer, Account> accountsById = accounts.stream()
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
+        var spec = getSpecification(ArchivedTransferenceSpecifications.withAccountIds(accountsById.keySet()), filter);
+        return archivedTransferenceRepository.findAll(spec, STATEMENT_ORDER).stream()
+                .map(archived -> archived.toTransference(accountsById.get(archived.getAccountId())))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<TypeSummary> getArchivedSummary(Account account, StatementFilter filter) {
+        if (!reachesArchive(filter))
+            return Collections.emptyList();
+
+        return archivedTransferenceRepository.summarize(
+                getSpecification(ArchivedTransferenceSpecifications.withAccountId(account.getId()), filter));
+    }
+
+    private Specification<ArchivedTransference> getSpecification(Specification<ArchivedTransference> accountSpec,
+                                                                 StatementFilter filter) {
+        Specification<ArchivedTransference> spec = Specification.where(accountSpec);
+
+        if (filter != null) {
+            if (filter.getInitDate() != null && filter.getEndDate() != null) {
+                spec = spec.and(ArchivedTransferenceSpecifications.withInitDateAndEndDate(
+                        filter.getInitDate(), filter.getEndDate()));
+            }
+
+            if (filter.getTransactionOperator() != null) {
+                spec = spec.and(ArchivedTransferenceSpecifications.withTransactionOperator(
+                        filter.getTransactionOperator()));
+            }
+        }
+
+        return spec;
+    }
+
+    private LocalDateTime getCutoff() {
+        return LocalDateTime.now().minus(archiveProperties.getMaxAge());
+    }
+}
@@ -0,0 +1,132 @@
+package br.com.banco.service.impl;
+
+import br.com.banco.entity.Account;
+import br.com.banco.entity.AccountBalanceSlot;
+import br.com.banco.event.OperationEvent;
+import br.com.banco.repository.AccountBalanceSlotRepository;
+import br.com.banco.repository.ShardedAccountBalanceSlotRepository;
+import br.com.banco.service.IBalanceService;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class BalanceService implements IBalanceService {
+    private static final AtomicInteger NEXT_WRITER_STRIPE = new AtomicInteger();
+    private static final ThreadLocal<Integer> WRITER_STRIPE =
+            ThreadLocal.withInitial(NEXT_WRITER_STRIPE::getAndIncrement);
+
+    private final AccountBalanceSlotRepository accountBalanceSlotRepository;
+    private final ShardedAccountBalanceSlotRepository shardedAccountBalanceSlotRepository;
+    private final AccountService accountService;
+
+    public BalanceService(AccountBalanceSlotRepository accountBalanceSlotRepository,
+                          ShardedAccountBalanceSlotRepository shardedAccountBalanceSlotRepository,
+                          AccountService accountService) {
+        this.accountBalanceSlotRepository = accountBalanceSlotRepository;
+        this.shardedAccountBalanceSlotRepository = shardedAccountBalanceSlotRepository;
+        this.accountService = accountService;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public double getBalance(Account account) {
+        if (shardedAccountBalanceSlotRepository.isEnabled())
+            return shardedAccountBalanceSlotRepository.sumBalance(account.getId());
+
+        return accountBalanceSlotRepository.sumBalance(account.getId());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AccountBalanceSlot> getSlots(Account account) {
+        if (shardedAccountBalanceSlotRepository.isEnabled())
+            return shardedAccountBalanceSlotRepository.findByAccountId(account.getId());
+
+        return accountBalanceSlotRepository.findByAccountId(account.getId());
+    }
+
+    @Override
+    @Transactional
+    public Account updateBalanceSlots(Account account, int slots) {
+        var accountId = account.getId();
+        if (shardedAccountBalanceSlotRepository.isEnabled()) {
+            for (int slot = 0; slot < slots; slot++) {
+                shardedAccountBalanceSlotRepository.createIfMissing(accountId, slot);
+            }
+            shardedAccountBalanceSlotRepository.foldIntoFirstSlot(accountId, slots);
+            shardedAccountBalanceSlotRepository.deleteFrom(accountId, slots);
+        } else {
+            for (int slot = 0; slot < slots; slot++) {
+                accountBalanceSlotRepository.createIfMissing(accountId, slot);
+            }
+            accountBalanceSlotRepository.foldIntoFirstSlot(accountId, slots);
+            accountBalanceSlotRepository.deleteFrom(accountId, slots);
+        }
+
+        accountService.updateBalanceSlots(accountId, slots);
+        account.setBalanceSlots(slots);
+        return account;
+    }
+
+    @Override
+    @Transactional
+    public void credit(Account account, double amount) {
+        credit(account.getId(), pickSlot(account.getBalanceSlots()), amount);
+    }
+
+    @Override
+    @Transactional
+    public void drain(Account account, double amount) {
+        int writerSlot = pickSlot(account.getBalanceSlots());
+        double remaining = amount;
+
+        if (account.getBalanceSlots() > 1) {
+            var slots = getSlots(account);
+            for (int i = 0; i < slots.size() && remaining > 0; i++) {
+                var slot = slots.get((writerSlot + i) % slots.size());
+                double taken = Math.min(slot.getBalance(), remaining);
+                if (taken > 0 && drain(account.getId(), slot.getSlot(), taken) == 1)
+                    remaining -= taken;
+            }
+        }
+
+        if (remaining > 0)
+            credit(account.getId(), writerSlot, -remaining);
+    }
+
+    @Override
+    @Transactional
+    @EventListener
+    public void onOperation(OperationEvent event) {
+        var transference = event.getTransference();
+        if (transference.getValue() < 0)
+            drain(transference.getAccount(), -transference.getValue());
+        else
+            credit(transference.getAccount(), transference.getValue());
+    }
+
+    private void credit(Integer accountId, int slot, double amount) {
+        if (shardedAccountBalanceSlotRepository.isEnabled())
+            shardedAccountBalanceSlotRepository.credit(accountId, slot, amount);
+        else
+            accountBalanceSlotRepository.credit(accountId, slot, amount);
+    }
+
+    private int drain(Integer accountId, int slot, double amount) {
+        if (shardedAccountBalanceSlotRepository.isEnabled())
+            return shardedAccountBalanceSlotRepository.drain(accountId, slot, amount);
+
+        return accountBalanceSlotRepository.drain(accountId, slot, amount);
+    }
+
+    static int pickSlot(int slots) {
+        if (slots <= 1)
+            return 0;
+
+        return Math.floorMod(WRITER_STRIPE.get(), slots);
+    }
+}
@@ -0,0 +1,310 @@
+package br.com.banco.service.impl;
+
+import br.com.banco.batch.BatchJob;
+import br.com.banco.batch.DailyFeeJob;
+import br.com.banco.batch.LedgerReconciliationJob;
+import br.com.banco.configuration.BatchJobProperties;
+import br.com.banco.entity.BatchJobChunk;
+import br.com.banco.entity.BatchJobExecution;
+import br.com.banco.entity.BatchStatus;
+import br.com.banco.entity.LedgerDrift;
+import br.com.banco.exception.BusinessException;
+import br.com.banco.exception.FeatureUnavailableException;
+import br.com.banco.repository.AccountRepository;
+import br.com.banco.repository.BatchJobChunkRepository;
+import br.com.banco.repository.BatchJobExecutionRepository;
+import br.com.banco.repository.LedgerDriftRepository;
+import br.com.banco.repository.ShardedTransferenceRepository;
+import br.com.banco.service.IBatchJobService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.MessageSource;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class BatchJobService implements IBatchJobService {
+    private static final String NON_EXISTING_JOB_MESSAGE_KEY = "non-existing.batch.job.error.message";
+    private static final String NON_EXISTING_EXECUTION_MESSAGE_KEY = "non-existing.batch.execution.error.message";
+    private static final String SHARDING_UNSUPPORTED_MESSAGE_KEY = "batch.sharding.unsupported.error.message";
+    private static final String JOB_TAG = "job";
+
+    private final Map<String, BatchJob> jobs;
+    private final BatchJobExecutionRepository executionRepository;
+    private final BatchJobChunkRepository chunkRepository;
+    private final AccountRepository accountRepository;
+    private final LedgerDriftRepository ledgerDriftRepository;
+    private final ShardedTransferenceRepository shardedTransferenceRepository;
+    private final BatchJobProperties batchJobProperties;
+    private final MessageSource messageSource;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService chunkExecutor;
+    private final ExecutorService jobExecutor = Executors.newCachedThreadPool();
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+
+    public BatchJobService(List<BatchJob> jobs,
+                           BatchJobExecutionRepository executionRepository,
+                           BatchJobChunkRepository chunkRepository,
+                           AccountRepository accountRepository,
+                           LedgerDriftRepository ledgerDriftRepository,
+                           ShardedTransferenceRepository shardedTransferenceRepository,
+                           BatchJobProperties batchJobProperties,
+                           MessageSource messageSource,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry) {
+        this.jobs = jobs.stream().collect(Collectors.toMap(BatchJob::getName, Function.identity()));
+        this.executionRepository = executionRepository;
+        this.chunkRepository = chunkRepository;
+        this.accountRepository = accountRepository;
+        this.ledgerDriftRepository = ledgerDriftRepository;
+        this.shardedTransferenceRepository = shardedTransferenceRepository;
+        this.batchJobProperties = batchJobProperties;
+        this.messageSource = messageSource;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkExecutor = Executors.newFixedThreadPool(batchJobProperties.getParallelism());
+    }
+
+    @Override
+    public BatchJobExecution run(String jobName, LocalDate businessDate) {
+        var job = getJob(jobName);
+        if (shardedTransferenceRepository.isEnabled())
+            throw new FeatureUnavailableException(getMessage(SHARDING_UNSUPPORTED_MESSAGE_KEY));
+
+        var key = jobName + ":" + businessDate;
+        if (!running.add(key))
+            return findExecution(jobName, businessDate);
+
+        try {
+            return jobExecutor.submit(() -> execute(job, businessDate)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running batch job " + jobName, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+
+            throw new IllegalStateException("Batch job " + jobName + " failed", e.getCause());
+        } finally {
+            running.remove(key);
+        }
+    }
+
+    @Override
+    public BatchJobExecution findExecution(Long id) {
+        return executionRepository.findById(id)
+                .orElseThrow(() -> new BusinessException(
+                        getMessage(NON_EXISTING_EXECUTION_MESSAGE_KEY), IllegalArgumentException.class));
+    }
+
+    @Override
+    public List<BatchJobChunk> findChunks(Long executionId) {
+        return chunkRepository.findByExecutionIdOrderByFirstAccountId(executionId);
+    }
+
+    @Override
+    public List<LedgerDrift> findDrifts(Long executionId) {
+        var execution = findExecution(executionId);
+        if (!LedgerReconciliationJob.NAME.equals(execution.getJobName()))
+            return List.of();
+
+        return ledgerDriftRepository.findByBusinessDateOrderByAccountIdAscSourceAsc(execution.getBusinessDate());
+    }
+
+    @Scheduled(cron = "${bank.batch.daily-fee.cron:0 5 0 * * *}")
+    public void runDailyFee() {
+        if (!batchJobProperties.getDailyFee().isEnabled())
+            return;
+
+        run(DailyFeeJob.NAME, LocalDate.now().minusDays(1));
+    }
+
+    @Scheduled(cron = "${bank.batch.ledger-reconciliation.cron:0 30 0 * * *}")
+    public void runLedgerReconciliation() {
+        if (!batchJobProperties.getLedgerReconciliation().isEnabled() || shardedTransferenceRepository.isEnabled())
+            return;
+
+        run(LedgerReconciliationJob.NAME, LocalDate.now().minusDays(1));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterrupted() {
+        if (!batchJobProperties.isResumeOnStartup() || shardedTransferenceRepository.isEnabled())
+            return;
+
+        var interrupted = executionRepository.findByStatusOrderById(BatchStatus.RUNNING);
+        if (interrupted.isEmpty())
+            return;
+
+        jobExecutor.execute(() -> interrupted.forEach(execution -> {
+            try {
+                log.info("Resuming interrupted batch job {} for {}", execution.getJobName(), execution.getBusinessDate());
+                run(execution.getJobName(), execution.getBusinessDate());
+            } catch (RuntimeException e) {
+                log.error("Could not resume batch job {} for {}",
+                        execution.getJobName(), execution.getBusinessDate(), e);
+            }
+        }));
+    }
+
+    private BatchJobExecution execute(BatchJob job, LocalDate businessDate) {
+        var execution = start(job, businessDate);
+        if (execution.getStatus() == BatchStatus.COMPLETED)
+            return execution;
+
+        List<Long> chunkIds = Objects.requireNonNullElse(
+                transactionTemplate.execute(status -> chunkRepository.findUnfinishedIds(execution.getId())),
+                List.of());
+        List<Future<Boolean>> chunks = new ArrayList<>(chunkIds.size());
+        for (Long chunkId : chunkIds) {
+            chunks.add(chunkExecutor.submit(() -> runChunk(job, businessDate, chunkId)));
+        }
+        boolean succeeded = await(chunks);
+
+        return transactionTemplate.execute(status -> {
+            var finished = executionRepository.findById(execution.getId()).orElseThrow();
+            finished.finish(succeeded);
+            return executionRepository.save(finished);
+        });
+    }
+
+    private BatchJobExecution start(BatchJob job, LocalDate businessDate) {
+        return transactionTemplate.execute(status -> {
+            var existing = executionRepository.findByJobNameAndBusinessDate(job.getName(), businessDate);
+            if (existing.isPresent()) {
+                var execution = existing.get();
+                if (execution.getStatus() != BatchStatus.COMPLETED)
+                    execution.restart();
+                return executionRepository.save(execution);
+            }
+
+            List<int[]> ranges = partition();
+            var execution = executionRepository.save(new BatchJobExecution(job.getName(), businessDate, ranges.size()));
+            chunkRepository.saveAll(ranges.stream()
+                    .map(range -> new BatchJobChunk(execution.getId(), range[0], range[1]))
+                    .collect(Collectors.toList()));
+            return execution;
+        });
+    }
+
+    private List<int[]> partition() {
+        var minId = accountRepository.findMinId();
+        var maxId = accountRepository.findMaxId();
+        if (minId.isEmpty() || maxId.isEmpty())
+            return List.of();
+
+        long chunkSize = batchJobProperties.getChunkSize();
+        List<int[]> ranges = new ArrayList<>();
+        for (long first = minId.get(); first <= maxId.get(); first += chunkSize) {
+            ranges.add(new int[]{(int) first, (int) Math.min(first + chunkSize - 1, maxId.get())});
+        }
+        return ranges;
+    }
+
+    private boolean runChunk(BatchJob job, LocalDate businessDate, Long chunkId) {
+        long start = System.nanoTime();
+        try {
+            var chunk = transactionTemplate.execute(status -> {
+                var pending = chunkRepository.findForUpdate(chunkId).orElseThrow();
+                if (pending.isCompleted())
+                    return null;
+
+                var accounts = accountRepository.findByIdBetweenOrderById(
+                        pending.getFirstAccountId(), pending.getLastAccountId());
+                int processed = job.process(accounts, businessDate);
+                pending.complete(processed, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                return chunkRepository.save(pending);
+            });
+            if (chunk != null)
+                report(job, chunk, System.nanoTime() - start);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Batch job {} chunk {} failed, it will be retried on the next run", job.getName(), chunkId, e);
+            markFailed(chunkId, e);
+            return false;
+        }
+    }
+
+    private void markFailed(Long chunkId, RuntimeException cause) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> chunkRepository.findForUpdate(chunkId)
+                    .ifPresent(chunk -> {
+                        chunk.fail(cause.getMessage());
+                        chunkRepository.save(chunk);
+                    }));
+        } catch (RuntimeException e) {
+            log.error("Could not record the failure of batch chunk {}", chunkId, e);
+        }
+    }
+
+    private void report(BatchJob job, BatchJobChunk chunk, long elapsedNanos) {
+        meterRegistry.timer("bank.batch.chunk", JOB_TAG, job.getName()).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        meterRegistry.counter("bank.batch.processed", JOB_TAG, job.getName()).increment(chunk.getProcessed());
+        log.info("Batch job {} chunk [{}..{}] processed {} accounts in {} ms ({} per second)",
+                job.getName(), chunk.getFirstAccountId(), chunk.getLastAccountId(), chunk.getProcessed(),
+                chunk.getDurationMillis(), Math.round(chunk.getThroughput()));
+    }
+
+    private boolean await(List<Future<Boolean>> chunks) {
+        boolean succeeded = true;
+        for (Future<Boolean> chunk : chunks) {
+            try {
+                succeeded &= chunk.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } catch (ExecutionException e) {
+                log.warn("Batch chunk failed unexpectedly", e.getCause());
+                succeeded = false;
+            }
+        }
+        return succeeded;
+    }
+
+    private BatchJob getJob(String jobName) {
+        var job = jobs.get(jobName);
+        if (job == null)
+            throw new BusinessException(getMessage(NON_EXISTING_JOB_MESSAGE_KEY), IllegalArgumentException.class);
+
+        return job;
+    }
+
+    private BatchJobExecution findExecution(String jobName, LocalDate businessDate) {
+        return executionRepository.findByJobNameAndBusinessDate(jobName, businessDate)
+                .orElseThrow(() -> new BusinessException(
+                        getMessage(NON_EXISTING_EXECUTION_MESSAGE_KEY), IllegalArgumentException.class));
+    }
+
+    private String getMessage(String key) {
+        return messageSource.getMessage(key, null, Locale.getDefault());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+        chunkExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,148 @@
+package br.com.banco.service.impl;
+
+import br.com.banco.command.CommandLane;
+import br.com.banco.command.OperationCommand;
+import br.com.banco.configuration.CommandProperties;
+import br.com.banco.entity.Account;
+import br.com.banco.entity.Transference;
+import br.com.banco.entity.Type;
+import br.com.banco.exception.BusinessException;
+import br.com.banco.exception.ServiceOverloadedException;
+import br.com.banco.repository.ShardedTransferenceRepository;
+import br.com.banco.service.IOperationCommandService;
+import org.springframework.context.MessageSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Service
+public class OperationCommandService implements IOperationCommandService {
+    private static final String NON_EXISTING_OPERATION_ID_MESSAGE_KEY = "non-existing.operation.id.error.message";
+    private static final String COMMAND_QUEUE_FULL_MESSAGE_KEY = "command.queue.full.message.error";
+
+    private final Map<UUID, OperationCommand> commands = new ConcurrentHashMap<>();
+    private final AccountService accountService;
+    private final TransferenceService transferenceService;
+    private final ShardedTransferenceRepository shardedTransferenceRepository;
+    private final CommandProperties commandProperties;
+    private final MessageSource messageSource;
+    private final TransactionTemplate transactionTemplate;
+    private final List<CommandLane> lanes;
+    private final ExecutorService workers;
+
+    public OperationCommandService(AccountService accountService,
+                                   TransferenceService transferenceService,
+                                   ShardedTransferenceRepository shardedTransferenceRepository,
+                                   CommandProperties commandProperties,
+                                   MessageSource messageSource,
+                                   PlatformTransactionManager transactionManager) {
+        this.accountService = accountService;
+        this.transferenceService = transferenceService;
+        this.shardedTransferenceRepository = shardedTransferenceRepository;
+        this.commandProperties = commandProperties;
+        this.messageSource = messageSource;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.lanes = IntStream.range(0, commandProperties.getLanes())
+                .mapToObj(lane -> new CommandLane(
+                        commandProperties.getQueueCapacity(), commandProperties.getBatchSize(), this::process))
+                .collect(Collectors.toList());
+        this.workers = Executors.newFixedThreadPool(lanes.size());
+        lanes.forEach(workers::execute);
+    }
+
+    @Override
+    public OperationCommand submit(Account account, Type type, Double value) {
+        if (commands.size() >= commandProperties.getMaxTracked())
+            throw getQueueFullException();
+
+        var command = new OperationCommand(account.getId(), type, value);
+        commands.put(command.getId(), command);
+        if (!getLane(account.getId()).offer(command)) {
+            commands.remove(command.getId());
+            throw getQueueFullException();
+        }
+
+        return command;
+    }
+
+    @Override
+    public OperationCommand findById(UUID id) {
+        var command = commands.get(id);
+        if (command == null)
+            throw new BusinessException(
+                    messageSource.getMessage(NON_EXISTING_OPERATION_ID_MESSAGE_KEY, null, Locale.getDefault()),
+                    IllegalArgumentException.class);
+
+        return command;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${bank.commands.eviction-interval:PT1M}")
+    public int evictFinished() {
+        var cutoff = LocalDateTime.now().minus(commandProperties.getRetention());
+        int before = commands.size();
+        commands.values().removeIf(command -> command.isFinishedBefore(cutoff));
+        return before - commands.size();
+    }
+
+    void process(List<OperationCommand> batch) {
+        if (batch.size() > 1 && shardedTransferenceRepository.isEnabled()) {
+            batch.forEach(command -> process(List.of(command)));
+            return;
+        }
+
+        try {
+            var transferences = transactionTemplate.execute(status -> batch.stream()
+                    .map(this::execute)
+                    .collect(Collectors.toList()));
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).complete(transferences.get(i).getId());
+            }
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).fail(e.getMessage());
+                return;
+            }
+            batch.forEach(command -> process(List.of(command)));
+        }
+    }
+
+    private Transference execute(OperationCommand command) {
+        var account = accountService.findById(command.getAccountId());
+        if (command.getType() == Type.WITHDRAW)
+            return transferenceService.withdraw(account, command.getValue());
+
+        return transferenceService.deposit(account, command.getValue());
+    }
+
+    private CommandLane getLane(Integer accountId) {
+        return lanes.get(Math.floorMod(accountId, lanes.size()));
+    }
+
+    private ServiceOverloadedException getQueueFullException() {
+        return new ServiceOverloadedException(
+                messageSource.getMessage(COMMAND_QUEUE_FULL_MESSAGE_KEY, null, Locale.getDefault()));
+    }
+
+    public int getQueuedCount() {
+        return lanes.stream().mapToInt(CommandLane::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+}
@@ -0,0 +1,114 @@
+package br.com.banco.service.impl;
+
+import br.com.banco.configuration.StreamProperties;
+import br.com.banco.dto.BankStatementResponse;
+import br.com.banco.event.OperationEvent;
+import br.com.banco.service.IOperationStreamService;
+import br.com.banco.stream.AccountChannel;
+import br.com.banco.stream.OperationSubscriber;
+import br.com.banco.stream.StreamedOperation;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class OperationStreamService implements IOperationStreamService {
+    private final Map<Integer, AccountChannel> channels = new ConcurrentHashMap<>();
+    private final AtomicLong eventSequence = new AtomicLong();
+    private final StreamProperties streamProperties;
+    private final ExecutorService sender;
+
+    public OperationStreamService(StreamProperties streamProperties) {
+        this.streamProperties = streamProperties;
+        this.sender = Executors.newFixedThreadPool(streamProperties.getSenderThreads());
+    }
+
+    @Override
+    public SseEmitter subscribe(Integer accountId, Long lastEventId) {
+        return subscribe(accountId, lastEventId, new SseEmitter(streamProperties.getTimeout().toMillis()));
+    }
+
+    SseEmitter subscribe(Integer accountId, Long lastEventId, SseEmitter emitter) {
+        var subscriber = new OperationSubscriber(emitter, streamProperties.getSubscriberBufferSize(), sender);
+
+        emitter.onCompletion(() -> unsubscribe(accountId, subscriber));
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        channels.compute(accountId, (id, channel) -> {
+            long now = System.nanoTime();
+            var target = channel != null ? channel : new AccountChannel(streamProperties.getHistorySize(), now);
+            target.subscribe(subscriber, lastEventId, now);
+            return target;
+        });
+
+        return emitter;
+    }
+
+    @Override
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOperationCommitted(OperationEvent operationEvent) {
+        var transference = operationEvent.getTransference();
+        var accountId = transference.getAccount().getId();
+        if (!channels.containsKey(accountId) && channels.size() >= streamProperties.getMaxHistoryAccounts())
+            return;
+
+        var operation = new StreamedOperation(
+                eventSequence.incrementAndGet(),
+                new BankStatementResponse(transference));
+
+        channels.compute(accountId, (id, channel) -> {
+            long now = System.nanoTime();
+            var target = channel != null ? channel : new AccountChannel(streamProperties.getHistorySize(), now);
+            target.publish(operation, now);
+            return target;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${bank.stream.sweep-interval:PT1M}")
+    public int evictIdle() {
+        long now = System.nanoTime();
+        long idleTimeoutNanos = streamProperties.getHistoryIdleTimeout().toNanos();
+        var evicted = new AtomicInteger();
+        for (Integer accountId : new ArrayList<>(channels.keySet())) {
+            channels.computeIfPresent(accountId, (id, channel) -> {
+                if (!channel.isIdle(now, idleTimeoutNanos))
+                    return channel;
+
+                evicted.incrementAndGet();
+                return null;
+            });
+        }
+        return evicted.get();
+    }
+
+    public int getSubscriberCount(Integer accountId) {
+        var channel = channels.get(accountId);
+        return channel == null ? 0 : channel.getSubscribers().size();
+    }
+
+    public int getChannelCount() {
+        return channels.size();
+    }
+
+    private void unsubscribe(Integer accountId, OperationSubscriber subscriber) {
+        var channel = channels.get(accountId);
+        if (channel != null)
+            channel.unsubscribe(subscriber, System.nanoTime());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channels.values().forEach(channel -> channel.getSubscribers().forEach(OperationSubscriber::close));
+        sender.shutdownNow();
+    }
+}
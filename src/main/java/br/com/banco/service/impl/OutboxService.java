@@ -0,0 +1,176 @@
+package br.com.banco.service.impl;
+
+import br.com.banco.configuration.OutboxProperties;
+import br.com.banco.entity.OutboxEvent;
+import br.com.banco.event.OperationEvent;
+import br.com.banco.outbox.OperationEventSink;
+import br.com.banco.repository.OutboxEventRepository;
+import br.com.banco.repository.ShardedOutboxEventRepository;
+import br.com.banco.service.IOutboxService;
+import br.com.banco.sharding.Shard;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class OutboxService implements IOutboxService {
+    private final OutboxEventRepository outboxEventRepository;
+    private final ShardedOutboxEventRepository shardedOutboxEventRepository;
+    private final OperationEventSink operationEventSink;
+    private final OutboxProperties outboxProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService relayExecutor;
+    private final Counter publishedCounter;
+    private final Timer lagTimer;
+    private final AtomicLong pending = new AtomicLong();
+
+    public OutboxService(OutboxEventRepository outboxEventRepository,
+                         ShardedOutboxEventRepository shardedOutboxEventRepository,
+                         OperationEventSink operationEventSink,
+                         OutboxProperties outboxProperties,
+                         PlatformTransactionManager transactionManager,
+                         MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.shardedOutboxEventRepository = shardedOutboxEventRepository;
+        this.operationEventSink = operationEventSink;
+        this.outboxProperties = outboxProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.relayExecutor = Executors.newFixedThreadPool(outboxProperties.getParallelism());
+        this.publishedCounter = meterRegistry.counter("bank.outbox.published");
+        this.lagTimer = meterRegistry.timer("bank.outbox.lag");
+        meterRegistry.gauge("bank.outbox.pending", pending);
+    }
+
+    @Override
+    @EventListener
+    public void record(OperationEvent operationEvent) {
+        if (!outboxProperties.isEnabled() || shardedOutboxEventRepository.isEnabled())
+            return;
+
+        outboxEventRepository.save(new OutboxEvent(operationEvent.getTransference()));
+    }
+
+    @Scheduled(fixedDelayString = "${bank.outbox.fixed-delay:PT1S}")
+    public void relayPending() {
+        if (!outboxProperties.isEnabled())
+            return;
+
+        relay();
+    }
+
+    @Override
+    public int relay() {
+        int parallelism = outboxProperties.getParallelism();
+        List<Callable<Integer>> sources = getBatchSources();
+        int total = 0;
+        boolean backlog;
+
+        do {
+            List<Future<Integer>> batches = new ArrayList<>(parallelism * sources.size());
+            for (Callable<Integer> source : sources) {
+                for (int i = 0; i < parallelism; i++) {
+                    batches.add(relayExecutor.submit(source));
+                }
+            }
+            List<Integer> relayed = await(batches);
+            total += relayed.stream().mapToInt(Integer::intValue).sum();
+            backlog = relayed.contains(outboxProperties.getBatchSize());
+        } while (backlog);
+
+        pending.set(shardedOutboxEventRepository.isEnabled()
+                ? shardedOutboxEventRepository.count()
+                : Objects.requireNonNullElse(transactionTemplate.execute(status -> outboxEventRepository.count()), 0L));
+        return total;
+    }
+
+    private List<Callable<Integer>> getBatchSources() {
+        if (!shardedOutboxEventRepository.isEnabled())
+            return List.of(this::relayBatch);
+
+        return shardedOutboxEventRepository.getShards().stream()
+                .map(shard -> (Callable<Integer>) () -> relayBatch(shard))
+                .collect(Collectors.toList());
+    }
+
+    private int relayBatch() {
+        var token = UUID.randomUUID().toString();
+        var now = LocalDateTime.now();
+        List<OutboxEvent> events = transactionTemplate.execute(status -> {
+            int claimed = outboxEventRepository.claim(
+                    token, now, now.minus(outboxProperties.getClaimTimeout()), outboxProperties.getBatchSize());
+            return claimed == 0 ? List.of() : outboxEventRepository.findByClaimTokenOrderById(token);
+        });
+        if (events == null || events.isEmpty())
+            return 0;
+
+        operationEventSink.publish(events);
+
+        List<Long> ids = events.stream().map(OutboxEvent::getId).collect(Collectors.toList());
+        transactionTemplate.executeWithoutResult(status -> outboxEventRepository.deleteAllByIdInBatch(ids));
+
+        return recordPublished(events);
+    }
+
+    private int relayBatch(Shard shard) {
+        var now = LocalDateTime.now();
+        List<OutboxEvent> events = shardedOutboxEventRepository.claim(shard, UUID.randomUUID().toString(),
+                now, now.minus(outboxProperties.getClaimTimeout()), outboxProperties.getBatchSize());
+        if (events == null || events.isEmpty())
+            return 0;
+
+        operationEventSink.publish(events);
+        shardedOutboxEventRepository.deleteAll(shard, events.stream().map(OutboxEvent::getId).collect(Collectors.toList()));
+
+        return recordPublished(events);
+    }
+
+    private int recordPublished(List<OutboxEvent> events) {
+        var publishedAt = LocalDateTime.now();
+        events.forEach(event -> lagTimer.record(Duration.between(event.getCreatedAt(), publishedAt)));
+        publishedCounter.increment(events.size());
+        return events.size();
+    }
+
+    private List<Integer> await(List<Future<Integer>> batches) {
+        List<Integer> relayed = new ArrayList<>(batches.size());
+        for (Future<Integer> batch : batches) {
+            try {
+                relayed.add(batch.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return relayed;
+            } catch (ExecutionException e) {
+                log.warn("Outbox batch failed, its events will be claimed again after {}",
+                        outboxProperties.getClaimTimeout(), e.getCause());
+            }
+        }
+        return relayed;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        relayExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,298 @@
+package br.com.banco.service.impl;
+
+import br.com.banco.configuration.RecurringTransferenceProperties;
+import br.com.banco.entity.Account;
+import br.com.banco.entity.Frequency;
+import br.com.banco.entity.RecurringTransference;
+import br.com.banco.entity.RecurringTransferenceExecution;
+import br.com.banco.exception.BusinessException;
+import br.com.banco.repository.RecurringTransferenceExecutionRepository;
+import br.com.banco.repository.RecurringTransferenceRepository;
+import br.com.banco.repository.ShardedTransferenceRepository;
+import br.com.banco.scheduling.TimingWheel;
+import br.com.banco.service.IRecurringTransferenceService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.MessageSource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@Slf4j
+@Service
+public class RecurringTransferenceService implements IRecurringTransferenceService {
+    private static final String NON_EXISTING_RECURRING_ID_MESSAGE_KEY =
+            "non-existing.recurring.transference.id.error.message";
+
+    private final RecurringTransferenceRepository recurringTransferenceRepository;
+    private final RecurringTransferenceExecutionRepository executionRepository;
+    private final ShardedTransferenceRepository shardedTransferenceRepository;
+    private final AccountService accountService;
+    private final TransferenceService transferenceService;
+    private final RecurringTransferenceProperties recurringTransferenceProperties;
+    private final MessageSource messageSource;
+    private final TransactionTemplate transactionTemplate;
+    private final TimingWheel<Long> timingWheel;
+    private final Set<Long> scheduled = ConcurrentHashMap.newKeySet();
+    private final ExecutorService firingExecutor;
+    private final Counter executedCounter;
+    private final Counter failedCounter;
+    private final Timer lagTimer;
+
+    public RecurringTransferenceService(RecurringTransferenceRepository recurringTransferenceRepository,
+                                        RecurringTransferenceExecutionRepository executionRepository,
+                                        ShardedTransferenceRepository shardedTransferenceRepository,
+                                        AccountService accountService,
+                                        TransferenceService transferenceService,
+                                        RecurringTransferenceProperties recurringTransferenceProperties,
+                                        MessageSource messageSource,
+                                        PlatformTransactionManager transactionManager,
+                                        MeterRegistry meterRegistry) {
+        this.recurringTransferenceRepository = recurringTransferenceRepository;
+        this.executionRepository = executionRepository;
+        this.shardedTransferenceRepository = shardedTransferenceRepository;
+        this.accountService = accountService;
+        this.transferenceService = transferenceService;
+        this.recurringTransferenceProperties = recurringTransferenceProperties;
+        this.messageSource = messageSource;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.timingWheel = new TimingWheel<>(recurringTransferenceProperties.getTick().toMillis(),
+                recurringTransferenceProperties.getWheelSize(), System.currentTimeMillis());
+        this.firingExecutor = Executors.newFixedThreadPool(recurringTransferenceProperties.getParallelism());
+        this.executedCounter = meterRegistry.counter("bank.recurring.executed");
+        this.failedCounter = meterRegistry.counter("bank.recurring.failed");
+        this.lagTimer = meterRegistry.timer("bank.recurring.lag");
+        meterRegistry.gauge("bank.recurring.scheduled", timingWheel, TimingWheel::size);
+    }
+
+    @Override
+    @Transactional
+    public RecurringTransference create(Account account, Account destinationAccount, Double value,
+                                        Frequency frequency, LocalDateTime startDate, LocalDateTime endDate) {
+        var recurringTransference = recurringTransferenceRepository.save(
+                new RecurringTransference(account, destinationAccount, value, frequency, startDate, endDate));
+        if (Boolean.TRUE.equals(recurringTransference.getActive()))
+            afterCommit(() -> scheduleIfWithinHorizon(recurringTransference));
+
+        return recurringTransference;
+    }
+
+    @Override
+    public RecurringTransference findById(Long id) {
+        return recurringTransferenceRepository.findById(id)
+                .orElseThrow(() -> new BusinessException(
+                        messageSource.getMessage(NON_EXISTING_RECURRING_ID_MESSAGE_KEY, null, Locale.getDefault()),
+                        IllegalArgumentException.class));
+    }
+
+    @Override
+    public List<RecurringTransferenceExecution> findExecutions(Long id) {
+        var recurringTransference = findById(id);
+        return executionRepository.findByRecurringTransferenceIdOrderByOccurrence(recurringTransference.getId());
+    }
+
+    @Override
+    @Transactional
+    public RecurringTransference cancel(Long id) {
+        var recurringTransference = findById(id);
+        recurringTransference.cancel();
+        return recurringTransferenceRepository.save(recurringTransference);
+    }
+
+    @Scheduled(fixedDelayString = "${bank.recurring.load-interval:PT1M}")
+    public void loadUpcoming() {
+        if (!recurringTransferenceProperties.isEnabled())
+            return;
+
+        load();
+    }
+
+    @Override
+    public int load() {
+        var horizon = LocalDateTime.now().plus(recurringTransferenceProperties.getHorizon());
+        int batchSize = recurringTransferenceProperties.getBatchSize();
+        int loaded = 0;
+        long lastId = 0;
+        List<RecurringTransference> page;
+
+        do {
+            long afterId = lastId;
+            page = Objects.requireNonNullElse(transactionTemplate.execute(status -> recurringTransferenceRepository
+                    .findDue(horizon, afterId, PageRequest.of(0, batchSize))), List.of());
+            for (RecurringTransference recurringTransference : page) {
+                if (schedule(recurringTransference))
+                    loaded++;
+                lastId = recurringTransference.getId();
+            }
+        } while (page.size() == batchSize);
+
+        return loaded;
+    }
+
+    @Scheduled(fixedDelayString = "${bank.recurring.tick:PT1S}")
+    public void fireDue() {
+        if (!recurringTransferenceProperties.isEnabled())
+            return;
+
+        fire();
+    }
+
+    @Override
+    public int fire() {
+        var due = timingWheel.advance(System.currentTimeMillis());
+        if (due.isEmpty())
+            return 0;
+
+        int batchSize = shardedTransferenceRepository.isEnabled() ? 1 : recurringTransferenceProperties.getBatchSize();
+        List<Future<Integer>> batches = new ArrayList<>();
+        for (int from = 0; from < due.size(); from += batchSize) {
+            var batch = due.subList(from, Math.min(from + batchSize, due.size()));
+            batches.add(firingExecutor.submit(() -> process(batch)));
+        }
+
+        return await(batches);
+    }
+
+    int process(List<Long> ids) {
+        List<RecurringTransference> fired;
+        List<RecurringTransference> notYetDue = new ArrayList<>();
+        try {
+            fired = transactionTemplate.execute(status -> execute(ids, notYetDue));
+            executedCounter.increment(fired != null ? fired.size() : 0);
+        } catch (RuntimeException e) {
+            if (ids.size() > 1)
+                return ids.stream().mapToInt(id -> process(List.of(id))).sum();
+
+            fired = recordFailure(ids.get(0), e);
+        }
+
+        ids.forEach(scheduled::remove);
+        fired = Objects.requireNonNullElse(fired, List.of());
+        fired.forEach(this::scheduleIfWithinHorizon);
+        notYetDue.forEach(this::scheduleIfWithinHorizon);
+        return fired.size();
+    }
+
+    private List<RecurringTransference> execute(List<Long> ids, List<RecurringTransference> notYetDue) {
+        var now = LocalDateTime.now();
+        List<RecurringTransference> fired = new ArrayList<>(ids.size());
+        for (RecurringTransference recurringTransference : recurringTransferenceRepository.findAllForUpdate(ids)) {
+            if (!recurringTransference.isDue(now)) {
+                notYetDue.add(recurringTransference);
+                continue;
+            }
+
+            var account = accountService.findById(recurringTransference.getAccountId());
+            var destinationAccount = accountService.findById(recurringTransference.getDestinationAccountId());
+            var transference = transferenceService.transfer(account, destinationAccount, recurringTransference.getValue());
+
+            executionRepository.save(RecurringTransferenceExecution.executed(recurringTransference, transference));
+            lagTimer.record(Duration.between(recurringTransference.getNextExecution(), now));
+            recurringTransference.advance();
+            fired.add(recurringTransference);
+        }
+        return fired;
+    }
+
+    private List<RecurringTransference> recordFailure(Long id, RuntimeException cause) {
+        log.warn("Recurring transference {} failed, skipping its current occurrence", id, cause);
+        try {
+            var failed = transactionTemplate.execute(status -> {
+                var now = LocalDateTime.now();
+                List<RecurringTransference> skipped = new ArrayList<>(1);
+                for (RecurringTransference recurringTransference : recurringTransferenceRepository.findAllForUpdate(List.of(id))) {
+                    if (!recurringTransference.isDue(now))
+                        continue;
+
+                    executionRepository.save(RecurringTransferenceExecution.failed(recurringTransference, cause.getMessage()));
+                    recurringTransference.advance();
+                    skipped.add(recurringTransference);
+                }
+                return skipped;
+            });
+            failedCounter.increment(failed != null ? failed.size() : 0);
+            return failed;
+        } catch (RuntimeException e) {
+            log.error("Could not record the failure of recurring transference {}, it will be loaded again", id, e);
+            return List.of();
+        }
+    }
+
+    private boolean schedule(RecurringTransference recurringTransference) {
+        if (!scheduled.add(recurringTransference.getId()))
+            return false;
+
+        timingWheel.schedule(recurringTransference.getId(), toEpochMillis(recurringTransference.getNextExecution()));
+        return true;
+    }
+
+    private void scheduleIfWithinHorizon(RecurringTransference recurringTransference) {
+        var horizon = LocalDateTime.now().plus(recurringTransferenceProperties.getHorizon());
+        if (Boolean.TRUE.equals(recurringTransference.getActive()) && recurringTransference.getNextExecution().isBefore(horizon))
+            schedule(recurringTransference);
+    }
+
+    private int await(List<Future<Integer>> batches) {
+        int fired = 0;
+        for (Future<Integer> batch : batches) {
+            try {
+                fired += batch.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return fired;
+            } catch (ExecutionException e) {
+                log.warn("Recurring transference batch failed, its items will be loaded again", e.getCause());
+            }
+        }
+        return fired;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public int getScheduledCount() {
+        return timingWheel.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        firingExecutor.shutdownNow();
+    }
+}
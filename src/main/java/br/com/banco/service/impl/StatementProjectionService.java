@@ -0,0 +1,210 @@
+package br.com.banco.service.impl;
+
+import br.com.banco.configuration.StatementProjectionProperties;
+import br.com.banco.dto.BankStatementResponse;
+import br.com.banco.dto.StatementFilter;
+import br.com.banco.entity.Account;
+import br.com.banco.entity.PendingStatementEntry;
+import br.com.banco.entity.StatementEntry;
+import br.com.banco.event.OperationEvent;
+import br.com.banco.repository.PendingStatementEntryRepository;
+import br.com.banco.repository.ShardedTransferenceRepository;
+import br.com.banco.repository.StatementEntryRepository;
+import br.com.banco.service.IStatementProjectionService;
+import br.com.banco.specifications.StatementEntrySpecifications;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+@Service
+public class StatementProjectionService implements IStatementProjectionService {
+    private static final Comparator<PendingStatementEntry> PROJECTION_ORDER = Comparator
+            .comparing(PendingStatementEntry::getAccountId)
+            .thenComparing(PendingStatementEntry::getOperationDate)
+            .thenComparing(PendingStatementEntry::getTransferenceId);
+
+    private final PendingStatementEntryRepository pendingStatementEntryRepository;
+    private final StatementEntryRepository statementEntryRepository;
+    private final ShardedTransferenceRepository shardedTransferenceRepository;
+    private final TransferenceService transferenceService;
+    private final StatementStoreService statementStoreService;
+    private final StatementProjectionProperties statementProjectionProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final Lock projectionLock = new ReentrantLock();
+    private final Timer lagTimer;
+    private final AtomicLong pending = new AtomicLong();
+
+    public StatementProjectionService(PendingStatementEntryRepository pendingStatementEntryRepository,
+                                      StatementEntryRepository statementEntryRepository,
+                                      ShardedTransferenceRepository shardedTransferenceRepository,
+                                      TransferenceService transferenceService,
+                                      StatementStoreService statementStoreService,
+                                      StatementProjectionProperties statementProjectionProperties,
+                                      PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry) {
+        this.pendingStatementEntryRepository = pendingStatementEntryRepository;
+        this.statementEntryRepository = statementEntryRepository;
+        this.shardedTransferenceRepository = shardedTransferenceRepository;
+        this.transferenceService = transferenceService;
+        this.statementStoreService = statementStoreService;
+        this.statementProjectionProperties = statementProjectionProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.lagTimer = meterRegistry.timer("bank.statement.projection.lag");
+        meterRegistry.gauge("bank.statement.projection.pending", pending);
+    }
+
+    @Override
+    @EventListener
+    public void record(OperationEvent operationEvent) {
+        if (!isEnabled())
+            return;
+
+        pendingStatementEntryRepository.save(
+                new PendingStatementEntry(operationEvent.getTransference(), operationEvent.getCounterparty()));
+    }
+
+    @Scheduled(fixedDelayString = "${bank.statement-projection.fixed-delay:PT1S}")
+    public void projectPending() {
+        if (!isEnabled())
+            return;
+
+        project();
+    }
+
+    @Override
+    public int project() {
+        projectionLock.lock();
+        try {
+            int total = 0;
+            int projected;
+            do {
+                projected = projectBatch();
+                total += projected;
+            } while (projected == statementProjectionProperties.getBatchSize());
+
+            pending.set(Objects.requireNonNullElse(
+                    transactionTemplate.execute(status -> pendingStatementEntryRepository.count()), 0L));
+            return total;
+        } finally {
+            projectionLock.unlock();
+        }
+    }
+
+    private int projectBatch() {
+        var projectedAt = LocalDateTime.now();
+        List<PendingStatementEntry> pendingEntries = transactionTemplate.execute(status -> {
+            List<PendingStatementEntry> batch = pendingStatementEntryRepository.findAllByOrderById(
+                    PageRequest.of(0, statementProjectionProperties.getBatchSize()));
+            if (batch.isEmpty())
+                return batch;
+
+            Map<Integer, Optional<StatementEntry>> latestEntries = new HashMap<>();
+            List<StatementEntry> entries = new ArrayList<>();
+            batch.stream()
+                    .sorted(PROJECTION_ORDER)
+                    .forEach(pendingEntry -> project(latestEntries, entries, pendingEntry, projectedAt));
+            statementEntryRepository.saveAll(entries);
+            pendingStatementEntryRepository.deleteAllInBatch(batch);
+            return batch;
+        });
+        if (pendingEntries == null)
+            return 0;
+
+        pendingEntries.forEach(entry -> lagTimer.record(Duration.between(entry.getCreatedAt(), projectedAt)));
+        return pendingEntries.size();
+    }
+
+    private void project(Map<Integer, Optional<StatementEntry>> latestEntries, List<StatementEntry> entries,
+                         PendingStatementEntry pendingEntry, LocalDateTime projectedAt) {
+        var accountId = pendingEntry.getAccountId();
+        var latest = latestEntries.computeIfAbsent(accountId, id -> statementEntryRepository
+                .findLatest(id, PageRequest.of(0, 1)).stream().findFirst());
+
+        if (latest.isEmpty() || isAfter(pendingEntry, latest.get())) {
+            double previous = latest.map(StatementEntry::getRunningBalance).orElse(0d);
+            var entry = new StatementEntry(pendingEntry, previous + pendingEntry.getValue(), projectedAt);
+            entries.add(entry);
+            latestEntries.put(accountId, Optional.of(entry));
+            return;
+        }
+
+        double previous = statementEntryRepository.findRunningBalancesBefore(accountId,
+                        pendingEntry.getOperationDate(), pendingEntry.getTransferenceId(), PageRequest.of(0, 1))
+                .stream().findFirst().orElse(0d);
+        statementEntryRepository.shiftRunningBalancesAfter(accountId,
+                pendingEntry.getOperationDate(), pendingEntry.getTransferenceId(), pendingEntry.getValue());
+        latest.get().setRunningBalance(latest.get().getRunningBalance() + pendingEntry.getValue());
+        statementEntryRepository.save(new StatementEntry(pendingEntry, previous + pendingEntry.getValue(), projectedAt));
+    }
+
+    private static boolean isAfter(PendingStatementEntry pendingEntry, StatementEntry entry) {
+        int byDate = pendingEntry.getOperationDate().compareTo(entry.getOperationDate());
+        return byDate > 0 || byDate == 0 && pendingEntry.getTransferenceId() > entry.getTransferenceId();
+    }
+
+    @Override
+    public List<BankStatementResponse> getBankStatement(Account account, StatementFilter filter) {
+        if (!isEnabled())
+            return transferenceService.getBankStatements(account, filter).stream()
+                    .map(BankStatementResponse::new)
+                    .collect(Collectors.toList());
+
+        return readOnlyTransactionTemplate.execute(status ->
+                statementEntryRepository.findStatement(getSpecification(account, filter)));
+    }
+
+    @Override
+    public long getRevision(Integer accountId) {
+        if (isEnabled())
+            return Objects.requireNonNullElse(readOnlyTransactionTemplate.execute(status ->
+                    statementEntryRepository.findRevision(accountId)), 0L);
+
+        return statementStoreService.getRevision(accountId);
+    }
+
+    private Specification<StatementEntry> getSpecification(Account account, StatementFilter filter) {
+        Specification<StatementEntry> spec = Specification.where(
+                StatementEntrySpecifications.withAccountId(account.getId()));
+
+        if (filter != null) {
+            if (filter.getInitDate() != null && filter.getEndDate() != null) {
+                spec = spec.and(StatementEntrySpecifications.withInitDateAndEndDate(
+                        filter.getInitDate(), filter.getEndDate()));
+            }
+
+            if (filter.getTransactionOperator() != null) {
+                spec = spec.and(StatementEntrySpecifications.withCounterpartyName(filter.getTransactionOperator()));
+            }
+        }
+
+        return spec;
+    }
+
+    private boolean isEnabled() {
+        return statementProjectionProperties.isEnabled() && !shardedTransferenceRepository.isEnabled()
+                && !statementStoreService.isEnabled();
+    }
+}
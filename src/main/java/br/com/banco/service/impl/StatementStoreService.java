@@ -0,0 +1,120 @@
+package br.com.banco.service.impl;
+
+import br.com.banco.columnar.ColumnarStatementStore;
+import br.com.banco.configuration.StatementStoreProperties;
+import br.com.banco.dto.StatementFilter;
+import br.com.banco.entity.Account;
+import br.com.banco.entity.Transference;
+import br.com.banco.event.OperationEvent;
+import br.com.banco.repository.ShardedTransferenceRepository;
+import br.com.banco.repository.StatementRowRepository;
+import br.com.banco.service.IStatementStoreService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+public class StatementStoreService implements IStatementStoreService {
+    private static final Duration DUPLICATE_WINDOW = Duration.ofSeconds(1);
+
+    private final ColumnarStatementStore store;
+    private final StatementStoreProperties statementStoreProperties;
+    private final StatementRowRepository statementRowRepository;
+    private final ShardedTransferenceRepository shardedTransferenceRepository;
+    private final List<Transference> committedWhileLoading = new ArrayList<>();
+    private boolean loading;
+    private volatile boolean ready;
+
+    public StatementStoreService(StatementStoreProperties statementStoreProperties,
+                                 StatementRowRepository statementRowRepository,
+                                 ShardedTransferenceRepository shardedTransferenceRepository,
+                                 MeterRegistry meterRegistry) {
+        this.store = new ColumnarStatementStore(statementStoreProperties.getInitialRowsPerAccount());
+        this.statementStoreProperties = statementStoreProperties;
+        this.statementRowRepository = statementRowRepository;
+        this.shardedTransferenceRepository = shardedTransferenceRepository;
+        meterRegistry.gauge("bank.statement.store.rows", store, ColumnarStatementStore::rows);
+        meterRegistry.gauge("bank.statement.store.accounts", store, ColumnarStatementStore::accounts);
+        meterRegistry.gauge("bank.statement.store.off-heap-bytes", store, ColumnarStatementStore::offHeapBytes);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return statementStoreProperties.isEnabled() && !shardedTransferenceRepository.isEnabled();
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public long getRevision(Integer accountId) {
+        return ready ? store.rows(accountId) : 0;
+    }
+
+    @Override
+    public List<Transference> getBankStatements(Account account, StatementFilter filter) {
+        return store.find(account, filter);
+    }
+
+    @Override
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOperationCommitted(OperationEvent operationEvent) {
+        if (!isEnabled())
+            return;
+
+        var transference = operationEvent.getTransference();
+        if (!ready) {
+            synchronized (committedWhileLoading) {
+                if (loading)
+                    committedWhileLoading.add(transference);
+                if (!ready)
+                    return;
+            }
+        }
+
+        append(transference);
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public int load() {
+        if (!isEnabled() || ready)
+            return 0;
+
+        synchronized (committedWhileLoading) {
+            loading = true;
+        }
+        int loaded = statementRowRepository.scan(row -> store.append(row.getAccountId(), row.getId(),
+                row.getTransferenceDate(), row.getValue(), row.getType(), row.getTransactionOperatorName()));
+
+        synchronized (committedWhileLoading) {
+            committedWhileLoading.stream()
+                    .filter(transference -> !store.contains(transference.getAccount().getId(), transference.getId(),
+                            transference.getTransferenceDate().minus(DUPLICATE_WINDOW),
+                            transference.getTransferenceDate().plus(DUPLICATE_WINDOW)))
+                    .forEach(this::append);
+            committedWhileLoading.clear();
+            loading = false;
+            ready = true;
+        }
+
+        log.info("Loaded {} statement rows for {} accounts into the columnar store ({} bytes off-heap)",
+                loaded, store.accounts(), store.offHeapBytes());
+        return loaded;
+    }
+
+    private void append(Transference transference) {
+        store.append(transference.getAccount().getId(), transference.getId(), transference.getTransferenceDate(),
+                transference.getValue(), transference.getType(), transference.getTransactionOperatorName());
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.banco.service.impl;
+
+import br.com.banco.configuration.ReversalProperties;
+import br.com.banco.dto.ReversalOutcome;
+import br.com.banco.dto.TransferReversalResponse;
+import br.com.banco.entity.Account;
+import br.com.banco.entity.Transference;
+import br.com.banco.service.ITransferReversalService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class TransferReversalService implements ITransferReversalService {
+    private static final double SETTLED_TOLERANCE = 1e-9;
+
+    private final TransferenceService transferenceService;
+    private final ReversalProperties reversalProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public TransferReversalService(TransferenceService transferenceService,
+                                   ReversalProperties reversalProperties,
+                                   PlatformTransactionManager transactionManager) {
+        this.transferenceService = transferenceService;
+        this.reversalProperties = reversalProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public TransferReversalResponse reverse(List<String> correlationIds) {
+        List<String> distinctIds = new ArrayList<>(new LinkedHashSet<>(correlationIds));
+        int chunkSize = reversalProperties.getChunkSize();
+        Map<String, ReversalOutcome> outcomes = new LinkedHashMap<>();
+
+        for (int from = 0; from < distinctIds.size(); from += chunkSize) {
+            outcomes.putAll(reverseChunk(distinctIds.subList(from, Math.min(from + chunkSize, distinctIds.size()))));
+        }
+
+        return new TransferReversalResponse(outcomes);
+    }
+
+    private Map<String, ReversalOutcome> reverseChunk(List<String> chunk) {
+        try {
+            return transactionTemplate.execute(status -> reverseInTransaction(chunk));
+        } catch (RuntimeException e) {
+            if (chunk.size() == 1)
+                return Map.of(chunk.get(0), e instanceof DataIntegrityViolationException
+                        ? retryAfterConcurrentReversal(chunk.get(0))
+                        : fail(chunk.get(0), e));
+
+            Map<String, ReversalOutcome> outcomes = new LinkedHashMap<>();
+            chunk.forEach(correlationId -> outcomes.putAll(reverseChunk(List.of(correlationId))));
+            return outcomes;
+        }
+    }
+
+    private ReversalOutcome retryAfterConcurrentReversal(String correlationId) {
+        try {
+            var outcomes = transactionTemplate.execute(status -> reverseInTransaction(List.of(correlationId)));
+            return outcomes != null ? outcomes.get(correlationId) : ReversalOutcome.FAILED;
+        } catch (RuntimeException e) {
+            return fail(correlationId, e);
+        }
+    }
+
+    private ReversalOutcome fail(String correlationId, RuntimeException e) {
+        log.warn("Failed to reverse transfer {}", correlationId, e);
+        return ReversalOutcome.FAILED;
+    }
+
+    private Map<String, ReversalOutcome> reverseInTransaction(List<String> chunk) {
+        Map<String, List<Transference>> legsByCorrelationId = transferenceService.findLegs(chunk).stream()
+                .collect(Collectors.groupingBy(Transference::getCorrelationId));
+
+        Map<String, ReversalOutcome> outcomes = new LinkedHashMap<>();
+        for (String correlationId : chunk) {
+            List<Transference> legs = legsByCorrelationId.get(correlationId);
+            outcomes.put(correlationId, legs == null
+                    ? ReversalOutcome.NOT_FOUND
+                    : reverseLegs(correlationId, legs));
+        }
+        return outcomes;
+    }
+
+    private ReversalOutcome reverseLegs(String correlationId, List<Transference> legs) {
+        Map<Integer, Account> accounts = new LinkedHashMap<>();
+        Map<Integer, Double> netValues = new LinkedHashMap<>();
+        for (Transference leg : legs) {
+            accounts.putIfAbsent(leg.getAccount().getId(), leg.getAccount());
+            netValues.merge(leg.getAccount().getId(), leg.getValue(), Double::sum);
+        }
+
+        List<Map.Entry<Integer, Double>> open = netValues.entrySet().stream()
+                .filter(entry -> Math.abs(entry.getValue()) > SETTLED_TOLERANCE)
+                .collect(Collectors.toList());
+        if (open.isEmpty())
+            return ReversalOutcome.ALREADY_REVERSED;
+
+        for (Map.Entry<Integer, Double> entry : open) {
+            var account = accounts.get(entry.getKey());
+            var counterparty = accounts.values().stream()
+                    .filter(other -> !other.getId().equals(account.getId()))
+                    .findFirst()
+                    .orElse(account);
+            transferenceService.reverse(account, counterparty, -entry.getValue(), correlationId);
+        }
+        return ReversalOutcome.REVERSED;
+    }
+}
@@ -1,36 +1,123 @@
 package br.com.banco.service.impl;
 
+import br.com.banco.directory.AccountDirectory;
 import br.com.banco.dto.StatementFilter;
+import br.com.banco.dto.TypeSummary;
 import br.com.banco.entity.Account;
 import br.com.banco.entity.Transference;
 import br.com.banco.specifications.TransferenceSpecifications;
 import br.com.banco.entity.Type;
+import br.com.banco.event.OperationEvent;
+import br.com.banco.exception.BusinessException;
+import br.com.banco.exception.FeatureUnavailableException;
+import br.com.banco.repository.ShardedTransferenceRepository;
+import br.com.banco.repository.TransferenceBatchRepository;
 import br.com.banco.repository.TransferenceRepository;
 import br.com.banco.service.ITransferenceService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 public class TransferenceService implements ITransferenceService {
+    private static final int STATEMENT_BATCH_CHUNK_SIZE = 500;
+    private static final int INSERT_BATCH_SIZE = 500;
+    private static final Sort STATEMENT_ORDER = Sort.by("account.id", "transferenceDate", "id");
+    private static final String NON_EXISTING_CORRELATION_ID_MESSAGE_KEY = "non-existing.correlation.id.error.message";
+    private static final String SHARDING_UNSUPPORTED_MESSAGE_KEY = "transference.sharding.unsupported.error.message";
+
     private final TransferenceRepository transferenceRepository;
+    private final ShardedTransferenceRepository shardedTransferenceRepository;
+    private final TransferenceBatchRepository transferenceBatchRepository;
+    private final ArchiveService archiveService;
+    private final ApplicationEventPublisher eventPublisher;
     private final MessageSource messageSource;
+    private final AccountDirectory accountDirectory;
+    private final StatementStoreService statementStoreService;
 
-    public TransferenceService(TransferenceRepository transferenceRepository, MessageSource messageSource) {
+    public TransferenceService(TransferenceRepository transferenceRepository,
+                               ShardedTransferenceRepository shardedTransferenceRepository,
+                               TransferenceBatchRepository transferenceBatchRepository,
+                               ArchiveService archiveService,
+                               ApplicationEventPublisher eventPublisher,
+                               MessageSource messageSource,
+                               AccountDirectory accountDirectory,
+                               StatementStoreService statementStoreService) {
         this.transferenceRepository = transferenceRepository;
+        this.shardedTransferenceRepository = shardedTransferenceRepository;
+        this.transferenceBatchRepository = transferenceBatchRepository;
+        this.archiveService = archiveService;
+        this.eventPublisher = eventPublisher;
         this.messageSource = messageSource;
+        this.accountDirectory = accountDirectory;
+        this.statementStoreService = statementStoreService;
     }
 
     @Override
     public Transference save(Transference transference) {
+        if (shardedTransferenceRepository.isEnabled())
+            return shardedTransferenceRepository.save(transference);
+
         return transferenceRepository.save(transference);
     }
 
+    private Transference saveAndPublish(Transference transference, Account counterparty) {
+        if (shardedTransferenceRepository.isEnabled())
+            return shardedTransferenceRepository.save(transference, saved -> publish(saved, counterparty));
+
+        return publish(transferenceRepository.save(transference), counterparty);
+    }
+
+    @Override
+    @Transactional
+    public List<Transference> saveAll(List<Transference> transferences) {
+        if (shardedTransferenceRepository.isEnabled()) {
+            return transferences.stream()
+                    .map(transference -> saveAndPublish(transference, null))
+                    .collect(Collectors.toList());
+        }
+
+        var now = LocalDateTime.now();
+        transferences.forEach(transference -> {
+            Objects.requireNonNull(transference.getCorrelationId(), "Correlation id is mandatory.");
+            if (transference.getTransferenceDate() == null)
+                transference.setTransferenceDate(now);
+        });
+        List<String> correlationIds = transferences.stream()
+                .map(Transference::getCorrelationId)
+                .collect(Collectors.toList());
+        Set<Integer> existingIds = transferenceRepository.findLegIds(correlationIds);
+        transferenceBatchRepository.insertAll(transferences, INSERT_BATCH_SIZE);
+
+        List<Transference> saved = transferenceRepository.findLegs(correlationIds).stream()
+                .filter(transference -> !existingIds.contains(transference.getId()))
+                .collect(Collectors.toList());
+        saved.forEach(this::publish);
+        return saved;
+    }
+
     @Override
     public Transference findById(Integer id) {
+        if (shardedTransferenceRepository.isEnabled())
+            throw new FeatureUnavailableException(
+                    messageSource.getMessage(SHARDING_UNSUPPORTED_MESSAGE_KEY, null, Locale.getDefault()));
+
         return transferenceRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException(
                         messageSource.getMessage("non-existing.id.error.message",null, Locale.getDefault())
@@ -49,31 +136,187 @@ public class TransferenceService implements ITransferenceService {
     }
 
     @Override
+    @Transactional
     public Transference transfer(Account account, Account destinationAccount, Double value) {
-        Transference transference = getOwnerTransference(account, destinationAccount, value);
-        Transference destinationTransference = getDestinationTransference(account, destinationAccount, value);
+        String correlationId = UUID.randomUUID().toString();
+        Transference transference = getOwnerTransference(account, destinationAccount, value, correlationId);
+        Transference destinationTransference =
+                getDestinationTransference(account, destinationAccount, value, correlationId);
+
+        if (shardedTransferenceRepository.isEnabled())
+            return transferAcrossShards(transference, destinationTransference);
+
+        Transference savedTransference = saveAndPublish(transference, destinationAccount);
+        saveAndPublish(destinationTransference, account);
+
+        return savedTransference;
+    }
 
-        Transference savedTransference = this.save(transference);
-        this.save(destinationTransference);
+    private Transference transferAcrossShards(Transference transference, Transference destinationTransference) {
+        if (shardedTransferenceRepository.isSameShard(transference.getAccount(), destinationTransference.getAccount())) {
+            List<Transference> legs = shardedTransferenceRepository.saveAll(transference, destinationTransference,
+                    saved -> {
+                        publish(saved.get(0), destinationTransference.getAccount());
+                        publish(saved.get(1), transference.getAccount());
+                    });
+            return legs.get(0);
+        }
+
+        Transference savedTransference = saveAndPublish(transference, destinationTransference.getAccount());
+        try {
+            saveAndPublish(destinationTransference, transference.getAccount());
+        } catch (RuntimeException e) {
+            saveAndPublish(getCompensation(transference, destinationTransference), destinationTransference.getAccount());
+            throw e;
+        }
 
         return savedTransference;
     }
 
     @Override
+    @Transactional
     public Transference withdraw(Account account, Double value) {
         var withdraw = getWithdraw(account, value);
-        return this.save(withdraw);
+        return saveAndPublish(withdraw, null);
     }
 
     @Override
+    @Transactional
     public Transference deposit(Account account, Double value) {
         Transference deposit = getDeposit(account, value);
-        return this.save(deposit);
+        return saveAndPublish(deposit, null);
+    }
+
+    @Override
+    @Transactional
+    public Transference reverse(Account account, Account counterparty, Double value, String correlationId) {
+        var reversal = new Transference(value, Type.REVERSAL, account, getOwnerName(counterparty));
+        reversal.setCorrelationId(correlationId);
+        reversal.setReversalKey(correlationId + ":" + account.getId());
+        return saveAndPublish(reversal, counterparty);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Transference> findLegs(String correlationId) {
+        List<Transference> legs = findLegs(List.of(correlationId));
+        if (legs.isEmpty())
+            throw new BusinessException(
+                    messageSource.getMessage(NON_EXISTING_CORRELATION_ID_MESSAGE_KEY, null, Locale.getDefault()),
+                    IllegalArgumentException.class);
+
+        return legs;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<String> findExistingCorrelationIds(Collection<String> correlationIds) {
+        if (shardedTransferenceRepository.isEnabled())
+            return shardedTransferenceRepository.findLegs(correlationIds).stream()
+                    .map(Transference::getCorrelationId)
+                    .collect(Collectors.toSet());
+
+        return transferenceRepository.findExistingCorrelationIds(correlationIds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Transference> findLegs(Collection<String> correlationIds) {
+        if (shardedTransferenceRepository.isEnabled())
+            return shardedTransferenceRepository.findLegs(correlationIds);
+
+        return transferenceRepository.findLegs(correlationIds);
+    }
+
+    private Transference publish(Transference transference) {
+        return publish(transference, null);
+    }
+
+    private Transference publish(Transference transference, Account counterparty) {
+        eventPublisher.publishEvent(new OperationEvent(transference, counterparty));
+        return transference;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Transference> getBankStatements(Account account, StatementFilter filter) {
-        Specification<Transference> spec = Specification.where(TransferenceSpecifications.withAccountId(account.getId()));
+        if (statementStoreService.isReady())
+            return statementStoreService.getBankStatements(account, filter);
+
+        if (shardedTransferenceRepository.isEnabled())
+            return shardedTransferenceRepository.findStatements(account, filter);
+
+        List<Transference> transferences = transferenceRepository.findAll(
+                getSpecification(TransferenceSpecifications.withAccountId(account.getId()), filter));
+        List<Transference> archived = archiveService.getArchivedStatements(account, filter);
+        if (archived.isEmpty())
+            return transferences;
+
+        List<Transference> merged = new ArrayList<>(archived.size() + transferences.size());
+        merged.addAll(archived);
+        merged.addAll(transferences);
+        return merged;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Integer, List<Transference>> getBankStatements(List<Account> accounts, StatementFilter filter) {
+        Map<Integer, List<Transference>> statements = new LinkedHashMap<>();
+        accounts.forEach(account -> statements.put(account.getId(), new ArrayList<>()));
+
+        for (int from = 0; from < accounts.size(); from += STATEMENT_BATCH_CHUNK_SIZE) {
+            List<Account> chunk = accounts.subList(from, Math.min(from + STATEMENT_BATCH_CHUNK_SIZE, accounts.size()));
+            findBankStatements(chunk, filter)
+                    .forEach(transference -> statements.get(transference.getAccount().getId()).add(transference));
+        }
+
+        return statements;
+    }
+
+    private List<Transference> findBankStatements(List<Account> accounts, StatementFilter filter) {
+        if (statementStoreService.isReady())
+            return accounts.stream()
+                    .flatMap(account -> statementStoreService.getBankStatements(account, filter).stream())
+                    .collect(Collectors.toList());
+
+        if (shardedTransferenceRepository.isEnabled())
+            return shardedTransferenceRepository.findStatements(accounts, filter);
+
+        List<Integer> accountIds = accounts.stream().map(Account::getId).collect(Collectors.toList());
+        List<Transference> transferences = transferenceRepository.findAll(
+                getSpecification(TransferenceSpecifications.withAccountIds(accountIds), filter), STATEMENT_ORDER);
+        List<Transference> archived = archiveService.getArchivedStatements(accounts, filter);
+        if (archived.isEmpty())
+            return transferences;
+
+        List<Transference> merged = new ArrayList<>(archived.size() + transferences.size());
+        merged.addAll(archived);
+        merged.addAll(transferences);
+        return merged;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TypeSummary> getBankStatementSummary(Account account, StatementFilter filter) {
+        if (shardedTransferenceRepository.isEnabled())
+            return mergeByType(shardedTransferenceRepository.summarize(account, filter), List.of());
+
+        return mergeByType(
+                transferenceRepository.summarize(
+                        getSpecification(TransferenceSpecifications.withAccountId(account.getId()), filter)),
+                archiveService.getArchivedSummary(account, filter));
+    }
+
+    private List<TypeSummary> mergeByType(List<TypeSummary> summary, List<TypeSummary> archived) {
+        Map<Type, TypeSummary> merged = new EnumMap<>(Type.class);
+        summary.forEach(typeSummary -> merged.put(typeSummary.getType(), typeSummary));
+        archived.forEach(typeSummary -> merged.merge(typeSummary.getType(), typeSummary, TypeSummary::merge));
+        return new ArrayList<>(merged.values());
+    }
+
+    private Specification<Transference> getSpecification(Specification<Transference> accountSpec,
+                                                         StatementFilter filter) {
+        Specification<Transference> spec = Specification.where(accountSpec);
 
         if (filter != null) {
             if (filter.getInitDate() != null && filter.getEndDate() != null) {
@@ -85,7 +328,7 @@ public class TransferenceService implements ITransferenceService {
             }
         }
 
-        return transferenceRepository.findAll(spec);
+        return spec;
     }
 
     private Transference getDeposit(Account account, Double value) {
@@ -106,19 +349,39 @@ public class TransferenceService implements ITransferenceService {
         );
     }
 
-    private Transference getOwnerTransference(Account account, Account destinationAccount, Double value) {
-        return new Transference(
+    private Transference getOwnerTransference(Account account, Account destinationAccount, Double value,
+                                              String correlationId) {
+        var transference = new Transference(
                 -value,
                 Type.TRANSFERENCE,
                 account,
-                destinationAccount.getOwnerName());
+                getOwnerName(destinationAccount));
+        transference.setCorrelationId(correlationId);
+        return transference;
     }
 
-    private Transference getDestinationTransference(Account account, Account destinationAccount, Double value) {
-        return new Transference(
+    private Transference getCompensation(Transference transference, Transference destinationTransference) {
+        var compensation = new Transference(
+                -transference.getValue(),
+                Type.TRANSFERENCE,
+                transference.getAccount(),
+                getOwnerName(destinationTransference.getAccount()));
+        compensation.setCorrelationId(transference.getCorrelationId());
+        return compensation;
+    }
+
+    private Transference getDestinationTransference(Account account, Account destinationAccount, Double value,
+                                                    String correlationId) {
+        var transference = new Transference(
                 value,
                 Type.TRANSFERENCE,
                 destinationAccount,
-                account.getOwnerName());
+                getOwnerName(account));
+        transference.setCorrelationId(correlationId);
+        return transference;
+    }
+
+    private String getOwnerName(Account account) {
+        return accountDirectory.getOwnerName(account.getId(), account.getOwnerName());
     }
 }
@@ -0,0 +1,128 @@
+package br.com.banco.service.impl;
+
+import br.com.banco.configuration.VelocityProperties;
+import br.com.banco.entity.Account;
+import br.com.banco.entity.Transference;
+import br.com.banco.entity.Type;
+import br.com.banco.event.OperationEvent;
+import br.com.banco.exception.VelocityLimitExceededException;
+import br.com.banco.repository.ShardedTransferenceRepository;
+import br.com.banco.repository.TransferenceRepository;
+import br.com.banco.service.IVelocityService;
+import br.com.banco.velocity.VelocityRule;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.MessageSource;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class VelocityService implements IVelocityService {
+    private static final String VELOCITY_LIMIT_EXCEEDED_MESSAGE_KEY = "velocity.limit.exceeded.message.error";
+
+    private final List<VelocityRule> rules;
+    private final VelocityProperties velocityProperties;
+    private final TransferenceRepository transferenceRepository;
+    private final ShardedTransferenceRepository shardedTransferenceRepository;
+    private final MessageSource messageSource;
+    private final MeterRegistry meterRegistry;
+
+    public VelocityService(VelocityProperties velocityProperties,
+                           TransferenceRepository transferenceRepository,
+                           ShardedTransferenceRepository shardedTransferenceRepository,
+                           MessageSource messageSource,
+                           MeterRegistry meterRegistry) {
+        this.rules = velocityProperties.getRules().entrySet().stream()
+                .map(rule -> new VelocityRule(
+                        rule.getKey(),
+                        rule.getValue().getTypes(),
+                        rule.getValue().getWindow(),
+                        rule.getValue().getBuckets(),
+                        rule.getValue().getMaxCount(),
+                        rule.getValue().getMaxAmount()))
+                .collect(Collectors.toList());
+        this.velocityProperties = velocityProperties;
+        this.transferenceRepository = transferenceRepository;
+        this.shardedTransferenceRepository = shardedTransferenceRepository;
+        this.messageSource = messageSource;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void check(Account account, Type type, double amount) {
+        check(account.getId(), type, amount, System.currentTimeMillis());
+    }
+
+    void check(Integer accountId, Type type, double amount, long nowMillis) {
+        if (!velocityProperties.isEnabled())
+            return;
+
+        for (VelocityRule rule : rules) {
+            if (rule.appliesTo(type) && !rule.allows(accountId, amount, nowMillis)) {
+                meterRegistry.counter("bank.velocity.rejected", "rule", rule.getName()).increment();
+                throw new VelocityLimitExceededException(messageSource.getMessage(
+                        VELOCITY_LIMIT_EXCEEDED_MESSAGE_KEY, new Object[]{rule.getName()}, Locale.getDefault()),
+                        rule.getName());
+            }
+        }
+    }
+
+    @Override
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOperationCommitted(OperationEvent operationEvent) {
+        if (!velocityProperties.isEnabled())
+            return;
+
+        record(operationEvent.getTransference(), System.currentTimeMillis());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public int warmUp() {
+        if (!velocityProperties.isEnabled() || rules.isEmpty() || shardedTransferenceRepository.isEnabled())
+            return 0;
+
+        var window = rules.stream()
+                .map(VelocityRule::getWindow)
+                .max(Duration::compareTo)
+                .orElseThrow();
+        var outflows = transferenceRepository.findOutflowsSince(LocalDateTime.now().minus(window));
+        var zone = ZoneId.systemDefault();
+        outflows.forEach(transference -> record(
+                transference, transference.getTransferenceDate().atZone(zone).toInstant().toEpochMilli()));
+
+        log.info("Warmed velocity windows with {} outflows from the last {}", outflows.size(), window);
+        return outflows.size();
+    }
+
+    @Scheduled(fixedDelayString = "${bank.velocity.sweep-interval:PT1M}")
+    public int evictIdle() {
+        long now = System.currentTimeMillis();
+        return rules.stream()
+                .mapToInt(rule -> rule.evictIdle(now))
+                .sum();
+    }
+
+    private void record(Transference transference, long timeMillis) {
+        if (transference.getValue() >= 0)
+            return;
+
+        for (VelocityRule rule : rules) {
+            if (rule.appliesTo(transference.getType()))
+                rule.record(transference.getAccount().getId(), -transference.getValue(), timeMillis);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.banco.sharding;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+public class ConsistentHashRing<T> {
+    private final NavigableMap<Integer, T> ring = new TreeMap<>();
+
+    public ConsistentHashRing(Collection<T> nodes, Function<T, String> nodeName, int virtualNodes) {
+        if (nodes.isEmpty())
+            throw new IllegalArgumentException("At least one node is required.");
+
+        for (T node : nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(mix((nodeName.apply(node) + "#" + i).hashCode()), node);
+            }
+        }
+    }
+
+    public T locate(int key) {
+        Map.Entry<Integer, T> entry = ring.ceilingEntry(mix(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
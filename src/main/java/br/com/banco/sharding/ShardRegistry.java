@@ -0,0 +1,80 @@
+package br.com.banco.sharding;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+public class ShardRegistry implements AutoCloseable {
+    private static final String ACCOUNT_SEQUENCE = "seq_conta";
+    private static final String TRANSFERENCE_SEQUENCE = "seq_transferencia";
+    private static final String OUTBOX_EVENT_SEQUENCE = "seq_evento_saida";
+
+    private final List<Shard> shards;
+    private final ConsistentHashRing<Shard> ring;
+    private final Shard coordinator;
+
+    public ShardRegistry(List<Shard> shards, int virtualNodes, String coordinatorName) {
+        this.shards = List.copyOf(shards);
+        this.ring = new ConsistentHashRing<>(shards, Shard::getName, virtualNodes);
+        this.coordinator = findCoordinator(coordinatorName);
+        advanceSequence(ACCOUNT_SEQUENCE, "SELECT COALESCE(MAX(id_conta), 0) FROM conta");
+        advanceSequence(TRANSFERENCE_SEQUENCE, "SELECT COALESCE(MAX(id), 0) FROM transferencia");
+        advanceSequence(OUTBOX_EVENT_SEQUENCE, "SELECT COALESCE(MAX(id), 0) FROM evento_saida");
+    }
+
+    public Shard forAccount(int accountId) {
+        return ring.locate(accountId);
+    }
+
+    public List<Shard> getShards() {
+        return Collections.unmodifiableList(shards);
+    }
+
+    public Shard getCoordinator() {
+        return coordinator;
+    }
+
+    public int nextAccountId() {
+        return Math.toIntExact(nextValue(ACCOUNT_SEQUENCE));
+    }
+
+    public int nextTransferenceId() {
+        return Math.toIntExact(nextValue(TRANSFERENCE_SEQUENCE));
+    }
+
+    public long nextOutboxEventId() {
+        return nextValue(OUTBOX_EVENT_SEQUENCE);
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Shard shard : shards) {
+            if (shard.getDataSource() instanceof AutoCloseable)
+                ((AutoCloseable) shard.getDataSource()).close();
+        }
+    }
+
+    private Shard findCoordinator(String coordinatorName) {
+        if (coordinatorName == null)
+            return shards.get(0);
+
+        return shards.stream()
+                .filter(shard -> shard.getName().equals(coordinatorName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown coordinator shard " + coordinatorName));
+    }
+
+    private long nextValue(String sequence) {
+        return Objects.requireNonNull(coordinator.getJdbcTemplate().queryForObject(
+                "SELECT NEXT VALUE FOR " + sequence, Long.class));
+    }
+
+    private void advanceSequence(String sequence, String maxQuery) {
+        long max = shards.stream()
+                .map(shard -> shard.getJdbcTemplate().queryForObject(maxQuery, Long.class))
+                .max(Long::compare)
+                .orElse(0L);
+        if (nextValue(sequence) <= max)
+            coordinator.getJdbcTemplate().execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (max + 1));
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.banco.specifications;
+
+import br.com.banco.entity.ArchivedTransference;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public class ArchivedTransferenceSpecifications {
+
+    public static Specification<ArchivedTransference> withAccountId(Integer accountId) {
+        return (root, query, builder) -> builder.equal(root.get("accountId"), accountId);
+    }
+
+    public static Specification<ArchivedTransference> withAccountIds(Collection<Integer> accountIds) {
+        return (root, query, builder) -> root.get("accountId").in(accountIds);
+    }
+
+    public static Specification<ArchivedTransference> withInitDateAndEndDate(LocalDateTime initDate, LocalDateTime endDate) {
+        return (root, query, builder) -> builder.between(root.get("transferenceDate"), initDate, endDate);
+    }
+
+    public static Specification<ArchivedTransference> withTransactionOperator(String transactionOperator) {
+        return (root, query, builder) -> builder.equal(root.get("transactionOperatorName"), transactionOperator);
+    }
+
+}
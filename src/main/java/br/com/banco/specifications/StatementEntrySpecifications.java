@@ -0,0 +1,22 @@
+package br.com.banco.specifications;
+
+import br.com.banco.entity.StatementEntry;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+public class StatementEntrySpecifications {
+
+    public static Specification<StatementEntry> withAccountId(Integer accountId) {
+        return (root, query, builder) -> builder.equal(root.get("accountId"), accountId);
+    }
+
+    public static Specification<StatementEntry> withInitDateAndEndDate(LocalDateTime initDate, LocalDateTime endDate) {
+        return (root, query, builder) -> builder.between(root.get("operationDate"), initDate, endDate);
+    }
+
+    public static Specification<StatementEntry> withCounterpartyName(String counterpartyName) {
+        return (root, query, builder) -> builder.equal(root.get("counterpartyName"), counterpartyName);
+    }
+
+}
@@ -4,6 +4,7 @@ import br.com.banco.entity.Transference;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 
 public class TransferenceSpecifications {
 
@@ -11,6 +12,10 @@ public class TransferenceSpecifications {
         return (root, query, builder) -> builder.equal(root.get("account").get("id"), accountId);
     }
 
+    public static Specification<Transference> withAccountIds(Collection<Integer> accountIds) {
+        return (root, query, builder) -> root.get("account").get("id").in(accountIds);
+    }
+
     public static Specification<Transference> withInitDateAndEndDate(LocalDateTime initDate, LocalDateTime endDate) {
         return (root, query, builder) -> builder.between(root.get("transferenceDate"), initDate, endDate);
     }
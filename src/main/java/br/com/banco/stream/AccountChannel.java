@@ -0,0 +1,56 @@
+package br.com.banco.stream;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class AccountChannel {
+    private final Deque<StreamedOperation> history;
+    private final int historySize;
+    private final List<OperationSubscriber> subscribers = new CopyOnWriteArrayList<>();
+    private volatile long lastActivity;
+
+    public AccountChannel(int historySize, long now) {
+        this.historySize = historySize;
+        this.history = new ArrayDeque<>(historySize);
+        this.lastActivity = now;
+    }
+
+    public synchronized void publish(StreamedOperation operation, long now) {
+        lastActivity = now;
+        if (history.size() == historySize)
+            history.removeFirst();
+        history.addLast(operation);
+
+        for (OperationSubscriber subscriber : subscribers) {
+            if (!subscriber.offer(operation))
+                subscribers.remove(subscriber);
+        }
+    }
+
+    public synchronized void subscribe(OperationSubscriber subscriber, Long lastEventId, long now) {
+        lastActivity = now;
+        if (lastEventId != null) {
+            for (StreamedOperation operation : history) {
+                if (operation.getEventId() > lastEventId && !subscriber.offer(operation))
+                    return;
+            }
+        }
+        subscribers.add(subscriber);
+    }
+
+    public void unsubscribe(OperationSubscriber subscriber, long now) {
+        lastActivity = now;
+        subscribers.remove(subscriber);
+    }
+
+    public boolean isIdle(long now, long idleTimeoutNanos) {
+        return subscribers.isEmpty() && now - lastActivity >= idleTimeoutNanos;
+    }
+
+    public List<OperationSubscriber> getSubscribers() {
+        return new ArrayList<>(subscribers);
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.banco.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class OperationSubscriber {
+    private static final String EVENT_NAME = "operation";
+
+    private final SseEmitter emitter;
+    private final BlockingQueue<StreamedOperation> buffer;
+    private final Executor sender;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    public OperationSubscriber(SseEmitter emitter, int bufferSize, Executor sender) {
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.sender = sender;
+    }
+
+    public boolean offer(StreamedOperation operation) {
+        if (closed.get())
+            return false;
+
+        if (!buffer.offer(operation)) {
+            close();
+            return false;
+        }
+
+        scheduleDrain();
+        return true;
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true))
+            sender.execute(this::drain);
+    }
+
+    private void drain() {
+        try {
+            StreamedOperation operation;
+            while (!closed.get() && (operation = buffer.poll()) != null) {
+                emitter.send(SseEmitter.event()
+                        .id(String.valueOf(operation.getEventId()))
+                        .name(EVENT_NAME)
+                        .data(operation.getOperation()));
+            }
+        } catch (IOException | IllegalStateException e) {
+            close();
+        } finally {
+            draining.set(false);
+        }
+
+        if (!closed.get() && !buffer.isEmpty())
+            scheduleDrain();
+    }
+
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            buffer.clear();
+            emitter.complete();
+        }
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+}
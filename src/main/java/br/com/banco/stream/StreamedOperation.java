@@ -0,0 +1,12 @@
+package br.com.banco.stream;
+
+import br.com.banco.dto.BankStatementResponse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class StreamedOperation {
+    private final long eventId;
+    private final BankStatementResponse operation;
+}
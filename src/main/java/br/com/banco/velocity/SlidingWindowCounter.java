@@ -0,0 +1,72 @@
+package br.com.banco.velocity;
+
+import java.util.Arrays;
+
+final class SlidingWindowCounter {
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final long[] buckets;
+    private final int[] counts;
+    private final double[] amounts;
+    private long head = EMPTY;
+    private int count;
+    private double amount;
+
+    SlidingWindowCounter(int size) {
+        this.buckets = new long[size];
+        this.counts = new int[size];
+        this.amounts = new double[size];
+        Arrays.fill(buckets, EMPTY);
+    }
+
+    synchronized void add(long bucket, double value) {
+        advance(bucket);
+        if (bucket <= head - buckets.length)
+            return;
+
+        int slot = slotOf(bucket);
+        buckets[slot] = bucket;
+        counts[slot]++;
+        amounts[slot] += value;
+        count++;
+        amount += value;
+    }
+
+    synchronized boolean allows(long bucket, int maxCount, double maxAmount, double value) {
+        advance(bucket);
+        return count + 1 <= maxCount && amount + value <= maxAmount;
+    }
+
+    synchronized boolean isIdle(long bucket) {
+        return head == EMPTY || head <= bucket - buckets.length;
+    }
+
+    private void advance(long bucket) {
+        if (head != EMPTY && bucket <= head)
+            return;
+
+        if (head == EMPTY || bucket - head >= buckets.length) {
+            Arrays.fill(buckets, EMPTY);
+            Arrays.fill(counts, 0);
+            Arrays.fill(amounts, 0d);
+            count = 0;
+            amount = 0d;
+        } else {
+            for (long expired = head + 1; expired <= bucket; expired++) {
+                int slot = slotOf(expired);
+                if (buckets[slot] != EMPTY) {
+                    count -= counts[slot];
+                    amount = count == 0 ? 0d : amount - amounts[slot];
+                    buckets[slot] = EMPTY;
+                    counts[slot] = 0;
+                    amounts[slot] = 0d;
+                }
+            }
+        }
+        head = bucket;
+    }
+
+    private int slotOf(long bucket) {
+        return (int) Math.floorMod(bucket, (long) buckets.length);
+    }
+}
@@ -0,0 +1,71 @@
+package br.com.banco.velocity;
+
+import br.com.banco.entity.Type;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class VelocityRule {
+    private final ConcurrentHashMap<Integer, SlidingWindowCounter> counters = new ConcurrentHashMap<>();
+    private final String name;
+    private final Set<Type> types;
+    private final long bucketMillis;
+    private final int buckets;
+    private final int maxCount;
+    private final double maxAmount;
+
+    public VelocityRule(String name, Set<Type> types, Duration window, int buckets, Integer maxCount, Double maxAmount) {
+        if (buckets < 1 || window.toMillis() < buckets)
+            throw new IllegalArgumentException("The window must be split into at least one bucket of one millisecond");
+        if (maxCount == null && maxAmount == null)
+            throw new IllegalArgumentException("Velocity rule " + name + " needs a maximum count or amount");
+
+        this.name = name;
+        this.types = EnumSet.copyOf(types);
+        this.bucketMillis = window.toMillis() / buckets;
+        this.buckets = buckets;
+        this.maxCount = maxCount != null ? maxCount : Integer.MAX_VALUE;
+        this.maxAmount = maxAmount != null ? maxAmount : Double.MAX_VALUE;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Duration getWindow() {
+        return Duration.ofMillis(bucketMillis * buckets);
+    }
+
+    public boolean appliesTo(Type type) {
+        return types.contains(type);
+    }
+
+    public boolean allows(Integer accountId, double amount, long nowMillis) {
+        var counter = counters.get(accountId);
+        if (counter == null)
+            return 1 <= maxCount && amount <= maxAmount;
+
+        return counter.allows(nowMillis / bucketMillis, maxCount, maxAmount, amount);
+    }
+
+    public void record(Integer accountId, double amount, long timeMillis) {
+        var counter = counters.get(accountId);
+        if (counter == null)
+            counter = counters.computeIfAbsent(accountId, ignored -> new SlidingWindowCounter(buckets));
+
+        counter.add(timeMillis / bucketMillis, amount);
+    }
+
+    public int evictIdle(long nowMillis) {
+        long bucket = nowMillis / bucketMillis;
+        int before = counters.size();
+        counters.values().removeIf(counter -> counter.isIdle(bucket));
+        return before - counters.size();
+    }
+
+    public int size() {
+        return counters.size();
+    }
+}
@@ -0,0 +1,35 @@
+CREATE TABLE transferencia_recorrente
+(
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    conta_origem_id   INT                                     NOT NULL,
+    conta_destino_id  INT                                     NOT NULL,
+    valor             DOUBLE PRECISION                        NOT NULL,
+    frequencia        VARCHAR(10)                             NOT NULL,
+    data_inicio       TIMESTAMP                               NOT NULL,
+    data_fim          TIMESTAMP,
+    ocorrencias       INT                                     NOT NULL,
+    proxima_execucao  TIMESTAMP                               NOT NULL,
+    ativo             BOOLEAN                                 NOT NULL,
+    data_criacao      TIMESTAMP                               NOT NULL,
+    CONSTRAINT pk_transferencia_recorrente PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_transferencia_recorrente_proxima ON transferencia_recorrente (ativo, proxima_execucao, id);
+
+CREATE TABLE execucao_recorrente
+(
+    id                          BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    transferencia_recorrente_id BIGINT                                  NOT NULL,
+    ocorrencia                  INT                                     NOT NULL,
+    data_prevista               TIMESTAMP                               NOT NULL,
+    status                      VARCHAR(10)                             NOT NULL,
+    id_correlacao               VARCHAR(36),
+    mensagem_erro               VARCHAR(255),
+    data_execucao               TIMESTAMP                               NOT NULL,
+    CONSTRAINT pk_execucao_recorrente PRIMARY KEY (id),
+    CONSTRAINT uk_execucao_recorrente_ocorrencia UNIQUE (transferencia_recorrente_id, ocorrencia)
+);
+
+ALTER TABLE execucao_recorrente
+    ADD CONSTRAINT FK_EXECUCAO_RECORRENTE_ON_TRANSFERENCIA_RECORRENTE
+        FOREIGN KEY (transferencia_recorrente_id) REFERENCES transferencia_recorrente (id);
@@ -0,0 +1,33 @@
+CREATE TABLE execucao_lote
+(
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    nome_job         VARCHAR(50)                             NOT NULL,
+    data_referencia  DATE                                    NOT NULL,
+    status           VARCHAR(10)                             NOT NULL,
+    total_particoes  INT                                     NOT NULL,
+    data_inicio      TIMESTAMP                               NOT NULL,
+    data_fim         TIMESTAMP,
+    CONSTRAINT pk_execucao_lote PRIMARY KEY (id),
+    CONSTRAINT uk_execucao_lote_job_data UNIQUE (nome_job, data_referencia)
+);
+
+CREATE TABLE particao_lote
+(
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    execucao_lote_id BIGINT                                  NOT NULL,
+    inicio_id        INT                                     NOT NULL,
+    fim_id           INT                                     NOT NULL,
+    status           VARCHAR(10)                             NOT NULL,
+    processados      INT                                     NOT NULL,
+    tentativas       INT                                     NOT NULL,
+    duracao_ms       BIGINT,
+    mensagem_erro    VARCHAR(255),
+    data_conclusao   TIMESTAMP,
+    CONSTRAINT pk_particao_lote PRIMARY KEY (id),
+    CONSTRAINT uk_particao_lote_inicio UNIQUE (execucao_lote_id, inicio_id)
+);
+
+CREATE INDEX idx_particao_lote_status ON particao_lote (execucao_lote_id, status);
+
+ALTER TABLE particao_lote
+    ADD CONSTRAINT FK_PARTICAO_LOTE_ON_EXECUCAO_LOTE FOREIGN KEY (execucao_lote_id) REFERENCES execucao_lote (id);
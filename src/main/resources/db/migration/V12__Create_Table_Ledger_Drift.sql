@@ -0,0 +1,17 @@
+CREATE TABLE divergencia_conciliacao
+(
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    data_referencia  DATE                                    NOT NULL,
+    conta_id         INT                                     NOT NULL,
+    origem           VARCHAR(25)                             NOT NULL,
+    saldo_razao      DOUBLE PRECISION                        NOT NULL,
+    saldo_armazenado DOUBLE PRECISION                        NOT NULL,
+    diferenca        DOUBLE PRECISION                        NOT NULL,
+    lancamentos      BIGINT                                  NOT NULL,
+    data_deteccao    TIMESTAMP                               NOT NULL,
+    CONSTRAINT pk_divergencia_conciliacao PRIMARY KEY (id),
+    CONSTRAINT uk_divergencia_conciliacao_conta UNIQUE (data_referencia, conta_id, origem)
+);
+
+CREATE INDEX idx_transferencia_conta_valor ON transferencia (conta_id, valor);
+CREATE INDEX idx_transferencia_arquivo_conta_valor ON transferencia_arquivo (conta_id, valor);
@@ -0,0 +1,3 @@
+ALTER TABLE transferencia ADD COLUMN chave_estorno VARCHAR(48);
+
+CREATE UNIQUE INDEX uk_transferencia_chave_estorno ON transferencia (chave_estorno);
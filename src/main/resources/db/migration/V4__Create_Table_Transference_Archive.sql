@@ -0,0 +1,13 @@
+CREATE TABLE transferencia_arquivo
+(
+    id                      INT              NOT NULL,
+    data_transferencia      TIMESTAMP        NOT NULL,
+    valor                   DOUBLE PRECISION NOT NULL,
+    tipo                    VARCHAR(15)      NOT NULL,
+    nome_operador_transacao VARCHAR(50),
+    conta_id                INT,
+    CONSTRAINT pk_transferencia_arquivo PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_transferencia_arquivo_conta_data ON transferencia_arquivo (conta_id, data_transferencia);
+CREATE INDEX idx_transferencia_data ON transferencia (data_transferencia);
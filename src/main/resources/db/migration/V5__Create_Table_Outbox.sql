@@ -0,0 +1,16 @@
+CREATE TABLE evento_saida
+(
+    id                      BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    transferencia_id        INT                                     NOT NULL,
+    conta_id                INT                                     NOT NULL,
+    tipo                    VARCHAR(15)                             NOT NULL,
+    valor                   DOUBLE PRECISION                        NOT NULL,
+    nome_operador_transacao VARCHAR(50),
+    data_operacao           TIMESTAMP                               NOT NULL,
+    data_criacao            TIMESTAMP                               NOT NULL,
+    token_reserva           VARCHAR(36),
+    data_reserva            TIMESTAMP,
+    CONSTRAINT pk_evento_saida PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_evento_saida_token_reserva ON evento_saida (token_reserva);
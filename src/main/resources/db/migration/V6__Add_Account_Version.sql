@@ -0,0 +1 @@
+ALTER TABLE conta ADD COLUMN versao BIGINT DEFAULT 0 NOT NULL;
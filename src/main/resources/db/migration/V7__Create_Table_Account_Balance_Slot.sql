@@ -0,0 +1,18 @@
+ALTER TABLE conta ADD COLUMN slots_saldo INT DEFAULT 1 NOT NULL;
+
+CREATE TABLE saldo_conta
+(
+    conta_id INT                        NOT NULL,
+    slot     INT                        NOT NULL,
+    saldo    DOUBLE PRECISION DEFAULT 0 NOT NULL,
+    versao   BIGINT           DEFAULT 0 NOT NULL,
+    CONSTRAINT pk_saldo_conta PRIMARY KEY (conta_id, slot),
+    CONSTRAINT fk_saldo_conta_on_conta FOREIGN KEY (conta_id) REFERENCES conta (id_conta) ON DELETE CASCADE
+);
+
+INSERT INTO saldo_conta (conta_id, slot, saldo)
+SELECT c.id_conta,
+       0,
+       COALESCE((SELECT SUM(t.valor) FROM transferencia t WHERE t.conta_id = c.id_conta), 0)
+           + COALESCE((SELECT SUM(a.valor) FROM transferencia_arquivo a WHERE a.conta_id = c.id_conta), 0)
+FROM conta c;
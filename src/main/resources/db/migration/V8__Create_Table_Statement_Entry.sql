@@ -0,0 +1,52 @@
+CREATE TABLE extrato
+(
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    transferencia_id  INT                                     NOT NULL,
+    conta_id          INT                                     NOT NULL,
+    data_operacao     TIMESTAMP                               NOT NULL,
+    tipo              VARCHAR(15)                             NOT NULL,
+    valor             DOUBLE PRECISION                        NOT NULL,
+    contraparte_id    INT,
+    nome_contraparte  VARCHAR(50),
+    saldo_acumulado   DOUBLE PRECISION                        NOT NULL,
+    data_projecao     TIMESTAMP                               NOT NULL,
+    CONSTRAINT pk_extrato PRIMARY KEY (id),
+    CONSTRAINT uk_extrato_transferencia UNIQUE (transferencia_id)
+);
+
+CREATE INDEX idx_extrato_conta_data ON extrato (conta_id, data_operacao, transferencia_id);
+CREATE INDEX idx_extrato_conta_id ON extrato (conta_id, id);
+
+CREATE TABLE extrato_pendente
+(
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    transferencia_id  INT                                     NOT NULL,
+    conta_id          INT                                     NOT NULL,
+    data_operacao     TIMESTAMP                               NOT NULL,
+    tipo              VARCHAR(15)                             NOT NULL,
+    valor             DOUBLE PRECISION                        NOT NULL,
+    contraparte_id    INT,
+    nome_contraparte  VARCHAR(50),
+    data_criacao      TIMESTAMP                               NOT NULL,
+    CONSTRAINT pk_extrato_pendente PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_extrato_pendente_conta ON extrato_pendente (conta_id);
+
+INSERT INTO extrato (transferencia_id, conta_id, data_operacao, tipo, valor, nome_contraparte,
+                     saldo_acumulado, data_projecao)
+SELECT t.id,
+       t.conta_id,
+       t.data_transferencia,
+       t.tipo,
+       t.valor,
+       t.nome_operador_transacao,
+       SUM(t.valor) OVER (PARTITION BY t.conta_id ORDER BY t.data_transferencia, t.id),
+       CURRENT_TIMESTAMP
+FROM (SELECT id, conta_id, data_transferencia, tipo, valor, nome_operador_transacao
+      FROM transferencia
+      UNION ALL
+      SELECT id, conta_id, data_transferencia, tipo, valor, nome_operador_transacao
+      FROM transferencia_arquivo) t
+WHERE t.conta_id IS NOT NULL
+ORDER BY t.conta_id, t.data_transferencia, t.id;
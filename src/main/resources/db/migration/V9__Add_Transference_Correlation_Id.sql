@@ -0,0 +1,4 @@
+ALTER TABLE transferencia ADD COLUMN id_correlacao VARCHAR(36);
+ALTER TABLE transferencia_arquivo ADD COLUMN id_correlacao VARCHAR(36);
+
+CREATE INDEX idx_transferencia_correlacao ON transferencia (id_correlacao);
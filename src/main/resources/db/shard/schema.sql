@@ -0,0 +1,57 @@
+CREATE TABLE IF NOT EXISTS conta
+(
+    id_conta         INT         NOT NULL,
+    nome_responsavel VARCHAR(50),
+    versao           BIGINT DEFAULT 0 NOT NULL,
+    slots_saldo      INT    DEFAULT 1 NOT NULL,
+    CONSTRAINT pk_conta PRIMARY KEY (id_conta)
+);
+
+CREATE TABLE IF NOT EXISTS transferencia
+(
+    id                      INT                                  NOT NULL,
+    data_transferencia      TIMESTAMP                            NOT NULL,
+    valor                   DOUBLE PRECISION                     NOT NULL,
+    tipo                    VARCHAR(15)                          NOT NULL,
+    nome_operador_transacao VARCHAR(50),
+    conta_id                INT,
+    id_correlacao           VARCHAR(36),
+    chave_estorno           VARCHAR(48),
+    CONSTRAINT pk_transferencia PRIMARY KEY (id),
+    CONSTRAINT uk_transferencia_chave_estorno UNIQUE (chave_estorno),
+    CONSTRAINT fk_transferencia_on_conta FOREIGN KEY (conta_id) REFERENCES conta (id_conta)
+);
+
+CREATE INDEX IF NOT EXISTS idx_transferencia_conta_data ON transferencia (conta_id, data_transferencia);
+CREATE INDEX IF NOT EXISTS idx_transferencia_correlacao ON transferencia (id_correlacao);
+
+CREATE TABLE IF NOT EXISTS saldo_conta
+(
+    conta_id INT                        NOT NULL,
+    slot     INT                        NOT NULL,
+    saldo    DOUBLE PRECISION DEFAULT 0 NOT NULL,
+    versao   BIGINT           DEFAULT 0 NOT NULL,
+    CONSTRAINT pk_saldo_conta PRIMARY KEY (conta_id, slot),
+    CONSTRAINT fk_saldo_conta_on_conta FOREIGN KEY (conta_id) REFERENCES conta (id_conta) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS evento_saida
+(
+    id                      BIGINT           NOT NULL,
+    transferencia_id        INT              NOT NULL,
+    conta_id                INT              NOT NULL,
+    tipo                    VARCHAR(15)      NOT NULL,
+    valor                   DOUBLE PRECISION NOT NULL,
+    nome_operador_transacao VARCHAR(50),
+    data_operacao           TIMESTAMP        NOT NULL,
+    data_criacao            TIMESTAMP        NOT NULL,
+    token_reserva           VARCHAR(36),
+    data_reserva            TIMESTAMP,
+    CONSTRAINT pk_evento_saida PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_evento_saida_token_reserva ON evento_saida (token_reserva);
+
+CREATE SEQUENCE IF NOT EXISTS seq_conta START WITH 1;
+CREATE SEQUENCE IF NOT EXISTS seq_transferencia START WITH 1;
+CREATE SEQUENCE IF NOT EXISTS seq_evento_saida START WITH 1;
@@ -0,0 +1,65 @@
+package br.com.banco;
+
+import br.com.banco.configuration.SchemaValidationMarker;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+class FastBootStartupTest {
+    private static final long STARTUP_BUDGET_MILLIS = Long.getLong("bank.startup.budget-ms", 30_000);
+    private static final Path RESULTS = Path.of("target", "startup-benchmark.csv");
+
+    @Test
+    void fastBoot_ColdAndWarmStart_ShouldServeFirstRequestWithinBudget(@TempDir Path tempDir) throws IOException {
+        // given
+        var schemaMarker = tempDir.resolve("schema.checksum");
+
+        // when
+        long coldStart = measureTimeToFirstRequest(schemaMarker, "cold");
+        long warmStart = measureTimeToFirstRequest(schemaMarker, "warm");
+
+        // then
+        assertTrue(Files.exists(schemaMarker));
+        assertTrue(coldStart < STARTUP_BUDGET_MILLIS, () -> "Cold start took " + coldStart + " ms");
+        assertTrue(warmStart < STARTUP_BUDGET_MILLIS, () -> "Warm start took " + warmStart + " ms");
+    }
+
+    private long measureTimeToFirstRequest(Path schemaMarker, String run) throws IOException {
+        long start = System.nanoTime();
+        try (var context = new SpringApplicationBuilder(BancoApplication.class)
+                .profiles("fast-boot")
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:bank-db-fast-boot-" + run,
+                        "--bank.fast-boot.schema-marker=" + schemaMarker)) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            var response = new RestTemplate().getForEntity("http://localhost:" + port + "/api/accounts", String.class);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            if ("warm".equals(run))
+                assertTrue(context.getBean(SchemaValidationMarker.class).isValidated());
+
+            record(run, elapsedMillis);
+            return elapsedMillis;
+        }
+    }
+
+    private void record(String run, long elapsedMillis) throws IOException {
+        log.info("fast-boot {} start: first successful request after {} ms", run, elapsedMillis);
+        Files.createDirectories(RESULTS.getParent());
+        Files.writeString(RESULTS, Instant.now() + "," + run + "," + elapsedMillis + System.lineSeparator(),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
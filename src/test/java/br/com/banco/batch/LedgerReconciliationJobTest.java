@@ -0,0 +1,112 @@
+package br.com.banco.batch;
+
+import br.com.banco.configuration.BatchJobProperties;
+import br.com.banco.configuration.StatementProjectionProperties;
+import br.com.banco.dto.LedgerBalance;
+import br.com.banco.entity.Account;
+import br.com.banco.entity.DriftSource;
+import br.com.banco.entity.LedgerDrift;
+import br.com.banco.repository.LedgerDriftRepository;
+import br.com.banco.repository.LedgerReconciliationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerReconciliationJobTest {
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2026, 10, 18);
+    private static final double LEDGER_BALANCE = 100d;
+
+    @Mock
+    private LedgerReconciliationRepository ledgerReconciliationRepository;
+    @Mock
+    private LedgerDriftRepository ledgerDriftRepository;
+
+    private StatementProjectionProperties statementProjectionProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private LedgerReconciliationJob ledgerReconciliationJob;
+    private List<Account> accounts;
+
+    @BeforeEach
+    void setUp() {
+        statementProjectionProperties = new StatementProjectionProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        ledgerReconciliationJob = new LedgerReconciliationJob(ledgerReconciliationRepository, ledgerDriftRepository,
+                new BatchJobProperties(), statementProjectionProperties, meterRegistry);
+        accounts = List.of(buildAccount(1), buildAccount(2));
+    }
+
+    @Test
+    void process_ProjectionBehindTheLedger_ShouldRecordOnlyDriftsAboveTolerance() {
+        // given
+        var first = accounts.get(0).getId();
+        var second = accounts.get(1).getId();
+        scan(new LedgerBalance(first, LEDGER_BALANCE, 3, LEDGER_BALANCE + 0.001, LEDGER_BALANCE),
+                new LedgerBalance(second, LEDGER_BALANCE, 2, LEDGER_BALANCE, LEDGER_BALANCE - 25));
+
+        // when
+        int processed = ledgerReconciliationJob.process(accounts, BUSINESS_DATE);
+
+        // then
+        var drifts = captureDrifts();
+        assertEquals(2, processed);
+        assertEquals(1, drifts.size());
+        assertEquals(second, drifts.get(0).getAccountId());
+        assertEquals(DriftSource.STATEMENT_PROJECTION, drifts.get(0).getSource());
+        assertEquals(-25d, drifts.get(0).getDifference());
+        assertEquals(2L, drifts.get(0).getEntries());
+        assertEquals(BUSINESS_DATE, drifts.get(0).getBusinessDate());
+        assertEquals(1d, meterRegistry.counter("bank.reconciliation.drift", "source", "STATEMENT_PROJECTION").count());
+    }
+
+    @Test
+    void process_ProjectionDisabled_ShouldOnlyCompareBalanceSlots() {
+        // given
+        statementProjectionProperties.setEnabled(false);
+        var first = accounts.get(0).getId();
+        scan(new LedgerBalance(first, LEDGER_BALANCE, 1, LEDGER_BALANCE, 0d),
+                new LedgerBalance(accounts.get(1).getId(), LEDGER_BALANCE, 1, LEDGER_BALANCE, 0d));
+
+        // when
+        ledgerReconciliationJob.process(accounts, BUSINESS_DATE);
+
+        // then
+        verify(ledgerDriftRepository, never()).saveAll(any());
+    }
+
+    private static Account buildAccount(Integer id) {
+        var account = new Account("Owner " + id);
+        account.setId(id);
+
+        return account;
+    }
+
+    private void scan(LedgerBalance... balances) {
+        when(ledgerReconciliationRepository.scan(eq(accounts.get(0).getId()), eq(accounts.get(1).getId()), any()))
+                .thenAnswer(invocation -> {
+                    Consumer<LedgerBalance> consumer = invocation.getArgument(2);
+                    for (LedgerBalance balance : balances) {
+                        consumer.accept(balance);
+                    }
+                    return balances.length;
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<LedgerDrift> captureDrifts() {
+        ArgumentCaptor<List<LedgerDrift>> captor = ArgumentCaptor.forClass(List.class);
+        verify(ledgerDriftRepository).saveAll(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.banco.benchmark;
+
+import br.com.banco.configuration.AccountDirectoryProperties;
+import br.com.banco.directory.AccountDirectory;
+import br.com.banco.entity.Account;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class AccountDirectoryBenchmark {
+    private static final int ACCOUNTS = 1_000_000;
+    private static final String OWNER_NAME = "Owner ";
+
+    private AccountDirectory accountDirectory;
+    private Map<Integer, String> ownerNames;
+    private Set<Account> accounts;
+
+    @Setup
+    public void setUp() {
+        var properties = new AccountDirectoryProperties();
+        properties.setEnabled(true);
+        properties.setInitialCapacity(ACCOUNTS);
+        accountDirectory = new AccountDirectory(properties, new SimpleMeterRegistry());
+        ownerNames = new HashMap<>();
+        accounts = new HashSet<>();
+        for (int id = 1; id <= ACCOUNTS; id++) {
+            var account = new Account(OWNER_NAME + id);
+            account.setId(id);
+            accountDirectory.put(id, account.getOwnerName());
+            ownerNames.put(id, account.getOwnerName());
+            accounts.add(account);
+        }
+    }
+
+    @Benchmark
+    public String directory_GetOwnerName() {
+        return accountDirectory.getOwnerName(randomId());
+    }
+
+    @Benchmark
+    public String boxedHashMap_GetOwnerName() {
+        return ownerNames.get(randomId());
+    }
+
+    @Benchmark
+    public boolean accountHashSet_Contains() {
+        var account = new Account(OWNER_NAME);
+        account.setId(randomId());
+        return accounts.contains(account);
+    }
+
+    private static int randomId() {
+        return ThreadLocalRandom.current().nextInt(1, ACCOUNTS + 1);
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.banco.benchmark;
+
+import br.com.banco.configuration.OutboxProperties;
+import br.com.banco.entity.Account;
+import br.com.banco.entity.Transference;
+import br.com.banco.entity.Type;
+import br.com.banco.repository.ShardedAccountBalanceSlotRepository;
+import br.com.banco.repository.ShardedAccountRepository;
+import br.com.banco.repository.ShardedOutboxEventRepository;
+import br.com.banco.repository.ShardedTransferenceRepository;
+import br.com.banco.service.impl.BalanceService;
+import br.com.banco.sharding.Shard;
+import br.com.banco.sharding.ShardRegistry;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class HotAccountBenchmark {
+    private static final double DEPOSIT_VALUE = 10d;
+
+    @Param({"1", "8"})
+    private int slots;
+
+    @Param({"0", "200"})
+    private long commitLatencyMicros;
+
+    private ShardRegistry shardRegistry;
+    private ShardedTransferenceRepository shardedTransferenceRepository;
+    private BalanceService balanceService;
+    private Account hotAccount;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        var dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:hot-account-" + slots + "-" + commitLatencyMicros + ";LOCK_TIMEOUT=60000");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(16);
+        new ResourceDatabasePopulator(new ClassPathResource("db/shard/schema.sql")).execute(dataSource);
+
+        var shard = new Shard("hot", dataSource);
+        shardRegistry = new ShardRegistry(List.of(shard), 1, null);
+        var beanFactory = new StaticListableBeanFactory(Map.of("shardRegistry", shardRegistry));
+        var shardedAccountRepository = new ShardedAccountRepository(beanFactory.getBeanProvider(ShardRegistry.class));
+        shardedTransferenceRepository = new ShardedTransferenceRepository(beanFactory.getBeanProvider(ShardRegistry.class),
+                new ShardedOutboxEventRepository(beanFactory.getBeanProvider(ShardRegistry.class)), new OutboxProperties());
+        var shardedAccountBalanceSlotRepository =
+                new ShardedAccountBalanceSlotRepository(beanFactory.getBeanProvider(ShardRegistry.class));
+        balanceService = new BalanceService(null, shardedAccountBalanceSlotRepository, null);
+
+        hotAccount = shardedAccountRepository.save(new Account("Merchant"));
+        for (int slot = 0; slot < slots; slot++) {
+            shardedAccountBalanceSlotRepository.createIfMissing(hotAccount.getId(), slot);
+        }
+        shardedAccountRepository.updateBalanceSlots(hotAccount.getId(), slots);
+        hotAccount.setBalanceSlots(slots);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        shardRegistry.close();
+    }
+
+    @Benchmark
+    public Transference deposit_SingleHotDestination() {
+        return shardedTransferenceRepository.save(
+                new Transference(DEPOSIT_VALUE, Type.DEPOSIT, hotAccount, null), deposit -> {
+                    balanceService.credit(hotAccount, DEPOSIT_VALUE);
+                    if (commitLatencyMicros > 0)
+                        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(commitLatencyMicros));
+                });
+    }
+
+}
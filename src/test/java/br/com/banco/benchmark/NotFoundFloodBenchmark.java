@@ -0,0 +1,95 @@
+package br.com.banco.benchmark;
+
+import br.com.banco.bloom.AccountIdFilter;
+import br.com.banco.configuration.AccountDirectoryProperties;
+import br.com.banco.configuration.AccountIdFilterProperties;
+import br.com.banco.controller.AccountResource;
+import br.com.banco.directory.AccountDirectory;
+import br.com.banco.exception.BusinessException;
+import br.com.banco.exception.RestExceptionHandler;
+import br.com.banco.repository.AccountRepository;
+import br.com.banco.repository.ShardedAccountRepository;
+import br.com.banco.service.impl.AccountService;
+import br.com.banco.sharding.ShardRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class NotFoundFloodBenchmark {
+    private static final int ACCOUNTS = 100_000;
+
+    @Param({"false", "true"})
+    private boolean filterEnabled;
+
+    private AccountService accountService;
+    private MockMvc mockMvc;
+
+    @Setup
+    public void setUp() {
+        var messageSource = new ReloadableResourceBundleMessageSource();
+        messageSource.setBasename("classpath:message");
+        messageSource.setDefaultEncoding("UTF-8");
+
+        var shardedAccountRepository = new ShardedAccountRepository(
+                new StaticListableBeanFactory().getBeanProvider(ShardRegistry.class));
+        var filterProperties = new AccountIdFilterProperties();
+        filterProperties.setEnabled(filterEnabled);
+        var accountIdFilter = new AccountIdFilter(filterProperties, new SimpleMeterRegistry());
+        accountIdFilter.rebuild(ACCOUNTS, ids -> {
+            for (int id = 1; id <= ACCOUNTS; id++) {
+                ids.accept(id);
+            }
+        });
+        var accountDirectory = new AccountDirectory(new AccountDirectoryProperties(), new SimpleMeterRegistry());
+        accountService = new AccountService(
+                emptyAccountRepository(), shardedAccountRepository, null, messageSource, accountIdFilter,
+                accountDirectory);
+        mockMvc = MockMvcBuilders.standaloneSetup(new AccountResource(accountService))
+                .setControllerAdvice(new RestExceptionHandler())
+                .build();
+    }
+
+    @Benchmark
+    public Object findById_NonExistingId() {
+        try {
+            return accountService.findById(randomId());
+        } catch (BusinessException e) {
+            return e.getDetails();
+        }
+    }
+
+    @Benchmark
+    public int getAccount_NonExistingId() throws Exception {
+        return mockMvc.perform(MockMvcRequestBuilders.get(AccountResource.ACCOUNTS_BASE_PATH + "/" + randomId()))
+                .andReturn()
+                .getResponse()
+                .getStatus();
+    }
+
+    private static int randomId() {
+        return ThreadLocalRandom.current().nextInt(1_000_000, Integer.MAX_VALUE);
+    }
+
+    private static AccountRepository emptyAccountRepository() {
+        return (AccountRepository) Proxy.newProxyInstance(
+                AccountRepository.class.getClassLoader(),
+                new Class<?>[]{AccountRepository.class},
+                (proxy, method, args) -> Optional.empty());
+    }
+}
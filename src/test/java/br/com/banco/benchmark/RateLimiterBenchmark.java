@@ -0,0 +1,84 @@
+package br.com.banco.benchmark;
+
+import br.com.banco.ratelimit.RateLimitInterceptor;
+import br.com.banco.ratelimit.RateLimiter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class RateLimiterBenchmark {
+    private static final int ACCOUNTS = 10_000;
+    private static final int REQUESTS = 256;
+    private static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    private RateLimiter<Integer> accountLimiter;
+    private RateLimitInterceptor interceptor;
+    private MockHttpServletRequest[] requests;
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Setup
+    public void setUp() {
+        accountLimiter = new RateLimiter<>(Integer.MAX_VALUE / 2, 1e9, 100_000, Duration.ofMinutes(10));
+        interceptor = new RateLimitInterceptor(
+                new RateLimiter<>(Integer.MAX_VALUE / 2, 1e9, 100_000, Duration.ofMinutes(10)),
+                new RateLimiter<>(Integer.MAX_VALUE / 2, 1e9, 100_000, Duration.ofMinutes(10)),
+                CLIENT_ID_HEADER,
+                "Too many requests");
+        requests = new MockHttpServletRequest[REQUESTS];
+        for (int accountId = 0; accountId < REQUESTS; accountId++) {
+            var request = new MockHttpServletRequest("POST", "/api/operations/withdraw/" + accountId);
+            request.addHeader(CLIENT_ID_HEADER, "client-" + accountId % 100);
+            request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE,
+                    Map.of("accountId", String.valueOf(accountId)));
+            requests[accountId] = request;
+        }
+    }
+
+    @Benchmark
+    public int baseline_RandomAccount() {
+        return randomAccount();
+    }
+
+    @Benchmark
+    public long tryAcquire_RandomAccount() {
+        return accountLimiter.tryAcquire(randomAccount());
+    }
+
+    @Benchmark
+    public long tryAcquire_SingleHotAccount() {
+        return accountLimiter.tryAcquire(1);
+    }
+
+    @Benchmark
+    public Object baseline_MockRequestLookups() {
+        var request = requests[randomRequest()];
+        request.getHeader(CLIENT_ID_HEADER);
+        return request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+    }
+
+    @Benchmark
+    public boolean preHandle_ClientAndAccountLimits() {
+        return interceptor.preHandle(requests[randomRequest()], response, null);
+    }
+
+    private static int randomRequest() {
+        return ThreadLocalRandom.current().nextInt(REQUESTS);
+    }
+
+    private static int randomAccount() {
+        return ThreadLocalRandom.current().nextInt(ACCOUNTS);
+    }
+}
@@ -0,0 +1,88 @@
+package br.com.banco.benchmark;
+
+import br.com.banco.dto.BankStatementResponse;
+import br.com.banco.serialization.BankBinaryFormat;
+import br.com.banco.serialization.ResponseSerializers;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatementFormatBenchmark {
+    @Param({"1000"})
+    private int statements;
+
+    private ObjectMapper jsonMapper;
+    private ObjectMapper smileMapper;
+    private ObjectMapper cborMapper;
+    private List<BankStatementResponse> bankStatements;
+
+    @Setup
+    public void setUp() throws IOException {
+        jsonMapper = mapper(new JsonFactory());
+        smileMapper = mapper(new SmileFactory());
+        cborMapper = mapper(new CBORFactory());
+
+        var start = LocalDateTime.of(2023, 1, 1, 0, 0);
+        bankStatements = new ArrayList<>(statements);
+        for (int i = 0; i < statements; i++) {
+            bankStatements.add(new BankStatementResponse(
+                    i % 2 == 0 ? "DEPOSITO" : "TRANSFERENCIA",
+                    i * 1.25,
+                    start.plusMinutes(i * 7L)));
+        }
+
+        var binary = new ByteArrayOutputStream();
+        BankBinaryFormat.write(bankStatements, BankBinaryFormat.Kind.BANK_STATEMENT, binary);
+        System.out.printf("%nPayload bytes for %d statements: json=%d smile=%d cbor=%d bank-binary=%d%n",
+                statements,
+                jsonMapper.writeValueAsBytes(bankStatements).length,
+                smileMapper.writeValueAsBytes(bankStatements).length,
+                cborMapper.writeValueAsBytes(bankStatements).length,
+                binary.size());
+    }
+
+    @Benchmark
+    public void json() throws IOException {
+        jsonMapper.writeValue(OutputStream.nullOutputStream(), bankStatements);
+    }
+
+    @Benchmark
+    public void smile() throws IOException {
+        smileMapper.writeValue(OutputStream.nullOutputStream(), bankStatements);
+    }
+
+    @Benchmark
+    public void cbor() throws IOException {
+        cborMapper.writeValue(OutputStream.nullOutputStream(), bankStatements);
+    }
+
+    @Benchmark
+    public void bankBinary() throws IOException {
+        BankBinaryFormat.write(bankStatements, BankBinaryFormat.Kind.BANK_STATEMENT, OutputStream.nullOutputStream());
+    }
+
+    private static ObjectMapper mapper(JsonFactory factory) {
+        return new ObjectMapper(factory)
+                .registerModule(new JavaTimeModule())
+                .registerModule(ResponseSerializers.module())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.banco.benchmark;
+
+import br.com.banco.dto.BankStatementResponse;
+import br.com.banco.serialization.ResponseSerializers;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatementSerializationBenchmark {
+    @Param({"100", "10000"})
+    private int statements;
+
+    private ObjectMapper defaultMapper;
+    private ObjectMapper tunedMapper;
+    private List<BankStatementResponse> bankStatements;
+
+    @Setup
+    public void setUp() {
+        defaultMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        tunedMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .registerModule(ResponseSerializers.module())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        var start = LocalDateTime.of(2023, 1, 1, 0, 0);
+        bankStatements = new ArrayList<>(statements);
+        for (int i = 0; i < statements; i++) {
+            bankStatements.add(new BankStatementResponse(
+                    i % 2 == 0 ? "DEPOSITO" : "TRANSFERENCIA",
+                    i * 1.25,
+                    start.plusMinutes(i * 7L)));
+        }
+    }
+
+    @Benchmark
+    public void defaultObjectMapper() throws IOException {
+        defaultMapper.writeValue(OutputStream.nullOutputStream(), bankStatements);
+    }
+
+    @Benchmark
+    public void responseSerializers() throws IOException {
+        tunedMapper.writeValue(OutputStream.nullOutputStream(), bankStatements);
+    }
+}
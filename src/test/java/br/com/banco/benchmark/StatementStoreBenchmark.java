@@ -0,0 +1,63 @@
+package br.com.banco.benchmark;
+
+import br.com.banco.columnar.ColumnarStatementStore;
+import br.com.banco.dto.StatementFilter;
+import br.com.banco.entity.Account;
+import br.com.banco.entity.Type;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class StatementStoreBenchmark {
+    private static final int ACCOUNTS = 10_000;
+    private static final int ROWS_PER_ACCOUNT = 100;
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private ColumnarStatementStore store;
+    private Account[] accounts;
+
+    @Setup
+    public void setUp() {
+        store = new ColumnarStatementStore(8);
+        accounts = new Account[ACCOUNTS];
+        int id = 1;
+        for (int accountId = 1; accountId <= ACCOUNTS; accountId++) {
+            accounts[accountId - 1] = new Account("Owner " + accountId);
+            accounts[accountId - 1].setId(accountId);
+            for (int row = 0; row < ROWS_PER_ACCOUNT; row++) {
+                store.append(accountId, id++, START.plusHours(row), row, Type.values()[row % 3],
+                        "Owner " + (accountId + row) % ACCOUNTS);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<?> find_FullStatement() {
+        return store.find(randomAccount(), null);
+    }
+
+    @Benchmark
+    public List<?> find_OneDayRange() {
+        return store.find(randomAccount(), new StatementFilter(null, START.plusDays(2), START.plusDays(3)));
+    }
+
+    @Benchmark
+    public List<?> find_OperatorFilter() {
+        var account = randomAccount();
+        return store.find(account, new StatementFilter("Owner " + (account.getId() + 7) % ACCOUNTS, null, null));
+    }
+
+    private Account randomAccount() {
+        return accounts[ThreadLocalRandom.current().nextInt(ACCOUNTS)];
+    }
+}
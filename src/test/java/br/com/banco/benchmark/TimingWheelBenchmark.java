@@ -0,0 +1,38 @@
+package br.com.banco.benchmark;
+
+import br.com.banco.scheduling.TimingWheel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimingWheelBenchmark {
+    private static final long TICK = 1_000L;
+    private static final int WHEEL_SIZE = 60;
+    private static final long START = 1_700_000_000_000L;
+
+    @Param({"100000"})
+    private int dueOrders;
+
+    @Param({"60000", "86400000"})
+    private long spreadMillis;
+
+    @Benchmark
+    public int scheduleAndFire_DueOrdersOverSpread() {
+        var timingWheel = new TimingWheel<Integer>(TICK, WHEEL_SIZE, START);
+        for (int i = 0; i < dueOrders; i++) {
+            timingWheel.schedule(i, START + TICK + (i * 7919L) % spreadMillis);
+        }
+
+        int fired = 0;
+        for (long now = START; now <= START + spreadMillis + TICK; now += TICK) {
+            fired += timingWheel.advance(now).size();
+        }
+        return fired;
+    }
+}
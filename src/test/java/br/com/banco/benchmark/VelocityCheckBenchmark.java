@@ -0,0 +1,71 @@
+package br.com.banco.benchmark;
+
+import br.com.banco.entity.Type;
+import br.com.banco.velocity.VelocityRule;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class VelocityCheckBenchmark {
+    private static final int ACCOUNTS = 10_000;
+    private static final int OUTFLOWS_PER_ACCOUNT = 4;
+    private static final double AMOUNT = 100d;
+
+    @Param({"10", "60"})
+    private int buckets;
+
+    private VelocityRule countRule;
+    private VelocityRule amountRule;
+
+    @Setup
+    public void setUp() {
+        countRule = new VelocityRule("outflow-count", EnumSet.of(Type.WITHDRAW, Type.TRANSFERENCE),
+                Duration.ofMinutes(10), buckets, 5, null);
+        amountRule = new VelocityRule("outflow-amount", EnumSet.of(Type.WITHDRAW, Type.TRANSFERENCE),
+                Duration.ofMinutes(10), buckets, null, 10_000d);
+        long now = System.currentTimeMillis();
+        for (int accountId = 0; accountId < ACCOUNTS; accountId++) {
+            for (int i = 0; i < OUTFLOWS_PER_ACCOUNT; i++) {
+                countRule.record(accountId, AMOUNT, now - TimeUnit.MINUTES.toMillis(i * 2L));
+                amountRule.record(accountId, AMOUNT, now - TimeUnit.MINUTES.toMillis(i * 2L));
+            }
+        }
+    }
+
+    @Benchmark
+    public int baseline_RandomAccount() {
+        return randomAccount();
+    }
+
+    @Benchmark
+    public boolean allows_CountAndAmountRules_RandomAccount() {
+        int accountId = randomAccount();
+        long now = System.currentTimeMillis();
+        return countRule.allows(accountId, AMOUNT, now) && amountRule.allows(accountId, AMOUNT, now);
+    }
+
+    @Benchmark
+    public boolean allows_CountAndAmountRules_SingleHotAccount() {
+        long now = System.currentTimeMillis();
+        return countRule.allows(1, AMOUNT, now) && amountRule.allows(1, AMOUNT, now);
+    }
+
+    @Benchmark
+    public void record_RandomAccount() {
+        countRule.record(randomAccount(), AMOUNT, System.currentTimeMillis());
+    }
+
+    private static int randomAccount() {
+        return ThreadLocalRandom.current().nextInt(ACCOUNTS);
+    }
+}
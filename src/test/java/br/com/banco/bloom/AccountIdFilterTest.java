@@ -0,0 +1,128 @@
+package br.com.banco.bloom;
+
+import br.com.banco.dto.AccountDto;
+import br.com.banco.exception.BusinessException;
+import br.com.banco.repository.AccountRepository;
+import br.com.banco.service.impl.AccountService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "bank.account-filter.enabled=true",
+        "bank.account-filter.expected-accounts=1000",
+        "bank.account-filter.id-headroom=50"
+})
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class AccountIdFilterTest {
+    private static final String URL = "/api/accounts/";
+    private static final String ACCOUNT_NAME = "Joseph Smith";
+    private static final int UNKNOWN_IDS = 100;
+    private static final int ID_HEADROOM = 50;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void getAccount_CreatedThroughApi_ShouldBeFoundWhileDeletedIdsAreRejectedByTheFilter() throws Exception {
+        // given
+        List<Integer> deletedIds = new ArrayList<>();
+        for (int i = 0; i < UNKNOWN_IDS; i++) {
+            var account = accountRepository.save(new AccountDto(ACCOUNT_NAME).toEntity());
+            accountRepository.delete(account);
+            deletedIds.add(account.getId());
+        }
+        var content = mockMvc.perform(MockMvcRequestBuilders.post(URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AccountDto(ACCOUNT_NAME))))
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        int id = objectMapper.readTree(content).get("id").asInt();
+        accountService.rebuildIdFilter();
+
+        // when
+        var resultActions = mockMvc.perform(MockMvcRequestBuilders.get(URL + id));
+        for (int deletedId : deletedIds) {
+            mockMvc.perform(MockMvcRequestBuilders.get(URL + deletedId))
+                    .andExpect(MockMvcResultMatchers.status().isNotFound());
+        }
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isOk());
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.ownerName").value(ACCOUNT_NAME));
+        double rejected = meterRegistry.counter("bank.account.filter.rejected").count();
+        double falsePositives = meterRegistry.counter("bank.account.filter.false-positives").count();
+        assertEquals(UNKNOWN_IDS, rejected + falsePositives);
+        assertTrue(rejected >= UNKNOWN_IDS * 0.9, () -> "Too few ids rejected by the filter: " + rejected);
+    }
+
+    @Test
+    void findById_AccountInsertedBehindTheServiceAfterRebuild_ShouldFallThroughToTheDatabase() {
+        // given
+        accountService.rebuildIdFilter();
+
+        // when
+        var account = accountRepository.save(new AccountDto(ACCOUNT_NAME).toEntity());
+
+        // then
+        assertEquals(ACCOUNT_NAME, accountService.findById(account.getId()).getOwnerName());
+    }
+
+    @Test
+    void getAccount_IdsFarAboveTheHighestKnownId_ShouldBeRejectedByTheFilter() throws Exception {
+        // given
+        var account = accountRepository.save(new AccountDto(ACCOUNT_NAME).toEntity());
+        accountService.rebuildIdFilter();
+
+        // when
+        for (int i = 1; i <= UNKNOWN_IDS; i++) {
+            mockMvc.perform(MockMvcRequestBuilders.get(URL + (account.getId() + ID_HEADROOM + i)))
+                    .andExpect(MockMvcResultMatchers.status().isNotFound());
+        }
+
+        // then
+        assertEquals(UNKNOWN_IDS, meterRegistry.counter("bank.account.filter.rejected").count());
+        assertEquals(0, meterRegistry.counter("bank.account.filter.false-positives").count());
+    }
+
+    @Test
+    void rebuildIdFilter_AccountInsertedBehindTheService_ShouldBeFoundAfterRebuild() {
+        // given
+        var account = accountRepository.save(new AccountDto(ACCOUNT_NAME).toEntity());
+
+        // when
+        long accounts = accountService.rebuildIdFilter();
+
+        // then
+        assertEquals(1, accounts);
+        assertEquals(ACCOUNT_NAME, accountService.findById(account.getId()).getOwnerName());
+    }
+}
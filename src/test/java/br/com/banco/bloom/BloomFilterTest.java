@@ -0,0 +1,56 @@
+package br.com.banco.bloom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+    private static final int INSERTIONS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01d;
+
+    @Test
+    void mightContain_AddedValues_ShouldNeverReturnFalseNegatives() {
+        // given
+        var filter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+        for (int id = 1; id <= INSERTIONS; id++) {
+            filter.add(id);
+        }
+
+        // when
+        // then
+        for (int id = 1; id <= INSERTIONS; id++) {
+            assertTrue(filter.mightContain(id));
+        }
+    }
+
+    @Test
+    void mightContain_AbsentValuesAtExpectedLoad_ShouldStayNearConfiguredFalsePositiveRate() {
+        // given
+        var filter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+        for (int id = 1; id <= INSERTIONS; id++) {
+            filter.add(id);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int id = INSERTIONS + 1; id <= INSERTIONS * 11; id++) {
+            if (filter.mightContain(id))
+                falsePositives++;
+        }
+
+        // then
+        double observed = falsePositives / (INSERTIONS * 10d);
+        assertTrue(observed < FALSE_POSITIVE_RATE * 1.5, () -> "Observed rate too high: " + observed);
+        assertEquals(FALSE_POSITIVE_RATE, filter.expectedFalsePositiveRate(), FALSE_POSITIVE_RATE / 2);
+        assertEquals(7, filter.getHashCount());
+    }
+
+    @Test
+    void new_InvalidFalsePositiveRate_ShouldThrowIllegalArgumentException() {
+        // given
+        // when
+        // then
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(INSERTIONS, 1d));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, FALSE_POSITIVE_RATE));
+    }
+}
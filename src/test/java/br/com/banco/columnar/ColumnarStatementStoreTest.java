@@ -0,0 +1,102 @@
+package br.com.banco.columnar;
+
+import br.com.banco.dto.StatementFilter;
+import br.com.banco.entity.Account;
+import br.com.banco.entity.Transference;
+import br.com.banco.entity.Type;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarStatementStoreTest {
+    private static final int ACCOUNT_ID = 1;
+    private static final int OTHER_ACCOUNT_ID = 2;
+    private static final int ROWS = 100;
+    private static final String OPERATOR_NAME = "Mary Smith";
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0, 0, 123_456_789);
+
+    @Test
+    void find_OutOfOrderAppendsBeyondInitialCapacity_ShouldReturnRowsOrderedByTimeAndId() {
+        // given
+        var store = new ColumnarStatementStore(2);
+        for (int i = ROWS - 1; i >= 0; i--) {
+            store.append(ACCOUNT_ID, i + 1, START.plusSeconds(i / 2), i, Type.DEPOSIT, null);
+        }
+        store.append(OTHER_ACCOUNT_ID, ROWS + 1, START, 1d, Type.WITHDRAW, null);
+
+        // when
+        var statement = store.find(buildAccount(ACCOUNT_ID), null);
+
+        // then
+        assertEquals(ROWS, statement.size());
+        for (int i = 0; i < ROWS; i++) {
+            assertEquals(i + 1, statement.get(i).getId());
+            assertEquals(START.plusSeconds(i / 2), statement.get(i).getTransferenceDate());
+            assertEquals((double) i, statement.get(i).getValue());
+            assertEquals(Type.DEPOSIT, statement.get(i).getType());
+            assertEquals(ACCOUNT_ID, statement.get(i).getAccount().getId());
+        }
+        assertEquals(ROWS + 1, store.rows());
+        assertEquals(2, store.accounts());
+        assertEquals((128L + 2L) * AccountColumns.ROW_BYTES, store.offHeapBytes());
+    }
+
+    @Test
+    void find_DateRangeAndOperatorFilter_ShouldMatchBoundsInclusivelyAndCompareOperators() {
+        // given
+        var store = new ColumnarStatementStore(8);
+        for (int i = 0; i < ROWS; i++) {
+            store.append(ACCOUNT_ID, i + 1, START.plusMinutes(i), -i, Type.TRANSFERENCE,
+                    i % 3 == 0 ? OPERATOR_NAME : "Operator " + i % 3);
+        }
+
+        // when
+        var inRange = store.find(buildAccount(ACCOUNT_ID),
+                new StatementFilter(null, START.plusMinutes(10), START.plusMinutes(20)));
+        var byOperator = store.find(buildAccount(ACCOUNT_ID),
+                new StatementFilter(OPERATOR_NAME, START.plusMinutes(10), START.plusMinutes(20)));
+        var unknownOperator = store.find(buildAccount(ACCOUNT_ID), new StatementFilter("Nobody", null, null));
+        var onlyInitDate = store.find(buildAccount(ACCOUNT_ID), new StatementFilter(null, START.plusMinutes(10), null));
+
+        // then
+        assertEquals(rangeOfIds(11, 21), ids(inRange));
+        assertEquals(List.of(13, 16, 19), ids(byOperator));
+        byOperator.forEach(transference -> assertEquals(OPERATOR_NAME, transference.getTransactionOperatorName()));
+        assertTrue(unknownOperator.isEmpty());
+        assertEquals(ROWS, onlyInitDate.size());
+        assertEquals(3, store.operators());
+    }
+
+    @Test
+    void contains_RowWithinWindow_ShouldMatchById() {
+        // given
+        var store = new ColumnarStatementStore(8);
+        store.append(ACCOUNT_ID, 7, START, 10d, Type.DEPOSIT, null);
+
+        // when
+        // then
+        assertTrue(store.contains(ACCOUNT_ID, 7, START.minusSeconds(1), START.plusSeconds(1)));
+        assertFalse(store.contains(ACCOUNT_ID, 8, START.minusSeconds(1), START.plusSeconds(1)));
+        assertFalse(store.contains(ACCOUNT_ID, 7, START.plusSeconds(1), START.plusSeconds(2)));
+        assertFalse(store.contains(OTHER_ACCOUNT_ID, 7, START.minusSeconds(1), START.plusSeconds(1)));
+    }
+
+    private static List<Integer> ids(List<Transference> statement) {
+        return statement.stream().map(Transference::getId).collect(Collectors.toList());
+    }
+
+    private static List<Integer> rangeOfIds(int first, int last) {
+        return IntStream.rangeClosed(first, last).boxed().collect(Collectors.toList());
+    }
+
+    private static Account buildAccount(int id) {
+        var account = new Account("Joseph Smith");
+        account.setId(id);
+        return account;
+    }
+}
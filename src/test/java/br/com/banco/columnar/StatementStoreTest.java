@@ -0,0 +1,171 @@
+package br.com.banco.columnar;
+
+import br.com.banco.configuration.StatementStoreProperties;
+import br.com.banco.dto.BatchStatementDto;
+import br.com.banco.dto.DepositDto;
+import br.com.banco.dto.StatementFilter;
+import br.com.banco.dto.TransferenceDto;
+import br.com.banco.dto.WithdrawDto;
+import br.com.banco.entity.Account;
+import br.com.banco.entity.Transference;
+import br.com.banco.entity.Type;
+import br.com.banco.event.OperationEvent;
+import br.com.banco.repository.AccountRepository;
+import br.com.banco.repository.ShardedTransferenceRepository;
+import br.com.banco.repository.StatementRowRepository;
+import br.com.banco.repository.TransferenceRepository;
+import br.com.banco.service.impl.StatementStoreService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "bank.statement-store.enabled=true")
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class StatementStoreTest {
+    private static final String DEPOSIT_URL = "/api/operations/deposit/";
+    private static final String WITHDRAW_URL = "/api/operations/withdraw/";
+    private static final String TRANSFERENCE_URL = "/api/operations/transference/";
+    private static final String BANK_STATEMENT_URL = "/api/operations/bank-statement/";
+    private static final String BATCH_URL = BANK_STATEMENT_URL + "batch";
+    private static final String OWNER_NAME = "Joseph Smith";
+    private static final String DESTINATION_OWNER_NAME = "Mary Smith";
+    private static final double VALUE = 100d;
+
+    @Autowired
+    private StatementStoreService statementStoreService;
+
+    @Autowired
+    private StatementRowRepository statementRowRepository;
+
+    @Autowired
+    private ShardedTransferenceRepository shardedTransferenceRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransferenceRepository transferenceRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Account account;
+    private Account destinationAccount;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        account = accountRepository.save(new Account(OWNER_NAME));
+        destinationAccount = accountRepository.save(new Account(DESTINATION_OWNER_NAME));
+        post(DEPOSIT_URL + account.getId(), new DepositDto(VALUE));
+        post(TRANSFERENCE_URL + account.getId(), new TransferenceDto(VALUE / 4, destinationAccount.getId()));
+        post(WITHDRAW_URL + account.getId(), new WithdrawDto(VALUE / 2));
+    }
+
+    @Test
+    void getBankStatement_CommittedOperations_ShouldBeAnsweredFromTheStoreWithFilters() throws Exception {
+        // given
+        assertTrue(statementStoreService.isReady());
+
+        // when
+        var all = mockMvc.perform(MockMvcRequestBuilders.get(BANK_STATEMENT_URL + account.getId()));
+        var byOperator = mockMvc.perform(MockMvcRequestBuilders.get(BANK_STATEMENT_URL + account.getId())
+                .param("transactionOperator", DESTINATION_OWNER_NAME));
+        var batch = mockMvc.perform(MockMvcRequestBuilders.post(BATCH_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BatchStatementDto(
+                        List.of(destinationAccount.getId(), account.getId()), OWNER_NAME, null, null))));
+
+        // then
+        all.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(3)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].type").value(Type.DEPOSIT.toString()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].value").value(-VALUE / 4))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[2].type").value(Type.WITHDRAW.toString()));
+        byOperator.andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].type").value(Type.TRANSFERENCE.toString()));
+        batch.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$." + destinationAccount.getId(), Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$." + destinationAccount.getId() + "[0].value").value(VALUE / 4))
+                .andExpect(MockMvcResultMatchers.jsonPath("$." + account.getId(), Matchers.hasSize(0)));
+    }
+
+    @Test
+    void getBankStatement_AppendAfterVersionBump_ShouldChangeETag() throws Exception {
+        // given
+        var url = BANK_STATEMENT_URL + destinationAccount.getId();
+        var eTag = mockMvc.perform(MockMvcRequestBuilders.get(url))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        var direct = transferenceRepository.save(new Transference(VALUE, Type.DEPOSIT, destinationAccount, null));
+
+        // when
+        statementStoreService.onOperationCommitted(new OperationEvent(direct));
+        var revalidated = mockMvc.perform(MockMvcRequestBuilders.get(url).header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+        // then
+        revalidated.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(2)));
+        assertNotEquals(eTag, revalidated.andReturn().getResponse().getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void load_RowsWrittenBehindTheService_ShouldMatchTheDatabaseStatement() {
+        // given
+        var direct = transferenceRepository.save(new Transference(VALUE, Type.DEPOSIT, destinationAccount, null));
+        var properties = new StatementStoreProperties();
+        properties.setEnabled(true);
+        var freshStore = new StatementStoreService(
+                properties, statementRowRepository, shardedTransferenceRepository, new SimpleMeterRegistry());
+
+        // when
+        int loaded = freshStore.load();
+
+        // then
+        assertEquals(5, loaded);
+        assertTrue(freshStore.isReady());
+        var filter = new StatementFilter(null, LocalDateTime.now().minusMinutes(1), LocalDateTime.now().plusMinutes(1));
+        var statement = freshStore.getBankStatements(destinationAccount, filter);
+        assertEquals(2, statement.size());
+        assertEquals(direct.getId(), statement.get(1).getId());
+        assertEquals(VALUE, statement.get(1).getValue());
+        for (Account owner : List.of(account, destinationAccount)) {
+            assertEquals(ids(transferenceRepository.findAll().stream()
+                            .filter(transference -> transference.getAccount().equals(owner))
+                            .collect(Collectors.toList())),
+                    ids(freshStore.getBankStatements(owner, null)));
+        }
+    }
+
+    private void post(String url, Object body) throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post(url)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(body)))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
+    private static List<Integer> ids(List<Transference> statement) {
+        return statement.stream().map(Transference::getId).collect(Collectors.toList());
+    }
+}
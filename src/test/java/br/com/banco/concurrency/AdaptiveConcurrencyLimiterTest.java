@@ -0,0 +1,97 @@
+package br.com.banco.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+    private static final int INITIAL_LIMIT = 10;
+    private static final int MIN_LIMIT = 2;
+    private static final int MAX_LIMIT = 100;
+    private static final long FAST_RTT = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW_RTT = TimeUnit.MILLISECONDS.toNanos(20);
+
+    private final AdaptiveConcurrencyLimiter limiter =
+            new AdaptiveConcurrencyLimiter("operations", INITIAL_LIMIT, MIN_LIMIT, MAX_LIMIT, 1.5, 0.2, 0.9);
+
+    @Test
+    void tryAcquire_LimitReached_ShouldRejectWithoutQueueing() {
+        // given
+        for (int i = 0; i < INITIAL_LIMIT; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+
+        // when
+        var acquired = limiter.tryAcquire();
+
+        // then
+        assertFalse(acquired);
+        assertEquals(INITIAL_LIMIT, limiter.getInFlight());
+        assertEquals(1, limiter.getRejected());
+    }
+
+    @Test
+    void release_SaturatedWithStableLatency_ShouldIncreaseLimit() {
+        // given
+        // when
+        saturate(FAST_RTT, 50);
+
+        // then
+        assertTrue(limiter.getLimit() > INITIAL_LIMIT);
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void release_LatencyRises_ShouldDecreaseLimit() {
+        // given
+        saturate(FAST_RTT, 20);
+        var limitBeforeSlowdown = limiter.getLimit();
+
+        // when
+        saturate(SLOW_RTT, 5);
+
+        // then
+        assertTrue(limiter.getLimit() < limitBeforeSlowdown);
+    }
+
+    @Test
+    void release_LowConcurrency_ShouldKeepLimit() {
+        // given
+        // when
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release(i % 2 == 0 ? FAST_RTT : SLOW_RTT);
+        }
+
+        // then
+        assertEquals(INITIAL_LIMIT, limiter.getLimit());
+    }
+
+    @Test
+    void releaseDropped_RepeatedFailures_ShouldBackOffToMinLimit() {
+        // given
+        // when
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.releaseDropped();
+        }
+
+        // then
+        assertEquals(MIN_LIMIT, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    private void saturate(long rttNanos, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            var acquired = 0;
+            while (limiter.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limiter.release(rttNanos);
+            }
+        }
+    }
+}
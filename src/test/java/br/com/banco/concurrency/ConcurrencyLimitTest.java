@@ -0,0 +1,101 @@
+package br.com.banco.concurrency;
+
+import br.com.banco.dto.AccountDto;
+import br.com.banco.dto.DepositDto;
+import br.com.banco.entity.Account;
+import br.com.banco.repository.AccountRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "bank.concurrency-limit.enabled=true",
+        "bank.concurrency-limit.endpoints.operations.initial-limit=2",
+        "bank.concurrency-limit.endpoints.operations.min-limit=1",
+        "bank.concurrency-limit.endpoints.statements.initial-limit=2",
+        "bank.concurrency-limit.endpoints.statements.min-limit=1"
+})
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ConcurrencyLimitTest {
+    private static final String DEPOSIT_URL = "/api/operations/deposit/";
+    private static final String BANK_STATEMENT_URL = "/api/operations/bank-statement/";
+    private static final String OPERATIONS = "operations";
+    private static final String SERVICE_OVERLOADED_TITLE = "Service overloaded";
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ConcurrencyLimiterRegistry concurrencyLimiterRegistry;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        account = accountRepository.save(new AccountDto("Joseph Smith").toEntity());
+    }
+
+    @Test
+    void deposit_OperationsLimitReached_ShouldFailFastWithServiceUnavailable() throws Exception {
+        // given
+        var limiter = concurrencyLimiterRegistry.get(OPERATIONS);
+        while (limiter.tryAcquire()) {
+            // hold every permit as if requests were stuck on a slow database
+        }
+
+        // when
+        var result = deposit();
+
+        // then
+        result.andExpect(MockMvcResultMatchers.status().isServiceUnavailable());
+        result.andExpect(MockMvcResultMatchers.jsonPath("$.title", Matchers.is(SERVICE_OVERLOADED_TITLE)));
+        mockMvc.perform(MockMvcRequestBuilders.get(BANK_STATEMENT_URL + account.getId()))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        assertEquals(2, meterRegistry.get("bank.concurrency.rejected").tag("endpoint", OPERATIONS)
+                .functionCounter().count());
+    }
+
+    @Test
+    void deposit_PermitAvailable_ShouldReleaseItAndExposeLimit() throws Exception {
+        // given
+        // when
+        var result = deposit();
+
+        // then
+        result.andExpect(MockMvcResultMatchers.status().isOk());
+        assertEquals(0, concurrencyLimiterRegistry.get(OPERATIONS).getInFlight());
+        assertEquals(2, meterRegistry.get("bank.concurrency.limit").tag("endpoint", OPERATIONS).gauge().value());
+        assertEquals(0, meterRegistry.get("bank.concurrency.in-flight").tag("endpoint", OPERATIONS).gauge().value());
+    }
+
+    private ResultActions deposit() throws Exception {
+        return mockMvc.perform(MockMvcRequestBuilders.post(DEPOSIT_URL + account.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new DepositDto(20d))));
+    }
+}
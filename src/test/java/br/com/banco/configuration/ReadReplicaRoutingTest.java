@@ -0,0 +1,118 @@
+package br.com.banco.configuration;
+
+import br.com.banco.dto.AccountDto;
+import br.com.banco.repository.AccountRepository;
+import br.com.banco.service.impl.AccountService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "bank.datasource.replica.enabled=true",
+        "bank.datasource.replica.url=jdbc:h2:mem:bank-db-replica-test",
+        "bank.datasource.replica.username=sa",
+        "bank.datasource.replica.password=",
+        "bank.datasource.replica.stand-in.enabled=true",
+        "bank.datasource.replica.stand-in.interval=PT1H"
+})
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ReadReplicaRoutingTest {
+    private static final String URL = "/api/accounts/";
+    private static final String CLIENT_ID_HEADER = "X-Client-Id";
+    private static final String PRIMARY_ACCOUNT_NAME = "Joseph Smith";
+    private static final String REPLICA_ONLY_ACCOUNT_NAME = "Replica Only";
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private H2ReplicationStandIn replicationStandIn;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        accountRepository.save(new AccountDto(PRIMARY_ACCOUNT_NAME).toEntity());
+        replicationStandIn.replicate();
+        new JdbcTemplate(replicaDataSource).update(
+                "INSERT INTO conta (id_conta, nome_responsavel) VALUES (?, ?)", 1000, REPLICA_ONLY_ACCOUNT_NAME);
+    }
+
+    @Test
+    void findAll_ReadOnlyTransaction_ShouldReadFromReplica() {
+        // given
+        // when
+        var accounts = accountService.findAll();
+
+        // then
+        assertEquals(2, accounts.size());
+        assertTrue(accounts.stream().anyMatch(account -> REPLICA_ONLY_ACCOUNT_NAME.equals(account.getOwnerName())));
+    }
+
+    @Test
+    void save_WriteTransaction_ShouldWriteToPrimaryOnly() {
+        // given
+        var account = accountService.save(new AccountDto(PRIMARY_ACCOUNT_NAME).toEntity());
+
+        // when
+        var replicaCount = new JdbcTemplate(replicaDataSource).queryForObject(
+                "SELECT COUNT(*) FROM conta WHERE id_conta = ?", Integer.class, account.getId());
+
+        // then
+        assertEquals(0, replicaCount);
+    }
+
+    @Test
+    void findAll_ClientWithPendingWrite_ShouldReadItsOwnWritesFromPrimary() throws Exception {
+        // given
+        var accountDto = objectMapper.writeValueAsString(new AccountDto(PRIMARY_ACCOUNT_NAME));
+
+        mockMvc.perform(MockMvcRequestBuilders.post(URL)
+                        .header(CLIENT_ID_HEADER, "writer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(accountDto))
+                .andExpect(MockMvcResultMatchers.status().isCreated());
+
+        // when
+        var writerResult = mockMvc.perform(MockMvcRequestBuilders.get(URL).header(CLIENT_ID_HEADER, "writer"));
+        var readerResult = mockMvc.perform(MockMvcRequestBuilders.get(URL).header(CLIENT_ID_HEADER, "reader"));
+
+        // then
+        writerResult.andExpect(MockMvcResultMatchers.status().isOk());
+        writerResult.andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(2)));
+        writerResult.andExpect(MockMvcResultMatchers.jsonPath("$[*].ownerName",
+                Matchers.not(Matchers.hasItem(REPLICA_ONLY_ACCOUNT_NAME))));
+        readerResult.andExpect(MockMvcResultMatchers.status().isOk());
+        readerResult.andExpect(MockMvcResultMatchers.jsonPath("$[*].ownerName",
+                Matchers.hasItem(REPLICA_ONLY_ACCOUNT_NAME)));
+    }
+}
@@ -1,16 +1,24 @@
 package br.com.banco.controller;
 
 import br.com.banco.dto.AccountDto;
+import br.com.banco.dto.AccountResponse;
+import br.com.banco.dto.BalanceSlotsDto;
+import br.com.banco.dto.DepositDto;
+import br.com.banco.dto.WithdrawDto;
 import br.com.banco.entity.Transference;
 import br.com.banco.entity.Type;
+import br.com.banco.exception.dto.ExceptionDto;
 import br.com.banco.repository.AccountRepository;
 import br.com.banco.repository.TransferenceRepository;
+import br.com.banco.serialization.BankBinaryFormat;
+import br.com.banco.serialization.BankBinaryHttpMessageConverter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
@@ -21,6 +29,12 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 @SpringBootTest
 @ActiveProfiles("test")
 @AutoConfigureMockMvc
@@ -29,6 +43,10 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 class AccountResourceTest {
 
     public static final String URL = "/api/accounts/";
+    private static final String BALANCE_PATH = "/balance";
+    private static final String BALANCE_SLOTS_PATH = "/balance-slots";
+    private static final String DEPOSIT_URL = "/api/operations/deposit/";
+    private static final String WITHDRAW_URL = "/api/operations/withdraw/";
     public static final String ACCOUNT_DTO_NAME = "Joseph Smith";
     private static final String SECOND_ACCOUNT_DTO_NAME = "Carlos Maia";
     public static final int FIRST_ID = 1;
@@ -152,6 +170,27 @@ class AccountResourceTest {
         resultActions.andDo(MockMvcResultHandlers.print());
     }
 
+    @Test
+    void findById_MatchingIfNoneMatch_ShouldReturn304StatusWithoutBody() throws Exception {
+        // given
+        accountRepository.save(buildAccountDto().toEntity());
+        var eTag = mockMvc.perform(MockMvcRequestBuilders.get(URL + FIRST_ID))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // when
+        var resultActions = mockMvc.perform(MockMvcRequestBuilders.get(URL + FIRST_ID)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .accept(MediaType.APPLICATION_JSON));
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isNotModified());
+        resultActions.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, eTag));
+        resultActions.andExpect(MockMvcResultMatchers.content().string(""));
+    }
+
     @Test
     void findById_NonExistingId_ShouldNotFindAccountAndReturn404Status() throws Exception {
         // given
@@ -192,6 +231,49 @@ class AccountResourceTest {
                 .value(Matchers.containsInAnyOrder(ACCOUNT_DTO_NAME, SECOND_ACCOUNT_DTO_NAME)));
     }
 
+    @Test
+    void findAll_BankBinaryAcceptHeader_ShouldGetAllAccountsInBinaryFormatAndReturn200Status() throws Exception {
+        // given
+        accountRepository.save(buildAccountDto().toEntity());
+        accountRepository.save(buildSecondAccountDto().toEntity());
+
+        // when
+        var resultActions = mockMvc.perform(MockMvcRequestBuilders.get(URL)
+                .accept(BankBinaryHttpMessageConverter.BANK_BINARY));
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isOk());
+        resultActions.andExpect(MockMvcResultMatchers.content()
+                .contentTypeCompatibleWith(BankBinaryHttpMessageConverter.BANK_BINARY));
+        var content = resultActions.andReturn().getResponse().getContentAsByteArray();
+        var accounts = ((List<?>) BankBinaryFormat.read(new ByteArrayInputStream(content))).stream()
+                .map(AccountResponse.class::cast)
+                .collect(Collectors.toList());
+        assertEquals(List.of(FIRST_ID, SECOND_ID),
+                accounts.stream().map(AccountResponse::getId).sorted().collect(Collectors.toList()));
+        assertEquals(List.of(SECOND_ACCOUNT_DTO_NAME, ACCOUNT_DTO_NAME),
+                accounts.stream().map(AccountResponse::getOwnerName).sorted().collect(Collectors.toList()));
+    }
+
+    @Test
+    void findById_NonExistingIdWithBankBinaryAcceptHeader_ShouldReturnBinaryErrorAnd404Status() throws Exception {
+        // given
+        // when
+        var resultActions = mockMvc.perform(MockMvcRequestBuilders.get(URL + NON_EXISTING_ID)
+                .accept(BankBinaryHttpMessageConverter.BANK_BINARY));
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isNotFound());
+        resultActions.andExpect(MockMvcResultMatchers.content()
+                .contentTypeCompatibleWith(BankBinaryHttpMessageConverter.BANK_BINARY));
+        var content = resultActions.andReturn().getResponse().getContentAsByteArray();
+        var error = (ExceptionDto) BankBinaryFormat.read(new ByteArrayInputStream(content));
+        assertEquals(BUSINESS_ERROR_TITLE, error.getTitle());
+        assertEquals(HttpStatus.NOT_FOUND.value(), error.getStatus());
+        assertEquals(BUSINESS_EXCEPTION_MSG, error.getException());
+        assertEquals(INVALID_ID_MSG, error.getDetails().get("IllegalArgumentException"));
+    }
+
     @Test
     void findAll_NonPersistedAccounts_ShouldGetEmptyListAndReturn200Status() throws Exception {
         // given
@@ -312,6 +394,72 @@ class AccountResourceTest {
         resultActions.andDo(MockMvcResultHandlers.print());
     }
 
+    @Test
+    void getBalance_HotAccountWithOperations_ShouldSumSlotsAndReturn200Status() throws Exception {
+        // given
+        accountRepository.save(buildAccountDto().toEntity());
+        mockMvc.perform(MockMvcRequestBuilders.put(URL + FIRST_ID + BALANCE_SLOTS_PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BalanceSlotsDto(4))))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.post(DEPOSIT_URL + FIRST_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new DepositDto(100d))))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.post(WITHDRAW_URL + FIRST_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new WithdrawDto(30d))))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        // when
+        var resultActions = mockMvc.perform(MockMvcRequestBuilders.get(URL + FIRST_ID + BALANCE_PATH)
+                .accept(MediaType.APPLICATION_JSON));
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isOk());
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.accountId").value(FIRST_ID));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.balance").value(70d));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.slots").value(4));
+    }
+
+    @Test
+    void updateBalanceSlots_ShrinkingSlots_ShouldKeepBalanceAndReturn200Status() throws Exception {
+        // given
+        accountRepository.save(buildAccountDto().toEntity());
+        mockMvc.perform(MockMvcRequestBuilders.put(URL + FIRST_ID + BALANCE_SLOTS_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BalanceSlotsDto(8))));
+        mockMvc.perform(MockMvcRequestBuilders.post(DEPOSIT_URL + FIRST_ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new DepositDto(50d))));
+
+        // when
+        var resultActions = mockMvc.perform(MockMvcRequestBuilders.put(URL + FIRST_ID + BALANCE_SLOTS_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BalanceSlotsDto(1))));
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isOk());
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.balance").value(50d));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.slots").value(1));
+    }
+
+    @Test
+    void updateBalanceSlots_TooManySlots_ShouldReturn400Status() throws Exception {
+        // given
+        accountRepository.save(buildAccountDto().toEntity());
+
+        // when
+        var resultActions = mockMvc.perform(MockMvcRequestBuilders.put(URL + FIRST_ID + BALANCE_SLOTS_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BalanceSlotsDto(65))));
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isBadRequest());
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.details.slots")
+                .value("The 'slots' field must not exceed 64."));
+    }
+
     static AccountDto buildAccountDto() {
         return new AccountDto(ACCOUNT_DTO_NAME);
     }
@@ -0,0 +1,229 @@
+package br.com.banco.controller;
+
+import br.com.banco.entity.Account;
+import br.com.banco.entity.BatchJobChunk;
+import br.com.banco.entity.BatchJobExecution;
+import br.com.banco.entity.Transference;
+import br.com.banco.entity.Type;
+import br.com.banco.repository.AccountRepository;
+import br.com.banco.repository.BatchJobChunkRepository;
+import br.com.banco.repository.BatchJobExecutionRepository;
+import br.com.banco.repository.TransferenceRepository;
+import br.com.banco.service.impl.BalanceService;
+import br.com.banco.service.impl.TransferenceService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {"bank.batch.chunk-size=2", "bank.batch.daily-fee.amount=2.5"})
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class BatchJobResourceTest {
+    private static final String BATCH_JOBS_URL = "/api/batch-jobs/";
+    private static final String DAILY_FEE_EXECUTIONS_URL = BATCH_JOBS_URL + "daily-fee/executions/";
+    private static final String RECONCILIATION_EXECUTIONS_URL = BATCH_JOBS_URL + "ledger-reconciliation/executions/";
+    private static final double DEPOSIT_VALUE = 100d;
+    private static final double TAMPERED_CREDIT = 10d;
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2026, 10, 18);
+    private static final int ACCOUNTS = 5;
+    private static final int CHUNKS = 3;
+    private static final double FEE = 2.5;
+    private static final String INVALID_JOB_MSG = "Invalid job name. The specified batch job does not exist.";
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransferenceRepository transferenceRepository;
+
+    @Autowired
+    private BatchJobExecutionRepository executionRepository;
+
+    @Autowired
+    private BatchJobChunkRepository chunkRepository;
+
+    @Autowired
+    private TransferenceService transferenceService;
+
+    @Autowired
+    private BalanceService balanceService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private List<Account> accounts;
+
+    @BeforeEach
+    void setUp() {
+        accounts = new ArrayList<>();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accounts.add(accountRepository.save(new Account("Owner " + i)));
+        }
+    }
+
+    @Test
+    void run_DailyFee_ShouldChargeEveryAccountOnceAcrossChunksEvenWhenRerun() throws Exception {
+        // given
+        // when
+        var resultActions = run();
+        run();
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isOk());
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.status").value("COMPLETED"));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.businessDate").value(BUSINESS_DATE.toString()));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.chunkCount").value(CHUNKS));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.completedChunks").value(CHUNKS));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.processed").value(ACCOUNTS));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.chunks.length()").value(CHUNKS));
+
+        var fees = transferenceRepository.findAll();
+        assertEquals(ACCOUNTS, fees.size());
+        assertTrue(fees.stream().allMatch(fee -> fee.getType() == Type.WITHDRAW && fee.getValue() == -FEE));
+        assertEquals(accountIds(accounts), fees.stream().map(fee -> fee.getAccount().getId()).collect(Collectors.toSet()));
+        assertEquals(1, executionRepository.count());
+    }
+
+    @Test
+    void run_InterruptedExecution_ShouldResumeFromTheLastCheckpoint() throws Exception {
+        // given
+        var execution = executionRepository.save(new BatchJobExecution("daily-fee", BUSINESS_DATE, 2));
+        var completed = new BatchJobChunk(execution.getId(), accounts.get(0).getId(), accounts.get(1).getId());
+        completed.complete(2, 1L);
+        chunkRepository.saveAll(List.of(completed,
+                new BatchJobChunk(execution.getId(), accounts.get(2).getId(), accounts.get(ACCOUNTS - 1).getId())));
+
+        // when
+        var resultActions = run();
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isOk());
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.id").value(execution.getId()));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.status").value("COMPLETED"));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.completedChunks").value(2));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.chunks[0].attempts").value(1));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.chunks[1].processed").value(ACCOUNTS - 2));
+
+        var charged = transferenceRepository.findAll().stream()
+                .map(Transference::getAccount)
+                .collect(Collectors.toList());
+        assertEquals(accountIds(accounts.subList(2, ACCOUNTS)), accountIds(charged));
+    }
+
+    @Test
+    void run_AccountAlreadyCharged_ShouldNotChargeItTwice() throws Exception {
+        // given
+        var alreadyCharged = new Transference(-FEE, Type.WITHDRAW, accounts.get(0), "Daily fee");
+        alreadyCharged.setCorrelationId(UUID.nameUUIDFromBytes(
+                ("daily-fee:" + BUSINESS_DATE + ":" + accounts.get(0).getId()).getBytes(StandardCharsets.UTF_8)).toString());
+        transferenceRepository.save(alreadyCharged);
+
+        // when
+        var resultActions = run();
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isOk());
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.processed").value(ACCOUNTS - 1));
+
+        var charged = transferenceRepository.findAll().stream()
+                .map(fee -> fee.getAccount().getId())
+                .collect(Collectors.toList());
+        assertEquals(ACCOUNTS, charged.size());
+        assertEquals(accountIds(accounts), Set.copyOf(charged));
+    }
+
+    @Test
+    void findExecution_ExistingId_ShouldReturnExecutionWithChunks() throws Exception {
+        // given
+        run();
+        var execution = executionRepository.findByJobNameAndBusinessDate("daily-fee", BUSINESS_DATE).orElseThrow();
+
+        // when
+        var resultActions = mockMvc.perform(MockMvcRequestBuilders.get(BATCH_JOBS_URL + "executions/" + execution.getId())
+                .accept(MediaType.APPLICATION_JSON));
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isOk());
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.jobName").value("daily-fee"));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.chunks[0].firstAccountId").value(accounts.get(0).getId()));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.chunks[0].status").value("COMPLETED"));
+    }
+
+    @Test
+    void run_LedgerReconciliation_ShouldReportOnlyAccountsWhoseStoredBalanceDriftedFromTheLedger() throws Exception {
+        // given
+        accounts.forEach(account -> transferenceService.deposit(account, DEPOSIT_VALUE));
+        transferenceService.transfer(accounts.get(0), accounts.get(1), DEPOSIT_VALUE / 2);
+        var tampered = accounts.get(3);
+        balanceService.credit(tampered, TAMPERED_CREDIT);
+
+        // when
+        var resultActions = mockMvc.perform(MockMvcRequestBuilders.post(RECONCILIATION_EXECUTIONS_URL)
+                .param("businessDate", BUSINESS_DATE.toString())
+                .accept(MediaType.APPLICATION_JSON));
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isOk());
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.status").value("COMPLETED"));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.processed").value(ACCOUNTS));
+
+        var executionId = executionRepository.findByJobNameAndBusinessDate("ledger-reconciliation", BUSINESS_DATE)
+                .orElseThrow().getId();
+        mockMvc.perform(MockMvcRequestBuilders.get(BATCH_JOBS_URL + "executions/" + executionId + "/drifts")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].accountId").value(tampered.getId()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].source").value("BALANCE_SLOTS"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].ledgerBalance").value(DEPOSIT_VALUE))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].storedBalance").value(DEPOSIT_VALUE + TAMPERED_CREDIT))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].difference").value(TAMPERED_CREDIT))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].entries").value(1));
+    }
+
+    @Test
+    void run_NonExistingJob_ShouldReturn404Status() throws Exception {
+        // given
+        // when
+        var resultActions = mockMvc.perform(MockMvcRequestBuilders.post(BATCH_JOBS_URL + "unknown/executions/")
+                .accept(MediaType.APPLICATION_JSON));
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isNotFound());
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.status").value(HttpStatus.NOT_FOUND.value()));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.details.IllegalArgumentException").value(INVALID_JOB_MSG));
+        assertEquals(0, executionRepository.count());
+    }
+
+    private ResultActions run() throws Exception {
+        return mockMvc.perform(MockMvcRequestBuilders.post(DAILY_FEE_EXECUTIONS_URL)
+                .param("businessDate", BUSINESS_DATE.toString())
+                .accept(MediaType.APPLICATION_JSON));
+    }
+
+    private static Set<Integer> accountIds(List<Account> accounts) {
+        return accounts.stream().map(Account::getId).collect(Collectors.toSet());
+    }
+}
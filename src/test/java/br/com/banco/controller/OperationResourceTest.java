@@ -1,6 +1,9 @@
 package br.com.banco.controller;
 
+import br.com.banco.dto.BankStatementResponse;
+import br.com.banco.dto.BatchStatementDto;
 import br.com.banco.dto.DepositDto;
+import br.com.banco.dto.TransferReversalDto;
 import br.com.banco.dto.TransferenceDto;
 import br.com.banco.dto.WithdrawDto;
 import br.com.banco.entity.Account;
@@ -8,13 +11,20 @@ import br.com.banco.entity.Transference;
 import br.com.banco.entity.Type;
 import br.com.banco.repository.AccountRepository;
 import br.com.banco.repository.TransferenceRepository;
+import br.com.banco.serialization.BankBinaryFormat;
+import br.com.banco.serialization.BankBinaryHttpMessageConverter;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
@@ -23,9 +33,19 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.io.ByteArrayInputStream;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -38,6 +58,10 @@ class OperationResourceTest {
     private static final String WITHDRAW_URL = "/api/operations/withdraw/";
     private static final String DEPOSIT_URL = "/api/operations/deposit/";
     private static final String BANK_STATEMENT_URL = "/api/operations/bank-statement/";
+    private static final String STREAM_URL = "/api/operations/stream/";
+    private static final String COMMANDS_URL = "/api/operations/commands/";
+    private static final String PREFER_HEADER = "Prefer";
+    private static final String RESPOND_ASYNC = "respond-async";
     public static final double TRANSFER_VALUE = 100d;
     public static final double WITHDRAW_VALUE = 100d;
     public static final double DEPOSIT_VALUE = 100d;
@@ -58,6 +82,8 @@ class OperationResourceTest {
             "org.springframework.web.method.annotation.MethodArgumentTypeMismatchException";
     private static final String INVALID_ID_MSG =
             "Invalid ID. The specified ID does not exist in our records. Please check and try again.";
+    private static final String INVALID_CORRELATION_ID_MSG =
+            "Invalid correlation ID. No transfer legs were found for the specified ID.";
     public static final String SAME_ID_MSG = "Source and destination account IDs cannot be the same.";
     public static final String INVALID_TRANSFER_VALUE_MSG = "The 'value' field must be greater than zero(0).";
     public static final String INVALID_DESTINATION_ACCOUNT_ID_MSG =
@@ -773,6 +799,391 @@ class OperationResourceTest {
         resultActions.andDo(MockMvcResultHandlers.print());
     }
 
+    @Test
+    void streamOperations_NewDeposit_ShouldPushOperationEvent() throws Exception {
+        // given
+        var account = accountRepository.save(AccountResourceTest.buildAccountDto().toEntity());
+        var depositDto = objectMapper.writeValueAsString(buildDepositDto());
+
+        var streamResult = mockMvc.perform(MockMvcRequestBuilders.get(STREAM_URL + account.getId())
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        // when
+        mockMvc.perform(MockMvcRequestBuilders.post(DEPOSIT_URL + account.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(depositDto))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        // then
+        var content = awaitContent(streamResult.getResponse(), "DEPOSIT");
+        assertTrue(content.contains("event:operation"));
+        assertTrue(content.contains("\"type\":\"DEPOSIT\""));
+    }
+
+    @Test
+    void streamOperations_NonExistingAccountId_ShouldReturn404Status() throws Exception {
+        // given
+        // when
+        var resultActions = mockMvc.perform(MockMvcRequestBuilders.get(STREAM_URL + NON_EXISTING_ACCOUNT_ID));
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isNotFound());
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.title").value(BUSINESS_ERROR_TITLE));
+    }
+
+    @Test
+    void getBankStatement_IfNoneMatch_ShouldReturn304UntilAnOperationChangesTheAccountVersion() throws Exception {
+        // given
+        var account = accountRepository.save(AccountResourceTest.buildAccountDto().toEntity());
+        persistTransferences(buildDeposit(account));
+        var url = BANK_STATEMENT_URL + account.getId();
+        var eTag = mockMvc.perform(MockMvcRequestBuilders.get(url))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // when
+        var notModified = mockMvc.perform(MockMvcRequestBuilders.get(url).header(HttpHeaders.IF_NONE_MATCH, eTag));
+        mockMvc.perform(MockMvcRequestBuilders.post(DEPOSIT_URL + account.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(buildDepositDto())))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        var modified = mockMvc.perform(MockMvcRequestBuilders.get(url).header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+        // then
+        notModified.andExpect(MockMvcResultMatchers.status().isNotModified());
+        notModified.andExpect(MockMvcResultMatchers.content().string(""));
+        modified.andExpect(MockMvcResultMatchers.status().isOk());
+        modified.andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(2));
+        assertNotEquals(eTag, modified.andReturn().getResponse().getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void getBankStatements_BatchOfAccounts_ShouldReturnStatementsPerAccountInRequestOrderAnd200Status()
+            throws Exception {
+        // given
+        var account = accountRepository.save(AccountResourceTest.buildAccountDto().toEntity());
+        var secondAccount = accountRepository.save(AccountResourceTest.buildSecondAccountDto().toEntity());
+        var emptyAccount = accountRepository.save(AccountResourceTest.buildSecondAccountDto().toEntity());
+        persistTransferences(buildDeposit(account), buildWithdraw(secondAccount), buildDeposit(secondAccount));
+        var batchStatementDto = new BatchStatementDto(
+                List.of(secondAccount.getId(), emptyAccount.getId(), account.getId()), null, null, null);
+
+        // when
+        var resultActions = mockMvc.perform(MockMvcRequestBuilders.post(BANK_STATEMENT_URL + "batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(batchStatementDto)));
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isOk());
+        var statements = objectMapper.readTree(resultActions.andReturn().getResponse().getContentAsString());
+        assertEquals(List.of(secondAccount.getId().toString(), emptyAccount.getId().toString(),
+                account.getId().toString()), iteratorToList(statements.fieldNames()));
+        assertEquals(2, statements.get(secondAccount.getId().toString()).size());
+        assertEquals(Type.WITHDRAW.toString(), statements.get(secondAccount.getId().toString()).get(0).get("type").asText());
+        assertEquals(0, statements.get(emptyAccount.getId().toString()).size());
+        assertEquals(1, statements.get(account.getId().toString()).size());
+        assertEquals(DEPOSIT_VALUE, statements.get(account.getId().toString()).get(0).get("value").asDouble());
+    }
+
+    @Test
+    void getBankStatements_BatchWithNonExistingAccount_ShouldReturn404Status() throws Exception {
+        // given
+        var account = accountRepository.save(AccountResourceTest.buildAccountDto().toEntity());
+        var batchStatementDto = new BatchStatementDto(
+                List.of(account.getId(), NON_EXISTING_ACCOUNT_ID), null, null, null);
+
+        // when
+        var resultActions = mockMvc.perform(MockMvcRequestBuilders.post(BANK_STATEMENT_URL + "batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(batchStatementDto)));
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isNotFound());
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.details.IllegalArgumentException")
+                .value(INVALID_ID_MSG));
+    }
+
+    @Test
+    void getBankStatements_BatchWithoutAccountIds_ShouldReturn400Status() throws Exception {
+        // given
+        var batchStatementDto = new BatchStatementDto(List.of(), null, null, null);
+
+        // when
+        var resultActions = mockMvc.perform(MockMvcRequestBuilders.post(BANK_STATEMENT_URL + "batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(batchStatementDto)));
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isBadRequest());
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.title").value(VALIDATION_ERROR_TITLE));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.details.accountIds")
+                .value("The 'accountIds' field must contain at least one account id."));
+    }
+
+    @Test
+    void getBankStatementSummary_OperationsPresent_ShouldReturnAggregatesPerTypeAnd200Status() throws Exception {
+        // given
+        var account = accountRepository.save(AccountResourceTest.buildAccountDto().toEntity());
+        var destinationAccount = accountRepository.save(AccountResourceTest.buildSecondAccountDto().toEntity());
+        persistTransferences(buildDeposit(account), buildDeposit(account), buildWithdraw(account),
+                buildTransference(account, destinationAccount.getOwnerName()));
+
+        // when
+        var resultActions = mockMvc.perform(MockMvcRequestBuilders.get(BANK_STATEMENT_URL + account.getId() + "/summary")
+                .accept(MediaType.APPLICATION_JSON));
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isOk());
+        resultActions.andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.ETAG));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.count").value(4));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.netTotal")
+                .value(2 * DEPOSIT_VALUE - WITHDRAW_VALUE + TRANSFER_VALUE));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.types.length()").value(3));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.types[0].type").value(Type.DEPOSIT.toString()));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.types[0].count").value(2));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.types[0].sum").value(2 * DEPOSIT_VALUE));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.types[1].type").value(Type.WITHDRAW.toString()));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.types[1].min").value(-WITHDRAW_VALUE));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.types[2].type")
+                .value(Type.TRANSFERENCE.toString()));
+    }
+
+    @Test
+    void getBankStatementSummary_NonExistingAccount_ShouldReturn404Status() throws Exception {
+        // given
+        // when
+        var resultActions = mockMvc.perform(
+                MockMvcRequestBuilders.get(BANK_STATEMENT_URL + NON_EXISTING_ACCOUNT_ID + "/summary"));
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isNotFound());
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.details.IllegalArgumentException")
+                .value(INVALID_ID_MSG));
+    }
+
+    @Test
+    void getTransferLegs_ExistingTransfer_ShouldReturnBothLegsAnd200Status() throws Exception {
+        // given
+        var account = accountRepository.save(AccountResourceTest.buildAccountDto().toEntity());
+        var destinationAccount = accountRepository.save(AccountResourceTest.buildSecondAccountDto().toEntity());
+        var correlationId = transfer(account, destinationAccount);
+
+        // when
+        var resultActions = mockMvc.perform(MockMvcRequestBuilders.get(TRANSFERENCE_URL + correlationId + "/legs")
+                .accept(MediaType.APPLICATION_JSON));
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isOk());
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(2));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$[0].accountId").value(account.getId()));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$[0].value").value(-TRANSFER_VALUE));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$[1].accountId").value(destinationAccount.getId()));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$[1].correlationId").value(correlationId));
+    }
+
+    @Test
+    void getTransferLegs_UnknownCorrelationId_ShouldReturn404Status() throws Exception {
+        // given
+        // when
+        var resultActions = mockMvc.perform(
+                MockMvcRequestBuilders.get(TRANSFERENCE_URL + UUID.randomUUID() + "/legs"));
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isNotFound());
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.details.IllegalArgumentException")
+                .value(INVALID_CORRELATION_ID_MSG));
+    }
+
+    @Test
+    void reverseTransfers_BatchOfCorrelationIds_ShouldReverseEachTransferOnceAnd200Status() throws Exception {
+        // given
+        var account = accountRepository.save(AccountResourceTest.buildAccountDto().toEntity());
+        var destinationAccount = accountRepository.save(AccountResourceTest.buildSecondAccountDto().toEntity());
+        var correlationId = transfer(account, destinationAccount);
+        var unknownCorrelationId = UUID.randomUUID().toString();
+        var body = objectMapper.writeValueAsString(
+                new TransferReversalDto(List.of(correlationId, unknownCorrelationId)));
+
+        // when
+        var firstReversal = mockMvc.perform(MockMvcRequestBuilders.post(TRANSFERENCE_URL + "reversals")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+        var secondReversal = mockMvc.perform(MockMvcRequestBuilders.post(TRANSFERENCE_URL + "reversals")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+
+        // then
+        firstReversal.andExpect(MockMvcResultMatchers.status().isOk());
+        firstReversal.andExpect(MockMvcResultMatchers.jsonPath("$.requested").value(2));
+        firstReversal.andExpect(MockMvcResultMatchers.jsonPath("$.reversed").value(1));
+        firstReversal.andExpect(MockMvcResultMatchers.jsonPath("$.notFound[0]").value(unknownCorrelationId));
+        secondReversal.andExpect(MockMvcResultMatchers.jsonPath("$.reversed").value(0));
+        secondReversal.andExpect(MockMvcResultMatchers.jsonPath("$.alreadyReversed").value(1));
+        mockMvc.perform(MockMvcRequestBuilders.get(BANK_STATEMENT_URL + destinationAccount.getId()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].type").value(Type.REVERSAL.toString()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].value").value(-TRANSFER_VALUE));
+    }
+
+    @Test
+    void reverseTransfers_EmptyCorrelationIds_ShouldReturn400Status() throws Exception {
+        // given
+        var body = objectMapper.writeValueAsString(new TransferReversalDto(List.of()));
+
+        // when
+        var resultActions = mockMvc.perform(MockMvcRequestBuilders.post(TRANSFERENCE_URL + "reversals")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isBadRequest());
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.details.correlationIds")
+                .value("The 'correlationIds' field must contain at least one correlation id."));
+    }
+
+    @Test
+    void depositAsync_PreferRespondAsync_ShouldReturn202AndApplyOperationsInOrder() throws Exception {
+        // given
+        var account = accountRepository.save(AccountResourceTest.buildAccountDto().toEntity());
+
+        // when
+        var depositResult = mockMvc.perform(MockMvcRequestBuilders.post(DEPOSIT_URL + account.getId())
+                .header(PREFER_HEADER, RESPOND_ASYNC)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(buildDepositDto())));
+        var withdrawResult = mockMvc.perform(MockMvcRequestBuilders.post(WITHDRAW_URL + account.getId())
+                .header(PREFER_HEADER, RESPOND_ASYNC)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(buildWithdrawDto())));
+
+        // then
+        depositResult.andExpect(MockMvcResultMatchers.status().isAccepted());
+        depositResult.andExpect(MockMvcResultMatchers.header().string("Preference-Applied", RESPOND_ASYNC));
+        depositResult.andExpect(MockMvcResultMatchers.jsonPath("$.status").value("ACCEPTED"));
+        withdrawResult.andExpect(MockMvcResultMatchers.status().isAccepted());
+        var depositLocation = depositResult.andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+        var withdrawLocation = withdrawResult.andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+        assertTrue(depositLocation.contains(COMMANDS_URL));
+
+        var deposit = awaitCommand(depositLocation);
+        var withdraw = awaitCommand(withdrawLocation);
+        assertEquals("COMPLETED", deposit.get("status").asText());
+        assertEquals("COMPLETED", withdraw.get("status").asText());
+        assertTrue(deposit.get("transferenceId").asInt() < withdraw.get("transferenceId").asInt());
+        mockMvc.perform(MockMvcRequestBuilders.get(BANK_STATEMENT_URL + account.getId()))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    void depositAsync_NonExistingAccountId_ShouldReturn404Status() throws Exception {
+        // given
+        // when
+        var resultActions = mockMvc.perform(MockMvcRequestBuilders.post(DEPOSIT_URL + NON_EXISTING_ACCOUNT_ID)
+                .header(PREFER_HEADER, RESPOND_ASYNC)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(buildDepositDto())));
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isNotFound());
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.details.IllegalArgumentException")
+                .value(INVALID_ID_MSG));
+    }
+
+    @Test
+    void getCommand_UnknownOperationId_ShouldReturn404Status() throws Exception {
+        // given
+        // when
+        var resultActions = mockMvc.perform(MockMvcRequestBuilders.get(COMMANDS_URL + UUID.randomUUID()));
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isNotFound());
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.title").value(BUSINESS_ERROR_TITLE));
+    }
+
+    @Test
+    void getBankStatement_BinaryAcceptHeaders_ShouldReturnSameStatementsAs200Json() throws Exception {
+        // given
+        var account = accountRepository.save(AccountResourceTest.buildAccountDto().toEntity());
+        persistTransferences(buildDeposit(account), buildWithdraw(account));
+        var url = BANK_STATEMENT_URL + account.getId();
+
+        var json = objectMapper.readTree(getContent(url, MediaType.APPLICATION_JSON));
+
+        // when
+        var smile = getContent(url, MediaType.parseMediaType("application/x-jackson-smile"));
+        var cbor = getContent(url, MediaType.parseMediaType("application/cbor"));
+        var binary = getContent(url, BankBinaryHttpMessageConverter.BANK_BINARY);
+
+        // then
+        assertEquals(json, new ObjectMapper(new SmileFactory()).readTree(smile));
+        assertEquals(json, new ObjectMapper(new CBORFactory()).readTree(cbor));
+        assertTrue(binary.length < objectMapper.writeValueAsBytes(json).length);
+
+        var statements = (List<?>) BankBinaryFormat.read(new ByteArrayInputStream(binary));
+        assertEquals(json.size(), statements.size());
+        for (int i = 0; i < statements.size(); i++) {
+            var statement = (BankStatementResponse) statements.get(i);
+            assertEquals(json.get(i).get("type").asText(), statement.getType());
+            assertEquals(json.get(i).get("value").asDouble(), statement.getValue());
+            assertEquals(json.get(i).get("operationDate").asText(),
+                    DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(statement.getOperationDate()));
+        }
+    }
+
+    private <T> List<T> iteratorToList(Iterator<T> iterator) {
+        List<T> values = new ArrayList<>();
+        iterator.forEachRemaining(values::add);
+        return values;
+    }
+
+    private byte[] getContent(String url, MediaType mediaType) throws Exception {
+        return mockMvc.perform(MockMvcRequestBuilders.get(url).accept(mediaType))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith(mediaType))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+    }
+
+    private String transfer(Account account, Account destinationAccount) throws Exception {
+        var response = mockMvc.perform(MockMvcRequestBuilders.post(TRANSFERENCE_URL + account.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(buildTransferenceDto(destinationAccount.getId()))))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response).get("correlationId").asText();
+    }
+
+    private JsonNode awaitCommand(String location) throws Exception {
+        long deadline = System.currentTimeMillis() + 2_000;
+        JsonNode command;
+        do {
+            Thread.sleep(20);
+            command = objectMapper.readTree(mockMvc.perform(MockMvcRequestBuilders.get(location))
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString());
+        } while ("ACCEPTED".equals(command.get("status").asText()) && System.currentTimeMillis() < deadline);
+        return command;
+    }
+
+    private String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (!response.getContentAsString().contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        return response.getContentAsString();
+    }
+
     private TransferenceDto buildTransferenceDto(Integer destinationAccountId) {
         return new TransferenceDto(TRANSFER_VALUE, destinationAccountId);
     }
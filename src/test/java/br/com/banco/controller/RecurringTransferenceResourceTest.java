@@ -0,0 +1,183 @@
+package br.com.banco.controller;
+
+import br.com.banco.dto.RecurringTransferenceDto;
+import br.com.banco.entity.Account;
+import br.com.banco.entity.Frequency;
+import br.com.banco.repository.AccountRepository;
+import br.com.banco.repository.RecurringTransferenceExecutionRepository;
+import br.com.banco.repository.TransferenceRepository;
+import br.com.banco.service.impl.RecurringTransferenceService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "bank.recurring.tick=PT0.05S")
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class RecurringTransferenceResourceTest {
+    private static final String RECURRING_TRANSFERENCE_URL = "/api/operations/recurring-transference/";
+    private static final double TRANSFER_VALUE = 100d;
+    private static final int MISSED_OCCURRENCES = 3;
+    private static final long TICK_MILLIS = 50L;
+    private static final long MAX_WAIT_MILLIS = 5_000L;
+    private static final String INVALID_RECURRING_ID_MSG =
+            "Invalid ID. The specified recurring transference does not exist in our records.";
+    private static final String EMPTY_FREQUENCY_MSG = "Missing Frequency. Please provide one of DAILY, WEEKLY or MONTHLY.";
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransferenceRepository transferenceRepository;
+
+    @Autowired
+    private RecurringTransferenceExecutionRepository executionRepository;
+
+    @Autowired
+    private RecurringTransferenceService recurringTransferenceService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Account account;
+    private Account destinationAccount;
+
+    @BeforeEach
+    void setUp() {
+        account = accountRepository.save(AccountResourceTest.buildAccountDto().toEntity());
+        destinationAccount = accountRepository.save(AccountResourceTest.buildSecondAccountDto().toEntity());
+    }
+
+    @Test
+    void create_StartDateInThePast_ShouldCatchUpEachMissedOccurrenceExactlyOnce() throws Exception {
+        // given
+        var startDate = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS)
+                .minusDays(MISSED_OCCURRENCES - 1).minusMinutes(1);
+        var id = create(new RecurringTransferenceDto(TRANSFER_VALUE, destinationAccount.getId(), Frequency.DAILY,
+                startDate, null));
+
+        // when
+        fireUntil(MISSED_OCCURRENCES);
+        fireAgain();
+
+        // then
+        var resultActions = mockMvc.perform(MockMvcRequestBuilders.get(RECURRING_TRANSFERENCE_URL + id + "/executions")
+                .accept(MediaType.APPLICATION_JSON));
+
+        resultActions.andExpect(MockMvcResultMatchers.status().isOk());
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(MISSED_OCCURRENCES));
+        for (int occurrence = 0; occurrence < MISSED_OCCURRENCES; occurrence++) {
+            resultActions.andExpect(MockMvcResultMatchers.jsonPath("$[" + occurrence + "].occurrence").value(occurrence));
+            resultActions.andExpect(MockMvcResultMatchers.jsonPath("$[" + occurrence + "].status").value("EXECUTED"));
+            resultActions.andExpect(MockMvcResultMatchers.jsonPath("$[" + occurrence + "].correlationId").isNotEmpty());
+        }
+        assertEquals(MISSED_OCCURRENCES * 2L, transferenceRepository.count());
+
+        mockMvc.perform(MockMvcRequestBuilders.get(RECURRING_TRANSFERENCE_URL + id)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.occurrences").value(MISSED_OCCURRENCES))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextExecution")
+                        .value(startDate.plusDays(MISSED_OCCURRENCES).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.active").value(true));
+    }
+
+    @Test
+    void cancel_ActiveRecurringTransference_ShouldStopFurtherExecutions() throws Exception {
+        // given
+        var id = create(new RecurringTransferenceDto(TRANSFER_VALUE, destinationAccount.getId(), Frequency.WEEKLY,
+                LocalDateTime.now().minusMinutes(1), null));
+
+        // when
+        var resultActions = mockMvc.perform(MockMvcRequestBuilders.delete(RECURRING_TRANSFERENCE_URL + id)
+                .accept(MediaType.APPLICATION_JSON));
+        fireAgain();
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isOk());
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.active").value(false));
+        assertEquals(0, executionRepository.count());
+        assertEquals(0, transferenceRepository.count());
+    }
+
+    @Test
+    void create_MissingFrequency_ShouldReturn400Status() throws Exception {
+        // given
+        var recurringTransferenceDto = new RecurringTransferenceDto(
+                TRANSFER_VALUE, destinationAccount.getId(), null, LocalDateTime.now(), null);
+
+        // when
+        var resultActions = post(account.getId(), recurringTransferenceDto);
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isBadRequest());
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.details.frequency").value(EMPTY_FREQUENCY_MSG));
+    }
+
+    @Test
+    void findById_NonExistingId_ShouldReturn404Status() throws Exception {
+        // given
+        // when
+        var resultActions = mockMvc.perform(MockMvcRequestBuilders.get(RECURRING_TRANSFERENCE_URL + Long.MAX_VALUE)
+                .accept(MediaType.APPLICATION_JSON));
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isNotFound());
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.status").value(HttpStatus.NOT_FOUND.value()));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.details.IllegalArgumentException")
+                .value(INVALID_RECURRING_ID_MSG));
+    }
+
+    private long create(RecurringTransferenceDto recurringTransferenceDto) throws Exception {
+        var response = post(account.getId(), recurringTransferenceDto)
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andReturn().getResponse();
+
+        return objectMapper.readTree(response.getContentAsString()).get("id").asLong();
+    }
+
+    private ResultActions post(Integer accountId, RecurringTransferenceDto recurringTransferenceDto) throws Exception {
+        return mockMvc.perform(MockMvcRequestBuilders.post(RECURRING_TRANSFERENCE_URL + accountId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(recurringTransferenceDto))
+                .accept(MediaType.APPLICATION_JSON));
+    }
+
+    private void fireUntil(long executions) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + MAX_WAIT_MILLIS;
+        while (executionRepository.count() < executions && System.currentTimeMillis() < deadline) {
+            recurringTransferenceService.load();
+            recurringTransferenceService.fire();
+            Thread.sleep(TICK_MILLIS);
+        }
+    }
+
+    private void fireAgain() throws InterruptedException {
+        for (int i = 0; i < 5; i++) {
+            recurringTransferenceService.load();
+            recurringTransferenceService.fire();
+            Thread.sleep(TICK_MILLIS);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package br.com.banco.controller;
+
+import br.com.banco.dto.DepositDto;
+import br.com.banco.dto.TransferenceDto;
+import br.com.banco.dto.WithdrawDto;
+import br.com.banco.entity.Account;
+import br.com.banco.entity.PendingStatementEntry;
+import br.com.banco.entity.StatementEntry;
+import br.com.banco.entity.Transference;
+import br.com.banco.entity.Type;
+import br.com.banco.repository.AccountRepository;
+import br.com.banco.repository.PendingStatementEntryRepository;
+import br.com.banco.repository.StatementEntryRepository;
+import br.com.banco.service.impl.StatementProjectionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "bank.statement-projection.enabled=true",
+        "bank.statement-projection.fixed-delay=PT1H"
+})
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class StatementProjectionTest {
+    private static final String OPERATIONS_URL = "/api/operations/";
+    private static final String BANK_STATEMENT_URL = "/api/operations/bank-statement/";
+    private static final double DEPOSIT_VALUE = 100d;
+    private static final double WITHDRAW_VALUE = 30d;
+    private static final double TRANSFER_VALUE = 20d;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private StatementEntryRepository statementEntryRepository;
+
+    @Autowired
+    private PendingStatementEntryRepository pendingStatementEntryRepository;
+
+    @Autowired
+    private StatementProjectionService statementProjectionService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Account account;
+    private Account destinationAccount;
+
+    @BeforeEach
+    void setUp() {
+        account = accountRepository.save(AccountResourceTest.buildAccountDto().toEntity());
+        destinationAccount = accountRepository.save(AccountResourceTest.buildSecondAccountDto().toEntity());
+    }
+
+    @Test
+    void getBankStatement_OperationsProjected_ShouldServeStatementFromReadModel() throws Exception {
+        // given
+        post("deposit/" + account.getId(), new DepositDto(DEPOSIT_VALUE));
+        post("withdraw/" + account.getId(), new WithdrawDto(WITHDRAW_VALUE));
+        post("transference/" + account.getId(), new TransferenceDto(TRANSFER_VALUE, destinationAccount.getId()));
+        assertEquals(4, pendingStatementEntryRepository.count());
+
+        // when
+        statementProjectionService.project();
+        var resultActions = mockMvc.perform(MockMvcRequestBuilders.get(BANK_STATEMENT_URL + account.getId())
+                .accept(MediaType.APPLICATION_JSON));
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isOk());
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(3));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$[0].type").value(Type.DEPOSIT.toString()));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$[2].value").value(-TRANSFER_VALUE));
+        assertEquals(0, pendingStatementEntryRepository.count());
+        assertEquals(List.of(DEPOSIT_VALUE, DEPOSIT_VALUE - WITHDRAW_VALUE,
+                        DEPOSIT_VALUE - WITHDRAW_VALUE - TRANSFER_VALUE),
+                getEntries(account).stream().map(StatementEntry::getRunningBalance).collect(Collectors.toList()));
+        var destinationEntry = getEntries(destinationAccount).get(0);
+        assertEquals(account.getId(), destinationEntry.getCounterpartyId());
+        assertEquals(account.getOwnerName(), destinationEntry.getCounterpartyName());
+        assertEquals(TRANSFER_VALUE, destinationEntry.getRunningBalance());
+        assertEquals(4, meterRegistry.get("bank.statement.projection.lag").timer().count());
+    }
+
+    @Test
+    void getBankStatement_OperationsPending_ShouldNotProjectOnReadAndChangeETagOnceProjected() throws Exception {
+        // given
+        post("deposit/" + account.getId(), new DepositDto(DEPOSIT_VALUE));
+        var url = BANK_STATEMENT_URL + account.getId();
+        var pendingRead = mockMvc.perform(MockMvcRequestBuilders.get(url))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(0));
+        var eTag = pendingRead.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertEquals(1, pendingStatementEntryRepository.count());
+
+        // when
+        statementProjectionService.project();
+        var projectedRead = mockMvc.perform(MockMvcRequestBuilders.get(url).header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+        // then
+        projectedRead.andExpect(MockMvcResultMatchers.status().isOk());
+        projectedRead.andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(1));
+        assertNotEquals(eTag, projectedRead.andReturn().getResponse().getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void project_LegsCommittedOutOfOperationOrder_ShouldKeepRunningBalanceInStatementOrder() {
+        // given
+        var now = LocalDateTime.now();
+        pendingStatementEntryRepository.save(new PendingStatementEntry(
+                buildTransference(2, DEPOSIT_VALUE / 2, now.plusSeconds(1)), null));
+        statementProjectionService.project();
+        pendingStatementEntryRepository.save(new PendingStatementEntry(
+                buildTransference(3, DEPOSIT_VALUE / 10, now.plusSeconds(2)), null));
+        pendingStatementEntryRepository.save(new PendingStatementEntry(
+                buildTransference(1, DEPOSIT_VALUE, now), null));
+
+        // when
+        statementProjectionService.project();
+
+        // then
+        assertEquals(List.of(DEPOSIT_VALUE, DEPOSIT_VALUE * 1.5, DEPOSIT_VALUE * 1.6),
+                getEntries(account).stream()
+                        .sorted(Comparator.comparing(StatementEntry::getOperationDate)
+                                .thenComparing(StatementEntry::getTransferenceId))
+                        .map(StatementEntry::getRunningBalance)
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    void getBankStatement_TransactionOperatorFilter_ShouldFilterOnCounterpartyName() throws Exception {
+        // given
+        post("deposit/" + destinationAccount.getId(), new DepositDto(DEPOSIT_VALUE));
+        post("transference/" + destinationAccount.getId(), new TransferenceDto(TRANSFER_VALUE, account.getId()));
+        statementProjectionService.project();
+
+        // when
+        var resultActions = mockMvc.perform(MockMvcRequestBuilders.get(BANK_STATEMENT_URL + destinationAccount.getId())
+                .param("transactionOperator", account.getOwnerName())
+                .accept(MediaType.APPLICATION_JSON));
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isOk());
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(1));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$[0].type").value(Type.TRANSFERENCE.toString()));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$[0].value").value(-TRANSFER_VALUE));
+    }
+
+    private void post(String path, Object body) throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post(OPERATIONS_URL + path)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(body)))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
+    private Transference buildTransference(int id, double value, LocalDateTime transferenceDate) {
+        var transference = new Transference(value, Type.DEPOSIT, account, null);
+        transference.setId(id);
+        transference.setTransferenceDate(transferenceDate);
+        return transference;
+    }
+
+    private List<StatementEntry> getEntries(Account owner) {
+        return statementEntryRepository.findAll().stream()
+                .filter(entry -> entry.getAccountId().equals(owner.getId()))
+                .sorted(Comparator.comparing(StatementEntry::getId))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.banco.directory;
+
+import br.com.banco.dto.AccountDto;
+import br.com.banco.dto.TransferenceDto;
+import br.com.banco.entity.Account;
+import br.com.banco.entity.Type;
+import br.com.banco.repository.AccountRepository;
+import br.com.banco.service.impl.AccountService;
+import br.com.banco.service.impl.TransferenceService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "bank.account-directory.enabled=true")
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class AccountDirectorySyncTest {
+    private static final String ACCOUNTS_URL = "/api/accounts/";
+    private static final String TRANSFERENCE_URL = "/api/operations/transference/";
+    private static final String OWNER_NAME = "Joseph Smith";
+    private static final String DESTINATION_OWNER_NAME = "Mary Smith";
+    private static final String RENAMED_OWNER_NAME = "Mary Jones";
+    private static final double VALUE = 50d;
+
+    @Autowired
+    private AccountDirectory accountDirectory;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransferenceService transferenceService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Account account;
+    private Account destinationAccount;
+
+    @BeforeEach
+    void setUp() {
+        account = accountService.save(new Account(OWNER_NAME));
+        destinationAccount = accountService.save(new Account(DESTINATION_OWNER_NAME));
+        transferenceService.deposit(account, VALUE);
+    }
+
+    @Test
+    void transfer_DestinationRenamedThroughApi_ShouldResolveOwnerNamesFromDirectory() throws Exception {
+        // given
+        mockMvc.perform(MockMvcRequestBuilders.put(ACCOUNTS_URL + destinationAccount.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AccountDto(RENAMED_OWNER_NAME))))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        // when
+        var resultActions = mockMvc.perform(MockMvcRequestBuilders.post(TRANSFERENCE_URL + account.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TransferenceDto(VALUE, destinationAccount.getId()))));
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isOk());
+        var outgoing = transferenceService.getBankStatements(account, null).stream()
+                .filter(transference -> transference.getType() == Type.TRANSFERENCE)
+                .findFirst()
+                .orElseThrow();
+        var incoming = transferenceService.getBankStatements(destinationAccount, null).get(0);
+        assertEquals(RENAMED_OWNER_NAME, outgoing.getTransactionOperatorName());
+        assertEquals(OWNER_NAME, incoming.getTransactionOperatorName());
+        assertEquals(RENAMED_OWNER_NAME, accountDirectory.getOwnerName(destinationAccount.getId()));
+    }
+
+    @Test
+    void loadDirectory_AccountInsertedBehindTheService_ShouldBeAddedWhileDeletedAccountsStayOut() throws Exception {
+        // given
+        var inserted = accountRepository.save(new Account(RENAMED_OWNER_NAME));
+        mockMvc.perform(MockMvcRequestBuilders.delete(ACCOUNTS_URL + destinationAccount.getId()))
+                .andExpect(MockMvcResultMatchers.status().isNoContent());
+        assertNull(accountDirectory.getOwnerName(inserted.getId()));
+
+        // when
+        int loaded = accountService.loadDirectory();
+
+        // then
+        assertEquals(2, loaded);
+        assertEquals(OWNER_NAME, accountDirectory.getOwnerName(account.getId()));
+        assertEquals(RENAMED_OWNER_NAME, accountDirectory.getOwnerName(inserted.getId()));
+        assertNull(accountDirectory.getOwnerName(destinationAccount.getId()));
+    }
+}
@@ -0,0 +1,75 @@
+package br.com.banco.directory;
+
+import br.com.banco.configuration.AccountDirectoryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountDirectoryTest {
+    private static final int ACCOUNTS = 10_000;
+    private static final String OWNER_NAME = "Joseph Smith";
+    private static final String UPDATED_OWNER_NAME = "Mary Smith";
+
+    @Test
+    void put_BeyondInitialCapacity_ShouldResizeAndKeepEveryOwnerName() {
+        // given
+        var directory = buildDirectory(true);
+
+        // when
+        for (int id = 1; id <= ACCOUNTS; id++) {
+            directory.put(id, OWNER_NAME + id);
+        }
+        directory.put(ACCOUNTS, UPDATED_OWNER_NAME);
+
+        // then
+        assertEquals(ACCOUNTS, directory.size());
+        for (int id = 1; id < ACCOUNTS; id++) {
+            assertEquals(OWNER_NAME + id, directory.getOwnerName(id));
+        }
+        assertEquals(UPDATED_OWNER_NAME, directory.getOwnerName(ACCOUNTS));
+        assertNull(directory.getOwnerName(ACCOUNTS + 1));
+    }
+
+    @Test
+    void remove_EveryOtherAccount_ShouldKeepProbeChainsOfRemainingAccounts() {
+        // given
+        var directory = buildDirectory(true);
+        for (int id = 1; id <= ACCOUNTS; id++) {
+            directory.put(id * 31, OWNER_NAME + id);
+        }
+
+        // when
+        for (int id = 1; id <= ACCOUNTS; id += 2) {
+            assertTrue(directory.remove(id * 31));
+        }
+
+        // then
+        assertEquals(ACCOUNTS / 2, directory.size());
+        for (int id = 1; id <= ACCOUNTS; id++) {
+            assertEquals(id % 2 == 0 ? OWNER_NAME + id : null, directory.getOwnerName(id * 31));
+        }
+        assertFalse(directory.remove(31));
+    }
+
+    @Test
+    void getOwnerName_DisabledDirectory_ShouldReturnFallback() {
+        // given
+        var directory = buildDirectory(false);
+        directory.put(1, OWNER_NAME);
+
+        // when
+        var ownerName = directory.getOwnerName(1, UPDATED_OWNER_NAME);
+
+        // then
+        assertEquals(UPDATED_OWNER_NAME, ownerName);
+        assertEquals(0, directory.size());
+    }
+
+    private static AccountDirectory buildDirectory(boolean enabled) {
+        var properties = new AccountDirectoryProperties();
+        properties.setEnabled(enabled);
+        properties.setInitialCapacity(16);
+        return new AccountDirectory(properties, new SimpleMeterRegistry());
+    }
+}
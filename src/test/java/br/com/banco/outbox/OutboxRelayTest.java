@@ -0,0 +1,70 @@
+package br.com.banco.outbox;
+
+import br.com.banco.entity.Account;
+import br.com.banco.repository.AccountRepository;
+import br.com.banco.repository.OutboxEventRepository;
+import br.com.banco.service.impl.OutboxService;
+import br.com.banco.service.impl.TransferenceService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"bank.outbox.fixed-delay=PT1H", "bank.outbox.batch-size=2", "bank.outbox.parallelism=2"})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class OutboxRelayTest {
+    private static final double VALUE = 100d;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransferenceService transferenceService;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private InMemoryOperationEventSink operationEventSink;
+
+    @Test
+    void operations_CommittedOperations_ShouldWriteOneOutboxRowPerLeg() {
+        // given
+        var account = accountRepository.save(new Account("Joseph Smith"));
+        var destinationAccount = accountRepository.save(new Account("Carlos Maia"));
+
+        // when
+        transferenceService.deposit(account, VALUE);
+        transferenceService.withdraw(account, VALUE);
+        transferenceService.transfer(account, destinationAccount, VALUE);
+
+        // then
+        assertEquals(4, outboxEventRepository.count());
+    }
+
+    @Test
+    void relay_PendingOutboxRows_ShouldPublishAllAndDeleteThem() {
+        // given
+        var account = accountRepository.save(new Account("Joseph Smith"));
+        for (int i = 0; i < 5; i++) {
+            transferenceService.deposit(account, VALUE);
+        }
+
+        // when
+        var relayed = outboxService.relay();
+
+        // then
+        var messages = operationEventSink.drain();
+        assertEquals(5, relayed);
+        assertEquals(5, messages.size());
+        assertEquals(0, outboxEventRepository.count());
+        messages.forEach(message -> assertEquals(account.getId(), message.getAccountId()));
+    }
+}
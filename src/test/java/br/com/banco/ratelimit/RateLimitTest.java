@@ -0,0 +1,111 @@
+package br.com.banco.ratelimit;
+
+import br.com.banco.dto.AccountDto;
+import br.com.banco.dto.DepositDto;
+import br.com.banco.dto.WithdrawDto;
+import br.com.banco.entity.Account;
+import br.com.banco.repository.AccountRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "bank.rate-limit.enabled=true",
+        "bank.rate-limit.endpoints.withdraw.per-account.capacity=2",
+        "bank.rate-limit.endpoints.withdraw.per-account.refill-per-second=0.01",
+        "bank.rate-limit.endpoints.deposit.per-client.capacity=2",
+        "bank.rate-limit.endpoints.deposit.per-client.refill-per-second=0.01"
+})
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class RateLimitTest {
+    private static final String WITHDRAW_URL = "/api/operations/withdraw/";
+    private static final String DEPOSIT_URL = "/api/operations/deposit/";
+    private static final String CLIENT_ID_HEADER = "X-Client-Id";
+    private static final String RATE_LIMIT_EXCEEDED_TITLE = "Rate limit exceeded";
+    private static final double VALUE = 20d;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private RateLimiterRegistry rateLimiterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Account account;
+    private Account secondAccount;
+
+    @BeforeEach
+    void setUp() {
+        account = accountRepository.save(new AccountDto("Joseph Smith").toEntity());
+        secondAccount = accountRepository.save(new AccountDto("Mary Smith").toEntity());
+    }
+
+    @Test
+    void withdraw_AccountLimitExceeded_ShouldReturnTooManyRequestsWithRetryAfter() throws Exception {
+        // given
+        withdraw(account, "first-client").andExpect(MockMvcResultMatchers.status().isOk());
+        withdraw(account, "second-client").andExpect(MockMvcResultMatchers.status().isOk());
+
+        // when
+        var result = withdraw(account, "third-client");
+
+        // then
+        result.andExpect(MockMvcResultMatchers.status().isTooManyRequests());
+        result.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.RETRY_AFTER, "100"));
+        result.andExpect(MockMvcResultMatchers.jsonPath("$.title", Matchers.is(RATE_LIMIT_EXCEEDED_TITLE)));
+        result.andExpect(MockMvcResultMatchers.jsonPath("$.status", Matchers.is(429)));
+        withdraw(secondAccount, "third-client").andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
+    @Test
+    void deposit_ClientLimitExceeded_ShouldOnlyLimitThatClient() throws Exception {
+        // given
+        deposit(account, "noisy-client").andExpect(MockMvcResultMatchers.status().isOk());
+        deposit(secondAccount, "noisy-client").andExpect(MockMvcResultMatchers.status().isOk());
+
+        // when
+        var noisyResult = deposit(account, "noisy-client");
+        var quietResult = deposit(account, "quiet-client");
+
+        // then
+        noisyResult.andExpect(MockMvcResultMatchers.status().isTooManyRequests());
+        noisyResult.andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.RETRY_AFTER));
+        quietResult.andExpect(MockMvcResultMatchers.status().isOk());
+        assertTrue(rateLimiterRegistry.size() > 0);
+    }
+
+    private ResultActions withdraw(Account account, String clientId) throws Exception {
+        return mockMvc.perform(MockMvcRequestBuilders.post(WITHDRAW_URL + account.getId())
+                .header(CLIENT_ID_HEADER, clientId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new WithdrawDto(VALUE))));
+    }
+
+    private ResultActions deposit(Account account, String clientId) throws Exception {
+        return mockMvc.perform(MockMvcRequestBuilders.post(DEPOSIT_URL + account.getId())
+                .header(CLIENT_ID_HEADER, clientId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new DepositDto(VALUE))));
+    }
+}
@@ -0,0 +1,125 @@
+package br.com.banco.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+    private static final int CAPACITY = 3;
+    private static final double REFILL_PER_SECOND = 2;
+    private static final long EMISSION_INTERVAL = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(1);
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    @Test
+    void tryAcquire_BurstWithinCapacity_ShouldAllowEveryRequest() {
+        // given
+        var limiter = new RateLimiter<String>(CAPACITY, REFILL_PER_SECOND, 10, IDLE_TIMEOUT, clock::get);
+
+        // when
+        // then
+        for (int i = 0; i < CAPACITY; i++) {
+            assertEquals(0, limiter.tryAcquire("client"));
+        }
+    }
+
+    @Test
+    void tryAcquire_CapacityExhausted_ShouldReturnTimeUntilNextToken() {
+        // given
+        var limiter = new RateLimiter<String>(CAPACITY, REFILL_PER_SECOND, 10, IDLE_TIMEOUT, clock::get);
+        for (int i = 0; i < CAPACITY; i++) {
+            limiter.tryAcquire("client");
+        }
+
+        // when
+        var waitNanos = limiter.tryAcquire("client");
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        var waitNanosLater = limiter.tryAcquire("client");
+
+        // then
+        assertEquals(EMISSION_INTERVAL, waitNanos);
+        assertEquals(EMISSION_INTERVAL - TimeUnit.MILLISECONDS.toNanos(100), waitNanosLater);
+        assertEquals(0, limiter.tryAcquire("other-client"));
+    }
+
+    @Test
+    void tryAcquire_AfterRefillInterval_ShouldAllowOneMoreRequest() {
+        // given
+        var limiter = new RateLimiter<String>(CAPACITY, REFILL_PER_SECOND, 10, IDLE_TIMEOUT, clock::get);
+        for (int i = 0; i < CAPACITY; i++) {
+            limiter.tryAcquire("client");
+        }
+
+        // when
+        clock.addAndGet(EMISSION_INTERVAL);
+
+        // then
+        assertEquals(0, limiter.tryAcquire("client"));
+        assertTrue(limiter.tryAcquire("client") > 0);
+    }
+
+    @Test
+    void evictIdle_BucketsRefilledPastIdleTimeout_ShouldRemoveOnlyIdleBuckets() {
+        // given
+        var limiter = new RateLimiter<Integer>(CAPACITY, REFILL_PER_SECOND, 10, IDLE_TIMEOUT, clock::get);
+        limiter.tryAcquire(1);
+        clock.addAndGet(EMISSION_INTERVAL + IDLE_TIMEOUT.toNanos());
+        limiter.tryAcquire(2);
+
+        // when
+        var evicted = limiter.evictIdle();
+
+        // then
+        assertEquals(1, evicted);
+        assertEquals(1, limiter.size());
+    }
+
+    @Test
+    void tryAcquire_MaxEntriesReached_ShouldShareOverflowBucket() {
+        // given
+        var limiter = new RateLimiter<Integer>(CAPACITY, REFILL_PER_SECOND, 2, IDLE_TIMEOUT, clock::get);
+        limiter.tryAcquire(1);
+        limiter.tryAcquire(2);
+
+        // when
+        for (int key = 3; key < 3 + CAPACITY; key++) {
+            assertEquals(0, limiter.tryAcquire(key));
+        }
+        var waitNanos = limiter.tryAcquire(100);
+
+        // then
+        assertEquals(2, limiter.size());
+        assertTrue(waitNanos > 0);
+    }
+
+    @Test
+    void tryAcquire_ConcurrentRequests_ShouldNeverGrantMoreThanCapacity() throws InterruptedException {
+        // given
+        var capacity = 1_000;
+        var limiter = new RateLimiter<String>(capacity, REFILL_PER_SECOND, 10, IDLE_TIMEOUT, clock::get);
+        var granted = new AtomicLong();
+        var threads = new Thread[4];
+
+        // when
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < capacity; j++) {
+                    if (limiter.tryAcquire("client") == 0)
+                        granted.incrementAndGet();
+                }
+            });
+            threads[i].start();
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        // then
+        assertEquals(capacity, granted.get());
+    }
+}
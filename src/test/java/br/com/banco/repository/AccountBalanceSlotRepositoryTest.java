@@ -0,0 +1,96 @@
+package br.com.banco.repository;
+
+import br.com.banco.entity.Account;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class AccountBalanceSlotRepositoryTest {
+    @Autowired
+    private AccountBalanceSlotRepository accountBalanceSlotRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private Account account;
+
+    @BeforeEach
+    public void setUp() {
+        account = testEntityManager.persist(new Account("Carlos Santos"));
+    }
+
+    @Test
+    void credit_MissingAndExistingSlots_ShouldUpsertAndSumSlots() {
+        // given
+        var accountId = account.getId();
+
+        // when
+        accountBalanceSlotRepository.credit(accountId, 0, 100d);
+        accountBalanceSlotRepository.credit(accountId, 0, 50d);
+        accountBalanceSlotRepository.credit(accountId, 3, 25d);
+
+        // then
+        assertEquals(175d, accountBalanceSlotRepository.sumBalance(accountId));
+        assertEquals(List.of(0, 3), getSlotNumbers(accountId));
+        assertEquals(Optional.of(3L), accountRepository.findVersionById(accountId));
+    }
+
+    @Test
+    void drain_SlotWithoutEnoughBalance_ShouldLeaveSlotUntouched() {
+        // given
+        var accountId = account.getId();
+        accountBalanceSlotRepository.credit(accountId, 1, 30d);
+
+        // when
+        int drainedTooMuch = accountBalanceSlotRepository.drain(accountId, 1, 31d);
+        int drained = accountBalanceSlotRepository.drain(accountId, 1, 30d);
+
+        // then
+        assertEquals(0, drainedTooMuch);
+        assertEquals(1, drained);
+        assertEquals(0d, accountBalanceSlotRepository.sumBalance(accountId));
+    }
+
+    @Test
+    void foldIntoFirstSlot_ShrinkingSlots_ShouldKeepBalanceAndVersion() {
+        // given
+        var accountId = account.getId();
+        for (int slot = 0; slot < 4; slot++) {
+            accountBalanceSlotRepository.createIfMissing(accountId, slot);
+            accountBalanceSlotRepository.credit(accountId, slot, 10d);
+        }
+        long versionBefore = accountRepository.findVersionById(accountId).orElseThrow();
+
+        // when
+        accountBalanceSlotRepository.foldIntoFirstSlot(accountId, 2);
+        accountBalanceSlotRepository.deleteFrom(accountId, 2);
+
+        // then
+        assertEquals(List.of(0, 1), getSlotNumbers(accountId));
+        assertEquals(40d, accountBalanceSlotRepository.sumBalance(accountId));
+        assertTrue(accountRepository.findVersionById(accountId).orElseThrow() > versionBefore);
+    }
+
+    private List<Integer> getSlotNumbers(Integer accountId) {
+        testEntityManager.clear();
+        return accountBalanceSlotRepository.findByAccountId(accountId).stream()
+                .map(slot -> slot.getId().getSlot())
+                .collect(Collectors.toList());
+    }
+}
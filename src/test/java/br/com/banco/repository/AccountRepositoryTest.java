@@ -1,6 +1,7 @@
 package br.com.banco.repository;
 
 import br.com.banco.entity.Account;
+import org.hibernate.proxy.HibernateProxy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,6 +12,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.util.Optional;
 import java.util.Random;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -61,6 +63,23 @@ class AccountRepositoryTest {
         assertTrue(foundAccount.isEmpty());
     }
 
+    @Test
+    void incrementVersion_ExistingAccount_ShouldBumpOnlyThatAccountVersion() {
+        // given
+        var accountId = account.getId();
+        var anotherAccountId = anotherAccount.getId();
+
+        // when
+        int updated = accountRepository.incrementVersion(accountId);
+        accountRepository.incrementVersion(accountId);
+
+        // then
+        assertEquals(1, updated);
+        assertEquals(Optional.of(2L), accountRepository.findVersionById(accountId));
+        assertEquals(Optional.of(0L), accountRepository.findVersionById(anotherAccountId));
+        assertTrue(accountRepository.findVersionById(generateRandomId()).isEmpty());
+    }
+
     @Test
     void findAll_ExistingAccounts_ShouldReturnAllPersistedAccounts() {
         // given
@@ -74,6 +93,23 @@ class AccountRepositoryTest {
         assertTrue(accountList.contains(anotherAccount));
     }
 
+    @Test
+    void hashCode_ProxyAndLoadedAccount_ShouldMatchAndSpreadAcrossIds() {
+        // given
+        testEntityManager.clear();
+
+        // when
+        var proxy = accountRepository.getById(account.getId());
+        var loaded = accountRepository.findById(anotherAccount.getId()).orElseThrow();
+
+        // then
+        assertTrue(proxy instanceof HibernateProxy);
+        assertEquals(account, proxy);
+        assertEquals(account.hashCode(), proxy.hashCode());
+        assertNotEquals(proxy.hashCode(), loaded.hashCode());
+        assertEquals(Set.of(account, anotherAccount), Set.of(proxy, loaded));
+    }
+
     private int generateRandomId() {
         return new Random().nextInt();
     }
@@ -0,0 +1,84 @@
+package br.com.banco.repository;
+
+import br.com.banco.entity.Account;
+import br.com.banco.entity.OutboxEvent;
+import br.com.banco.entity.Transference;
+import br.com.banco.entity.Type;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class OutboxEventRepositoryTest {
+    private static final double DEPOSIT_VALUE = 50;
+    private static final int BATCH_SIZE = 2;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @BeforeEach
+    void setUp() {
+        Account account = testEntityManager.persist(AccountRepositoryTest.buildAccount());
+        for (int i = 0; i < 3; i++) {
+            var deposit = testEntityManager.persist(new Transference(DEPOSIT_VALUE, Type.DEPOSIT, account, null));
+            testEntityManager.persist(new OutboxEvent(deposit));
+        }
+        testEntityManager.flush();
+    }
+
+    @Test
+    void claim_UnclaimedEvents_ShouldClaimAtMostBatchSize() {
+        // given
+        var now = LocalDateTime.now();
+
+        // when
+        int claimed = outboxEventRepository.claim("token", now, now.minusMinutes(1), BATCH_SIZE);
+        testEntityManager.clear();
+
+        // then
+        assertEquals(BATCH_SIZE, claimed);
+        assertEquals(BATCH_SIZE, outboxEventRepository.findByClaimTokenOrderById("token").size());
+    }
+
+    @Test
+    void claim_EventsClaimedByAnotherRelay_ShouldOnlyClaimTheRemainingEvents() {
+        // given
+        var now = LocalDateTime.now();
+        outboxEventRepository.claim("first", now, now.minusMinutes(1), BATCH_SIZE);
+
+        // when
+        int claimed = outboxEventRepository.claim("second", now, now.minusMinutes(1), BATCH_SIZE);
+        testEntityManager.clear();
+
+        // then
+        assertEquals(1, claimed);
+        assertEquals(1, outboxEventRepository.findByClaimTokenOrderById("second").size());
+    }
+
+    @Test
+    void claim_StaleClaim_ShouldBeClaimedAgain() {
+        // given
+        var claimTime = LocalDateTime.now().minusMinutes(5);
+        outboxEventRepository.claim("stale", claimTime, claimTime.minusMinutes(1), 3);
+
+        // when
+        var now = LocalDateTime.now();
+        int claimed = outboxEventRepository.claim("fresh", now, now.minusMinutes(1), 3);
+
+        // then
+        assertEquals(3, claimed);
+    }
+}
@@ -0,0 +1,115 @@
+package br.com.banco.repository;
+
+import br.com.banco.dto.BankStatementResponse;
+import br.com.banco.entity.Account;
+import br.com.banco.entity.PendingStatementEntry;
+import br.com.banco.entity.StatementEntry;
+import br.com.banco.entity.Transference;
+import br.com.banco.entity.Type;
+import br.com.banco.specifications.StatementEntrySpecifications;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class StatementEntryRepositoryTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2022, 3, 1, 10, 0);
+
+    @Autowired
+    private StatementEntryRepository statementEntryRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private Account account;
+    private Account counterparty;
+
+    @BeforeEach
+    public void setUp() {
+        account = testEntityManager.persist(new Account("Carlos Santos"));
+        counterparty = testEntityManager.persist(new Account("Maria Souza"));
+    }
+
+    @Test
+    void findStatement_AccountAndCounterpartyFilter_ShouldReturnMatchingLinesInOperationOrder() {
+        // given
+        persistEntry(3, Type.TRANSFERENCE, 50d, NOW.plusMinutes(2), counterparty, 150d);
+        persistEntry(1, Type.DEPOSIT, 100d, NOW, null, 100d);
+        persistEntry(2, Type.TRANSFERENCE, -20d, NOW.plusMinutes(1), counterparty, 80d);
+        var spec = StatementEntrySpecifications.withAccountId(account.getId())
+                .and(StatementEntrySpecifications.withCounterpartyName(counterparty.getOwnerName()));
+
+        // when
+        List<BankStatementResponse> statement = statementEntryRepository.findStatement(spec);
+
+        // then
+        assertEquals(List.of(-20d, 50d),
+                statement.stream().map(BankStatementResponse::getValue).collect(Collectors.toList()));
+        assertEquals(Type.TRANSFERENCE.toString(), statement.get(0).getType());
+        assertEquals(NOW.plusMinutes(1), statement.get(0).getOperationDate());
+    }
+
+    @Test
+    void findLatest_ProjectedEntries_ShouldReturnLastEntryInOperationOrder() {
+        // given
+        persistEntry(2, Type.DEPOSIT, 100d, NOW.plusMinutes(1), null, 130d);
+        persistEntry(1, Type.DEPOSIT, 30d, NOW, null, 30d);
+
+        // when
+        var latest = statementEntryRepository.findLatest(account.getId(), PageRequest.of(0, 1));
+        var missing = statementEntryRepository.findLatest(counterparty.getId(), PageRequest.of(0, 1));
+
+        // then
+        assertEquals(1, latest.size());
+        assertEquals(2, latest.get(0).getTransferenceId());
+        assertEquals(130d, latest.get(0).getRunningBalance());
+        assertTrue(missing.isEmpty());
+    }
+
+    @Test
+    void shiftRunningBalancesAfter_EntryProjectedOutOfOrder_ShouldOnlyShiftLaterEntries() {
+        // given
+        persistEntry(1, Type.DEPOSIT, 100d, NOW, null, 100d);
+        persistEntry(3, Type.DEPOSIT, 50d, NOW.plusMinutes(1), null, 150d);
+        persistEntry(4, Type.DEPOSIT, 10d, NOW.plusMinutes(2), null, 160d);
+
+        // when
+        var previous = statementEntryRepository.findRunningBalancesBefore(
+                account.getId(), NOW.plusMinutes(1), 2, PageRequest.of(0, 1));
+        int shifted = statementEntryRepository.shiftRunningBalancesAfter(
+                account.getId(), NOW.plusMinutes(1), 2, -20d);
+        testEntityManager.clear();
+
+        // then
+        assertEquals(List.of(100d), previous);
+        assertEquals(2, shifted);
+        assertEquals(List.of(100d, 130d, 140d), statementEntryRepository.findAll().stream()
+                .sorted(Comparator.comparing(StatementEntry::getTransferenceId))
+                .map(StatementEntry::getRunningBalance)
+                .collect(Collectors.toList()));
+    }
+
+    private void persistEntry(int transferenceId, Type type, double value, LocalDateTime operationDate,
+                              Account counterpartyAccount, double runningBalance) {
+        var transference = new Transference(value, type, account,
+                counterpartyAccount != null ? counterpartyAccount.getOwnerName() : null);
+        transference.setId(transferenceId);
+        transference.setTransferenceDate(operationDate);
+        testEntityManager.persist(new StatementEntry(
+                new PendingStatementEntry(transference, counterpartyAccount), runningBalance, NOW));
+    }
+}
@@ -11,9 +11,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ActiveProfiles;
 
+import javax.persistence.PersistenceException;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -29,6 +31,9 @@ class TransferenceRepositoryTest {
     @Autowired
     private TransferenceRepository transferenceRepository;
 
+    @Autowired
+    private ArchivedTransferenceRepository archivedTransferenceRepository;
+
     @Autowired
     private TestEntityManager testEntityManager;
 
@@ -108,6 +113,120 @@ class TransferenceRepositoryTest {
         assertTrue(foundTransference.contains(withdraw));
     }
 
+    @Test
+    void summarize_NonFiltersPresents_ShouldAggregateAccountTransferencesPerType() {
+        // given
+        testEntityManager.persist(new Transference(TRANSFERENCE_VALUE * 2, Type.TRANSFERENCE, account,
+                anotherAccount.getOwnerName()));
+        Specification<Transference> spec = buildSpecNonFilters();
+
+        // when
+        var summary = transferenceRepository.summarize(spec);
+
+        // then
+        assertEquals(2, summary.size());
+        var transferences = summary.get(0);
+        assertEquals(Type.TRANSFERENCE, transferences.getType());
+        assertEquals(2, transferences.getCount());
+        assertEquals(TRANSFERENCE_VALUE * 3, transferences.getSum());
+        assertEquals(TRANSFERENCE_VALUE, transferences.getMin());
+        assertEquals(TRANSFERENCE_VALUE * 2, transferences.getMax());
+        var withdraws = summary.get(1);
+        assertEquals(Type.WITHDRAW, withdraws.getType());
+        assertEquals(1, withdraws.getCount());
+        assertEquals(WITHDRAW_VALUE, withdraws.getSum());
+    }
+
+    @Test
+    void summarize_TransactionOperatorNameFilterPresent_ShouldAggregateOnlyMatchingTransferences() {
+        // given
+        var filter = buildTransactionOperatorNameFilter();
+        Specification<Transference> spec = buildSpecTransactionOperatorNameFilter(filter);
+
+        // when
+        var summary = transferenceRepository.summarize(spec);
+
+        // then
+        assertEquals(1, summary.size());
+        assertEquals(Type.TRANSFERENCE, summary.get(0).getType());
+        assertEquals(1, summary.get(0).getCount());
+        assertEquals(TRANSFERENCE_VALUE, summary.get(0).getSum());
+    }
+
+    @Test
+    void copyToArchive_ExpiredTransferences_ShouldCopyRowsToArchiveTable() {
+        // given
+        var cutoff = LocalDateTime.now().plusMinutes(1L);
+        testEntityManager.flush();
+
+        // when
+        List<Integer> ids = transferenceRepository.findIdsOlderThan(cutoff, PageRequest.of(0, 10));
+        int copied = transferenceRepository.copyToArchive(ids);
+        transferenceRepository.deleteAllByIdInBatch(ids);
+        testEntityManager.clear();
+
+        // then
+        assertEquals(3, ids.size());
+        assertEquals(3, copied);
+        assertTrue(transferenceRepository.findAll().isEmpty());
+        assertEquals(3, archivedTransferenceRepository.findAll().size());
+        assertEquals(transference.getValue(), archivedTransferenceRepository.findById(transference.getId())
+                .orElseThrow().getValue());
+    }
+
+    @Test
+    void findLegs_CorrelatedLegs_ShouldReturnLegsWithTheirAccountsInOneQuery() {
+        // given
+        var correlationId = "9b2f4c1e-7a3d-4e8b-a6c5-1d0e2f3a4b5c";
+        var sourceLeg = buildCorrelatedLeg(account, -TRANSFERENCE_VALUE, anotherAccount.getOwnerName(), correlationId);
+        var destinationLeg = buildCorrelatedLeg(anotherAccount, TRANSFERENCE_VALUE, account.getOwnerName(),
+                correlationId);
+        testEntityManager.persist(sourceLeg);
+        testEntityManager.persist(destinationLeg);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // when
+        List<Transference> legs = transferenceRepository.findLegs(List.of(correlationId));
+        var archivedIds = List.of(sourceLeg.getId());
+        transferenceRepository.copyToArchive(archivedIds);
+
+        // then
+        assertEquals(List.of(sourceLeg.getId(), destinationLeg.getId()),
+                List.of(legs.get(0).getId(), legs.get(1).getId()));
+        assertEquals(anotherAccount.getOwnerName(), legs.get(1).getOwnerName());
+        assertEquals(correlationId, archivedTransferenceRepository.findById(sourceLeg.getId())
+                .orElseThrow().getCorrelationId());
+    }
+
+    @Test
+    void save_SecondReversalOfSameLeg_ShouldViolateReversalKey() {
+        // given
+        var correlationId = "3c7d1e9a-5b2f-4a8c-b6d4-0e1f2a3b4c5d";
+        testEntityManager.persist(buildReversal(correlationId));
+        testEntityManager.flush();
+
+        // when
+        // then
+        assertThrows(PersistenceException.class, () -> {
+            testEntityManager.persist(buildReversal(correlationId));
+            testEntityManager.flush();
+        });
+    }
+
+    private Transference buildReversal(String correlationId) {
+        var reversal = new Transference(TRANSFERENCE_VALUE, Type.REVERSAL, account, anotherAccount.getOwnerName());
+        reversal.setCorrelationId(correlationId);
+        reversal.setReversalKey(correlationId + ":" + account.getId());
+        return reversal;
+    }
+
+    private Transference buildCorrelatedLeg(Account owner, double value, String operatorName, String correlationId) {
+        var leg = new Transference(value, Type.TRANSFERENCE, owner, operatorName);
+        leg.setCorrelationId(correlationId);
+        return leg;
+    }
+
     private Specification<Transference> buildSpecDateFilter(StatementFilter filter) {
         return Specification.where(TransferenceSpecifications
                 .withAccountId(account.getId())
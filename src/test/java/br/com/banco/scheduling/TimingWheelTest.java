@@ -0,0 +1,83 @@
+package br.com.banco.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+    private static final long TICK = 1_000L;
+    private static final int WHEEL_SIZE = 60;
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    void advance_DeadlineWithinFirstLevel_ShouldFireOnlyOnceItsTickIsReached() {
+        // given
+        var timingWheel = new TimingWheel<String>(TICK, WHEEL_SIZE, START);
+        timingWheel.schedule("rent", START + 5_500);
+
+        // when
+        var early = timingWheel.advance(START + 4_999);
+        var due = timingWheel.advance(START + 6_000);
+
+        // then
+        assertTrue(early.isEmpty());
+        assertEquals(List.of("rent"), due);
+        assertEquals(0, timingWheel.size());
+    }
+
+    @Test
+    void advance_DeadlineBeyondFirstLevel_ShouldCascadeThroughOverflowLevelsAndFireOnTime() {
+        // given
+        var timingWheel = new TimingWheel<String>(TICK, WHEEL_SIZE, START);
+        long deadline = START + 3 * 3_600_000L + 7_000;
+        timingWheel.schedule("savings", deadline);
+
+        // when
+        var early = timingWheel.advance(deadline - TICK);
+        var due = timingWheel.advance(deadline + TICK);
+
+        // then
+        assertEquals(3, timingWheel.getLevelCount());
+        assertTrue(early.isEmpty());
+        assertEquals(List.of("savings"), due);
+    }
+
+    @Test
+    void schedule_OverdueDeadline_ShouldFireOnNextTick() {
+        // given
+        var timingWheel = new TimingWheel<String>(TICK, WHEEL_SIZE, START);
+
+        // when
+        timingWheel.schedule("missed", START - 86_400_000L);
+
+        // then
+        assertEquals(1, timingWheel.size());
+        assertTrue(timingWheel.advance(START).isEmpty());
+        assertEquals(List.of("missed"), timingWheel.advance(START + TICK));
+    }
+
+    @Test
+    void advance_HundredThousandItemsSpreadOverOneMinute_ShouldFireEachItemExactlyOnce() {
+        // given
+        int items = 100_000;
+        var timingWheel = new TimingWheel<Integer>(TICK, WHEEL_SIZE, START);
+        for (int i = 0; i < items; i++) {
+            timingWheel.schedule(i, START + (i % WHEEL_SIZE) * TICK + TICK);
+        }
+
+        // when
+        List<Integer> fired = new ArrayList<>(items);
+        for (long now = START; now <= START + WHEEL_SIZE * TICK; now += TICK) {
+            fired.addAll(timingWheel.advance(now));
+        }
+
+        // then
+        assertEquals(items, fired.size());
+        assertEquals(items, new HashSet<>(fired).size());
+        assertEquals(0, timingWheel.size());
+    }
+}
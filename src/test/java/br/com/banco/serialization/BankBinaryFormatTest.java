@@ -0,0 +1,90 @@
+package br.com.banco.serialization;
+
+import br.com.banco.dto.AccountResponse;
+import br.com.banco.dto.BankStatementResponse;
+import br.com.banco.entity.Account;
+import br.com.banco.exception.dto.ExceptionDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BankBinaryFormatTest {
+
+    @Test
+    void writeAndRead_BankStatementList_ShouldRoundTripAllFields() throws IOException {
+        // given
+        var date = LocalDateTime.of(2023, 5, 1, 9, 30, 15, 500);
+        var statements = List.of(
+                new BankStatementResponse("DEPOSITO", 150.5, date),
+                new BankStatementResponse(null, null, null));
+
+        // when
+        var read = (List<?>) roundTrip(statements, BankBinaryFormat.Kind.BANK_STATEMENT);
+
+        // then
+        assertEquals(2, read.size());
+        var first = (BankStatementResponse) read.get(0);
+        assertEquals("DEPOSITO", first.getType());
+        assertEquals(150.5, first.getValue());
+        assertEquals(date, first.getOperationDate());
+        var second = (BankStatementResponse) read.get(1);
+        assertNull(second.getType());
+        assertNull(second.getValue());
+        assertNull(second.getOperationDate());
+    }
+
+    @Test
+    void writeAndRead_SingleAccount_ShouldRoundTripAllFields() throws IOException {
+        // given
+        var account = new Account("Elias Santos");
+        account.setId(42);
+
+        // when
+        var read = (AccountResponse) roundTrip(new AccountResponse(account), BankBinaryFormat.Kind.ACCOUNT);
+
+        // then
+        assertEquals(42, read.getId());
+        assertEquals("Elias Santos", read.getOwnerName());
+    }
+
+    @Test
+    void writeAndRead_Error_ShouldRoundTripAllFields() throws IOException {
+        // given
+        var date = LocalDateTime.of(2023, 5, 1, 9, 30, 15);
+        var error = new ExceptionDto("Business error", date, 404,
+                "br.com.banco.exception.BusinessException", Map.of("IllegalArgumentException", "Invalid ID."));
+
+        // when
+        var read = (ExceptionDto) roundTrip(error, BankBinaryFormat.Kind.ERROR);
+
+        // then
+        assertEquals("Business error", read.getTitle());
+        assertEquals(date, read.getTimeStamp());
+        assertEquals(404, read.getStatus());
+        assertEquals("br.com.banco.exception.BusinessException", read.getException());
+        assertEquals(Map.of("IllegalArgumentException", "Invalid ID."), read.getDetails());
+    }
+
+    @Test
+    void read_UnknownPayload_ShouldThrowIOException() {
+        // given
+        var payload = new byte[]{'{', '}', 0, 0};
+
+        // when
+        // then
+        assertThrows(IOException.class, () -> BankBinaryFormat.read(new ByteArrayInputStream(payload)));
+    }
+
+    private Object roundTrip(Object value, BankBinaryFormat.Kind kind) throws IOException {
+        var out = new ByteArrayOutputStream();
+        BankBinaryFormat.write(value, kind, out);
+        return BankBinaryFormat.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+}
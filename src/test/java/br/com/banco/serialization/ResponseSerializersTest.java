@@ -0,0 +1,60 @@
+package br.com.banco.serialization;
+
+import br.com.banco.dto.*;
+import br.com.banco.entity.Account;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ResponseSerializersTest {
+    private final ObjectMapper defaultMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final ObjectMapper tunedMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(ResponseSerializers.module())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void serialize_BankStatements_ShouldMatchDefaultObjectMapper() throws Exception {
+        // given
+        var statements = List.of(
+                new BankStatementResponse("DEPOSITO", 150.5, LocalDateTime.of(2023, 5, 1, 9, 0, 0)),
+                new BankStatementResponse("SAQUE", -20.0, LocalDateTime.of(2023, 5, 1, 23, 59, 59)),
+                new BankStatementResponse("TRANSFERENCIA", 1e-3, LocalDateTime.of(2024, 12, 31, 10, 5, 7)),
+                new BankStatementResponse("TRANSFERENCIA", 3.0, LocalDateTime.of(2024, 12, 31, 10, 5, 7, 120_000_000)),
+                new BankStatementResponse(null, null, null));
+
+        // when
+        var expected = defaultMapper.writeValueAsString(statements);
+        var actual = tunedMapper.writeValueAsString(statements);
+
+        // then
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void serialize_AccountAndOperationResponses_ShouldMatchDefaultObjectMapper() throws Exception {
+        // given
+        var account = new Account("Elias \"Santos\"");
+        account.setId(7);
+        var responses = List.of(
+                new AccountResponse(account),
+                new TransferenceResponse(
+                        "Elias Santos", "Carlos Maia", 42.25, "4f1c2a9e-6f0b-4d5e-9a37-0c8e2f6b1d42"),
+                new DepositResponse("Elias Santos", 15.0),
+                new WithdrawResponse("Elias Santos", 11.0));
+
+        // when
+        // then
+        for (Object response : responses) {
+            assertEquals(defaultMapper.writeValueAsString(response), tunedMapper.writeValueAsString(response));
+        }
+    }
+}
@@ -1,12 +1,20 @@
 package br.com.banco.service.impl;
 
+import br.com.banco.bloom.AccountIdFilter;
+import br.com.banco.configuration.AccountDirectoryProperties;
+import br.com.banco.configuration.AccountIdFilterProperties;
+import br.com.banco.directory.AccountDirectory;
 import br.com.banco.entity.Account;
 import br.com.banco.exception.BusinessException;
+import br.com.banco.repository.AccountBalanceSlotRepository;
 import br.com.banco.repository.AccountRepository;
+import br.com.banco.repository.ShardedAccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
 
@@ -32,9 +40,21 @@ class AccountServiceTest {
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private ShardedAccountRepository shardedAccountRepository;
+
+    @Mock
+    private AccountBalanceSlotRepository accountBalanceSlotRepository;
+
     @Mock
     private MessageSource messageSource;
 
+    @Spy
+    private AccountIdFilter accountIdFilter = new AccountIdFilter(new AccountIdFilterProperties(), new SimpleMeterRegistry());
+
+    @Spy
+    private AccountDirectory accountDirectory = new AccountDirectory(new AccountDirectoryProperties(), new SimpleMeterRegistry());
+
     @InjectMocks
     private AccountService accountService;
 
@@ -55,6 +75,20 @@ class AccountServiceTest {
         assertEquals(account.getOwnerName(), savedAccount.getOwnerName());
     }
 
+    @Test
+    void save_NewAccount_ShouldCreateFirstBalanceSlot() {
+        // given
+        var account = new Account(ACCOUNT_NAME);
+
+        when(accountRepository.save(account)).thenReturn(buildAccount());
+
+        // when
+        var savedAccount = accountService.save(account);
+
+        // then
+        verify(accountBalanceSlotRepository, times(1)).createIfMissing(savedAccount.getId(), 0);
+    }
+
     @Test
     void findById_ExistingAccountId_ShouldReturnAccount() {
         // given
@@ -89,6 +123,73 @@ class AccountServiceTest {
         assertEquals(EXPECTED_MESSAGE_ERROR_FOR_INVALID_ID, exception.getMessage());
     }
 
+    @Test
+    void findById_IdRejectedByFilter_ShouldThrowBusinessExceptionWithoutQueryingRepository() {
+        // given
+        int randomId = generateRandomId();
+
+        doReturn(false).when(accountIdFilter).mightExist(randomId);
+        when(messageSource.getMessage(eq(NON_EXISTING_ID_ERROR_MESSAGE_KEY), isNull(), any(Locale.class)))
+                .thenReturn(EXPECTED_MESSAGE_ERROR_FOR_INVALID_ID);
+
+        // when
+        // then
+        var exception = assertThrows(BusinessException.class, () -> accountService.findById(randomId));
+        verifyNoInteractions(accountRepository);
+        verify(accountIdFilter, never()).recordFalsePositive();
+        assertEquals(EXPECTED_MESSAGE_ERROR_FOR_INVALID_ID, exception.getMessage());
+    }
+
+    @Test
+    void findById_RepeatedNonExistingAccountIds_ShouldReusePreallocatedStacklessException() {
+        // given
+        int randomId = generateRandomId();
+
+        when(accountRepository.findById(anyInt())).thenReturn(Optional.empty());
+        when(messageSource.getMessage(eq(NON_EXISTING_ID_ERROR_MESSAGE_KEY), isNull(), any(Locale.class)))
+                .thenReturn(EXPECTED_MESSAGE_ERROR_FOR_INVALID_ID);
+
+        // when
+        var first = assertThrows(BusinessException.class, () -> accountService.findById(randomId));
+        var second = assertThrows(BusinessException.class, () -> accountService.findById(randomId + 1));
+
+        // then
+        verify(messageSource, times(1)).getMessage(eq(NON_EXISTING_ID_ERROR_MESSAGE_KEY), isNull(), any(Locale.class));
+        assertSame(first, second);
+        assertEquals(0, first.getStackTrace().length);
+        assertEquals(Map.of("IllegalArgumentException", EXPECTED_MESSAGE_ERROR_FOR_INVALID_ID), first.getDetails());
+    }
+
+    @Test
+    void findAllById_ExistingAccountIds_ShouldReturnDistinctAccountsInRequestedOrder() {
+        // given
+        var account = buildAccount();
+        var secondAccount = buildSecondAccount();
+
+        when(accountRepository.findAllById(anyCollection())).thenReturn(List.of(account, secondAccount));
+
+        // when
+        var accounts = accountService.findAllById(List.of(ACCOUNT_ID_TWO, ACCOUNT_ID, ACCOUNT_ID_TWO));
+
+        // then
+        verify(accountRepository, times(1)).findAllById(Set.of(ACCOUNT_ID, ACCOUNT_ID_TWO));
+        assertEquals(List.of(secondAccount, account), accounts);
+    }
+
+    @Test
+    void findAllById_NonExistingAccountId_ShouldThrowBusinessException() {
+        // given
+        when(accountRepository.findAllById(anyCollection())).thenReturn(List.of(buildAccount()));
+        when(messageSource.getMessage(eq(NON_EXISTING_ID_ERROR_MESSAGE_KEY), isNull(), any(Locale.class)))
+                .thenReturn(EXPECTED_MESSAGE_ERROR_FOR_INVALID_ID);
+
+        // when
+        // then
+        var exception = assertThrows(BusinessException.class,
+                () -> accountService.findAllById(List.of(ACCOUNT_ID, ACCOUNT_ID_TWO)));
+        assertEquals(EXPECTED_MESSAGE_ERROR_FOR_INVALID_ID, exception.getMessage());
+    }
+
     @Test
     void findAll_ExistingAccountsPersisted_ShouldReturnAllAccounts() {
         // given
@@ -139,12 +240,51 @@ class AccountServiceTest {
         // then
         verify(accountRepository, times(1)).findById(ACCOUNT_ID);
         verify(accountRepository, times(1)).save(account);
+        verify(accountRepository, times(1)).incrementVersion(ACCOUNT_ID);
 
         assertNotNull(resultAccount);
         assertEquals(ACCOUNT_ID, resultAccount.getId());
         assertEquals(UPDATED_ACCOUNT_NAME, resultAccount.getOwnerName());
     }
 
+    @Test
+    void getVersion_ExistingAccountId_ShouldReturnVersion() {
+        // given
+        when(accountRepository.findVersionById(ACCOUNT_ID)).thenReturn(Optional.of(3L));
+
+        // when
+        var version = accountService.getVersion(ACCOUNT_ID);
+
+        // then
+        verify(accountRepository, never()).findById(anyInt());
+        assertEquals(3L, version);
+    }
+
+    @Test
+    void getVersion_NonExistingAccountId_ShouldThrowBusinessException() {
+        // given
+        int randomId = generateRandomId();
+
+        when(accountRepository.findVersionById(randomId)).thenReturn(Optional.empty());
+        when(messageSource.getMessage(eq(NON_EXISTING_ID_ERROR_MESSAGE_KEY), isNull(), any(Locale.class)))
+                .thenReturn(EXPECTED_MESSAGE_ERROR_FOR_INVALID_ID);
+
+        // when
+        // then
+        var exception = assertThrows(BusinessException.class, () -> accountService.getVersion(randomId));
+        assertEquals(EXPECTED_MESSAGE_ERROR_FOR_INVALID_ID, exception.getMessage());
+    }
+
+    @Test
+    void updateBalanceSlots_ExistingAccountId_ShouldUpdateSlotsAndVersion() {
+        // given
+        // when
+        accountService.updateBalanceSlots(ACCOUNT_ID, 8);
+
+        // then
+        verify(accountRepository, times(1)).updateBalanceSlots(ACCOUNT_ID, 8);
+    }
+
     @Test
     public void update_InvalidAccountId_ShouldThrowBusinessException() {
         // given
@@ -0,0 +1,153 @@
+package br.com.banco.service.impl;
+
+import br.com.banco.configuration.ArchiveProperties;
+import br.com.banco.dto.StatementFilter;
+import br.com.banco.entity.ArchivedTransference;
+import br.com.banco.entity.Type;
+import br.com.banco.repository.ArchivedTransferenceRepository;
+import br.com.banco.repository.TransferenceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArchiveServiceTest {
+    private static final int BATCH_SIZE = 2;
+    private static final int ARCHIVED_ID = 7;
+    private static final double ARCHIVED_VALUE = 150d;
+
+    @Mock
+    private TransferenceRepository transferenceRepository;
+    @Mock
+    private ArchivedTransferenceRepository archivedTransferenceRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new ArchiveProperties();
+        properties.setBatchSize(BATCH_SIZE);
+        properties.setMaxAge(Duration.ofDays(30));
+        archiveService = new ArchiveService(
+                transferenceRepository, archivedTransferenceRepository, properties, transactionManager);
+    }
+
+    @Test
+    void archive_ManyExpiredTransferences_ShouldMoveThemInBatches() {
+        // given
+        var cutoff = LocalDateTime.now();
+
+        when(transferenceRepository.findIdsOlderThan(eq(cutoff), any(Pageable.class)))
+                .thenReturn(List.of(1, 2), List.of(3));
+
+        // when
+        var archived = archiveService.archive(cutoff);
+
+        // then
+        verify(transferenceRepository, times(2)).findIdsOlderThan(eq(cutoff), any(Pageable.class));
+        verify(transferenceRepository).copyToArchive(List.of(1, 2));
+        verify(transferenceRepository).copyToArchive(List.of(3));
+        verify(transferenceRepository).deleteAllByIdInBatch(List.of(1, 2));
+        verify(transferenceRepository).deleteAllByIdInBatch(List.of(3));
+        verify(transactionManager, times(2)).commit(any());
+        assertEquals(3, archived);
+    }
+
+    @Test
+    void archive_NonExpiredTransferences_ShouldMoveNothing() {
+        // given
+        var cutoff = LocalDateTime.now();
+
+        when(transferenceRepository.findIdsOlderThan(eq(cutoff), any(Pageable.class))).thenReturn(List.of());
+
+        // when
+        var archived = archiveService.archive(cutoff);
+
+        // then
+        verify(transferenceRepository, never()).copyToArchive(any());
+        verify(transferenceRepository, never()).deleteAllByIdInBatch(any());
+        assertEquals(0, archived);
+    }
+
+    @Test
+    void reachesArchive_FilterWithoutDates_ShouldReturnTrue() {
+        // given
+        var filter = new StatementFilter(null, null, null);
+
+        // when
+        // then
+        assertTrue(archiveService.reachesArchive(filter));
+        assertTrue(archiveService.reachesArchive(null));
+    }
+
+    @Test
+    void reachesArchive_RecentDateRange_ShouldReturnFalse() {
+        // given
+        var filter = new StatementFilter(null, LocalDateTime.now().minusDays(1), LocalDateTime.now());
+
+        // when
+        // then
+        assertFalse(archiveService.reachesArchive(filter));
+    }
+
+    @Test
+    void getArchivedStatements_RecentDateRange_ShouldNotQueryArchive() {
+        // given
+        var account = AccountServiceTest.buildAccount();
+        var filter = new StatementFilter(null, LocalDateTime.now().minusDays(1), LocalDateTime.now());
+
+        // when
+        var statements = archiveService.getArchivedStatements(account, filter);
+
+        // then
+        verifyNoInteractions(archivedTransferenceRepository);
+        assertTrue(statements.isEmpty());
+    }
+
+    @Test
+    void getArchivedStatements_OldDateRange_ShouldReturnArchivedTransferences() {
+        // given
+        var account = AccountServiceTest.buildAccount();
+        var filter = new StatementFilter(null, LocalDateTime.now().minusYears(2), LocalDateTime.now());
+        var archivedTransference = buildArchivedTransference(account.getId());
+
+        when(archivedTransferenceRepository.findAll(any(Specification.class)))
+                .thenReturn(List.of(archivedTransference));
+
+        // when
+        var statements = archiveService.getArchivedStatements(account, filter);
+
+        // then
+        assertEquals(1, statements.size());
+        assertEquals(ARCHIVED_ID, statements.get(0).getId());
+        assertEquals(ARCHIVED_VALUE, statements.get(0).getValue());
+        assertEquals(Type.DEPOSIT, statements.get(0).getType());
+        assertEquals(archivedTransference.getTransferenceDate(), statements.get(0).getTransferenceDate());
+        assertEquals(account, statements.get(0).getAccount());
+    }
+
+    private ArchivedTransference buildArchivedTransference(Integer accountId) {
+        var archivedTransference = new ArchivedTransference();
+        archivedTransference.setId(ARCHIVED_ID);
+        archivedTransference.setValue(ARCHIVED_VALUE);
+        archivedTransference.setType(Type.DEPOSIT);
+        archivedTransference.setTransferenceDate(LocalDateTime.now().minusYears(1));
+        archivedTransference.setAccountId(accountId);
+
+        return archivedTransference;
+    }
+}
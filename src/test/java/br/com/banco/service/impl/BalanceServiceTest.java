@@ -0,0 +1,154 @@
+package br.com.banco.service.impl;
+
+import br.com.banco.entity.Account;
+import br.com.banco.entity.AccountBalanceSlot;
+import br.com.banco.entity.Transference;
+import br.com.banco.entity.Type;
+import br.com.banco.event.OperationEvent;
+import br.com.banco.repository.AccountBalanceSlotRepository;
+import br.com.banco.repository.ShardedAccountBalanceSlotRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceServiceTest {
+    private static final int ACCOUNT_ID = 1;
+    private static final int SLOTS = 4;
+
+    @Mock
+    private AccountBalanceSlotRepository accountBalanceSlotRepository;
+    @Mock
+    private ShardedAccountBalanceSlotRepository shardedAccountBalanceSlotRepository;
+    @Mock
+    private AccountService accountService;
+    @InjectMocks
+    private BalanceService balanceService;
+
+    @Test
+    void onOperation_Deposit_ShouldCreditWriterSlot() {
+        // given
+        var account = buildHotAccount();
+        var event = new OperationEvent(new Transference(100d, Type.DEPOSIT, account, null));
+
+        // when
+        balanceService.onOperation(event);
+
+        // then
+        verify(accountBalanceSlotRepository, times(1))
+                .credit(ACCOUNT_ID, BalanceService.pickSlot(SLOTS), 100d);
+        verify(accountBalanceSlotRepository, never()).findByAccountId(anyInt());
+    }
+
+    @Test
+    void onOperation_WithdrawOnSingleSlotAccount_ShouldDebitWithoutReadingSlots() {
+        // given
+        var account = new Account("Joseph Smith");
+        account.setId(ACCOUNT_ID);
+        var event = new OperationEvent(new Transference(-30d, Type.WITHDRAW, account, null));
+
+        // when
+        balanceService.onOperation(event);
+
+        // then
+        verify(accountBalanceSlotRepository, times(1)).credit(ACCOUNT_ID, 0, -30d);
+        verify(accountBalanceSlotRepository, never()).drain(anyInt(), anyInt(), anyDouble());
+    }
+
+    @Test
+    void drain_AmountSpreadAcrossSlots_ShouldDrainSlotsUntilCovered() {
+        // given
+        var account = buildHotAccount();
+        when(accountBalanceSlotRepository.findByAccountId(ACCOUNT_ID)).thenReturn(List.of(
+                new AccountBalanceSlot(ACCOUNT_ID, 0, 10d),
+                new AccountBalanceSlot(ACCOUNT_ID, 1, 10d),
+                new AccountBalanceSlot(ACCOUNT_ID, 2, 10d),
+                new AccountBalanceSlot(ACCOUNT_ID, 3, 10d)));
+        when(accountBalanceSlotRepository.drain(eq(ACCOUNT_ID), anyInt(), anyDouble())).thenReturn(1);
+
+        // when
+        balanceService.drain(account, 25d);
+
+        // then
+        verify(accountBalanceSlotRepository, times(2)).drain(eq(ACCOUNT_ID), anyInt(), eq(10d));
+        verify(accountBalanceSlotRepository, times(1)).drain(eq(ACCOUNT_ID), anyInt(), eq(5d));
+        verify(accountBalanceSlotRepository, never()).credit(anyInt(), anyInt(), anyDouble());
+    }
+
+    @Test
+    void drain_AmountAboveBalance_ShouldChargeRemainderToWriterSlot() {
+        // given
+        var account = buildHotAccount();
+        when(accountBalanceSlotRepository.findByAccountId(ACCOUNT_ID)).thenReturn(List.of(
+                new AccountBalanceSlot(ACCOUNT_ID, 0, 10d),
+                new AccountBalanceSlot(ACCOUNT_ID, 1, 0d),
+                new AccountBalanceSlot(ACCOUNT_ID, 2, 5d),
+                new AccountBalanceSlot(ACCOUNT_ID, 3, 0d)));
+        when(accountBalanceSlotRepository.drain(ACCOUNT_ID, 0, 10d)).thenReturn(1);
+        when(accountBalanceSlotRepository.drain(ACCOUNT_ID, 2, 5d)).thenReturn(0);
+
+        // when
+        balanceService.drain(account, 20d);
+
+        // then
+        verify(accountBalanceSlotRepository, times(1))
+                .credit(ACCOUNT_ID, BalanceService.pickSlot(SLOTS), -10d);
+    }
+
+    @Test
+    void updateBalanceSlots_ShrinkingSlots_ShouldCreateFoldAndDeleteSlots() {
+        // given
+        var account = buildHotAccount();
+
+        // when
+        var updatedAccount = balanceService.updateBalanceSlots(account, 2);
+
+        // then
+        verify(accountBalanceSlotRepository, times(1)).createIfMissing(ACCOUNT_ID, 0);
+        verify(accountBalanceSlotRepository, times(1)).createIfMissing(ACCOUNT_ID, 1);
+        verify(accountBalanceSlotRepository, times(1)).foldIntoFirstSlot(ACCOUNT_ID, 2);
+        verify(accountBalanceSlotRepository, times(1)).deleteFrom(ACCOUNT_ID, 2);
+        verify(accountService, times(1)).updateBalanceSlots(ACCOUNT_ID, 2);
+        assertEquals(2, updatedAccount.getBalanceSlots());
+    }
+
+    @Test
+    void pickSlot_ManyWriterThreads_ShouldSpreadAcrossSlots() throws InterruptedException {
+        // given
+        var slots = new HashSet<Integer>();
+        var executor = Executors.newFixedThreadPool(16);
+
+        // when
+        for (int i = 0; i < 16; i++) {
+            executor.submit(() -> {
+                synchronized (slots) {
+                    slots.add(BalanceService.pickSlot(SLOTS));
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        // then
+        assertTrue(slots.size() > 1);
+        assertEquals(0, BalanceService.pickSlot(1));
+    }
+
+    private Account buildHotAccount() {
+        var account = new Account("Merchant");
+        account.setId(ACCOUNT_ID);
+        account.setBalanceSlots(SLOTS);
+        return account;
+    }
+}
@@ -0,0 +1,187 @@
+package br.com.banco.service.impl;
+
+import br.com.banco.batch.BatchJob;
+import br.com.banco.configuration.BatchJobProperties;
+import br.com.banco.entity.Account;
+import br.com.banco.entity.BatchJobChunk;
+import br.com.banco.entity.BatchJobExecution;
+import br.com.banco.entity.BatchStatus;
+import br.com.banco.exception.BusinessException;
+import br.com.banco.exception.FeatureUnavailableException;
+import br.com.banco.repository.AccountRepository;
+import br.com.banco.repository.BatchJobChunkRepository;
+import br.com.banco.repository.BatchJobExecutionRepository;
+import br.com.banco.repository.LedgerDriftRepository;
+import br.com.banco.repository.ShardedTransferenceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchJobServiceTest {
+    private static final String JOB_NAME = "test-job";
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2026, 10, 18);
+    private static final long EXECUTION_ID = 1L;
+    private static final long CHUNK_ID = 10L;
+    private static final long FAILING_CHUNK_ID = 11L;
+
+    @Mock
+    private BatchJob batchJob;
+    @Mock
+    private BatchJobExecutionRepository executionRepository;
+    @Mock
+    private BatchJobChunkRepository chunkRepository;
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private LedgerDriftRepository ledgerDriftRepository;
+    @Mock
+    private ShardedTransferenceRepository shardedTransferenceRepository;
+    @Mock
+    private MessageSource messageSource;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BatchJobService batchJobService;
+    private Account account;
+    private Account secondAccount;
+
+    @BeforeEach
+    void setUp() {
+        when(batchJob.getName()).thenReturn(JOB_NAME);
+        var batchJobProperties = new BatchJobProperties();
+        batchJobProperties.setParallelism(1);
+        batchJobService = new BatchJobService(
+                List.of(batchJob),
+                executionRepository,
+                chunkRepository,
+                accountRepository,
+                ledgerDriftRepository,
+                shardedTransferenceRepository,
+                batchJobProperties,
+                messageSource,
+                transactionManager,
+                new SimpleMeterRegistry());
+        account = AccountServiceTest.buildAccount();
+        secondAccount = AccountServiceTest.buildSecondAccount();
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchJobService.shutdown();
+    }
+
+    @Test
+    void run_InterruptedExecution_ShouldOnlyProcessUnfinishedChunksAndCheckpointEach() {
+        // given
+        var execution = buildExecution(BatchStatus.RUNNING);
+        var chunk = buildChunk(CHUNK_ID, account.getId());
+        when(executionRepository.findByJobNameAndBusinessDate(JOB_NAME, BUSINESS_DATE)).thenReturn(Optional.of(execution));
+        when(executionRepository.save(execution)).thenReturn(execution);
+        when(executionRepository.findById(EXECUTION_ID)).thenReturn(Optional.of(execution));
+        when(chunkRepository.findUnfinishedIds(EXECUTION_ID)).thenReturn(List.of(CHUNK_ID));
+        when(chunkRepository.findForUpdate(CHUNK_ID)).thenReturn(Optional.of(chunk));
+        when(chunkRepository.save(chunk)).thenReturn(chunk);
+        when(accountRepository.findByIdBetweenOrderById(account.getId(), account.getId())).thenReturn(List.of(account));
+        when(batchJob.process(List.of(account), BUSINESS_DATE)).thenReturn(1);
+
+        // when
+        var finished = batchJobService.run(JOB_NAME, BUSINESS_DATE);
+
+        // then
+        verify(accountRepository, never()).findMinId();
+        verify(batchJob, times(1)).process(anyList(), eq(BUSINESS_DATE));
+        assertEquals(BatchStatus.COMPLETED, finished.getStatus());
+        assertNotNull(finished.getFinishedAt());
+        assertEquals(BatchStatus.COMPLETED, chunk.getStatus());
+        assertEquals(1, chunk.getProcessed());
+        assertEquals(1, chunk.getAttempts());
+    }
+
+    @Test
+    void run_OneChunkFails_ShouldCompleteTheOthersAndMarkExecutionFailed() {
+        // given
+        var execution = buildExecution(BatchStatus.RUNNING);
+        var chunk = buildChunk(CHUNK_ID, account.getId());
+        var failingChunk = buildChunk(FAILING_CHUNK_ID, secondAccount.getId());
+        when(executionRepository.findByJobNameAndBusinessDate(JOB_NAME, BUSINESS_DATE)).thenReturn(Optional.empty());
+        when(executionRepository.save(any(BatchJobExecution.class))).thenAnswer(invocation -> {
+            BatchJobExecution saved = invocation.getArgument(0);
+            saved.setId(EXECUTION_ID);
+            return saved;
+        });
+        when(executionRepository.findById(EXECUTION_ID)).thenReturn(Optional.of(execution));
+        when(accountRepository.findMinId()).thenReturn(Optional.of(account.getId()));
+        when(accountRepository.findMaxId()).thenReturn(Optional.of(secondAccount.getId()));
+        when(chunkRepository.findUnfinishedIds(EXECUTION_ID)).thenReturn(List.of(CHUNK_ID, FAILING_CHUNK_ID));
+        when(chunkRepository.findForUpdate(CHUNK_ID)).thenReturn(Optional.of(chunk));
+        when(chunkRepository.findForUpdate(FAILING_CHUNK_ID)).thenReturn(Optional.of(failingChunk));
+        when(chunkRepository.save(any(BatchJobChunk.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(accountRepository.findByIdBetweenOrderById(anyInt(), anyInt())).thenReturn(List.of(account));
+        when(batchJob.process(anyList(), eq(BUSINESS_DATE)))
+                .thenReturn(1)
+                .thenThrow(new IllegalStateException("Fee posting failed"));
+
+        // when
+        var finished = batchJobService.run(JOB_NAME, BUSINESS_DATE);
+
+        // then
+        verify(chunkRepository, times(1)).saveAll(anyList());
+        assertEquals(BatchStatus.FAILED, finished.getStatus());
+        assertEquals(BatchStatus.COMPLETED, chunk.getStatus());
+        assertEquals(BatchStatus.FAILED, failingChunk.getStatus());
+        assertEquals("Fee posting failed", failingChunk.getError());
+    }
+
+    @Test
+    void run_UnknownJob_ShouldThrowBusinessException() {
+        // given
+        when(messageSource.getMessage(eq("non-existing.batch.job.error.message"), isNull(), any()))
+                .thenReturn("Invalid job name.");
+
+        // when
+        // then
+        assertThrows(BusinessException.class, () -> batchJobService.run("unknown", BUSINESS_DATE));
+        verifyNoInteractions(executionRepository, chunkRepository);
+    }
+
+    @Test
+    void run_ShardingEnabled_ShouldThrowFeatureUnavailableException() {
+        // given
+        when(shardedTransferenceRepository.isEnabled()).thenReturn(true);
+        when(messageSource.getMessage(eq("batch.sharding.unsupported.error.message"), isNull(), any()))
+                .thenReturn("Batch jobs are not supported while sharding is enabled.");
+
+        // when
+        // then
+        assertThrows(FeatureUnavailableException.class, () -> batchJobService.run(JOB_NAME, BUSINESS_DATE));
+        verifyNoInteractions(executionRepository, chunkRepository);
+    }
+
+    private BatchJobExecution buildExecution(BatchStatus status) {
+        var execution = new BatchJobExecution(JOB_NAME, BUSINESS_DATE, 1);
+        execution.setId(EXECUTION_ID);
+        execution.setStatus(status);
+        return execution;
+    }
+
+    private BatchJobChunk buildChunk(Long id, Integer accountId) {
+        var chunk = new BatchJobChunk(EXECUTION_ID, accountId, accountId);
+        chunk.setId(id);
+        return chunk;
+    }
+}
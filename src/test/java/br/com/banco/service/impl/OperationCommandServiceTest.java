@@ -0,0 +1,188 @@
+package br.com.banco.service.impl;
+
+import br.com.banco.command.CommandStatus;
+import br.com.banco.command.OperationCommand;
+import br.com.banco.configuration.CommandProperties;
+import br.com.banco.entity.Account;
+import br.com.banco.entity.Transference;
+import br.com.banco.entity.Type;
+import br.com.banco.exception.BusinessException;
+import br.com.banco.exception.ServiceOverloadedException;
+import br.com.banco.repository.ShardedTransferenceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OperationCommandServiceTest {
+    private static final int ACCOUNT_ID = 1;
+    private static final String NON_EXISTING_OPERATION_ID_MESSAGE_KEY = "non-existing.operation.id.error.message";
+
+    @Mock
+    private AccountService accountService;
+    @Mock
+    private TransferenceService transferenceService;
+    @Mock
+    private ShardedTransferenceRepository shardedTransferenceRepository;
+    @Mock
+    private MessageSource messageSource;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final CommandProperties commandProperties = new CommandProperties();
+    private OperationCommandService operationCommandService;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        commandProperties.setLanes(2);
+        commandProperties.setMaxTracked(10);
+        operationCommandService = new OperationCommandService(
+                accountService, transferenceService, shardedTransferenceRepository, commandProperties, messageSource,
+                transactionManager);
+
+        account = new Account("Joseph Smith");
+        account.setId(ACCOUNT_ID);
+        lenient().when(accountService.findById(ACCOUNT_ID)).thenReturn(account);
+    }
+
+    @AfterEach
+    void tearDown() {
+        operationCommandService.shutdown();
+    }
+
+    @Test
+    void submit_SameAccount_ShouldApplyOperationsInSubmissionOrder() throws Exception {
+        // given
+        when(transferenceService.deposit(eq(account), anyDouble())).thenAnswer(invocation -> buildTransference(1));
+        when(transferenceService.withdraw(eq(account), anyDouble())).thenAnswer(invocation -> buildTransference(2));
+
+        // when
+        var deposit = operationCommandService.submit(account, Type.DEPOSIT, 100d);
+        var withdraw = operationCommandService.submit(account, Type.WITHDRAW, 40d);
+        var secondDeposit = operationCommandService.submit(account, Type.DEPOSIT, 20d);
+        awaitFinished(deposit, withdraw, secondDeposit);
+
+        // then
+        var inOrder = inOrder(transferenceService);
+        inOrder.verify(transferenceService).deposit(account, 100d);
+        inOrder.verify(transferenceService).withdraw(account, 40d);
+        inOrder.verify(transferenceService).deposit(account, 20d);
+        assertEquals(CommandStatus.COMPLETED, withdraw.getStatus());
+        assertEquals(2, withdraw.getTransferenceId());
+        assertSame(deposit, operationCommandService.findById(deposit.getId()));
+    }
+
+    @Test
+    void process_OneCommandFails_ShouldRetryIndividuallyAndFailOnlyThatCommand() {
+        // given
+        var deposit = new OperationCommand(ACCOUNT_ID, Type.DEPOSIT, 100d);
+        var withdraw = new OperationCommand(ACCOUNT_ID, Type.WITHDRAW, 40d);
+        when(transferenceService.deposit(account, 100d)).thenReturn(buildTransference(1));
+        when(transferenceService.withdraw(account, 40d)).thenThrow(new IllegalStateException("Insufficient funds"));
+
+        // when
+        operationCommandService.process(List.of(deposit, withdraw));
+
+        // then
+        assertEquals(CommandStatus.COMPLETED, deposit.getStatus());
+        assertEquals(1, deposit.getTransferenceId());
+        assertEquals(CommandStatus.FAILED, withdraw.getStatus());
+        assertEquals("Insufficient funds", withdraw.getError());
+        verify(transactionManager, times(2)).rollback(any());
+    }
+
+    @Test
+    void process_ShardingEnabled_ShouldRunEachCommandInItsOwnTransaction() {
+        // given
+        var deposit = new OperationCommand(ACCOUNT_ID, Type.DEPOSIT, 100d);
+        var withdraw = new OperationCommand(ACCOUNT_ID, Type.WITHDRAW, 40d);
+        when(shardedTransferenceRepository.isEnabled()).thenReturn(true);
+        when(transferenceService.deposit(account, 100d)).thenReturn(buildTransference(1));
+        when(transferenceService.withdraw(account, 40d)).thenThrow(new IllegalStateException("Insufficient funds"));
+
+        // when
+        operationCommandService.process(List.of(deposit, withdraw));
+
+        // then
+        verify(transferenceService, times(1)).deposit(account, 100d);
+        assertEquals(CommandStatus.COMPLETED, deposit.getStatus());
+        assertEquals(CommandStatus.FAILED, withdraw.getStatus());
+        verify(transactionManager, times(1)).rollback(any());
+    }
+
+    @Test
+    void submit_TooManyTrackedCommands_ShouldRejectWithServiceOverloaded() {
+        // given
+        commandProperties.setMaxTracked(1);
+        when(messageSource.getMessage(eq("command.queue.full.message.error"), isNull(), any(Locale.class)))
+                .thenReturn("Too many pending operations.");
+        lenient().when(transferenceService.deposit(eq(account), anyDouble())).thenReturn(buildTransference(1));
+        operationCommandService.submit(account, Type.DEPOSIT, 100d);
+
+        // when
+        // then
+        assertThrows(ServiceOverloadedException.class,
+                () -> operationCommandService.submit(account, Type.DEPOSIT, 100d));
+    }
+
+    @Test
+    void findById_UnknownOperation_ShouldThrowBusinessException() {
+        // given
+        var unknownId = UUID.randomUUID();
+        when(messageSource.getMessage(eq(NON_EXISTING_OPERATION_ID_MESSAGE_KEY), isNull(), any(Locale.class)))
+                .thenReturn("Invalid operation ID.");
+
+        // when
+        // then
+        assertThrows(BusinessException.class, () -> operationCommandService.findById(unknownId));
+    }
+
+    @Test
+    void evictFinished_RetentionElapsed_ShouldForgetFinishedCommands() throws Exception {
+        // given
+        commandProperties.setRetention(Duration.ZERO);
+        when(transferenceService.deposit(eq(account), anyDouble())).thenReturn(buildTransference(1));
+        when(messageSource.getMessage(eq(NON_EXISTING_OPERATION_ID_MESSAGE_KEY), isNull(), any(Locale.class)))
+                .thenReturn("Invalid operation ID.");
+        var command = operationCommandService.submit(account, Type.DEPOSIT, 100d);
+        awaitFinished(command);
+        Thread.sleep(5);
+
+        // when
+        int evicted = operationCommandService.evictFinished();
+
+        // then
+        assertEquals(1, evicted);
+        assertThrows(BusinessException.class, () -> operationCommandService.findById(command.getId()));
+    }
+
+    private void awaitFinished(OperationCommand... commands) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2_000;
+        for (var command : commands) {
+            while (command.getStatus() == CommandStatus.ACCEPTED && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+        }
+    }
+
+    private Transference buildTransference(int id) {
+        var transference = new Transference(100d, Type.DEPOSIT, account, null);
+        transference.setId(id);
+        return transference;
+    }
+}
@@ -0,0 +1,224 @@
+package br.com.banco.service.impl;
+
+import br.com.banco.configuration.StreamProperties;
+import br.com.banco.entity.Account;
+import br.com.banco.entity.Transference;
+import br.com.banco.entity.Type;
+import br.com.banco.event.OperationEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OperationStreamServiceTest {
+    private static final int BUFFER_SIZE = 4;
+    private static final double DEPOSIT_VALUE = 100d;
+    private static final long AWAIT_MILLIS = 2_000;
+
+    private StreamProperties properties;
+    private OperationStreamService operationStreamService;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        properties = new StreamProperties();
+        properties.setSubscriberBufferSize(BUFFER_SIZE);
+        properties.setHistorySize(3);
+        properties.setSenderThreads(1);
+        operationStreamService = new OperationStreamService(properties);
+        account = AccountServiceTest.buildAccount();
+    }
+
+    @AfterEach
+    void tearDown() {
+        operationStreamService.shutdown();
+    }
+
+    @Test
+    void onOperationCommitted_Subscriber_ShouldReceiveOperation() throws Exception {
+        // given
+        var emitter = new CapturingEmitter(1);
+        operationStreamService.subscribe(account.getId(), null, emitter);
+
+        // when
+        operationStreamService.onOperationCommitted(buildEvent(account));
+
+        // then
+        assertTrue(emitter.await());
+        assertEquals(1, emitter.getEvents().size());
+    }
+
+    @Test
+    void onOperationCommitted_SubscriberOfAnotherAccount_ShouldNotReceiveOperation() throws Exception {
+        // given
+        var emitter = new CapturingEmitter(1);
+        operationStreamService.subscribe(AccountServiceTest.buildSecondAccount().getId(), null, emitter);
+
+        // when
+        operationStreamService.onOperationCommitted(buildEvent(account));
+
+        // then
+        assertFalse(emitter.await());
+        assertTrue(emitter.getEvents().isEmpty());
+    }
+
+    @Test
+    void subscribe_LastEventId_ShouldReplayOnlyNewerOperations() throws Exception {
+        // given
+        var firstEmitter = new CapturingEmitter(3);
+        operationStreamService.subscribe(account.getId(), null, firstEmitter);
+        operationStreamService.onOperationCommitted(buildEvent(account));
+        operationStreamService.onOperationCommitted(buildEvent(account));
+        operationStreamService.onOperationCommitted(buildEvent(account));
+        assertTrue(firstEmitter.await());
+
+        // when
+        var resumedEmitter = new CapturingEmitter(2);
+        operationStreamService.subscribe(account.getId(), 1L, resumedEmitter);
+
+        // then
+        assertTrue(resumedEmitter.await());
+        assertEquals(2, resumedEmitter.getEvents().size());
+    }
+
+    @Test
+    void onOperationCommitted_SlowConsumer_ShouldBeDropped() throws Exception {
+        // given
+        var blockingEmitter = new BlockingEmitter();
+        operationStreamService.subscribe(account.getId(), null, blockingEmitter);
+        operationStreamService.onOperationCommitted(buildEvent(account));
+        assertTrue(blockingEmitter.sending.await(AWAIT_MILLIS, TimeUnit.MILLISECONDS));
+
+        // when
+        for (int i = 0; i <= BUFFER_SIZE; i++) {
+            operationStreamService.onOperationCommitted(buildEvent(account));
+        }
+
+        // then
+        assertEquals(0, operationStreamService.getSubscriberCount(account.getId()));
+        blockingEmitter.release.countDown();
+    }
+
+    @Test
+    void subscribe_OnlySubscriberReconnects_ShouldReplayOperationsMissedWhileDisconnected() throws Exception {
+        // given
+        var emitter = new CompletableEmitter();
+        operationStreamService.subscribe(account.getId(), null, emitter);
+        operationStreamService.onOperationCommitted(buildEvent(account));
+        emitter.complete();
+        operationStreamService.onOperationCommitted(buildEvent(account));
+        operationStreamService.onOperationCommitted(buildEvent(account));
+
+        // when
+        var resumedEmitter = new CapturingEmitter(2);
+        operationStreamService.subscribe(account.getId(), 1L, resumedEmitter);
+
+        // then
+        assertTrue(resumedEmitter.await());
+        assertEquals(2, resumedEmitter.getEvents().size());
+    }
+
+    @Test
+    void evictIdle_LastSubscriberCompleted_ShouldKeepHistoryUntilIdleTimeout() {
+        // given
+        var emitter = new CompletableEmitter();
+        var anotherEmitter = new CompletableEmitter();
+        operationStreamService.subscribe(account.getId(), null, emitter);
+        operationStreamService.subscribe(account.getId(), null, anotherEmitter);
+        emitter.complete();
+        anotherEmitter.complete();
+
+        // when
+        int evicted = operationStreamService.evictIdle();
+
+        // then
+        assertEquals(0, evicted);
+        assertEquals(1, operationStreamService.getChannelCount());
+        assertEquals(0, operationStreamService.getSubscriberCount(account.getId()));
+
+        properties.setHistoryIdleTimeout(Duration.ZERO);
+        assertEquals(1, operationStreamService.evictIdle());
+        assertEquals(0, operationStreamService.getChannelCount());
+    }
+
+    @Test
+    void onOperationCommitted_MaxHistoryAccountsReached_ShouldNotTrackNewAccount() {
+        // given
+        properties.setMaxHistoryAccounts(1);
+        operationStreamService.onOperationCommitted(buildEvent(account));
+
+        // when
+        operationStreamService.onOperationCommitted(buildEvent(AccountServiceTest.buildSecondAccount()));
+
+        // then
+        assertEquals(1, operationStreamService.getChannelCount());
+    }
+
+    private OperationEvent buildEvent(Account account) {
+        var deposit = new Transference(DEPOSIT_VALUE, Type.DEPOSIT, account, null);
+        deposit.setTransferenceDate(LocalDateTime.now());
+        return new OperationEvent(deposit);
+    }
+
+    private static class CapturingEmitter extends SseEmitter {
+        private final List<SseEventBuilder> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch latch;
+
+        CapturingEmitter(int expectedEvents) {
+            this.latch = new CountDownLatch(expectedEvents);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            events.add(builder);
+            latch.countDown();
+        }
+
+        boolean await() throws InterruptedException {
+            return latch.await(AWAIT_MILLIS, TimeUnit.MILLISECONDS);
+        }
+
+        List<SseEventBuilder> getEvents() {
+            return events;
+        }
+    }
+
+    private static class CompletableEmitter extends SseEmitter {
+        private Runnable completionCallback;
+
+        @Override
+        public synchronized void onCompletion(Runnable callback) {
+            this.completionCallback = callback;
+        }
+
+        @Override
+        public synchronized void complete() {
+            completionCallback.run();
+        }
+    }
+
+    private static class BlockingEmitter extends SseEmitter {
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            try {
+                release.await(AWAIT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
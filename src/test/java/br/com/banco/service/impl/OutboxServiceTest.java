@@ -0,0 +1,180 @@
+package br.com.banco.service.impl;
+
+import br.com.banco.configuration.OutboxProperties;
+import br.com.banco.entity.OutboxEvent;
+import br.com.banco.entity.Transference;
+import br.com.banco.entity.Type;
+import br.com.banco.event.OperationEvent;
+import br.com.banco.outbox.OperationEventSink;
+import br.com.banco.repository.OutboxEventRepository;
+import br.com.banco.repository.ShardedOutboxEventRepository;
+import br.com.banco.sharding.Shard;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceTest {
+    private static final int BATCH_SIZE = 2;
+    private static final double DEPOSIT_VALUE = 100d;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+    @Mock
+    private ShardedOutboxEventRepository shardedOutboxEventRepository;
+    @Mock
+    private OperationEventSink operationEventSink;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OutboxProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxService outboxService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OutboxProperties();
+        properties.setBatchSize(BATCH_SIZE);
+        properties.setParallelism(1);
+        meterRegistry = new SimpleMeterRegistry();
+        outboxService = new OutboxService(
+                outboxEventRepository, shardedOutboxEventRepository, operationEventSink, properties, transactionManager, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxService.shutdown();
+    }
+
+    @Test
+    void record_OperationEvent_ShouldSaveOutboxRow() {
+        // given
+        var transference = buildDeposit(1);
+
+        // when
+        outboxService.record(new OperationEvent(transference));
+
+        // then
+        var captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository, times(1)).save(captor.capture());
+
+        assertEquals(transference.getId(), captor.getValue().getTransferenceId());
+        assertEquals(transference.getAccount().getId(), captor.getValue().getAccountId());
+        assertEquals(Type.DEPOSIT, captor.getValue().getType());
+        assertEquals(DEPOSIT_VALUE, captor.getValue().getValue());
+        assertNull(captor.getValue().getClaimToken());
+    }
+
+    @Test
+    void record_OutboxDisabled_ShouldNotSaveOutboxRow() {
+        // given
+        properties.setEnabled(false);
+
+        // when
+        outboxService.record(new OperationEvent(buildDeposit(1)));
+
+        // then
+        verifyNoInteractions(outboxEventRepository);
+    }
+
+    @Test
+    void record_ShardingEnabled_ShouldLeaveOutboxRowToShardTransaction() {
+        // given
+        when(shardedOutboxEventRepository.isEnabled()).thenReturn(true);
+
+        // when
+        outboxService.record(new OperationEvent(buildDeposit(1)));
+
+        // then
+        verifyNoInteractions(outboxEventRepository);
+    }
+
+    @Test
+    void relay_ShardingEnabled_ShouldPublishAndDeleteClaimedBatchesFromEachShard() {
+        // given
+        var shard = mock(Shard.class);
+        var batch = List.of(buildOutboxEvent(1L));
+
+        when(shardedOutboxEventRepository.isEnabled()).thenReturn(true);
+        when(shardedOutboxEventRepository.getShards()).thenReturn(List.of(shard));
+        when(shardedOutboxEventRepository.claim(eq(shard), anyString(), any(), any(), eq(BATCH_SIZE)))
+                .thenReturn(batch, List.of());
+
+        // when
+        var relayed = outboxService.relay();
+
+        // then
+        verify(operationEventSink).publish(batch);
+        verify(shardedOutboxEventRepository).deleteAll(shard, List.of(1L));
+        verifyNoInteractions(outboxEventRepository);
+
+        assertEquals(1, relayed);
+    }
+
+    @Test
+    void relay_PendingEvents_ShouldPublishAndDeleteClaimedBatches() {
+        // given
+        var firstBatch = List.of(buildOutboxEvent(1L), buildOutboxEvent(2L));
+        var secondBatch = List.of(buildOutboxEvent(3L));
+
+        when(outboxEventRepository.claim(anyString(), any(), any(), eq(BATCH_SIZE))).thenReturn(2, 1);
+        when(outboxEventRepository.findByClaimTokenOrderById(anyString())).thenReturn(firstBatch, secondBatch);
+
+        // when
+        var relayed = outboxService.relay();
+
+        // then
+        verify(operationEventSink).publish(firstBatch);
+        verify(operationEventSink).publish(secondBatch);
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(3L));
+
+        assertEquals(3, relayed);
+        assertEquals(3, meterRegistry.counter("bank.outbox.published").count());
+        assertEquals(3, meterRegistry.timer("bank.outbox.lag").count());
+    }
+
+    @Test
+    void relay_SinkFailure_ShouldKeepEventsForNextClaim() {
+        // given
+        var batch = List.of(buildOutboxEvent(1L));
+
+        when(outboxEventRepository.claim(anyString(), any(), any(), eq(BATCH_SIZE))).thenReturn(1);
+        when(outboxEventRepository.findByClaimTokenOrderById(anyString())).thenReturn(batch);
+        doThrow(new IllegalStateException("Sink unavailable")).when(operationEventSink).publish(batch);
+
+        // when
+        var relayed = outboxService.relay();
+
+        // then
+        verify(outboxEventRepository, never()).deleteAllByIdInBatch(any());
+
+        assertEquals(0, relayed);
+        assertEquals(0, meterRegistry.counter("bank.outbox.published").count());
+    }
+
+    private OutboxEvent buildOutboxEvent(Long id) {
+        var event = new OutboxEvent(buildDeposit(id.intValue()));
+        event.setId(id);
+        return event;
+    }
+
+    private Transference buildDeposit(int id) {
+        var deposit = new Transference(DEPOSIT_VALUE, Type.DEPOSIT, AccountServiceTest.buildAccount(), null);
+        deposit.setId(id);
+        deposit.setTransferenceDate(LocalDateTime.now());
+        return deposit;
+    }
+}
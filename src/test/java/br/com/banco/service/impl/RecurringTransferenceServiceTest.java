@@ -0,0 +1,210 @@
+package br.com.banco.service.impl;
+
+import br.com.banco.configuration.RecurringTransferenceProperties;
+import br.com.banco.entity.Account;
+import br.com.banco.entity.ExecutionStatus;
+import br.com.banco.entity.Frequency;
+import br.com.banco.entity.RecurringTransference;
+import br.com.banco.entity.RecurringTransferenceExecution;
+import br.com.banco.entity.Transference;
+import br.com.banco.entity.Type;
+import br.com.banco.exception.BusinessException;
+import br.com.banco.repository.RecurringTransferenceExecutionRepository;
+import br.com.banco.repository.RecurringTransferenceRepository;
+import br.com.banco.repository.ShardedTransferenceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecurringTransferenceServiceTest {
+    private static final long RECURRING_ID = 1L;
+    private static final long SECOND_RECURRING_ID = 2L;
+    private static final double VALUE = 100d;
+    private static final String CORRELATION_ID = "c0a8e7b2-1f3d-4a5b-9c6d-7e8f9a0b1c2d";
+    private static final String NON_EXISTING_ID_MESSAGE = "Invalid ID.";
+    private static final int UNKNOWN_ACCOUNT_ID = 99;
+
+    @Mock
+    private RecurringTransferenceRepository recurringTransferenceRepository;
+    @Mock
+    private RecurringTransferenceExecutionRepository executionRepository;
+    @Mock
+    private ShardedTransferenceRepository shardedTransferenceRepository;
+    @Mock
+    private AccountService accountService;
+    @Mock
+    private TransferenceService transferenceService;
+    @Mock
+    private MessageSource messageSource;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RecurringTransferenceService recurringTransferenceService;
+    private Account account;
+    private Account destinationAccount;
+
+    @BeforeEach
+    void setUp() {
+        recurringTransferenceService = new RecurringTransferenceService(
+                recurringTransferenceRepository,
+                executionRepository,
+                shardedTransferenceRepository,
+                accountService,
+                transferenceService,
+                new RecurringTransferenceProperties(),
+                messageSource,
+                transactionManager,
+                new SimpleMeterRegistry());
+        account = AccountServiceTest.buildAccount();
+        destinationAccount = AccountServiceTest.buildSecondAccount();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recurringTransferenceService.shutdown();
+    }
+
+    @Test
+    void process_DueRecurringTransference_ShouldTransferRecordOccurrenceAndAdvanceToNextMonth() {
+        // given
+        var start = LocalDateTime.now().minusMinutes(1);
+        var recurringTransference = buildRecurringTransference(RECURRING_ID, start);
+        when(recurringTransferenceRepository.findAllForUpdate(List.of(RECURRING_ID)))
+                .thenReturn(List.of(recurringTransference));
+        when(accountService.findById(account.getId())).thenReturn(account);
+        when(accountService.findById(destinationAccount.getId())).thenReturn(destinationAccount);
+        when(transferenceService.transfer(account, destinationAccount, VALUE)).thenReturn(buildTransference());
+
+        // when
+        int fired = recurringTransferenceService.process(List.of(RECURRING_ID));
+
+        // then
+        var captor = ArgumentCaptor.forClass(RecurringTransferenceExecution.class);
+        verify(executionRepository, times(1)).save(captor.capture());
+        assertEquals(1, fired);
+        assertEquals(ExecutionStatus.EXECUTED, captor.getValue().getStatus());
+        assertEquals(0, captor.getValue().getOccurrence());
+        assertEquals(start, captor.getValue().getScheduledFor());
+        assertEquals(CORRELATION_ID, captor.getValue().getCorrelationId());
+        assertEquals(1, recurringTransference.getOccurrences());
+        assertEquals(start.plusMonths(1), recurringTransference.getNextExecution());
+    }
+
+    @Test
+    void process_OccurrenceAlreadyExecuted_ShouldNotTransferAgain() {
+        // given
+        var recurringTransference = buildRecurringTransference(RECURRING_ID, LocalDateTime.now().minusMinutes(1));
+        recurringTransference.advance();
+        when(recurringTransferenceRepository.findAllForUpdate(List.of(RECURRING_ID)))
+                .thenReturn(List.of(recurringTransference));
+
+        // when
+        int fired = recurringTransferenceService.process(List.of(RECURRING_ID));
+
+        // then
+        assertEquals(0, fired);
+        verifyNoInteractions(transferenceService, executionRepository);
+    }
+
+    @Test
+    void process_ExpiredBeforeDeadline_ShouldRequeueWithoutTransferring() {
+        // given
+        var recurringTransference = buildRecurringTransference(RECURRING_ID, LocalDateTime.now().plusSeconds(30));
+        when(recurringTransferenceRepository.findAllForUpdate(List.of(RECURRING_ID)))
+                .thenReturn(List.of(recurringTransference));
+
+        // when
+        int fired = recurringTransferenceService.process(List.of(RECURRING_ID));
+
+        // then
+        assertEquals(0, fired);
+        assertEquals(1, recurringTransferenceService.getScheduledCount());
+        verifyNoInteractions(transferenceService, executionRepository);
+    }
+
+    @Test
+    void process_OneTransferFailsInBatch_ShouldRetryIndividuallyAndRecordOnlyThatOccurrenceAsFailed() {
+        // given
+        var start = LocalDateTime.now().minusMinutes(1);
+        var recurringTransference = buildRecurringTransference(RECURRING_ID, start);
+        var failingRecurringTransference = buildRecurringTransference(SECOND_RECURRING_ID, start);
+        failingRecurringTransference.setDestinationAccountId(UNKNOWN_ACCOUNT_ID);
+        when(recurringTransferenceRepository.findAllForUpdate(List.of(RECURRING_ID, SECOND_RECURRING_ID)))
+                .thenReturn(List.of(buildRecurringTransference(RECURRING_ID, start), buildFailingRecurringTransference(start)));
+        when(recurringTransferenceRepository.findAllForUpdate(List.of(RECURRING_ID)))
+                .thenReturn(List.of(recurringTransference));
+        when(recurringTransferenceRepository.findAllForUpdate(List.of(SECOND_RECURRING_ID)))
+                .thenReturn(List.of(buildFailingRecurringTransference(start)), List.of(failingRecurringTransference));
+        when(accountService.findById(account.getId())).thenReturn(account);
+        when(accountService.findById(destinationAccount.getId())).thenReturn(destinationAccount);
+        when(accountService.findById(UNKNOWN_ACCOUNT_ID))
+                .thenThrow(new BusinessException(NON_EXISTING_ID_MESSAGE, IllegalArgumentException.class));
+        when(transferenceService.transfer(account, destinationAccount, VALUE)).thenReturn(buildTransference());
+
+        // when
+        int fired = recurringTransferenceService.process(List.of(RECURRING_ID, SECOND_RECURRING_ID));
+
+        // then
+        var captor = ArgumentCaptor.forClass(RecurringTransferenceExecution.class);
+        verify(executionRepository, times(3)).save(captor.capture());
+        var retried = captor.getAllValues().subList(1, 3);
+        assertEquals(2, fired);
+        assertEquals(ExecutionStatus.EXECUTED, retried.get(0).getStatus());
+        assertEquals(RECURRING_ID, retried.get(0).getRecurringTransferenceId());
+        assertEquals(ExecutionStatus.FAILED, retried.get(1).getStatus());
+        assertEquals(SECOND_RECURRING_ID, retried.get(1).getRecurringTransferenceId());
+        assertEquals(NON_EXISTING_ID_MESSAGE, retried.get(1).getError());
+        assertEquals(1, recurringTransference.getOccurrences());
+        assertEquals(1, failingRecurringTransference.getOccurrences());
+    }
+
+    @Test
+    void findById_NonExistingId_ShouldThrowBusinessException() {
+        // given
+        when(recurringTransferenceRepository.findById(RECURRING_ID)).thenReturn(Optional.empty());
+        when(messageSource.getMessage(eq("non-existing.recurring.transference.id.error.message"), isNull(), any(Locale.class)))
+                .thenReturn(NON_EXISTING_ID_MESSAGE);
+
+        // when
+        var exception = assertThrows(BusinessException.class, () -> recurringTransferenceService.findById(RECURRING_ID));
+
+        // then
+        assertEquals(NON_EXISTING_ID_MESSAGE, exception.getMessage());
+    }
+
+    private RecurringTransference buildRecurringTransference(Long id, LocalDateTime start) {
+        var recurringTransference = new RecurringTransference(
+                account, destinationAccount, VALUE, Frequency.MONTHLY, start, null);
+        recurringTransference.setId(id);
+        return recurringTransference;
+    }
+
+    private RecurringTransference buildFailingRecurringTransference(LocalDateTime start) {
+        var recurringTransference = buildRecurringTransference(SECOND_RECURRING_ID, start);
+        recurringTransference.setDestinationAccountId(UNKNOWN_ACCOUNT_ID);
+        return recurringTransference;
+    }
+
+    private Transference buildTransference() {
+        var transference = new Transference(-VALUE, Type.TRANSFERENCE, account, destinationAccount.getOwnerName());
+        transference.setCorrelationId(CORRELATION_ID);
+        return transference;
+    }
+}
@@ -0,0 +1,166 @@
+package br.com.banco.service.impl;
+
+import br.com.banco.configuration.StatementProjectionProperties;
+import br.com.banco.dto.StatementFilter;
+import br.com.banco.entity.Account;
+import br.com.banco.entity.PendingStatementEntry;
+import br.com.banco.entity.StatementEntry;
+import br.com.banco.entity.Transference;
+import br.com.banco.entity.Type;
+import br.com.banco.event.OperationEvent;
+import br.com.banco.repository.PendingStatementEntryRepository;
+import br.com.banco.repository.ShardedTransferenceRepository;
+import br.com.banco.repository.StatementEntryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatementProjectionServiceTest {
+    private static final int ACCOUNT_ID = 1;
+    private static final int COUNTERPARTY_ID = 2;
+    private static final LocalDateTime NOW = LocalDateTime.of(2022, 3, 1, 10, 0);
+
+    @Mock
+    private PendingStatementEntryRepository pendingStatementEntryRepository;
+    @Mock
+    private StatementEntryRepository statementEntryRepository;
+    @Mock
+    private ShardedTransferenceRepository shardedTransferenceRepository;
+    @Mock
+    private TransferenceService transferenceService;
+    @Mock
+    private StatementStoreService statementStoreService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final StatementProjectionProperties statementProjectionProperties = new StatementProjectionProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private StatementProjectionService statementProjectionService;
+    private Account account;
+    private Account counterparty;
+
+    @BeforeEach
+    void setUp() {
+        statementProjectionService = new StatementProjectionService(pendingStatementEntryRepository,
+                statementEntryRepository, shardedTransferenceRepository, transferenceService,
+                statementStoreService, statementProjectionProperties, transactionManager, meterRegistry);
+
+        account = new Account("Joseph Smith");
+        account.setId(ACCOUNT_ID);
+        counterparty = new Account("Mary Smith");
+        counterparty.setId(COUNTERPARTY_ID);
+    }
+
+    @Test
+    void record_TransferenceLeg_ShouldQueueEntryWithCounterparty() {
+        // given
+        var transference = buildTransference(1, -50d, Type.TRANSFERENCE, counterparty.getOwnerName());
+        var captor = ArgumentCaptor.forClass(PendingStatementEntry.class);
+
+        // when
+        statementProjectionService.record(new OperationEvent(transference, counterparty));
+
+        // then
+        verify(pendingStatementEntryRepository, times(1)).save(captor.capture());
+        assertEquals(ACCOUNT_ID, captor.getValue().getAccountId());
+        assertEquals(COUNTERPARTY_ID, captor.getValue().getCounterpartyId());
+        assertEquals(counterparty.getOwnerName(), captor.getValue().getCounterpartyName());
+    }
+
+    @Test
+    void record_ShardingEnabled_ShouldNotQueueEntry() {
+        // given
+        when(shardedTransferenceRepository.isEnabled()).thenReturn(true);
+
+        // when
+        statementProjectionService.record(new OperationEvent(buildTransference(1, 100d, Type.DEPOSIT, null)));
+
+        // then
+        verify(pendingStatementEntryRepository, never()).save(any());
+    }
+
+    @Test
+    void record_StatementStoreEnabled_ShouldNotQueueEntry() {
+        // given
+        when(statementStoreService.isEnabled()).thenReturn(true);
+
+        // when
+        statementProjectionService.record(new OperationEvent(buildTransference(1, 100d, Type.DEPOSIT, null)));
+
+        // then
+        verify(pendingStatementEntryRepository, never()).save(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void project_PendingEntries_ShouldContinueRunningBalanceInOperationOrderAndRemovePendingEntries() {
+        // given
+        var pendingEntries = List.of(
+                new PendingStatementEntry(buildTransference(11, -30d, Type.WITHDRAW, null, NOW.plusMinutes(2)), null),
+                new PendingStatementEntry(buildTransference(10, 100d, Type.DEPOSIT, null, NOW.plusMinutes(1)), null));
+        var latest = new StatementEntry(
+                new PendingStatementEntry(buildTransference(9, 50d, Type.DEPOSIT, null, NOW), null), 50d, NOW);
+        when(pendingStatementEntryRepository.findAllByOrderById(any(Pageable.class))).thenReturn(pendingEntries);
+        when(statementEntryRepository.findLatest(eq(ACCOUNT_ID), any(Pageable.class))).thenReturn(List.of(latest));
+        ArgumentCaptor<List<StatementEntry>> captor = ArgumentCaptor.forClass(List.class);
+
+        // when
+        int projected = statementProjectionService.project();
+
+        // then
+        assertEquals(2, projected);
+        verify(statementEntryRepository, times(1)).saveAll(captor.capture());
+        assertEquals(List.of(150d, 120d), captor.getValue().stream()
+                .map(StatementEntry::getRunningBalance)
+                .collect(Collectors.toList()));
+        verify(statementEntryRepository, times(1)).findLatest(eq(ACCOUNT_ID), any(Pageable.class));
+        verify(statementEntryRepository, never()).shiftRunningBalancesAfter(any(), any(), any(), anyDouble());
+        verify(pendingStatementEntryRepository, times(1)).deleteAllInBatch(pendingEntries);
+        assertEquals(2, meterRegistry.get("bank.statement.projection.lag").timer().count());
+    }
+
+    @Test
+    void getBankStatement_ProjectionDisabled_ShouldReadFromWriteModel() {
+        // given
+        statementProjectionProperties.setEnabled(false);
+        var filter = new StatementFilter(null, null, null);
+        var transference = buildTransference(1, 100d, Type.DEPOSIT, null);
+        transference.setTransferenceDate(LocalDateTime.now());
+        when(transferenceService.getBankStatements(account, filter)).thenReturn(List.of(transference));
+
+        // when
+        var statement = statementProjectionService.getBankStatement(account, filter);
+
+        // then
+        assertEquals(1, statement.size());
+        assertEquals(100d, statement.get(0).getValue());
+        verifyNoInteractions(statementEntryRepository, pendingStatementEntryRepository);
+    }
+
+    private Transference buildTransference(int id, double value, Type type, String transactionOperatorName) {
+        return buildTransference(id, value, type, transactionOperatorName, null);
+    }
+
+    private Transference buildTransference(int id, double value, Type type, String transactionOperatorName,
+                                           LocalDateTime transferenceDate) {
+        var transference = new Transference(value, type, account, transactionOperatorName);
+        transference.setId(id);
+        transference.setTransferenceDate(transferenceDate);
+        return transference;
+    }
+}
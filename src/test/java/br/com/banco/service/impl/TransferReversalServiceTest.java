@@ -0,0 +1,141 @@
+package br.com.banco.service.impl;
+
+import br.com.banco.configuration.ReversalProperties;
+import br.com.banco.entity.Account;
+import br.com.banco.entity.Transference;
+import br.com.banco.entity.Type;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransferReversalServiceTest {
+    private static final String CORRELATION_ID = "c0a8e7b2-1f3d-4a5b-9c6d-7e8f9a0b1c2d";
+    private static final String REVERSED_CORRELATION_ID = "d1b9f8c3-2a4e-4b6c-8d7e-9f0a1b2c3d4e";
+    private static final String UNKNOWN_CORRELATION_ID = "e2cafad4-3b5f-4c7d-9e8f-0a1b2c3d4e5f";
+    private static final double VALUE = 100d;
+
+    @Mock
+    private TransferenceService transferenceService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ReversalProperties reversalProperties = new ReversalProperties();
+    private TransferReversalService transferReversalService;
+    private Account account;
+    private Account destinationAccount;
+
+    @BeforeEach
+    void setUp() {
+        transferReversalService = new TransferReversalService(
+                transferenceService, reversalProperties, transactionManager);
+        account = AccountServiceTest.buildAccount();
+        destinationAccount = AccountServiceTest.buildSecondAccount();
+    }
+
+    @Test
+    void reverse_OpenAndSettledTransfers_ShouldReverseOnlyOpenTransfersAndReportTheRest() {
+        // given
+        var ids = List.of(CORRELATION_ID, REVERSED_CORRELATION_ID, UNKNOWN_CORRELATION_ID, CORRELATION_ID);
+        when(transferenceService.findLegs(List.of(CORRELATION_ID, REVERSED_CORRELATION_ID, UNKNOWN_CORRELATION_ID)))
+                .thenReturn(List.of(
+                        buildLeg(account, -VALUE, Type.TRANSFERENCE, CORRELATION_ID),
+                        buildLeg(destinationAccount, VALUE, Type.TRANSFERENCE, CORRELATION_ID),
+                        buildLeg(account, -VALUE, Type.TRANSFERENCE, REVERSED_CORRELATION_ID),
+                        buildLeg(destinationAccount, VALUE, Type.TRANSFERENCE, REVERSED_CORRELATION_ID),
+                        buildLeg(account, VALUE, Type.REVERSAL, REVERSED_CORRELATION_ID),
+                        buildLeg(destinationAccount, -VALUE, Type.REVERSAL, REVERSED_CORRELATION_ID)));
+
+        // when
+        var response = transferReversalService.reverse(ids);
+
+        // then
+        verify(transferenceService, times(1)).reverse(account, destinationAccount, VALUE, CORRELATION_ID);
+        verify(transferenceService, times(1)).reverse(destinationAccount, account, -VALUE, CORRELATION_ID);
+        verify(transferenceService, never()).reverse(any(), any(), any(), eq(REVERSED_CORRELATION_ID));
+        assertEquals(3, response.getRequested());
+        assertEquals(1, response.getReversed());
+        assertEquals(1, response.getAlreadyReversed());
+        assertEquals(List.of(UNKNOWN_CORRELATION_ID), response.getNotFound());
+        assertTrue(response.getFailed().isEmpty());
+    }
+
+    @Test
+    void reverse_ManyTransfers_ShouldLoadLegsOneChunkAtATime() {
+        // given
+        reversalProperties.setChunkSize(2);
+        var ids = List.of(CORRELATION_ID, REVERSED_CORRELATION_ID, UNKNOWN_CORRELATION_ID);
+        when(transferenceService.findLegs(anyList())).thenReturn(List.of());
+
+        // when
+        var response = transferReversalService.reverse(ids);
+
+        // then
+        verify(transferenceService, times(1)).findLegs(List.of(CORRELATION_ID, REVERSED_CORRELATION_ID));
+        verify(transferenceService, times(1)).findLegs(List.of(UNKNOWN_CORRELATION_ID));
+        verify(transactionManager, times(2)).commit(any());
+        assertEquals(ids, response.getNotFound());
+    }
+
+    @Test
+    void reverse_OneTransferFailsInChunk_ShouldRetryIndividuallyAndReportOnlyThatTransferAsFailed() {
+        // given
+        var ids = List.of(CORRELATION_ID, REVERSED_CORRELATION_ID);
+        var legs = List.of(
+                buildLeg(account, -VALUE, Type.TRANSFERENCE, CORRELATION_ID),
+                buildLeg(account, -VALUE, Type.TRANSFERENCE, REVERSED_CORRELATION_ID));
+        when(transferenceService.findLegs(ids)).thenReturn(legs);
+        when(transferenceService.findLegs(List.of(CORRELATION_ID))).thenReturn(legs.subList(0, 1));
+        when(transferenceService.findLegs(List.of(REVERSED_CORRELATION_ID))).thenReturn(legs.subList(1, 2));
+        when(transferenceService.reverse(any(), any(), any(), eq(CORRELATION_ID))).thenReturn(legs.get(0));
+        when(transferenceService.reverse(any(), any(), any(), eq(REVERSED_CORRELATION_ID)))
+                .thenThrow(new IllegalStateException("Shard unavailable"));
+
+        // when
+        var response = transferReversalService.reverse(ids);
+
+        // then
+        verify(transactionManager, times(2)).rollback(any());
+        assertEquals(1, response.getReversed());
+        assertEquals(List.of(REVERSED_CORRELATION_ID), response.getFailed());
+    }
+
+    @Test
+    void reverse_ConcurrentReversalWins_ShouldReportTransferAsAlreadyReversed() {
+        // given
+        var ids = List.of(CORRELATION_ID);
+        var sourceLeg = buildLeg(account, -VALUE, Type.TRANSFERENCE, CORRELATION_ID);
+        var destinationLeg = buildLeg(destinationAccount, VALUE, Type.TRANSFERENCE, CORRELATION_ID);
+        when(transferenceService.findLegs(ids))
+                .thenReturn(List.of(sourceLeg, destinationLeg))
+                .thenReturn(List.of(sourceLeg, destinationLeg,
+                        buildLeg(account, VALUE, Type.REVERSAL, CORRELATION_ID),
+                        buildLeg(destinationAccount, -VALUE, Type.REVERSAL, CORRELATION_ID)));
+        when(transferenceService.reverse(account, destinationAccount, VALUE, CORRELATION_ID))
+                .thenThrow(new DataIntegrityViolationException("uk_transferencia_chave_estorno"));
+
+        // when
+        var response = transferReversalService.reverse(ids);
+
+        // then
+        verify(transferenceService, times(1)).reverse(any(), any(), any(), eq(CORRELATION_ID));
+        assertEquals(0, response.getReversed());
+        assertEquals(1, response.getAlreadyReversed());
+        assertTrue(response.getFailed().isEmpty());
+    }
+
+    private Transference buildLeg(Account owner, double value, Type type, String correlationId) {
+        var leg = new Transference(value, type, owner, null);
+        leg.setCorrelationId(correlationId);
+        return leg;
+    }
+}
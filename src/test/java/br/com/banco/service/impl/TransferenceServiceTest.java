@@ -1,16 +1,28 @@
 package br.com.banco.service.impl;
 
+import br.com.banco.configuration.AccountDirectoryProperties;
+import br.com.banco.directory.AccountDirectory;
 import br.com.banco.dto.StatementFilter;
+import br.com.banco.dto.TypeSummary;
 import br.com.banco.entity.Account;
 import br.com.banco.entity.Transference;
 import br.com.banco.entity.Type;
+import br.com.banco.event.OperationEvent;
+import br.com.banco.exception.BusinessException;
+import br.com.banco.repository.ShardedTransferenceRepository;
+import br.com.banco.repository.TransferenceBatchRepository;
 import br.com.banco.repository.TransferenceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
@@ -29,7 +41,7 @@ class TransferenceServiceTest {
     private final String NULL_POINTER_EXCEPTION_TRANSFERENCE_VALUE_MESSAGE_ERROR = "Value is mandatory.";
     private final String NULL_POINTER_EXCEPTION_ACCOUNT_MESSAGE_ERROR = "Account is mandatory.";
     private final String NULL_POINTER_EXCEPTION_DESTINATION_ACCOUNT_MESSAGE_ERROR = "Cannot invoke " +
-            "\"br.com.banco.entity.Account.getOwnerName()\" because \"destinationAccount\" is null";
+            "\"br.com.banco.entity.Account.getId()\" because \"account\" is null";
     private final int TRANSFERENCE_ID = 1;
     private final int ANOTHER_TRANSFERENCE_ID = 2;
     private final String TRANSACTION_OPERATOR_NAME = "Alex de Souza";
@@ -39,7 +51,19 @@ class TransferenceServiceTest {
     @Mock
     private TransferenceRepository transferenceRepository;
     @Mock
+    private ShardedTransferenceRepository shardedTransferenceRepository;
+    @Mock
+    private TransferenceBatchRepository transferenceBatchRepository;
+    @Mock
+    private ArchiveService archiveService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
     private MessageSource messageSource;
+    @Mock
+    private StatementStoreService statementStoreService;
+    @Spy
+    private AccountDirectory accountDirectory = new AccountDirectory(new AccountDirectoryProperties(), new SimpleMeterRegistry());
     @InjectMocks
     private TransferenceService transferenceService;
     @Test
@@ -203,6 +227,138 @@ class TransferenceServiceTest {
         assertEquals(transference.getTransferenceDate(), transferred.getTransferenceDate());
     }
 
+    @Test
+    void transfer_ValidTransference_ShouldLinkBothLegsWithOneCorrelationId() {
+        // given
+        var account = AccountServiceTest.buildAccount();
+        var destinationAccount = AccountServiceTest.buildSecondAccount();
+        when(transferenceRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        transferenceService.transfer(account, destinationAccount, TRANSFERENCE_VALUE);
+
+        // then
+        var captor = ArgumentCaptor.forClass(Transference.class);
+        verify(transferenceRepository, times(2)).save(captor.capture());
+        var legs = captor.getAllValues();
+        assertNotNull(legs.get(0).getCorrelationId());
+        assertEquals(legs.get(0).getCorrelationId(), legs.get(1).getCorrelationId());
+        assertEquals(account, legs.get(0).getAccount());
+        assertEquals(destinationAccount, legs.get(1).getAccount());
+    }
+
+    @Test
+    void reverse_ValidLeg_ShouldSaveReversalLegWithCorrelationIdAndPublishEvent() {
+        // given
+        var account = AccountServiceTest.buildAccount();
+        var destinationAccount = AccountServiceTest.buildSecondAccount();
+        var correlationId = UUID.randomUUID().toString();
+        when(transferenceRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        var reversal = transferenceService.reverse(destinationAccount, account, -TRANSFERENCE_VALUE, correlationId);
+
+        // then
+        assertEquals(Type.REVERSAL, reversal.getType());
+        assertEquals(-TRANSFERENCE_VALUE, reversal.getValue());
+        assertEquals(correlationId, reversal.getCorrelationId());
+        assertEquals(account.getOwnerName(), reversal.getTransactionOperatorName());
+        var captor = ArgumentCaptor.forClass(OperationEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(captor.capture());
+        assertEquals(account, captor.getValue().getCounterparty());
+    }
+
+    @Test
+    void findLegs_UnknownCorrelationId_ShouldThrowBusinessException() {
+        // given
+        var correlationId = UUID.randomUUID().toString();
+        when(transferenceRepository.findLegs(List.of(correlationId))).thenReturn(List.of());
+        when(messageSource.getMessage(eq("non-existing.correlation.id.error.message"), isNull(), any(Locale.class)))
+                .thenReturn("Invalid correlation ID.");
+
+        // when
+        var exception = assertThrows(BusinessException.class, () -> transferenceService.findLegs(correlationId));
+
+        // then
+        assertEquals("Invalid correlation ID.", exception.getMessage());
+    }
+
+    @Test
+    void transfer_ShardedAccountsOnDifferentShards_ShouldSaveEachLegInItsShard() {
+        // given
+        var account = AccountServiceTest.buildAccount();
+        var destinationAccount = AccountServiceTest.buildSecondAccount();
+        var transference = buildOwnerTransference(account, destinationAccount, TRANSFERENCE_VALUE);
+
+        when(shardedTransferenceRepository.isEnabled()).thenReturn(true);
+        when(shardedTransferenceRepository.isSameShard(account, destinationAccount)).thenReturn(false);
+        when(shardedTransferenceRepository.save(any(), any())).thenReturn(transference);
+
+        // when
+        var transferred = transferenceService.transfer(account, destinationAccount, TRANSFERENCE_VALUE);
+
+        // then
+        verify(shardedTransferenceRepository, times(2)).save(any(), any());
+        verifyNoInteractions(transferenceRepository);
+
+        assertEquals(transference, transferred);
+    }
+
+    @Test
+    void transfer_ShardedDestinationLegFails_ShouldCompensateSourceLeg() {
+        // given
+        var account = AccountServiceTest.buildAccount();
+        var destinationAccount = AccountServiceTest.buildSecondAccount();
+        var transference = buildOwnerTransference(account, destinationAccount, TRANSFERENCE_VALUE);
+        var failure = new IllegalStateException("Shard unavailable");
+
+        when(shardedTransferenceRepository.isEnabled()).thenReturn(true);
+        when(shardedTransferenceRepository.isSameShard(account, destinationAccount)).thenReturn(false);
+        when(shardedTransferenceRepository.save(any(), any()))
+                .thenReturn(transference)
+                .thenThrow(failure)
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        var exception = assertThrows(IllegalStateException.class, () -> transferenceService.transfer(
+                account,
+                destinationAccount,
+                TRANSFERENCE_VALUE));
+
+        // then
+        var captor = ArgumentCaptor.forClass(Transference.class);
+        verify(shardedTransferenceRepository, times(3)).save(captor.capture(), any());
+
+        var compensation = captor.getAllValues().get(2);
+        assertEquals(failure, exception);
+        assertEquals(account, compensation.getAccount());
+        assertEquals(TRANSFERENCE_VALUE, compensation.getValue());
+        assertEquals(Type.TRANSFERENCE, compensation.getType());
+    }
+
+    @Test
+    void transfer_ShardedAccountsOnSameShard_ShouldSaveBothLegsAtomically() {
+        // given
+        var account = AccountServiceTest.buildAccount();
+        var destinationAccount = AccountServiceTest.buildSecondAccount();
+        var transference = buildOwnerTransference(account, destinationAccount, TRANSFERENCE_VALUE);
+        var destinationTransference = buildDestinationTransference(account, destinationAccount, TRANSFERENCE_VALUE);
+
+        when(shardedTransferenceRepository.isEnabled()).thenReturn(true);
+        when(shardedTransferenceRepository.isSameShard(account, destinationAccount)).thenReturn(true);
+        when(shardedTransferenceRepository.saveAll(any(), any(), any()))
+                .thenReturn(List.of(transference, destinationTransference));
+
+        // when
+        var transferred = transferenceService.transfer(account, destinationAccount, TRANSFERENCE_VALUE);
+
+        // then
+        verify(shardedTransferenceRepository, times(1)).saveAll(any(), any(), any());
+        verify(shardedTransferenceRepository, never()).save(any(), any());
+
+        assertEquals(transference, transferred);
+    }
+
     @Test
     void transfer_TransferenceMissingValue_ShouldThrowNullPointerException() {
         // given
@@ -264,6 +420,54 @@ class TransferenceServiceTest {
         assertNull(savedWithdraw.getTransactionOperatorName());
     }
 
+    @Test
+    void saveAll_ManyWithdrawals_ShouldInsertThemInBatchesAndPublishEachSavedRow() {
+        // given
+        var account = AccountServiceTest.buildAccount();
+        var secondAccount = AccountServiceTest.buildSecondAccount();
+        var withdraw = new Transference(-TRANSFERENCE_VALUE, Type.WITHDRAW, account, TRANSACTION_OPERATOR_NAME);
+        withdraw.setCorrelationId("fee-1");
+        var secondWithdraw = new Transference(-TRANSFERENCE_VALUE, Type.WITHDRAW, secondAccount, TRANSACTION_OPERATOR_NAME);
+        secondWithdraw.setCorrelationId("fee-2");
+        var withdrawals = List.of(withdraw, secondWithdraw);
+        var saved = List.of(buildWithdraw(account), buildWithdraw(secondAccount));
+
+        when(transferenceRepository.findLegs(List.of("fee-1", "fee-2"))).thenReturn(saved);
+
+        // when
+        var savedWithdrawals = transferenceService.saveAll(withdrawals);
+
+        // then
+        verify(transferenceBatchRepository, times(1)).insertAll(eq(withdrawals), anyInt());
+        verify(transferenceRepository, never()).save(any());
+        verify(eventPublisher, times(2)).publishEvent(any(OperationEvent.class));
+
+        assertEquals(saved, savedWithdrawals);
+        assertNotNull(withdraw.getTransferenceDate());
+        assertEquals(withdraw.getTransferenceDate(), secondWithdraw.getTransferenceDate());
+    }
+
+    @Test
+    void saveAll_CorrelationIdAlreadyUsed_ShouldPublishOnlyInsertedRows() {
+        // given
+        var account = AccountServiceTest.buildAccount();
+        var withdraw = new Transference(-TRANSFERENCE_VALUE, Type.WITHDRAW, account, TRANSACTION_OPERATOR_NAME);
+        withdraw.setCorrelationId("fee-1");
+        var existing = buildWithdraw(account);
+        var inserted = buildWithdraw(account);
+        inserted.setId(ANOTHER_TRANSFERENCE_ID);
+
+        when(transferenceRepository.findLegIds(List.of("fee-1"))).thenReturn(Set.of(TRANSFERENCE_ID));
+        when(transferenceRepository.findLegs(List.of("fee-1"))).thenReturn(List.of(existing, inserted));
+
+        // when
+        var savedWithdrawals = transferenceService.saveAll(List.of(withdraw));
+
+        // then
+        verify(eventPublisher, times(1)).publishEvent(any(OperationEvent.class));
+        assertEquals(List.of(inserted), savedWithdrawals);
+    }
+
     @Test
     void withdraw_TransferenceMissingValue_ShouldThrowNullPointerException() {
         // given
@@ -320,6 +524,24 @@ class TransferenceServiceTest {
         assertNull(savedDeposit.getTransactionOperatorName());
     }
 
+    @Test
+    void deposit_ValidTransference_ShouldPublishOperationEvent() {
+        // given
+        var account = AccountServiceTest.buildAccount();
+        var deposit = buildDeposit(account);
+
+        when(transferenceRepository.save(any())).thenReturn(deposit);
+
+        // when
+        transferenceService.deposit(account, TRANSFERENCE_VALUE);
+
+        // then
+        var captor = ArgumentCaptor.forClass(OperationEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(captor.capture());
+
+        assertEquals(deposit, captor.getValue().getTransference());
+    }
+
     @Test
     void deposit_TransferenceMissingValue_ShouldThrowNullPointerException() {
         // given
@@ -439,6 +661,59 @@ class TransferenceServiceTest {
     }
 
 
+    @Test
+    void getBankStatements_ManyAccounts_ShouldGroupArchivedAndActiveStatementsPerAccount() {
+        // given
+        var account = AccountServiceTest.buildAccount();
+        var secondAccount = AccountServiceTest.buildSecondAccount();
+        var accounts = List.of(secondAccount, account);
+        var archivedDeposit = new Transference(10d, Type.DEPOSIT, account, null);
+        var deposit = new Transference(20d, Type.DEPOSIT, account, null);
+        var withdraw = new Transference(-30d, Type.WITHDRAW, account, null);
+
+        when(transferenceRepository.findAll(any(Specification.class), any(Sort.class)))
+                .thenReturn(List.of(deposit, withdraw));
+        when(archiveService.getArchivedStatements(accounts, null)).thenReturn(List.of(archivedDeposit));
+
+        // when
+        var statements = transferenceService.getBankStatements(accounts, null);
+
+        // then
+        verify(transferenceRepository, times(1)).findAll(any(Specification.class), any(Sort.class));
+        assertEquals(List.of(secondAccount.getId(), account.getId()), new ArrayList<>(statements.keySet()));
+        assertTrue(statements.get(secondAccount.getId()).isEmpty());
+        assertEquals(List.of(archivedDeposit, deposit, withdraw), statements.get(account.getId()));
+    }
+
+    @Test
+    void getBankStatementSummary_ArchivedOperationsPresent_ShouldMergeArchivedAndActiveSummaries() {
+        // given
+        var account = AccountServiceTest.buildAccount();
+        var filter = buildFilter();
+
+        when(transferenceRepository.summarize(any(Specification.class))).thenReturn(List.of(
+                new TypeSummary(Type.DEPOSIT, 2, 300d, 100d, 200d),
+                new TypeSummary(Type.WITHDRAW, 1, -50d, -50d, -50d)));
+        when(archiveService.getArchivedSummary(account, filter)).thenReturn(List.of(
+                new TypeSummary(Type.DEPOSIT, 1, 500d, 500d, 500d),
+                new TypeSummary(Type.TRANSFERENCE, 1, -10d, -10d, -10d)));
+
+        // when
+        var summary = transferenceService.getBankStatementSummary(account, filter);
+
+        // then
+        verify(transferenceRepository, never()).findAll(any(Specification.class));
+        assertEquals(3, summary.size());
+        var deposits = summary.get(0);
+        assertEquals(Type.DEPOSIT, deposits.getType());
+        assertEquals(3, deposits.getCount());
+        assertEquals(800d, deposits.getSum());
+        assertEquals(100d, deposits.getMin());
+        assertEquals(500d, deposits.getMax());
+        assertEquals(Type.WITHDRAW, summary.get(1).getType());
+        assertEquals(Type.TRANSFERENCE, summary.get(2).getType());
+    }
+
     private Transference buildTransference() {
         Transference transference = new Transference(
                 100.00,
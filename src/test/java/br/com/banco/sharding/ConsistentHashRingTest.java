@@ -0,0 +1,71 @@
+package br.com.banco.sharding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsistentHashRingTest {
+    private static final int VIRTUAL_NODES = 128;
+    private static final int KEYS = 100_000;
+
+    @Test
+    void locate_SameKey_ShouldAlwaysReturnSameNode() {
+        // given
+        var ring = new ConsistentHashRing<>(List.of("a", "b", "c"), Function.identity(), VIRTUAL_NODES);
+
+        // when
+        // then
+        for (int key = 0; key < 1_000; key++) {
+            assertEquals(ring.locate(key), ring.locate(key));
+        }
+    }
+
+    @Test
+    void locate_SequentialKeys_ShouldSpreadEvenlyAcrossNodes() {
+        // given
+        var nodes = List.of("a", "b", "c", "d");
+        var ring = new ConsistentHashRing<>(nodes, Function.identity(), VIRTUAL_NODES);
+        Map<String, Integer> counts = new HashMap<>();
+
+        // when
+        for (int key = 1; key <= KEYS; key++) {
+            counts.merge(ring.locate(key), 1, Integer::sum);
+        }
+
+        // then
+        double expected = (double) KEYS / nodes.size();
+        nodes.forEach(node -> assertTrue(Math.abs(counts.get(node) - expected) < expected * 0.2,
+                () -> "Unbalanced distribution: " + counts));
+    }
+
+    @Test
+    void locate_NodeAdded_ShouldOnlyMoveKeysToNewNode() {
+        // given
+        var ring = new ConsistentHashRing<>(List.of("a", "b", "c"), Function.identity(), VIRTUAL_NODES);
+        var grownRing = new ConsistentHashRing<>(List.of("a", "b", "c", "d"), Function.identity(), VIRTUAL_NODES);
+
+        // when
+        // then
+        for (int key = 1; key <= KEYS; key++) {
+            var before = ring.locate(key);
+            var after = grownRing.locate(key);
+            assertTrue(before.equals(after) || "d".equals(after));
+        }
+    }
+
+    @Test
+    void constructor_NoNodes_ShouldThrowIllegalArgumentException() {
+        // given
+        List<String> nodes = List.of();
+
+        // when
+        // then
+        assertThrows(IllegalArgumentException.class,
+                () -> new ConsistentHashRing<>(nodes, Function.identity(), VIRTUAL_NODES));
+    }
+}
@@ -0,0 +1,381 @@
+package br.com.banco.sharding;
+
+import br.com.banco.dto.StatementFilter;
+import br.com.banco.entity.Account;
+import br.com.banco.entity.Transference;
+import br.com.banco.batch.DailyFeeJob;
+import br.com.banco.entity.Type;
+import br.com.banco.exception.FeatureUnavailableException;
+import br.com.banco.service.impl.AccountService;
+import br.com.banco.service.impl.BalanceService;
+import br.com.banco.service.impl.TransferenceService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@Slf4j
+@SpringBootTest(properties = {
+        "bank.sharding.enabled=true",
+        "bank.sharding.shards[0].name=shard-0",
+        "bank.sharding.shards[0].url=jdbc:h2:mem:bank-shard-test-0",
+        "bank.sharding.shards[0].username=sa",
+        "bank.sharding.shards[1].name=shard-1",
+        "bank.sharding.shards[1].url=jdbc:h2:mem:bank-shard-test-1",
+        "bank.sharding.shards[1].username=sa",
+        "bank.sharding.shards[2].name=shard-2",
+        "bank.sharding.shards[2].url=jdbc:h2:mem:bank-shard-test-2",
+        "bank.sharding.shards[2].username=sa"
+})
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ShardingTest {
+    private static final int SHARD_COUNT = 3;
+    private static final int ACCOUNTS = 90;
+    private static final int WRITES_PER_WORKER = 2_000;
+    private static final double DEPOSIT_VALUE = 100d;
+    private static final double MIN_SCALING_EFFICIENCY = 0.6;
+
+    @Autowired
+    private ShardRegistry shardRegistry;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransferenceService transferenceService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BalanceService balanceService;
+
+    @Test
+    void save_ManyAccounts_ShouldStoreEachAccountOnlyInItsHashedShard() {
+        // given
+        // when
+        var accounts = createAccounts(ACCOUNTS);
+
+        // then
+        for (Account account : accounts) {
+            var owner = shardRegistry.forAccount(account.getId());
+            shardRegistry.getShards().forEach(shard -> assertEquals(shard == owner ? 1 : 0, countAccount(shard, account)));
+            assertEquals(account.getOwnerName(), accountService.findById(account.getId()).getOwnerName());
+        }
+        assertEquals(ACCOUNTS, accountService.findAll().size());
+        shardRegistry.getShards().forEach(shard -> assertTrue(countAccounts(shard) > 0));
+    }
+
+    @Test
+    void transfer_AccountsOnDifferentShards_ShouldWriteEachLegOnItsShard() {
+        // given
+        var accounts = createAccounts(ACCOUNTS);
+        var account = accounts.get(0);
+        var destinationAccount = accounts.stream()
+                .filter(candidate -> shardRegistry.forAccount(candidate.getId()) != shardRegistry.forAccount(account.getId()))
+                .findFirst()
+                .orElseThrow();
+
+        // when
+        transferenceService.transfer(account, destinationAccount, DEPOSIT_VALUE);
+
+        // then
+        var statement = transferenceService.getBankStatements(account, null);
+        var destinationStatement = transferenceService.getBankStatements(destinationAccount, null);
+
+        assertEquals(1, statement.size());
+        assertEquals(-DEPOSIT_VALUE, statement.get(0).getValue());
+        assertEquals(destinationAccount.getOwnerName(), statement.get(0).getTransactionOperatorName());
+        assertEquals(1, destinationStatement.size());
+        assertEquals(DEPOSIT_VALUE, destinationStatement.get(0).getValue());
+        assertEquals(Type.TRANSFERENCE, destinationStatement.get(0).getType());
+    }
+
+    @Test
+    void findLegs_AccountsOnDifferentShards_ShouldGatherBothLegsByCorrelationId() {
+        // given
+        var accounts = createAccounts(ACCOUNTS);
+        var account = accounts.get(0);
+        var destinationAccount = accounts.stream()
+                .filter(candidate -> shardRegistry.forAccount(candidate.getId()) != shardRegistry.forAccount(account.getId()))
+                .findFirst()
+                .orElseThrow();
+        var transference = transferenceService.transfer(account, destinationAccount, DEPOSIT_VALUE);
+
+        // when
+        var legs = transferenceService.findLegs(transference.getCorrelationId());
+
+        // then
+        assertEquals(2, legs.size());
+        assertEquals(0d, legs.stream().mapToDouble(Transference::getValue).sum());
+        legs.forEach(leg -> assertEquals(transference.getCorrelationId(), leg.getCorrelationId()));
+    }
+
+    @Test
+    void deposit_AccountsOnDifferentShards_ShouldAllocateGloballyUniqueTransferenceIds() {
+        // given
+        var accounts = createAccounts(ACCOUNTS);
+
+        // when
+        var ids = accounts.stream()
+                .map(account -> transferenceService.deposit(account, DEPOSIT_VALUE).getId())
+                .collect(Collectors.toSet());
+
+        // then
+        assertEquals(ACCOUNTS, ids.size());
+    }
+
+    @Test
+    void deposit_OutboxEnabled_ShouldWriteOutboxRowOnAccountShard() {
+        // given
+        var account = createAccounts(1).get(0);
+
+        // when
+        var deposit = transferenceService.deposit(account, DEPOSIT_VALUE);
+
+        // then
+        var owner = shardRegistry.forAccount(account.getId());
+        shardRegistry.getShards().forEach(shard -> assertEquals(shard == owner ? 1 : 0,
+                shard.getJdbcTemplate().queryForObject(
+                        "SELECT COUNT(*) FROM evento_saida WHERE transferencia_id = ?", Integer.class, deposit.getId())));
+    }
+
+    @Test
+    void save_NewAccount_ShouldCreateFirstBalanceSlotOnAccountShard() {
+        // given
+        // when
+        var account = createAccounts(1).get(0);
+
+        // then
+        var slots = balanceService.getSlots(account);
+        assertEquals(1, slots.size());
+        assertEquals(0, slots.get(0).getSlot());
+        assertEquals(0d, slots.get(0).getBalance());
+    }
+
+    @Test
+    void deposit_BalanceSlotUpdateFails_ShouldRollBackLegOnAccountShard() {
+        // given
+        var account = createAccounts(1).get(0);
+        var owner = shardRegistry.forAccount(account.getId());
+        owner.getJdbcTemplate().execute("DROP TABLE saldo_conta");
+
+        // when
+        assertThrows(RuntimeException.class, () -> transferenceService.deposit(account, DEPOSIT_VALUE));
+
+        // then
+        assertEquals(0, owner.getJdbcTemplate().queryForObject(
+                "SELECT COUNT(*) FROM transferencia WHERE conta_id = ?", Integer.class, account.getId()));
+    }
+
+    @Test
+    void nextAccountId_AnotherInstanceOnSameShards_ShouldNotReuseIds() {
+        // given
+        var accounts = createAccounts(2);
+        var anotherInstance = new ShardRegistry(shardRegistry.getShards(), 128, null);
+
+        // when
+        int id = shardRegistry.nextAccountId();
+        int anotherId = anotherInstance.nextAccountId();
+
+        // then
+        assertNotEquals(id, anotherId);
+        accounts.forEach(account -> {
+            assertNotEquals(account.getId(), id);
+            assertNotEquals(account.getId(), anotherId);
+        });
+    }
+
+    @Test
+    void findById_ShardingEnabled_ShouldRejectLookupByBareId() {
+        // given
+        var account = createAccounts(1).get(0);
+        var transference = transferenceService.deposit(account, DEPOSIT_VALUE);
+
+        // when
+        // then
+        assertThrows(FeatureUnavailableException.class, () -> transferenceService.findById(transference.getId()));
+        assertThrows(FeatureUnavailableException.class, () -> transferenceService.delete(transference.getId()));
+    }
+
+    @Test
+    void runBatchJob_ShardingEnabled_ShouldRespondNotImplemented() throws Exception {
+        // given
+        var path = "/api/batch-jobs/" + DailyFeeJob.NAME + "/executions/";
+
+        // when
+        // then
+        mockMvc.perform(MockMvcRequestBuilders.post(path))
+                .andExpect(MockMvcResultMatchers.status().isNotImplemented())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.title").value("Feature unavailable"));
+    }
+
+    @Test
+    void getBankStatements_OperatorFilter_ShouldOnlyReturnMatchingRowsFromAccountShard() {
+        // given
+        var accounts = createAccounts(2);
+        transferenceService.deposit(accounts.get(0), DEPOSIT_VALUE);
+        transferenceService.transfer(accounts.get(0), accounts.get(1), DEPOSIT_VALUE);
+
+        // when
+        var statement = transferenceService.getBankStatements(
+                accounts.get(0), new StatementFilter(accounts.get(1).getOwnerName(), null, null));
+
+        // then
+        assertEquals(1, statement.size());
+        assertEquals(Type.TRANSFERENCE, statement.get(0).getType());
+    }
+
+    @Test
+    void getBankStatements_AccountsOnDifferentShards_ShouldQueryEachShardOnceAndGroupPerAccount() {
+        // given
+        var accounts = createAccounts(ACCOUNTS);
+        accounts.forEach(account -> transferenceService.deposit(account, DEPOSIT_VALUE + account.getId()));
+        var ids = accounts.stream().map(Account::getId).collect(Collectors.toList());
+
+        // when
+        var requested = accountService.findAllById(ids);
+        var statements = transferenceService.getBankStatements(requested, null);
+
+        // then
+        assertEquals(ids, new ArrayList<>(statements.keySet()));
+        statements.forEach((accountId, statement) -> {
+            assertEquals(1, statement.size());
+            assertEquals(DEPOSIT_VALUE + accountId, statement.get(0).getValue());
+            assertEquals(accountId, statement.get(0).getAccount().getId());
+        });
+    }
+
+    @Test
+    void getBankStatementSummary_OperationsOnAccountShard_ShouldAggregatePerTypeAndBumpVersion() {
+        // given
+        var account = createAccounts(1).get(0);
+        transferenceService.deposit(account, DEPOSIT_VALUE);
+        transferenceService.deposit(account, DEPOSIT_VALUE * 2);
+        transferenceService.withdraw(account, DEPOSIT_VALUE);
+
+        // when
+        var summary = transferenceService.getBankStatementSummary(account, null);
+
+        // then
+        assertEquals(2, summary.size());
+        assertEquals(Type.DEPOSIT, summary.get(0).getType());
+        assertEquals(2, summary.get(0).getCount());
+        assertEquals(DEPOSIT_VALUE * 3, summary.get(0).getSum());
+        assertEquals(DEPOSIT_VALUE * 2, summary.get(0).getMax());
+        assertEquals(Type.WITHDRAW, summary.get(1).getType());
+        assertEquals(-DEPOSIT_VALUE, summary.get(1).getSum());
+        assertEquals(3L, accountService.getVersion(account.getId()));
+    }
+
+    @Test
+    void deposit_HotAccountWithBalanceSlots_ShouldSpreadCreditsAndDrainWithoutOverdrawingSlots() throws Exception {
+        // given
+        var account = balanceService.updateBalanceSlots(createAccounts(1).get(0), 4);
+        var executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int worker = 0; worker < 8; worker++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 25; i++) {
+                    transferenceService.deposit(account, DEPOSIT_VALUE);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // when
+        transferenceService.withdraw(account, DEPOSIT_VALUE * 150);
+
+        // then
+        var slots = balanceService.getSlots(account);
+        assertEquals(DEPOSIT_VALUE * 50, balanceService.getBalance(account));
+        assertEquals(4, slots.size());
+        assertTrue(slots.stream().allMatch(slot -> slot.getBalance() >= 0));
+        assertTrue(accountService.getVersion(account.getId()) >= 202L);
+    }
+
+    @Test
+    void deposit_OneWorkerPerShard_ShouldScaleWritesWithShardCount() throws Exception {
+        assumeTrue(Runtime.getRuntime().availableProcessors() >= SHARD_COUNT,
+                "Write scaling needs at least one core per shard");
+
+        // given
+        var accounts = createAccounts(ACCOUNTS);
+        var accountsByShard = accounts.stream()
+                .collect(Collectors.groupingBy(account -> shardRegistry.forAccount(account.getId())));
+        var singleShardAccounts = accountsByShard.get(shardRegistry.getShards().get(0));
+        var workerAccounts = new ArrayList<>(accountsByShard.values());
+
+        // when
+        double singleShardThroughput = measureThroughput(List.of(singleShardAccounts, singleShardAccounts, singleShardAccounts));
+        double shardedThroughput = measureThroughput(workerAccounts);
+
+        // then
+        double speedup = shardedThroughput / singleShardThroughput;
+        log.info("Single shard: {} writes/s, {} shards: {} writes/s, speedup {}",
+                (long) singleShardThroughput, SHARD_COUNT, (long) shardedThroughput, speedup);
+        assertTrue(speedup > SHARD_COUNT * MIN_SCALING_EFFICIENCY, () -> "Speedup too low: " + speedup);
+    }
+
+    private double measureThroughput(List<List<Account>> workerAccounts) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(workerAccounts.size());
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (List<Account> accounts : workerAccounts) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < WRITES_PER_WORKER; i++) {
+                        transferenceService.deposit(accounts.get(i % accounts.size()), DEPOSIT_VALUE);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000d;
+        return workerAccounts.size() * WRITES_PER_WORKER / seconds;
+    }
+
+    private List<Account> createAccounts(int count) {
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            accounts.add(accountService.save(new Account("Owner " + i)));
+        }
+        return accounts;
+    }
+
+    private int countAccount(Shard shard, Account account) {
+        return shard.getJdbcTemplate().queryForObject(
+                "SELECT COUNT(*) FROM conta WHERE id_conta = ?", Integer.class, account.getId());
+    }
+
+    private int countAccounts(Shard shard) {
+        return shard.getJdbcTemplate().queryForObject("SELECT COUNT(*) FROM conta", Integer.class);
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.banco.velocity;
+
+import br.com.banco.entity.Type;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VelocityRuleTest {
+    private static final int ACCOUNT_ID = 1;
+    private static final int OTHER_ACCOUNT_ID = 2;
+    private static final Duration WINDOW = Duration.ofMinutes(10);
+    private static final int BUCKETS = 10;
+    private static final long BUCKET_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final long NOW = TimeUnit.DAYS.toMillis(20_000);
+    private static final double AMOUNT = 100d;
+
+    @Test
+    void allows_CountLimitReachedWithinWindow_ShouldRejectUntilOldestBucketSlidesOut() {
+        // given
+        var rule = new VelocityRule("count", EnumSet.of(Type.WITHDRAW), WINDOW, BUCKETS, 3, null);
+        rule.record(ACCOUNT_ID, AMOUNT, NOW);
+        rule.record(ACCOUNT_ID, AMOUNT, NOW + BUCKET_MILLIS);
+        rule.record(ACCOUNT_ID, AMOUNT, NOW + 2 * BUCKET_MILLIS);
+
+        // when
+        var allowedInWindow = rule.allows(ACCOUNT_ID, AMOUNT, NOW + 9 * BUCKET_MILLIS);
+        var allowedAfterSlide = rule.allows(ACCOUNT_ID, AMOUNT, NOW + 10 * BUCKET_MILLIS);
+
+        // then
+        assertFalse(allowedInWindow);
+        assertTrue(allowedAfterSlide);
+        assertTrue(rule.allows(OTHER_ACCOUNT_ID, AMOUNT, NOW + 2 * BUCKET_MILLIS));
+    }
+
+    @Test
+    void allows_AmountLimit_ShouldIncludeTheRequestedAmount() {
+        // given
+        var rule = new VelocityRule("amount", EnumSet.of(Type.WITHDRAW, Type.TRANSFERENCE), WINDOW, BUCKETS, null, 250d);
+        rule.record(ACCOUNT_ID, AMOUNT, NOW);
+        rule.record(ACCOUNT_ID, AMOUNT, NOW);
+
+        // when
+        // then
+        assertTrue(rule.allows(ACCOUNT_ID, 50d, NOW));
+        assertFalse(rule.allows(ACCOUNT_ID, 50.01d, NOW));
+        assertFalse(rule.allows(OTHER_ACCOUNT_ID, 250.01d, NOW));
+        assertTrue(rule.appliesTo(Type.TRANSFERENCE));
+        assertFalse(rule.appliesTo(Type.DEPOSIT));
+    }
+
+    @Test
+    void record_OutOfOrderHistory_ShouldIgnoreEntriesAlreadyOutsideTheWindow() {
+        // given
+        var rule = new VelocityRule("count", EnumSet.of(Type.WITHDRAW), WINDOW, BUCKETS, 1, null);
+        rule.record(ACCOUNT_ID, AMOUNT, NOW);
+
+        // when
+        rule.record(ACCOUNT_ID, AMOUNT, NOW - WINDOW.toMillis());
+
+        // then
+        assertFalse(rule.allows(ACCOUNT_ID, AMOUNT, NOW));
+        assertTrue(rule.allows(ACCOUNT_ID, AMOUNT, NOW + WINDOW.toMillis()));
+    }
+
+    @Test
+    void evictIdle_CountersOutsideWindow_ShouldBeRemoved() {
+        // given
+        var rule = new VelocityRule("count", EnumSet.of(Type.WITHDRAW), WINDOW, BUCKETS, 5, null);
+        rule.record(ACCOUNT_ID, AMOUNT, NOW);
+        rule.record(OTHER_ACCOUNT_ID, AMOUNT, NOW + 5 * BUCKET_MILLIS);
+
+        // when
+        var evicted = rule.evictIdle(NOW + WINDOW.toMillis());
+
+        // then
+        assertEquals(1, evicted);
+        assertEquals(1, rule.size());
+    }
+}
@@ -0,0 +1,139 @@
+package br.com.banco.velocity;
+
+import br.com.banco.dto.AccountDto;
+import br.com.banco.dto.DepositDto;
+import br.com.banco.dto.TransferenceDto;
+import br.com.banco.dto.WithdrawDto;
+import br.com.banco.entity.Account;
+import br.com.banco.entity.Transference;
+import br.com.banco.entity.Type;
+import br.com.banco.repository.AccountRepository;
+import br.com.banco.repository.TransferenceRepository;
+import br.com.banco.service.impl.VelocityService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {
+        "bank.velocity.enabled=true",
+        "bank.velocity.rules.outflow-count.max-count=3",
+        "bank.velocity.rules.outflow-amount.max-amount=1000"
+})
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class VelocityTest {
+    private static final String WITHDRAW_URL = "/api/operations/withdraw/";
+    private static final String DEPOSIT_URL = "/api/operations/deposit/";
+    private static final String TRANSFERENCE_URL = "/api/operations/transference/";
+    private static final String VELOCITY_LIMIT_EXCEEDED_TITLE = "Velocity limit exceeded";
+    private static final String OUTFLOW_COUNT_MSG = "Operation blocked by the outflow-count velocity rule. " +
+            "Too many withdrawals or transfers in a short period.";
+    private static final double VALUE = 20d;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransferenceRepository transferenceRepository;
+
+    @Autowired
+    private VelocityService velocityService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Account account;
+    private Account secondAccount;
+
+    @BeforeEach
+    void setUp() {
+        account = accountRepository.save(new AccountDto("Joseph Smith").toEntity());
+        secondAccount = accountRepository.save(new AccountDto("Mary Smith").toEntity());
+    }
+
+    @Test
+    void withdraw_CountRuleExceeded_ShouldReturnUnprocessableEntityWithoutPostingTheWithdrawal() throws Exception {
+        // given
+        withdraw(account, VALUE).andExpect(MockMvcResultMatchers.status().isOk());
+        withdraw(account, VALUE).andExpect(MockMvcResultMatchers.status().isOk());
+        transfer(account, secondAccount, VALUE).andExpect(MockMvcResultMatchers.status().isOk());
+
+        // when
+        var result = withdraw(account, VALUE);
+
+        // then
+        result.andExpect(MockMvcResultMatchers.status().isUnprocessableEntity());
+        result.andExpect(MockMvcResultMatchers.jsonPath("$.title", Matchers.is(VELOCITY_LIMIT_EXCEEDED_TITLE)));
+        result.andExpect(MockMvcResultMatchers.jsonPath("$.details.VelocityLimitExceededException")
+                .value(OUTFLOW_COUNT_MSG));
+        assertEquals(4, transferenceRepository.count());
+        deposit(account, VALUE).andExpect(MockMvcResultMatchers.status().isOk());
+        withdraw(secondAccount, VALUE).andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
+    @Test
+    void transfer_AmountRuleExceeded_ShouldReturnUnprocessableEntity() throws Exception {
+        // given
+        transfer(account, secondAccount, 600d).andExpect(MockMvcResultMatchers.status().isOk());
+
+        // when
+        var result = transfer(account, secondAccount, 500d);
+
+        // then
+        result.andExpect(MockMvcResultMatchers.status().isUnprocessableEntity());
+        result.andExpect(MockMvcResultMatchers.jsonPath("$.details.VelocityLimitExceededException",
+                Matchers.containsString("outflow-amount")));
+        transfer(account, secondAccount, 400d).andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
+    @Test
+    void warmUp_RecentOutflowsInLedger_ShouldCountThemAfterRestart() throws Exception {
+        // given
+        for (int i = 0; i < 3; i++) {
+            transferenceRepository.save(new Transference(-VALUE, Type.WITHDRAW, account, account.getOwnerName()));
+        }
+        transferenceRepository.save(new Transference(VALUE, Type.DEPOSIT, account, account.getOwnerName()));
+
+        // when
+        var warmed = velocityService.warmUp();
+
+        // then
+        assertEquals(3, warmed);
+        withdraw(account, VALUE).andExpect(MockMvcResultMatchers.status().isUnprocessableEntity());
+    }
+
+    private ResultActions withdraw(Account account, double value) throws Exception {
+        return mockMvc.perform(MockMvcRequestBuilders.post(WITHDRAW_URL + account.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new WithdrawDto(value))));
+    }
+
+    private ResultActions deposit(Account account, double value) throws Exception {
+        return mockMvc.perform(MockMvcRequestBuilders.post(DEPOSIT_URL + account.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new DepositDto(value))));
+    }
+
+    private ResultActions transfer(Account account, Account destinationAccount, double value) throws Exception {
+        return mockMvc.perform(MockMvcRequestBuilders.post(TRANSFERENCE_URL + account.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TransferenceDto(value, destinationAccount.getId()))));
+    }
+}